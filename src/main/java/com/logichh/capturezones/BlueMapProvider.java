@@ -5,6 +5,7 @@ import com.flowpowered.math.vector.Vector2i;
 import com.flowpowered.math.vector.Vector3d;
 import de.bluecolored.bluemap.api.BlueMapAPI;
 import de.bluecolored.bluemap.api.BlueMapMap;
+import de.bluecolored.bluemap.api.BlueMapWorld;
 import de.bluecolored.bluemap.api.markers.MarkerSet;
 import de.bluecolored.bluemap.api.markers.POIMarker;
 import de.bluecolored.bluemap.api.markers.ShapeMarker;
@@ -16,10 +17,12 @@ import org.bukkit.World;
 import java.awt.Graphics2D;
 import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.logging.Logger;
 
@@ -42,6 +45,11 @@ public class BlueMapProvider implements MapProvider {
     private int centerMarkerIconSize;
     private String centerIconAddress;
     private final Set<String> warnedInvalidCenterIcons;
+    // "<map id>/<marker id>" -> values the marker was last drawn with
+    private final Map<String, MarkerSnapshot> renderedMarkers;
+    private final Map<String, CachedInfoWindow> infoWindows;
+    // Render keys drawn during a full sync; null outside updateAllMarkers
+    private Set<String> syncedRenderKeys;
     
     public BlueMapProvider(CaptureZones plugin) {
         this.plugin = plugin;
@@ -49,6 +57,8 @@ public class BlueMapProvider implements MapProvider {
         this.markers = new HashMap<>();
         this.centerMarkers = new HashMap<>();
         this.warnedInvalidCenterIcons = new HashSet<>();
+        this.renderedMarkers = new HashMap<>();
+        this.infoWindows = new HashMap<>();
         this.available = false;
     }
     
@@ -96,6 +106,8 @@ public class BlueMapProvider implements MapProvider {
         this.available = false;
         this.markers.clear();
         this.centerMarkers.clear();
+        this.renderedMarkers.clear();
+        this.infoWindows.clear();
         this.centerIconAddress = null;
         this.warnedInvalidCenterIcons.clear();
         logger.info("BlueMap integration disabled.");
@@ -129,40 +141,54 @@ public class BlueMapProvider implements MapProvider {
                 return;
             }
 
+            Optional<BlueMapWorld> blueMapWorld = blueMapAPI.getWorld(world);
+            if (!blueMapWorld.isPresent()) {
+                return;
+            }
+
             float markerY = getMarkerHeight(point);
-            
-            // Get BlueMap world
-            blueMapAPI.getWorld(world).ifPresent(blueMapWorld -> {
-                // Create marker for each map in this world
-                for (BlueMapMap map : blueMapWorld.getMaps()) {
-                    try {
-                        // Get or create marker set
-                        MarkerSet markerSet = map.getMarkerSets().computeIfAbsent(
-                            markerSetId,
-                            id -> MarkerSet.builder()
-                                .label(markerSetLabel)
-                                .toggleable(true)
-                                .defaultHidden(false)
-                                .build()
-                        );
-                        
-                        Shape shape = createShape(point);
-                        
-                        // Determine color based on control status
-                        Color color = getMarkerColor(point);
-                        double lineOpacity = clamp(getZoneDouble(point, "bluemap.line-opacity", 0.8), 0.0, 1.0);
-                        double fillOpacity = clamp(getZoneDouble(point, "bluemap.fill-opacity", 0.3), 0.0, 1.0);
-                        int lineWidth = Math.max(1, getZoneInt(point, "bluemap.line-width", 2));
-                        boolean showDetails = getZoneBoolean(point, "bluemap.show-details", true);
+
+            // Determine color based on control status
+            Color color = getMarkerColor(point);
+            double lineOpacity = clamp(getZoneDouble(point, "bluemap.line-opacity", 0.8), 0.0, 1.0);
+            double fillOpacity = clamp(getZoneDouble(point, "bluemap.fill-opacity", 0.3), 0.0, 1.0);
+            int lineWidth = Math.max(1, getZoneInt(point, "bluemap.line-width", 2));
+            boolean showDetails = getZoneBoolean(point, "bluemap.show-details", true);
+
+            // Create detailed info window HTML
+            String infoHtml = getInfoWindow(point);
+            String detailHtml = showDetails ? infoHtml : "";
+
+            MarkerSnapshot snapshot = new MarkerSnapshot(point.getName(), location.getX(), markerY, location.getZ(),
+                point.isCuboid(), shapeBounds(point), color.getRed(), color.getGreen(), color.getBlue(),
+                lineOpacity, fillOpacity, lineWidth, detailHtml);
+            Shape shape = null;
+
+            // Create marker for each map in this world
+            for (BlueMapMap map : blueMapWorld.get().getMaps()) {
+                try {
+                    // Get or create marker set
+                    MarkerSet markerSet = map.getMarkerSets().computeIfAbsent(
+                        markerSetId,
+                        id -> MarkerSet.builder()
+                            .label(markerSetLabel)
+                            .toggleable(true)
+                            .defaultHidden(false)
+                            .build()
+                    );
+
+                    String markerId = point.getId();
+                    String renderKey = getRenderKey(map, markerId);
+                    if (syncedRenderKeys != null) {
+                        syncedRenderKeys.add(renderKey);
+                    }
+                    if (markerSet.get(markerId) == null || !snapshot.equals(renderedMarkers.get(renderKey))) {
+                        if (shape == null) {
+                            shape = createShape(point);
+                        }
                         Color lineColor = withAlpha(color, (float) lineOpacity);
                         Color fillColor = new Color(color.getRed(), color.getGreen(), color.getBlue(), (float) fillOpacity);
-                        
-                        // Create detailed info window HTML
-                        String infoHtml = createInfoWindow(point);
-                        String detailHtml = showDetails ? infoHtml : "";
-                        
-                        // Create or update marker
-                        String markerId = point.getId();
+
                         ShapeMarker marker = ShapeMarker.builder()
                             .label(point.getName())
                             .position(new Vector3d(location.getX(), markerY, location.getZ()))
@@ -173,20 +199,21 @@ public class BlueMapProvider implements MapProvider {
                             .lineWidth(lineWidth)
                             .detail(detailHtml)
                             .build();
-                        
+
                         markerSet.put(markerId, marker);
                         markers.put(point.getId(), marker);
-                        createOrUpdateCenterMarker(markerSet, point, markerY, infoHtml);
-                        
+                        renderedMarkers.put(renderKey, snapshot);
+
                         if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
-                            logger.info("Updated BlueMap marker for " + point.getId());
+                            logger.info("Updated BlueMap marker for " + point.getId() + " on map " + map.getId());
                         }
-                        
-                    } catch (Exception e) {
-                        logger.warning("Failed to create marker on map " + map.getId() + ": " + e.getMessage());
                     }
+                    createOrUpdateCenterMarker(map, markerSet, point, markerY, infoHtml);
+
+                } catch (Exception e) {
+                    logger.warning("Failed to create marker on map " + map.getId() + ": " + e.getMessage());
                 }
-            });
+            }
             
         } catch (Exception e) {
             logger.warning("Failed to update BlueMap marker for " + point.getId() + ": " + e.getMessage());
@@ -211,11 +238,14 @@ public class BlueMapProvider implements MapProvider {
                         markerSet.remove(pointId);
                         markerSet.remove(getCenterMarkerId(pointId));
                     }
+                    renderedMarkers.remove(getRenderKey(map, pointId));
+                    renderedMarkers.remove(getRenderKey(map, getCenterMarkerId(pointId)));
                 }
             }
             
             markers.remove(pointId);
             centerMarkers.remove(pointId);
+            infoWindows.remove(pointId);
             
         } catch (Exception e) {
             logger.warning("Failed to remove BlueMap marker " + pointId + ": " + e.getMessage());
@@ -229,28 +259,38 @@ public class BlueMapProvider implements MapProvider {
         }
         
         try {
-            // Clear all existing markers from the marker set
-            for (de.bluecolored.bluemap.api.BlueMapWorld blueMapWorld : blueMapAPI.getWorlds()) {
-                for (BlueMapMap map : blueMapWorld.getMaps()) {
-                    MarkerSet markerSet = map.getMarkerSets().get(markerSetId);
-                    if (markerSet != null) {
-                        // Remove each marker individually as clear() method doesn't exist
-                        java.util.Set<String> markerKeys = new java.util.HashSet<>(markerSet.getMarkers().keySet());
-                        for (String key : markerKeys) {
-                            markerSet.remove(key);
-                        }
+            // Redraw only markers whose rendered values changed
+            syncedRenderKeys = new HashSet<>();
+            Set<String> pointIds = new HashSet<>();
+            try {
+                for (CapturePoint point : plugin.getCapturePoints().values()) {
+                    if (point != null && point.isShowOnMap() && plugin.shouldDisplayPoint(point)) {
+                        createOrUpdateMarker(point);
+                        pointIds.add(point.getId());
                     }
                 }
-            }
-            
-            markers.clear();
-            centerMarkers.clear();
-            
-            // Create markers for all capture zones
-            for (CapturePoint point : plugin.getCapturePoints().values()) {
-                if (point != null && point.isShowOnMap() && plugin.shouldDisplayPoint(point)) {
-                    createOrUpdateMarker(point);
+            } finally {
+                Set<String> synced = syncedRenderKeys;
+                syncedRenderKeys = null;
+
+                // Remove whatever this pass did not draw: deleted or hidden zones, stale maps
+                for (de.bluecolored.bluemap.api.BlueMapWorld blueMapWorld : blueMapAPI.getWorlds()) {
+                    for (BlueMapMap map : blueMapWorld.getMaps()) {
+                        MarkerSet markerSet = map.getMarkerSets().get(markerSetId);
+                        if (markerSet == null) {
+                            continue;
+                        }
+                        for (String key : new ArrayList<>(markerSet.getMarkers().keySet())) {
+                            if (!synced.contains(getRenderKey(map, key))) {
+                                markerSet.remove(key);
+                            }
+                        }
+                    }
                 }
+                renderedMarkers.keySet().retainAll(synced);
+                markers.keySet().retainAll(pointIds);
+                centerMarkers.keySet().retainAll(pointIds);
+                infoWindows.keySet().retainAll(pointIds);
             }
             
             if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
@@ -285,6 +325,8 @@ public class BlueMapProvider implements MapProvider {
         
         markers.clear();
         centerMarkers.clear();
+        renderedMarkers.clear();
+        infoWindows.clear();
         centerIconAddress = null;
         warnedInvalidCenterIcons.clear();
         this.available = false;
@@ -306,33 +348,18 @@ public class BlueMapProvider implements MapProvider {
     }
     
     private Shape createShape(CapturePoint point) {
+        ZoneGeometry.Polygon polygon;
         if (point.isCuboid()) {
-            return createCuboidShape(point);
+            polygon = ZoneGeometry.mapPolygon(point);
+        } else {
+            int radius = point.getRadius();
+            int points = Math.max(32, radius / 4); // More points for larger circles
+            polygon = ZoneGeometry.circle(point.getId(), point.getLocation().getX(), point.getLocation().getZ(), radius, points);
         }
-        return createCircleShape(point.getLocation(), point.getRadius());
-    }
-
-    private Shape createCircleShape(Location center, int radius) {
-        int points = Math.max(32, radius / 4); // More points for larger circles
-        Vector2d[] shapePoints = new Vector2d[points];
-        
-        for (int i = 0; i < points; i++) {
-            double angle = (2 * Math.PI * i) / points;
-            double x = center.getX() + radius * Math.cos(angle);
-            double z = center.getZ() + radius * Math.sin(angle);
-            shapePoints[i] = new Vector2d(x, z);
+        Vector2d[] shapePoints = new Vector2d[polygon.size()];
+        for (int i = 0; i < shapePoints.length; i++) {
+            shapePoints[i] = new Vector2d(polygon.x(i), polygon.z(i));
         }
-        
-        return new Shape(shapePoints);
-    }
-
-    private Shape createCuboidShape(CapturePoint point) {
-        Vector2d[] shapePoints = new Vector2d[]{
-            new Vector2d(point.getCuboidMinX(), point.getCuboidMinZ()),
-            new Vector2d(point.getCuboidMaxX() + 1, point.getCuboidMinZ()),
-            new Vector2d(point.getCuboidMaxX() + 1, point.getCuboidMaxZ() + 1),
-            new Vector2d(point.getCuboidMinX(), point.getCuboidMaxZ() + 1)
-        };
         return new Shape(shapePoints);
     }
     
@@ -366,6 +393,57 @@ public class BlueMapProvider implements MapProvider {
         return parseHexColor(colorHex, new Color(128, 128, 128));
     }
     
+    /**
+     * Info window HTML for the marker, regenerated only when its inputs changed.
+     */
+    private String getInfoWindow(CapturePoint point) {
+        MarkerSnapshot inputs = getInfoWindowInputs(point);
+        CachedInfoWindow cached = infoWindows.get(point.getId());
+        if (cached != null && cached.inputs.equals(inputs)) {
+            return cached.html;
+        }
+        String html = createInfoWindow(point);
+        infoWindows.put(point.getId(), new CachedInfoWindow(inputs, html));
+        return html;
+    }
+
+    private MarkerSnapshot getInfoWindowInputs(CapturePoint point) {
+        KothManager kothManager = plugin.getKothManager();
+        if (kothManager != null && kothManager.isZoneActive(point.getId())) {
+            KothManager.ZoneStateSnapshot state = kothManager.getZoneState(point.getId());
+            return new MarkerSnapshot(Messages.getRevision(), point.getName(), state.holderName,
+                state.progressPercent(), state.remainingSeconds(),
+                plugin.getConfig().getDouble("koth.gameplay.hold-radius-blocks", 5.0d), plugin.getBaseReward(point));
+        }
+        return new MarkerSnapshot(Messages.getRevision(), point.getControllingTown(), getControlledColorHex(point),
+            point.getName(), point.getType(), plugin.getBaseReward(point), point.isCuboid(), shapeBounds(point),
+            point.getChunkRadius());
+    }
+
+    /**
+     * Values the zone outline is built from: block bounds for cuboids, centre and radius for circles.
+     */
+    private Object shapeBounds(CapturePoint point) {
+        if (point.isCuboid()) {
+            return new int[]{
+                point.getCuboidMinX(), point.getCuboidMinY(), point.getCuboidMinZ(),
+                point.getCuboidMaxX(), point.getCuboidMaxY(), point.getCuboidMaxZ()
+            };
+        }
+        Location center = point.getLocation();
+        return new double[]{center.getX(), center.getZ(), point.getRadius()};
+    }
+
+    private static final class CachedInfoWindow {
+        final MarkerSnapshot inputs;
+        final String html;
+
+        CachedInfoWindow(MarkerSnapshot inputs, String html) {
+            this.inputs = inputs;
+            this.html = html;
+        }
+    }
+
     /**
      * Create HTML info window content for the marker.
      */
@@ -451,7 +529,7 @@ public class BlueMapProvider implements MapProvider {
         return html.toString();
     }
 
-    private void createOrUpdateCenterMarker(MarkerSet markerSet, CapturePoint point, float markerY, String infoHtml) {
+    private void createOrUpdateCenterMarker(BlueMapMap map, MarkerSet markerSet, CapturePoint point, float markerY, String infoHtml) {
         if (!centerMarkerEnabled) {
             return;
         }
@@ -460,6 +538,10 @@ public class BlueMapProvider implements MapProvider {
         String markerId = getCenterMarkerId(point.getId());
         Vector3d position = new Vector3d(point.getLocation().getX(), markerY, point.getLocation().getZ());
         String label = point.getName();
+        String renderKey = getRenderKey(map, markerId);
+        if (syncedRenderKeys != null) {
+            syncedRenderKeys.add(renderKey);
+        }
 
         POIMarker marker = null;
         try {
@@ -468,6 +550,13 @@ public class BlueMapProvider implements MapProvider {
             markerSet.remove(markerId);
         }
 
+        MarkerSnapshot snapshot = new MarkerSnapshot(label, position.getX(), markerY, position.getZ(),
+            iconAddress, centerMarkerIconSize, infoHtml);
+        if (marker != null && snapshot.equals(renderedMarkers.get(renderKey))) {
+            centerMarkers.put(point.getId(), marker);
+            return;
+        }
+
         if (marker != null && (iconAddress == null || iconAddress.isEmpty())) {
             markerSet.remove(markerId);
             marker = null;
@@ -499,12 +588,17 @@ public class BlueMapProvider implements MapProvider {
         }
 
         centerMarkers.put(point.getId(), marker);
+        renderedMarkers.put(renderKey, snapshot);
     }
 
     private String getCenterMarkerId(String pointId) {
         return "center_" + pointId;
     }
 
+    private String getRenderKey(BlueMapMap map, String markerId) {
+        return map.getId() + "/" + markerId;
+    }
+
     private int clampIconSize(int size) {
         int clamped = Math.max(8, size);
         return Math.min(clamped, 64);
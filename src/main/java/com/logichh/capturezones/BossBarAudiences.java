@@ -0,0 +1,124 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+/**
+ * Who currently sees each capture bossbar.
+ *
+ * BossBar#getPlayers copies the viewer list on every call, so the plugin keeps its own viewer
+ * sets and only calls addPlayer/removePlayer when a player's visibility actually flips. The
+ * sets are updated from chunk crossings, teleports, respawns, notification toggles and bossbar
+ * phase changes. Main thread only.
+ */
+final class BossBarAudiences {
+    // point id -> viewers of that point's bar
+    private final Map<String, Set<UUID>> viewersByPoint = new HashMap<>();
+    // viewer -> point ids, so one player's bars are found without scanning every bar
+    private final Map<UUID, Set<String>> pointsByViewer = new HashMap<>();
+
+    /**
+     * Show or hide {@code bossBar} for one player. Returns true when the audience changed.
+     */
+    boolean apply(String pointId, BossBar bossBar, Player player, boolean visible) {
+        if (pointId == null || bossBar == null || player == null) {
+            return false;
+        }
+        UUID playerId = player.getUniqueId();
+        if (visible) {
+            if (!this.viewersByPoint.computeIfAbsent(pointId, ignored -> new HashSet<>()).add(playerId)) {
+                return false;
+            }
+            this.pointsByViewer.computeIfAbsent(playerId, ignored -> new HashSet<>()).add(pointId);
+            bossBar.addPlayer(player);
+            return true;
+        }
+        if (!unlink(pointId, playerId)) {
+            return false;
+        }
+        Set<String> points = this.pointsByViewer.get(playerId);
+        if (points != null && points.remove(pointId) && points.isEmpty()) {
+            this.pointsByViewer.remove(playerId);
+        }
+        bossBar.removePlayer(player);
+        return true;
+    }
+
+    /**
+     * Ids of the points whose bar {@code playerId} currently sees.
+     */
+    List<String> viewedBy(UUID playerId) {
+        Set<String> points = this.pointsByViewer.get(playerId);
+        return points != null ? new ArrayList<>(points) : new ArrayList<>();
+    }
+
+    /**
+     * Take a player off every bar they see, e.g. on quit or when they silence notifications.
+     */
+    void removePlayer(Player player, Map<String, BossBar> bossBars) {
+        if (player == null) {
+            return;
+        }
+        Set<String> points = this.pointsByViewer.remove(player.getUniqueId());
+        if (points == null) {
+            return;
+        }
+        for (String pointId : points) {
+            unlink(pointId, player.getUniqueId());
+            BossBar bossBar = bossBars.get(pointId);
+            if (bossBar != null) {
+                bossBar.removePlayer(player);
+            }
+        }
+    }
+
+    /**
+     * Forget a bar's viewers without touching the bar, for bars that linger briefly after
+     * their session ended.
+     */
+    void forget(String pointId) {
+        Set<UUID> viewers = this.viewersByPoint.remove(pointId);
+        if (viewers == null) {
+            return;
+        }
+        for (UUID viewer : viewers) {
+            Set<String> points = this.pointsByViewer.get(viewer);
+            if (points != null && points.remove(pointId) && points.isEmpty()) {
+                this.pointsByViewer.remove(viewer);
+            }
+        }
+    }
+
+    /**
+     * Remove everyone from a bar that is being discarded.
+     */
+    void clear(String pointId, BossBar bossBar) {
+        forget(pointId);
+        if (bossBar != null) {
+            bossBar.removeAll();
+        }
+    }
+
+    void clear() {
+        this.viewersByPoint.clear();
+        this.pointsByViewer.clear();
+    }
+
+    private boolean unlink(String pointId, UUID playerId) {
+        Set<UUID> viewers = this.viewersByPoint.get(pointId);
+        if (viewers == null || !viewers.remove(playerId)) {
+            return false;
+        }
+        if (viewers.isEmpty()) {
+            this.viewersByPoint.remove(pointId);
+        }
+        return true;
+    }
+}
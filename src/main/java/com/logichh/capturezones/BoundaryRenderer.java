@@ -0,0 +1,540 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Draws zone boundary particles for every player who has boundaries shown, from one task.
+ *
+ * Outline columns are built once per zone and keep their surface height until a block in that
+ * column changes, its chunk unloads, or {@link #HEIGHT_TTL_MS} passes (for changes no event
+ * reports, like growing trees or flowing water). Each pass drops columns outside the player's
+ * range or behind them, thins distant columns (every 2nd, 4th, ... column and Y level per
+ * {@code lod-distance} blocks), and caps the particles sent to one player at
+ * {@code particle-budget}, spreading the cap evenly over the visible columns. Main thread only.
+ */
+final class BoundaryRenderer implements Listener {
+    private static final long HEIGHT_TTL_MS = 60_000L;
+    // Columns this close are drawn even when the player looks away; they are the ones seen first on turning.
+    private static final double ALWAYS_VISIBLE_BLOCKS = 8.0;
+    // cos(75 deg): a little wider than half the default horizontal field of view.
+    private static final double VIEW_COS = 0.26;
+    private static final int MAX_LOD = 8;
+    private static final int UNKNOWN_HEIGHT = Integer.MIN_VALUE;
+
+    private final CaptureZones plugin;
+    // viewer -> zone ids shown to them, in the order they were shown
+    private final Map<UUID, Set<String>> viewers = new HashMap<>();
+    // zone id -> outline built for the current boundary settings
+    private final Map<String, Outline> outlines = new HashMap<>();
+    private BukkitTask task;
+    private boolean soulFallback;
+
+    // Columns picked for the current player, reused between passes.
+    private Outline[] pickedOutlines = new Outline[256];
+    private int[] pickedColumns = new int[256];
+    private int[] pickedStartY = new int[256];
+    private int[] pickedEndY = new int[256];
+    private int[] pickedStep = new int[256];
+
+    private final AtomicLong particlesSent = new AtomicLong();
+    private final AtomicLong columnsOutOfRange = new AtomicLong();
+    private final AtomicLong columnsOutOfView = new AtomicLong();
+    private final AtomicLong budgetLimitedPasses = new AtomicLong();
+
+    BoundaryRenderer(CaptureZones plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Start showing one zone to a player. Returns false when boundaries are turned off.
+     */
+    boolean show(Player player, String pointId) {
+        Settings settings = this.plugin.getActiveBoundarySettings();
+        if (settings == null || player == null || pointId == null) {
+            return false;
+        }
+        this.viewers.computeIfAbsent(player.getUniqueId(), ignored -> new LinkedHashSet<>()).add(pointId);
+        if (this.task == null || this.task.isCancelled()) {
+            this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::renderAll, 0L, Math.max(1L, settings.intervalTicks));
+        }
+        return true;
+    }
+
+    boolean isShowing(UUID playerId, String pointId) {
+        Set<String> pointIds = this.viewers.get(playerId);
+        return pointIds != null && pointIds.contains(pointId);
+    }
+
+    void hide(UUID playerId, String pointId) {
+        Set<String> pointIds = this.viewers.get(playerId);
+        if (pointIds != null && pointIds.remove(pointId) && pointIds.isEmpty()) {
+            this.viewers.remove(playerId);
+            stopIfIdle();
+        }
+    }
+
+    void hideAll(UUID playerId) {
+        if (this.viewers.remove(playerId) != null) {
+            stopIfIdle();
+        }
+    }
+
+    /**
+     * Stop showing a deleted zone to everyone.
+     */
+    void hideZone(String pointId) {
+        this.viewers.values().removeIf(pointIds -> pointIds.remove(pointId) && pointIds.isEmpty());
+        this.outlines.remove(pointId);
+        stopIfIdle();
+    }
+
+    void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        this.viewers.clear();
+        this.outlines.clear();
+    }
+
+    /**
+     * Rebuild a zone's outline and heights on its next pass, after its bounds changed.
+     */
+    void invalidate(String pointId) {
+        if (pointId == null) {
+            this.outlines.clear();
+        } else {
+            this.outlines.remove(pointId);
+        }
+    }
+
+    private void stopIfIdle() {
+        if (this.viewers.isEmpty() && this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    private void renderAll() {
+        Settings settings = this.plugin.getActiveBoundarySettings();
+        if (settings == null) {
+            stop();
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<UUID, Set<String>>> iterator = this.viewers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Set<String>> entry = iterator.next();
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null || !player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            renderFor(player, entry.getValue(), settings, now);
+            if (entry.getValue().isEmpty()) {
+                iterator.remove();
+            }
+        }
+        stopIfIdle();
+    }
+
+    private void renderFor(Player player, Set<String> pointIds, Settings settings, long now) {
+        Location eye = player.getEyeLocation();
+        World world = eye.getWorld();
+        if (world == null) {
+            return;
+        }
+        double px = eye.getX();
+        double pz = eye.getZ();
+        double yaw = Math.toRadians(eye.getYaw());
+        double lookX = -Math.sin(yaw);
+        double lookZ = Math.cos(yaw);
+        double range = Math.max(0, settings.visibilityRangeChunks) * 16.0;
+        double rangeSquared = range * range;
+        int minWorldY = world.getMinHeight();
+        int maxWorldY = world.getMaxHeight() - 1;
+
+        int picked = 0;
+        long cost = 0;
+        List<String> missingPointIds = null;
+        for (String pointId : pointIds) {
+            CapturePoint point = this.plugin.getCapturePoints().get(pointId);
+            if (point == null || point.getLocation() == null || point.getLocation().getWorld() == null) {
+                if (missingPointIds == null) {
+                    missingPointIds = new ArrayList<>();
+                }
+                missingPointIds.add(pointId);
+                continue;
+            }
+            if (!world.getUID().equals(point.getLocation().getWorld().getUID())) {
+                continue;
+            }
+            Outline outline = outline(point, settings);
+            if (outline.distanceToBounds(px, pz) > range) {
+                this.columnsOutOfRange.addAndGet(outline.size());
+                continue;
+            }
+            for (int i = 0; i < outline.size(); i++) {
+                double dx = outline.xs[i] - px;
+                double dz = outline.zs[i] - pz;
+                double distanceSquared = dx * dx + dz * dz;
+                if (distanceSquared > rangeSquared) {
+                    this.columnsOutOfRange.incrementAndGet();
+                    continue;
+                }
+                double distance = Math.sqrt(distanceSquared);
+                int lod = levelOfDetail(distance, settings.lodDistance);
+                if (i % lod != 0) {
+                    continue;
+                }
+                if (distance > ALWAYS_VISIBLE_BLOCKS && (dx * lookX + dz * lookZ) < distance * VIEW_COS) {
+                    this.columnsOutOfView.incrementAndGet();
+                    continue;
+                }
+                int surfaceY = outline.surfaceY(world, i, now);
+                if (surfaceY == UNKNOWN_HEIGHT) {
+                    continue;
+                }
+                int startY = Math.max(minWorldY, surfaceY + settings.minHeight);
+                int endY = Math.min(maxWorldY, surfaceY + settings.maxHeight);
+                if (endY < startY) {
+                    continue;
+                }
+                ensurePickCapacity(picked + 1);
+                this.pickedOutlines[picked] = outline;
+                this.pickedColumns[picked] = i;
+                this.pickedStartY[picked] = startY;
+                this.pickedEndY[picked] = endY;
+                this.pickedStep[picked] = lod;
+                picked++;
+                cost += (endY - startY) / lod + 1;
+            }
+        }
+        if (missingPointIds != null) {
+            pointIds.removeAll(missingPointIds);
+        }
+
+        // Over budget: thin evenly, first across columns (every stride-th one, so every side keeps
+        // some) and then along Y, rather than dropping whole sides of the outline.
+        int budget = Math.max(1, settings.particleBudget);
+        int stride = 1;
+        int thinning = 1;
+        if (cost > budget) {
+            this.budgetLimitedPasses.incrementAndGet();
+            stride = (picked + budget - 1) / budget;
+            if (stride > 1) {
+                cost = 0;
+                for (int p = 0; p < picked; p += stride) {
+                    cost += (this.pickedEndY[p] - this.pickedStartY[p]) / this.pickedStep[p] + 1;
+                }
+            }
+            thinning = (int) ((cost + budget - 1) / budget);
+        }
+        int sent = 0;
+        for (int p = 0; p < picked; p++) {
+            Outline outline = this.pickedOutlines[p];
+            this.pickedOutlines[p] = null;
+            if (p % stride != 0 || sent >= budget) {
+                continue;
+            }
+            double x = outline.xs[this.pickedColumns[p]];
+            double z = outline.zs[this.pickedColumns[p]];
+            int step = this.pickedStep[p] * thinning;
+            for (int y = this.pickedStartY[p]; y <= this.pickedEndY[p] && sent < budget; y += step) {
+                spawn(player, x, y, z);
+                sent++;
+            }
+        }
+        this.particlesSent.addAndGet(sent);
+    }
+
+    private static int levelOfDetail(double distance, int lodDistance) {
+        if (lodDistance <= 0) {
+            return 1;
+        }
+        int lod = 1;
+        for (double limit = lodDistance; distance > limit && lod < MAX_LOD; limit += lodDistance) {
+            lod <<= 1;
+        }
+        return lod;
+    }
+
+    private void spawn(Player player, double x, double y, double z) {
+        if (!this.soulFallback) {
+            try {
+                player.spawnParticle(Particle.GLOW, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+                return;
+            } catch (Exception e) {
+                this.soulFallback = true;
+            }
+        }
+        player.spawnParticle(Particle.SOUL, x, y, z, 1, 0.0, 0.0, 0.0, 0.0);
+    }
+
+    private void ensurePickCapacity(int needed) {
+        if (needed <= this.pickedColumns.length) {
+            return;
+        }
+        int size = Math.max(needed, this.pickedColumns.length * 2);
+        this.pickedOutlines = Arrays.copyOf(this.pickedOutlines, size);
+        this.pickedColumns = Arrays.copyOf(this.pickedColumns, size);
+        this.pickedStartY = Arrays.copyOf(this.pickedStartY, size);
+        this.pickedEndY = Arrays.copyOf(this.pickedEndY, size);
+        this.pickedStep = Arrays.copyOf(this.pickedStep, size);
+    }
+
+    private Outline outline(CapturePoint point, Settings settings) {
+        int sides = Math.max(settings.minSides, (int) Math.round(point.getRadius() * settings.sidesMultiplier));
+        Outline outline = this.outlines.get(point.getId());
+        if (outline == null || outline.sides != sides) {
+            outline = buildOutline(point, sides);
+            this.outlines.put(point.getId(), outline);
+        }
+        return outline;
+    }
+
+    private static Outline buildOutline(CapturePoint point, int sides) {
+        UUID worldId = point.getLocation().getWorld().getUID();
+        if (!point.isCuboid()) {
+            Location center = point.getLocation();
+            ZoneGeometry.Polygon circle = ZoneGeometry.circle(point.getId(), center.getX(), center.getZ(), point.getRadius(), sides);
+            return new Outline(worldId, sides, circle.copyXs(), circle.copyZs());
+        }
+
+        int minX = point.getCuboidMinX();
+        int maxX = point.getCuboidMaxX();
+        int minZ = point.getCuboidMinZ();
+        int maxZ = point.getCuboidMaxZ();
+        int perimeter = Math.max(4, 2 * ((maxX - minX + 1) + (maxZ - minZ + 1)));
+        int step = Math.max(1, perimeter / Math.max(8, sides));
+        // Columns run once around the perimeter (minZ edge, maxX, maxZ back, minX back), so a
+        // level of detail that keeps every n-th column thins all four sides alike. Each edge
+        // starts at its corner and stops short of the next one.
+        int alongX = (maxX - minX + step - 1) / step;
+        int alongZ = (maxZ - minZ + step - 1) / step;
+        int count = Math.max(1, 2 * (alongX + alongZ));
+        double[] xs = new double[count];
+        double[] zs = new double[count];
+        xs[0] = minX + 0.5;
+        zs[0] = minZ + 0.5;
+        int index = 0;
+        for (int i = 0; i < alongX; i++, index++) {
+            xs[index] = minX + i * step + 0.5;
+            zs[index] = minZ + 0.5;
+        }
+        for (int i = 0; i < alongZ; i++, index++) {
+            xs[index] = maxX + 0.5;
+            zs[index] = minZ + i * step + 0.5;
+        }
+        for (int i = 0; i < alongX; i++, index++) {
+            xs[index] = maxX - i * step + 0.5;
+            zs[index] = maxZ + 0.5;
+        }
+        for (int i = 0; i < alongZ; i++, index++) {
+            xs[index] = minX + 0.5;
+            zs[index] = maxZ - i * step + 0.5;
+        }
+        return new Outline(worldId, sides, xs, zs);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        blockChanged(event.getBlockPlaced());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        blockChanged(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            blockChanged(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        for (Block block : event.blockList()) {
+            blockChanged(block);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        if (this.outlines.isEmpty()) {
+            return;
+        }
+        UUID worldId = event.getWorld().getUID();
+        int minX = event.getChunk().getX() << 4;
+        int minZ = event.getChunk().getZ() << 4;
+        for (Outline outline : this.outlines.values()) {
+            if (outline.worldId.equals(worldId)) {
+                outline.forgetHeights(minX, minZ, minX + 15, minZ + 15);
+            }
+        }
+    }
+
+    private void blockChanged(Block block) {
+        if (this.outlines.isEmpty()) {
+            return;
+        }
+        UUID worldId = block.getWorld().getUID();
+        for (Outline outline : this.outlines.values()) {
+            if (outline.worldId.equals(worldId)) {
+                outline.forgetHeights(block.getX(), block.getZ(), block.getX(), block.getZ());
+            }
+        }
+    }
+
+    long getParticlesSent() {
+        return this.particlesSent.get();
+    }
+
+    long getColumnsOutOfRange() {
+        return this.columnsOutOfRange.get();
+    }
+
+    long getColumnsOutOfView() {
+        return this.columnsOutOfView.get();
+    }
+
+    long getBudgetLimitedPasses() {
+        return this.budgetLimitedPasses.get();
+    }
+
+    int getViewerCount() {
+        return this.viewers.size();
+    }
+
+    /**
+     * Boundary settings for the active mode, read from boundary-visuals.on or .reduced.
+     */
+    static final class Settings {
+        final int minSides;
+        final double sidesMultiplier;
+        final int minHeight;
+        final int maxHeight;
+        final int visibilityRangeChunks;
+        final long intervalTicks;
+        final int particleBudget;
+        final int lodDistance;
+
+        Settings(int minSides, double sidesMultiplier, int minHeight, int maxHeight, int visibilityRangeChunks,
+                 long intervalTicks, int particleBudget, int lodDistance) {
+            this.minSides = minSides;
+            this.sidesMultiplier = sidesMultiplier;
+            this.minHeight = minHeight;
+            this.maxHeight = maxHeight;
+            this.visibilityRangeChunks = visibilityRangeChunks;
+            this.intervalTicks = intervalTicks;
+            this.particleBudget = particleBudget;
+            this.lodDistance = lodDistance;
+        }
+    }
+
+    /**
+     * Column positions of one zone outline with their cached surface heights.
+     */
+    private static final class Outline {
+        final UUID worldId;
+        final int sides;
+        final double[] xs;
+        final double[] zs;
+        final int[] heights;
+        final long[] heightsReadAt;
+        final double minX;
+        final double minZ;
+        final double maxX;
+        final double maxZ;
+
+        Outline(UUID worldId, int sides, double[] xs, double[] zs) {
+            this.worldId = worldId;
+            this.sides = sides;
+            this.xs = xs;
+            this.zs = zs;
+            this.heights = new int[xs.length];
+            this.heightsReadAt = new long[xs.length];
+            double lowX = Double.MAX_VALUE;
+            double lowZ = Double.MAX_VALUE;
+            double highX = -Double.MAX_VALUE;
+            double highZ = -Double.MAX_VALUE;
+            for (int i = 0; i < xs.length; i++) {
+                lowX = Math.min(lowX, xs[i]);
+                lowZ = Math.min(lowZ, zs[i]);
+                highX = Math.max(highX, xs[i]);
+                highZ = Math.max(highZ, zs[i]);
+            }
+            this.minX = lowX;
+            this.minZ = lowZ;
+            this.maxX = highX;
+            this.maxZ = highZ;
+        }
+
+        int size() {
+            return this.xs.length;
+        }
+
+        double distanceToBounds(double x, double z) {
+            double outsideX = Math.max(0.0, Math.max(this.minX - x, x - this.maxX));
+            double outsideZ = Math.max(0.0, Math.max(this.minZ - z, z - this.maxZ));
+            return Math.sqrt(outsideX * outsideX + outsideZ * outsideZ);
+        }
+
+        /**
+         * Highest block in a column, or {@link #UNKNOWN_HEIGHT} when its chunk is not loaded;
+         * boundaries never load chunks.
+         */
+        int surfaceY(World world, int index, long now) {
+            if (this.heightsReadAt[index] != 0L && (now - this.heightsReadAt[index]) < HEIGHT_TTL_MS) {
+                return this.heights[index];
+            }
+            int blockX = (int) Math.floor(this.xs[index]);
+            int blockZ = (int) Math.floor(this.zs[index]);
+            if (!world.isChunkLoaded(blockX >> 4, blockZ >> 4)) {
+                return UNKNOWN_HEIGHT;
+            }
+            this.heights[index] = world.getHighestBlockYAt(blockX, blockZ);
+            this.heightsReadAt[index] = now;
+            return this.heights[index];
+        }
+
+        void forgetHeights(int fromX, int fromZ, int toX, int toZ) {
+            if (toX < this.minX - 1 || fromX > this.maxX || toZ < this.minZ - 1 || fromZ > this.maxZ) {
+                return;
+            }
+            for (int i = 0; i < this.xs.length; i++) {
+                int blockX = (int) Math.floor(this.xs[i]);
+                int blockZ = (int) Math.floor(this.zs[i]);
+                if (blockX >= fromX && blockX <= toX && blockZ >= fromZ && blockZ <= toZ) {
+                    this.heightsReadAt[i] = 0L;
+                }
+            }
+        }
+    }
+}
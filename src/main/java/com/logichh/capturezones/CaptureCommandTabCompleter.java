@@ -211,6 +211,11 @@ public class CaptureCommandTabCompleter implements TabCompleter {
                     return filterCompletions(plugin.getForceCaptureTargets(), args[3]);
                 }
                 break;
+            case "reload":
+                if (PermissionNode.has(player, "admin.reload") && args.length == 3) {
+                    return filterCompletions(List.of("full"), args[2]);
+                }
+                break;
             case "togglechat":
                 if (PermissionNode.has(player, "admin.togglechat") && args.length == 3) {
                     return filterCompletions(List.of("on", "off"), args[2]);
@@ -252,7 +257,10 @@ public class CaptureCommandTabCompleter implements TabCompleter {
                 break;
             case "stats":
                 if (PermissionNode.has(player, "admin.stats") && args.length == 3) {
-                    return filterCompletions(List.of("remove", "reset"), args[2]);
+                    return filterCompletions(List.of("remove", "reset", "journal", "hud"), args[2]);
+                }
+                if (PermissionNode.has(player, "admin.stats") && args.length == 4 && "journal".equalsIgnoreCase(args[2])) {
+                    return filterCompletions(List.of("status", "compact", "rebuild"), args[3]);
                 }
                 break;
             case "koth":
@@ -20,6 +20,9 @@ import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
 public class CaptureCommands implements CommandExecutor {
+    // Tail replays a confirmed rebuild may run to catch up with events journaled meanwhile
+    private static final int MAX_JOURNAL_REBUILD_CATCH_UPS = 5;
+
     private final CaptureZones plugin;
     private final CuboidSelectionManager cuboidSelectionManager;
     private final ZoneItemRewardEditor zoneItemRewardEditor;
@@ -252,8 +255,12 @@ public class CaptureCommands implements CommandExecutor {
                     sender.sendMessage(Messages.get("errors.no-permission"));
                     return true;
                 }
-                plugin.reloadAll();
-                sender.sendMessage(Messages.get("messages.reload-success"));
+                if (shiftedArgs.length >= 2 && shiftedArgs[1].equalsIgnoreCase("full")) {
+                    plugin.reloadAll();
+                    sender.sendMessage(Messages.get("messages.reload-success"));
+                    return true;
+                }
+                handleStagedReload(sender);
                 return true;
             case "reloadlang":
                 if (!PermissionNode.has(sender, "admin.reload")) {
@@ -1262,7 +1269,7 @@ public class CaptureCommands implements CommandExecutor {
 
         // Check if already showing for this player
         String key = player.getUniqueId() + "_" + pointId;
-        if (this.plugin.boundaryTasks.containsKey(key)) {
+        if (this.plugin.isBoundaryVisualizationActive(key)) {
             // Toggle off
             this.plugin.stopBoundaryVisualization(key);
             player.sendMessage(this.plugin.colorize("&7Zone boundary display hidden for " + point.getName()));
@@ -1288,7 +1295,7 @@ public class CaptureCommands implements CommandExecutor {
         
         for (CapturePoint point : this.plugin.getCapturePoints().values()) {
             String key = player.getUniqueId() + "_" + point.getId();
-            if (this.plugin.boundaryTasks.containsKey(key)) {
+            if (this.plugin.isBoundaryVisualizationActive(key)) {
                 // Toggle off
                 this.plugin.stopBoundaryVisualization(key);
                 hiddenCount++;
@@ -1559,6 +1566,21 @@ public class CaptureCommands implements CommandExecutor {
                 handleStatsReset(sender);
                 break;
                 
+            case "journal":
+                handleStatsJournal(sender, args);
+                break;
+
+            case "hud":
+                HudOutput hud = plugin.getHudOutput();
+                sender.sendMessage(Messages.get("messages.hud.status", Map.of(
+                    "bossbar_sent", String.valueOf(hud.getSentBossBarUpdates()),
+                    "bossbar_suppressed", String.valueOf(hud.getSuppressedBossBarUpdates()),
+                    "actionbar_sent", String.valueOf(hud.getSentActionbars()),
+                    "actionbar_suppressed", String.valueOf(hud.getSuppressedActionbars()),
+                    "actionbar_limited", String.valueOf(hud.getRateLimitedActionbars())
+                )));
+                break;
+                
             default:
                 sender.sendMessage(Messages.get("errors.usage-stats-admin"));
                 break;
@@ -1597,6 +1619,141 @@ public class CaptureCommands implements CommandExecutor {
         sender.sendMessage(Messages.get("messages.stats-reset"));
     }
     
+    /**
+     * Event journal tools
+     * Usage: /cap admin stats journal <status|compact|rebuild [CONFIRM]>
+     */
+    private void handleStatsJournal(CommandSender sender, String[] args) {
+        CaptureEventJournal journal = plugin.getEventJournal();
+        if (journal == null) {
+            sender.sendMessage(Messages.get("errors.journal-disabled"));
+            return;
+        }
+        String action = args.length >= 3 ? args[2].toLowerCase() : "status";
+        switch (action) {
+            case "status":
+                sender.sendMessage(Messages.get("messages.journal.status", Map.of(
+                    "written", String.valueOf(journal.getWrittenEvents()),
+                    "batches", String.valueOf(journal.getBatches()),
+                    "queued", String.valueOf(journal.getQueuedEvents()),
+                    "dropped", String.valueOf(journal.getDroppedEvents()),
+                    "failed", String.valueOf(journal.getFailedBatches()),
+                    "rolled", String.valueOf(journal.getRolledSegments())
+                )));
+                break;
+            case "compact":
+                journal.requestCompaction();
+                sender.sendMessage(Messages.get("messages.journal.compact-queued"));
+                break;
+            case "rebuild":
+                handleStatsJournalRebuild(sender, journal, args.length >= 4 && args[3].equals("CONFIRM"));
+                break;
+            default:
+                sender.sendMessage(Messages.get("errors.usage-stats-journal"));
+                break;
+        }
+    }
+    
+    /**
+     * Reload the changed config files in the background and report what was applied.
+     */
+    private void handleStagedReload(CommandSender sender) {
+        plugin.reloadChanged((plan, error) -> {
+            if (error != null) {
+                sender.sendMessage(Messages.get("messages.reload-failed", Map.of(
+                    "error", String.valueOf(error.getMessage())
+                )));
+            } else if (plan == null) {
+                sender.sendMessage(Messages.get("errors.reload-in-progress"));
+            } else if (!plan.errors.isEmpty()) {
+                sender.sendMessage(Messages.get("errors.reload-invalid-files", Map.of(
+                    "files", String.join(", ", plan.errors)
+                )));
+            } else if (plan.isEmpty()) {
+                sender.sendMessage(Messages.get("messages.reload-unchanged"));
+            } else {
+                sender.sendMessage(Messages.get("messages.reload-applied", Map.of(
+                    "changes", plan.describe(),
+                    "captures", String.valueOf(plugin.getActiveSessions().size())
+                )));
+            }
+        });
+    }
+
+    /**
+     * Replay the journal into a detached statistics manager off the main thread, then either
+     * report the totals or swap them in.
+     */
+    private void handleStatsJournalRebuild(CommandSender sender, CaptureEventJournal journal, boolean apply) {
+        StatisticsManager statisticsManager = plugin.getStatisticsManager();
+        if (statisticsManager == null) {
+            sender.sendMessage(Messages.get("errors.stats-disabled"));
+            return;
+        }
+        sender.sendMessage(Messages.get("messages.journal.rebuild-started"));
+        StatisticsManager rebuild = new StatisticsManager(plugin.getLogger(), statisticsManager.getWindowSettings());
+        journal.replay(rebuild::replay).whenComplete((result, error) -> Bukkit.getScheduler().runTask(plugin,
+            () -> finishStatsJournalRebuild(sender, journal, rebuild, result, error, apply, 0)));
+    }
+
+    /**
+     * Main-thread half of a rebuild. Before replacing live data the rebuild replays whatever
+     * was journaled while it ran, until nothing appended on the main thread is missing.
+     */
+    private void finishStatsJournalRebuild(CommandSender sender, CaptureEventJournal journal, StatisticsManager rebuild,
+                                           CaptureEventJournal.ReplayResult result, Throwable error, boolean apply, int catchUps) {
+        if (error != null) {
+            Throwable cause = error.getCause() != null ? error.getCause() : error;
+            sender.sendMessage(Messages.get("errors.journal-rebuild-failed", Map.of(
+                "error", String.valueOf(cause.getMessage())
+            )));
+            return;
+        }
+        StatisticsManager live = plugin.getStatisticsManager();
+        if (live == null) {
+            sender.sendMessage(Messages.get("errors.stats-disabled"));
+            return;
+        }
+        if (apply && !journal.isCaughtUp(result)) {
+            if (catchUps >= MAX_JOURNAL_REBUILD_CATCH_UPS) {
+                sender.sendMessage(Messages.get("errors.journal-rebuild-busy"));
+                return;
+            }
+            journal.replayAfter(result, rebuild::replay).whenComplete((tail, tailError) -> Bukkit.getScheduler().runTask(plugin,
+                () -> finishStatsJournalRebuild(sender, journal, rebuild, tailError == null ? result.plus(tail) : result,
+                    tailError, true, catchUps + 1)));
+            return;
+        }
+        String gap = live.findRebuildGap(rebuild, journal, result);
+        if (apply) {
+            if (gap != null) {
+                sender.sendMessage(Messages.get(gap));
+                return;
+            }
+            live.replaceData(rebuild.getData());
+            sender.sendMessage(Messages.get("messages.journal.rebuild-applied", Map.of(
+                "events", String.valueOf(result.events)
+            )));
+            return;
+        }
+        StatisticsData.ServerRecords rebuilt = rebuild.getData().readServerRecords();
+        StatisticsData.ServerRecords current = live.getData().readServerRecords();
+        Map<String, String> placeholders = new HashMap<>();
+        placeholders.put("events", String.valueOf(result.events));
+        placeholders.put("first", String.valueOf(result.firstSequence));
+        placeholders.put("last", String.valueOf(result.lastSequence));
+        placeholders.put("captures", String.valueOf(rebuilt.totalServerCaptures));
+        placeholders.put("deaths", String.valueOf(rebuilt.totalServerDeaths));
+        placeholders.put("economy", String.format("%.2f", rebuilt.totalServerEconomy));
+        placeholders.put("live_captures", String.valueOf(current.totalServerCaptures));
+        placeholders.put("live_deaths", String.valueOf(current.totalServerDeaths));
+        placeholders.put("live_economy", String.format("%.2f", current.totalServerEconomy));
+        sender.sendMessage(Messages.get("messages.journal.rebuild-preview", placeholders));
+        if (gap != null) {
+            sender.sendMessage(Messages.get(gap));
+        }
+    }
+    
     /**
      * Handle zone config commands
      * Usage: /cap zoneconfig <zone_id> <subcommand> [args]
@@ -1694,7 +1851,7 @@ public class CaptureCommands implements CommandExecutor {
                 sender.sendMessage(Messages.get("errors.zoneconfig-set-invalid"));
                 return;
             }
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId);
             
             sender.sendMessage(Messages.get("messages.zoneconfig-set-success", Map.of(
                 "zone", zoneId,
@@ -1719,7 +1876,7 @@ public class CaptureCommands implements CommandExecutor {
             if (path == null) {
                 // Regenerate entire config from the zone template
                 plugin.getZoneConfigManager().generateZoneConfig(zoneId);
-                plugin.invalidateCapturePointSpatialIndex();
+                plugin.refreshCapturePointSpatialIndex(zoneId);
                 sender.sendMessage(Messages.get("messages.zoneconfig-reset-all-success", Map.of(
                     "zone", zoneId
                 )));
@@ -1729,7 +1886,7 @@ public class CaptureCommands implements CommandExecutor {
                 Object defaultValue = plugin.getZoneConfigManager().getZoneDefault(path);
                 plugin.getZoneConfigManager().setZoneSetting(zoneId, path, defaultValue);
                 plugin.getZoneConfigManager().saveZoneConfig(zoneId);
-                plugin.invalidateCapturePointSpatialIndex();
+                plugin.refreshCapturePointSpatialIndex(zoneId);
                 sender.sendMessage(Messages.get("messages.zoneconfig-reset-path-success", Map.of(
                     "zone", zoneId,
                     "path", path
@@ -1750,7 +1907,7 @@ public class CaptureCommands implements CommandExecutor {
     private void handleZoneConfigReload(CommandSender sender, String zoneId) {
         try {
             plugin.getZoneConfigManager().loadZoneConfig(zoneId);
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId);
             sender.sendMessage(Messages.get("messages.zoneconfig-reload-success", Map.of(
                 "zone", zoneId
             )));
@@ -0,0 +1,926 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only journal of gameplay events (captures, kills, rewards, KOTH wins, shop
+ * transactions), one JSON object per line in journal/events-NNNNNNNN.jsonl.
+ *
+ * Callers only enqueue. A background thread drains the queue in batches and writes each
+ * batch with one channel write and at most one fsync (group commit). Segments roll once they
+ * reach the size limit; closed segments past {@code uncompressedSegments} are gzipped and
+ * segments older than the retention are deleted. A full queue drops events (counted) instead
+ * of blocking the server thread.
+ */
+final class CaptureEventJournal {
+    static final String CAPTURE_START = "capture_start";
+    static final String CAPTURE_PHASE = "capture_phase";
+    static final String CAPTURE_CONTEST = "capture_contest";
+    static final String CAPTURE_CANCEL = "capture_cancel";
+    static final String CAPTURE_FAILED = "capture_failed";
+    static final String CAPTURE_COMPLETE = "capture_complete";
+    static final String PLAYER_KILL = "player_kill";
+    static final String MOB_KILL = "mob_kill";
+    static final String REWARD = "reward";
+    static final String KOTH_WIN = "koth_win";
+    static final String SHOP_TRANSACTION = "shop_transaction";
+    static final String STATS_PLAYER_REMOVED = "stats_player_removed";
+    static final String STATS_RESET = "stats_reset";
+    // First event of a new journal: whether the statistics it started next to already held history
+    static final String STATS_BASELINE = "stats_baseline";
+
+    static final String DIRECTORY_NAME = "journal";
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".jsonl";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final Pattern SEGMENT_NAME = Pattern.compile("events-(\\d+)\\.jsonl(\\.gz)?");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_BATCH = 512;
+    private static final long IDLE_POLL_MILLIS = 250L;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 30_000L;
+
+    /**
+     * Journal options, from {@code journal}.
+     */
+    static final class Settings {
+        final long segmentBytes;
+        final int uncompressedSegments;
+        final long retentionMillis;
+        final long groupCommitMillis;
+        final boolean fsync;
+        final int queueCapacity;
+
+        Settings(long segmentBytes, int uncompressedSegments, long retentionMillis, long groupCommitMillis,
+                 boolean fsync, int queueCapacity) {
+            this.segmentBytes = Math.max(64L * 1024L, segmentBytes);
+            this.uncompressedSegments = Math.max(1, uncompressedSegments);
+            this.retentionMillis = Math.max(0L, retentionMillis);
+            this.groupCommitMillis = Math.max(0L, groupCommitMillis);
+            this.fsync = fsync;
+            this.queueCapacity = Math.max(64, queueCapacity);
+        }
+    }
+
+    /**
+     * One journal record. Fields are filled on the calling thread; the sequence number is
+     * assigned when the writer appends it.
+     */
+    static final class Event {
+        final String type;
+        final long time;
+        final JsonObject fields;
+        long sequence;
+
+        private Event(String type, long time, JsonObject fields) {
+            this.type = type;
+            this.time = time;
+            this.fields = fields;
+        }
+
+        Event with(String key, String value) {
+            if (value != null) {
+                this.fields.addProperty(key, value);
+            }
+            return this;
+        }
+
+        Event with(String key, UUID value) {
+            return with(key, value != null ? value.toString() : null);
+        }
+
+        Event with(String key, Number value) {
+            if (value != null) {
+                this.fields.addProperty(key, value);
+            }
+            return this;
+        }
+
+        Event with(String key, boolean value) {
+            this.fields.addProperty(key, value);
+            return this;
+        }
+
+        Event with(String key, Collection<?> values) {
+            if (values != null) {
+                JsonArray array = new JsonArray();
+                for (Object value : values) {
+                    if (value != null) {
+                        array.add(value.toString());
+                    }
+                }
+                this.fields.add(key, array);
+            }
+            return this;
+        }
+
+        String string(String key) {
+            JsonElement value = this.fields.get(key);
+            return value == null || value.isJsonNull() ? null : value.getAsString();
+        }
+
+        UUID uuid(String key) {
+            return parseUuid(string(key));
+        }
+
+        double number(String key) {
+            JsonElement value = this.fields.get(key);
+            try {
+                return value == null || value.isJsonNull() ? 0.0 : value.getAsDouble();
+            } catch (RuntimeException e) {
+                return 0.0;
+            }
+        }
+
+        boolean flag(String key) {
+            JsonElement value = this.fields.get(key);
+            try {
+                return value != null && !value.isJsonNull() && value.getAsBoolean();
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        long integer(String key) {
+            JsonElement value = this.fields.get(key);
+            try {
+                return value == null || value.isJsonNull() ? 0L : value.getAsLong();
+            } catch (RuntimeException e) {
+                return 0L;
+            }
+        }
+
+        List<UUID> uuids(String key) {
+            List<UUID> result = new ArrayList<>();
+            JsonElement value = this.fields.get(key);
+            if (value != null && value.isJsonArray()) {
+                for (JsonElement element : value.getAsJsonArray()) {
+                    UUID parsed = element.isJsonNull() ? null : parseUuid(element.getAsString());
+                    if (parsed != null) {
+                        result.add(parsed);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static UUID parseUuid(String raw) {
+            if (raw == null) {
+                return null;
+            }
+            try {
+                return UUID.fromString(raw);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Outcome of {@link #replay}.
+     */
+    static final class ReplayResult {
+        final long events;
+        final long skippedLines;
+        final int segments;
+        final long firstSequence;
+        final long lastSequence;
+        // Events accepted by append() that had been written (or failed) when the snapshot was taken
+        final long coveredAppends;
+        final long lastSegmentIndex;
+
+        ReplayResult(long events, long skippedLines, int segments, long firstSequence, long lastSequence,
+                     long coveredAppends, long lastSegmentIndex) {
+            this.events = events;
+            this.skippedLines = skippedLines;
+            this.segments = segments;
+            this.firstSequence = firstSequence;
+            this.lastSequence = lastSequence;
+            this.coveredAppends = coveredAppends;
+            this.lastSegmentIndex = lastSegmentIndex;
+        }
+
+        /**
+         * This result followed by a {@link #replayAfter} tail.
+         */
+        ReplayResult plus(ReplayResult tail) {
+            return new ReplayResult(
+                this.events + tail.events,
+                this.skippedLines + tail.skippedLines,
+                this.segments,
+                this.firstSequence != 0L ? this.firstSequence : tail.firstSequence,
+                tail.lastSequence != 0L ? tail.lastSequence : this.lastSequence,
+                tail.coveredAppends,
+                Math.max(this.lastSegmentIndex, tail.lastSegmentIndex)
+            );
+        }
+    }
+
+    private final File directory;
+    private final Logger logger;
+    private final Gson gson;
+    private final Settings settings;
+    private final BlockingQueue<Event> queue;
+    private final ConcurrentLinkedQueue<Runnable> writerTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeReplays = new AtomicInteger();
+    private final ByteArrayOutputStream batchBytes = new ByteArrayOutputStream(BUFFER_SIZE);
+    private final Writer batchWriter = new OutputStreamWriter(this.batchBytes, StandardCharsets.UTF_8);
+    private Thread writerThread;
+    private volatile boolean stopping;
+
+    // Writer thread state
+    private FileChannel channel;
+    private long segmentIndex;
+    private long segmentSize;
+    private long nextSequence = 1L;
+    private boolean compactRequested;
+
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong appendedEvents = new AtomicLong();
+    // Events taken off the queue by the writer, written or not. Writer thread only.
+    private volatile long processedEvents;
+    private volatile long failedEvents;
+    private final AtomicBoolean baselinePending = new AtomicBoolean();
+    private volatile long writtenEvents;
+    private volatile long batches;
+    private volatile long largestBatch;
+    private volatile long failedBatches;
+    private volatile long lastBatchMicros;
+    private volatile long rolledSegments;
+    private volatile long compressedSegments;
+    private volatile long deletedSegments;
+
+    CaptureEventJournal(File dataFolder, Logger logger, Gson gson, Settings settings) {
+        this.directory = new File(dataFolder, DIRECTORY_NAME);
+        this.logger = logger;
+        this.gson = gson;
+        this.settings = settings;
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity);
+        String[] existing = this.directory.list((dir, name) -> SEGMENT_NAME.matcher(name).matches());
+        this.baselinePending.set(existing == null || existing.length == 0);
+    }
+
+    static Event event(String type) {
+        return new Event(type, System.currentTimeMillis(), new JsonObject());
+    }
+
+    synchronized void start() {
+        if (this.writerThread != null) {
+            return;
+        }
+        this.stopping = false;
+        this.writerThread = new Thread(this::runWriter, "CaptureZones-Journal");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queue {@code event} for writing. Never blocks.
+     */
+    void append(Event event) {
+        if (event == null || this.stopping) {
+            return;
+        }
+        if (this.queue.offer(event)) {
+            this.appendedEvents.incrementAndGet();
+        } else {
+            this.droppedEvents.incrementAndGet();
+        }
+    }
+
+    /**
+     * True once, for the first caller, when this journal started without any segments. The
+     * caller records a {@link #STATS_BASELINE} so a rebuild can tell whether the journal covers
+     * all statistics.
+     */
+    boolean claimBaseline() {
+        return this.baselinePending.getAndSet(false);
+    }
+
+    /**
+     * Gzip and prune closed segments on the writer thread.
+     */
+    void requestCompaction() {
+        this.writerTasks.add(() -> this.compactRequested = true);
+    }
+
+    /**
+     * Stream every retained event, oldest first, to {@code consumer} on a separate thread.
+     * The writer first writes out everything queued before the call, so those events are
+     * included; compaction is held off until the replay finishes.
+     */
+    CompletableFuture<ReplayResult> replay(Consumer<Event> consumer) {
+        return replay(0L, 0L, consumer);
+    }
+
+    /**
+     * Stream only the events written after {@code previous} was taken, for catching a rebuild
+     * up before it replaces live data.
+     */
+    CompletableFuture<ReplayResult> replayAfter(ReplayResult previous, Consumer<Event> consumer) {
+        return replay(previous.lastSegmentIndex, previous.lastSequence, consumer);
+    }
+
+    /**
+     * True when every event appended so far was already part of {@code result}. Appends from
+     * the calling thread cannot race this, so on the main thread a true answer means no
+     * statistics change made there is missing from the replay.
+     */
+    boolean isCaughtUp(ReplayResult result) {
+        return result.coveredAppends >= this.appendedEvents.get();
+    }
+
+    private CompletableFuture<ReplayResult> replay(long fromSegment, long afterSequence, Consumer<Event> consumer) {
+        CompletableFuture<Snapshot> snapshot = new CompletableFuture<>();
+        this.activeReplays.incrementAndGet();
+        Runnable capture = () -> {
+            try {
+                writeQueued();
+                snapshot.complete(new Snapshot(snapshotSegments(fromSegment), this.processedEvents));
+            } catch (IOException | RuntimeException e) {
+                snapshot.completeExceptionally(e);
+            }
+        };
+        if (this.writerThread == null || this.stopping) {
+            capture.run();
+        } else {
+            this.writerTasks.add(capture);
+        }
+        CompletableFuture<ReplayResult> result = snapshot.thenApplyAsync(taken -> {
+            try {
+                return readSegments(taken, afterSequence, consumer);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read the event journal: " + e.getMessage(), e);
+            }
+        }, runnable -> {
+            Thread thread = new Thread(runnable, "CaptureZones-JournalReplay");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        return result.whenComplete((ignored, error) -> this.activeReplays.decrementAndGet());
+    }
+
+    void shutdown() {
+        Thread writer;
+        synchronized (this) {
+            writer = this.writerThread;
+            this.writerThread = null;
+            this.stopping = true;
+        }
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+            if (writer.isAlive()) {
+                this.logger.warning("Event journal writer did not finish within " + (SHUTDOWN_TIMEOUT_MILLIS / 1000L) + "s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    File getDirectory() {
+        return this.directory;
+    }
+
+    Settings getSettings() {
+        return this.settings;
+    }
+
+    int getQueuedEvents() {
+        return this.queue.size();
+    }
+
+    long getDroppedEvents() {
+        return this.droppedEvents.get();
+    }
+
+    long getWrittenEvents() {
+        return this.writtenEvents;
+    }
+
+    long getBatches() {
+        return this.batches;
+    }
+
+    long getLargestBatch() {
+        return this.largestBatch;
+    }
+
+    long getFailedBatches() {
+        return this.failedBatches;
+    }
+
+    long getLastBatchMicros() {
+        return this.lastBatchMicros;
+    }
+
+    long getRolledSegments() {
+        return this.rolledSegments;
+    }
+
+    long getCompressedSegments() {
+        return this.compressedSegments;
+    }
+
+    long getDeletedSegments() {
+        return this.deletedSegments;
+    }
+
+    long getFailedEvents() {
+        return this.failedEvents;
+    }
+
+    // ==================== WRITER THREAD ====================
+
+    private void runWriter() {
+        try {
+            openLatestSegment();
+            compact();
+        } catch (IOException | RuntimeException e) {
+            this.logger.log(Level.SEVERE, "Failed to open the event journal: " + e.getMessage(), e);
+        }
+
+        List<Event> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            runWriterTasks();
+            Event first;
+            try {
+                first = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null) {
+                if (this.stopping && this.queue.isEmpty()) {
+                    break;
+                }
+                if (this.compactRequested) {
+                    compactQuietly();
+                }
+                continue;
+            }
+
+            batch.add(first);
+            if (this.settings.groupCommitMillis > 0L && !this.stopping) {
+                try {
+                    Thread.sleep(this.settings.groupCommitMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            this.queue.drainTo(batch, MAX_BATCH - 1);
+            writeBatch(batch);
+            batch.clear();
+            if (this.compactRequested) {
+                compactQuietly();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        // Drain whatever arrived while stopping.
+        this.queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+        runWriterTasks();
+        closeChannel();
+    }
+
+    private void writeQueued() {
+        List<Event> batch = new ArrayList<>(MAX_BATCH);
+        while (this.queue.drainTo(batch, MAX_BATCH) > 0) {
+            writeBatch(batch);
+            batch.clear();
+        }
+    }
+
+    private void runWriterTasks() {
+        Runnable task;
+        while ((task = this.writerTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private void writeBatch(List<Event> batch) {
+        long startedAt = System.nanoTime();
+        this.processedEvents += batch.size();
+        try {
+            this.batchBytes.reset();
+            for (Event event : batch) {
+                event.sequence = this.nextSequence++;
+                writeLine(event);
+            }
+            this.batchWriter.flush();
+            if (this.channel == null) {
+                openSegment(this.segmentIndex + 1L);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(this.batchBytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+            if (this.settings.fsync) {
+                this.channel.force(false);
+            }
+            this.segmentSize += this.batchBytes.size();
+            this.writtenEvents += batch.size();
+            this.batches++;
+            this.largestBatch = Math.max(this.largestBatch, batch.size());
+            if (this.segmentSize >= this.settings.segmentBytes) {
+                rollSegment();
+            }
+        } catch (IOException | RuntimeException e) {
+            this.failedBatches++;
+            this.failedEvents += batch.size();
+            this.logger.log(Level.SEVERE, "Failed to write " + batch.size() + " journal events: " + e.getMessage(), e);
+            closeChannel();
+        } finally {
+            this.lastBatchMicros = (System.nanoTime() - startedAt) / 1000L;
+        }
+    }
+
+    private void writeLine(Event event) throws IOException {
+        JsonWriter json = new JsonWriter(this.batchWriter);
+        json.beginObject();
+        json.name("seq").value(event.sequence);
+        json.name("time").value(event.time);
+        json.name("type").value(event.type);
+        for (Map.Entry<String, JsonElement> field : event.fields.entrySet()) {
+            json.name(field.getKey());
+            this.gson.toJson(field.getValue(), json);
+        }
+        json.endObject();
+        json.flush();
+        this.batchWriter.write('\n');
+    }
+
+    private void openLatestSegment() throws IOException {
+        Files.createDirectories(this.directory.toPath());
+        List<File> segments = listSegments();
+        if (segments.isEmpty()) {
+            openSegment(1L);
+            return;
+        }
+        File latest = segments.get(segments.size() - 1);
+        if (latest.getName().endsWith(GZIP_SUFFIX)) {
+            this.nextSequence = lastSequence(latest) + 1L;
+            openSegment(segmentIndex(latest) + 1L);
+            return;
+        }
+        repairTornTail(latest);
+        this.nextSequence = lastSequence(latest) + 1L;
+        this.segmentIndex = segmentIndex(latest);
+        this.channel = FileChannel.open(latest.toPath(), StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.segmentSize = this.channel.size();
+        if (this.segmentSize >= this.settings.segmentBytes) {
+            rollSegment();
+        }
+    }
+
+    /**
+     * A crash can leave the last line half written. Appending after it would glue the next
+     * event onto it and lose both on replay, so cut the segment back to its last newline; a
+     * tail that is a complete event only lost its newline and gets one instead.
+     */
+    private void repairTornTail(File segment) throws IOException {
+        try (FileChannel file = FileChannel.open(segment.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = file.size();
+            long end = size;
+            ByteBuffer chunk = ByteBuffer.allocate(4096);
+            long lineEnd = -1L;
+            while (end > 0L && lineEnd < 0L) {
+                long start = Math.max(0L, end - chunk.capacity());
+                chunk.clear();
+                chunk.limit((int) (end - start));
+                while (chunk.hasRemaining() && file.read(chunk, start + chunk.position()) >= 0) {
+                    // keep reading until the window is full
+                }
+                for (int i = chunk.position() - 1; i >= 0; i--) {
+                    if (chunk.get(i) == '\n') {
+                        lineEnd = start + i + 1L;
+                        break;
+                    }
+                }
+                end = start;
+            }
+            long keep = Math.max(0L, lineEnd);
+            if (keep == size) {
+                return;
+            }
+            ByteBuffer tail = ByteBuffer.allocate((int) Math.min(Integer.MAX_VALUE, size - keep));
+            while (tail.hasRemaining() && file.read(tail, keep + tail.position()) >= 0) {
+                // read the unterminated tail
+            }
+            String line = new String(tail.array(), 0, tail.position(), StandardCharsets.UTF_8);
+            if (!line.isBlank() && parseLine(line) != null) {
+                file.write(ByteBuffer.wrap(new byte[]{'\n'}), size);
+            } else {
+                file.truncate(keep);
+                this.logger.warning("Dropped " + (size - keep) + " bytes of a torn event at the end of " + segment.getName() + ".");
+            }
+            file.force(false);
+        }
+    }
+
+    private void openSegment(long index) throws IOException {
+        closeChannel();
+        Files.createDirectories(this.directory.toPath());
+        this.segmentIndex = index;
+        this.channel = FileChannel.open(segmentFile(index).toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.segmentSize = this.channel.size();
+    }
+
+    private void rollSegment() throws IOException {
+        openSegment(this.segmentIndex + 1L);
+        this.rolledSegments++;
+        this.compactRequested = true;
+    }
+
+    private void closeChannel() {
+        if (this.channel == null) {
+            return;
+        }
+        try {
+            this.channel.force(false);
+            this.channel.close();
+        } catch (IOException e) {
+            this.logger.warning("Could not close journal segment: " + e.getMessage());
+        }
+        this.channel = null;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException | RuntimeException e) {
+            this.logger.warning("Event journal compaction failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gzip closed segments beyond the newest {@code uncompressedSegments} and delete segments
+     * whose last write is older than the retention. Skipped while a replay is reading.
+     */
+    private void compact() throws IOException {
+        if (this.activeReplays.get() > 0) {
+            return;
+        }
+        this.compactRequested = false;
+        List<File> closed = new ArrayList<>();
+        for (File segment : listSegments()) {
+            if (segmentIndex(segment) != this.segmentIndex) {
+                closed.add(segment);
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        int keepPlain = this.settings.uncompressedSegments;
+        for (int i = 0; i < closed.size(); i++) {
+            File segment = closed.get(i);
+            if (this.settings.retentionMillis > 0L && now - segment.lastModified() > this.settings.retentionMillis) {
+                Files.deleteIfExists(segment.toPath());
+                this.deletedSegments++;
+                continue;
+            }
+            boolean plain = !segment.getName().endsWith(GZIP_SUFFIX);
+            if (plain && i < closed.size() - keepPlain) {
+                gzipSegment(segment);
+            }
+        }
+    }
+
+    private void gzipSegment(File segment) throws IOException {
+        File target = new File(segment.getParentFile(), segment.getName() + GZIP_SUFFIX);
+        File temp = new File(segment.getParentFile(), target.getName() + ".tmp");
+        try (InputStream in = Files.newInputStream(segment.toPath());
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp.toPath()), BUFFER_SIZE)) {
+            in.transferTo(out);
+        }
+        long lastModified = segment.lastModified();
+        Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        target.setLastModified(lastModified);
+        Files.deleteIfExists(segment.toPath());
+        this.compressedSegments++;
+    }
+
+    private List<SegmentSnapshot> snapshotSegments(long fromSegment) throws IOException {
+        if (this.channel != null && this.settings.fsync) {
+            this.channel.force(false);
+        }
+        List<SegmentSnapshot> snapshot = new ArrayList<>();
+        for (File segment : listSegments()) {
+            if (segmentIndex(segment) >= fromSegment) {
+                snapshot.add(new SegmentSnapshot(segment, segment.length()));
+            }
+        }
+        return snapshot;
+    }
+
+    // ==================== READING ====================
+
+    private ReplayResult readSegments(Snapshot snapshot, long afterSequence, Consumer<Event> consumer) throws IOException {
+        long events = 0L;
+        long skipped = 0L;
+        long firstSequence = 0L;
+        long lastSequence = 0L;
+        long lastSegment = 0L;
+        for (SegmentSnapshot segment : snapshot.segments) {
+            lastSegment = Math.max(lastSegment, segmentIndex(segment.file));
+            try (BufferedReader reader = openReader(segment)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    Event event = parseLine(line);
+                    if (event == null) {
+                        skipped++;
+                        continue;
+                    }
+                    if (event.sequence <= afterSequence) {
+                        continue;
+                    }
+                    if (firstSequence == 0L) {
+                        firstSequence = event.sequence;
+                    }
+                    lastSequence = event.sequence;
+                    consumer.accept(event);
+                    events++;
+                }
+            }
+        }
+        return new ReplayResult(events, skipped, snapshot.segments.size(), firstSequence, lastSequence,
+            snapshot.processedEvents, lastSegment);
+    }
+
+    private static BufferedReader openReader(SegmentSnapshot segment) throws IOException {
+        if (segment.file.getName().endsWith(GZIP_SUFFIX)) {
+            InputStream in = new GZIPInputStream(Files.newInputStream(segment.file.toPath()), BUFFER_SIZE);
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        }
+        // Only read up to the length seen at snapshot time; the writer may still be appending.
+        FileChannel channel = FileChannel.open(segment.file.toPath(), StandardOpenOption.READ);
+        InputStream in = new BoundedInputStream(Channels.newInputStream(channel), segment.length);
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    private static Event parseLine(String line) {
+        try {
+            JsonElement parsed = JsonParser.parseString(line);
+            if (!parsed.isJsonObject()) {
+                return null;
+            }
+            JsonObject object = parsed.getAsJsonObject();
+            JsonElement type = object.remove("type");
+            JsonElement time = object.remove("time");
+            JsonElement sequence = object.remove("seq");
+            if (type == null || time == null) {
+                return null;
+            }
+            Event event = new Event(type.getAsString(), time.getAsLong(), object);
+            event.sequence = sequence != null ? sequence.getAsLong() : 0L;
+            return event;
+        } catch (JsonParseException | IllegalStateException | NumberFormatException | UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private long lastSequence(File segment) throws IOException {
+        long last = 0L;
+        try (BufferedReader reader = openReader(new SegmentSnapshot(segment, segment.length()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Event event = line.isBlank() ? null : parseLine(line);
+                if (event != null) {
+                    last = Math.max(last, event.sequence);
+                }
+            }
+        }
+        return last;
+    }
+
+    private List<File> listSegments() {
+        File[] files = this.directory.listFiles((dir, name) -> SEGMENT_NAME.matcher(name).matches());
+        List<File> segments = new ArrayList<>();
+        if (files != null) {
+            for (File file : files) {
+                segments.add(file);
+            }
+        }
+        segments.sort((a, b) -> Long.compare(segmentIndex(a), segmentIndex(b)));
+        return segments;
+    }
+
+    private File segmentFile(long index) {
+        return new File(this.directory, SEGMENT_PREFIX + String.format("%08d", index) + SEGMENT_SUFFIX);
+    }
+
+    private static long segmentIndex(File segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getName());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+
+    private static final class Snapshot {
+        final List<SegmentSnapshot> segments;
+        final long processedEvents;
+
+        Snapshot(List<SegmentSnapshot> segments, long processedEvents) {
+            this.segments = segments;
+            this.processedEvents = processedEvents;
+        }
+    }
+
+    private static final class SegmentSnapshot {
+        final File file;
+        final long length;
+
+        SegmentSnapshot(File file, long length) {
+            this.file = file;
+            this.length = length;
+        }
+    }
+
+    private static final class BoundedInputStream extends InputStream {
+        private final InputStream in;
+        private long remaining;
+
+        BoundedInputStream(InputStream in, long limit) {
+            this.in = in;
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0L) {
+                return -1;
+            }
+            int value = this.in.read();
+            if (value >= 0) {
+                this.remaining--;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (this.remaining <= 0L) {
+                return -1;
+            }
+            int read = this.in.read(buffer, offset, (int) Math.min(length, this.remaining));
+            if (read > 0) {
+                this.remaining -= read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.in.close();
+        }
+    }
+}
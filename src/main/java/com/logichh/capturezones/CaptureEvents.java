@@ -6,20 +6,17 @@ import com.logichh.capturezones.CaptureOwner;
 import com.logichh.capturezones.CaptureZones;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
 
 public class CaptureEvents
 implements Listener {
@@ -32,7 +29,8 @@ implements Listener {
         this.plugin = plugin;
     }
 
-    @EventHandler
+    // Zone membership follows where the player actually ends up, after other plugins decided.
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         Location to = event.getTo();
@@ -50,70 +48,54 @@ implements Listener {
             return;
         }
 
-        List<CapturePoint> toCandidates = this.plugin.getCandidateCapturePoints(to, 1);
-        for (CapturePoint point : toCandidates) {
-            handleZoneMovement(player, from, to, point);
-        }
-
-        Set<String> relevantPointIds = new LinkedHashSet<>();
-        for (CapturePoint point : toCandidates) {
-            if (point != null && point.getId() != null) {
-                relevantPointIds.add(point.getId());
-            }
-        }
-
-        if (from != null) {
-            List<CapturePoint> fromCandidates = this.plugin.getCandidateCapturePoints(from, 1);
-            if (fromCandidates != toCandidates) {
-                for (CapturePoint point : fromCandidates) {
-                    if (point != null && point.getId() != null) {
-                        relevantPointIds.add(point.getId());
-                    }
-                    if (toCandidates.contains(point)) {
-                        continue;
-                    }
-                    handleZoneMovement(player, from, to, point);
-                }
-            }
+        ZoneMembershipTracker.Transition transition = this.plugin.getZoneMembershipTracker().update(player, to);
+        if (transition != null) {
+            this.handleZoneTransition(player, to, transition);
         }
 
         if (from != null && (from.getBlockX() >> 4 != to.getBlockX() >> 4 || from.getBlockZ() >> 4 != to.getBlockZ() >> 4)) {
             this.plugin.refreshBossBarAudienceForPlayer(player, from, to);
         }
 
-        this.cancelOwnerCapturesIfPlayerExitedZone(player, from, to, relevantPointIds);
+        // Only zones the player just left can have lost one of their capturing players.
+        if (transition != null && !transition.leftZones.isEmpty()) {
+            this.cancelOwnerCapturesIfPlayerExitedZone(player, transition.leftZones);
+        }
     }
 
-    private void handleZoneMovement(Player player, Location from, Location to, CapturePoint point) {
-        if (point == null || to == null) {
+    /**
+     * Apply a zone transition that came from something other than walking (teleport, world
+     * change, respawn, riding a vehicle): the same messages, action bars, auto-capture and
+     * owner-left cancellation as a normal move.
+     */
+    void applyTransition(Player player, Location to, ZoneMembershipTracker.Transition transition) {
+        if (player == null || transition == null) {
             return;
         }
+        this.handleZoneTransition(player, to, transition);
+        if (!transition.leftZones.isEmpty()) {
+            this.cancelOwnerCapturesIfPlayerExitedZone(player, transition.leftZones);
+        }
+    }
 
-            boolean wasInZone = from != null && this.plugin.isWithinZone(point, from);
-            boolean isInZone = this.plugin.isWithinZone(point, to);
-
-            // Check if player is in the buffer zone (1 chunk outside zone radius)
-            boolean wasInBuffer = from != null && this.plugin.isWithinZone(point, from, 1);
-            boolean isInBuffer = this.plugin.isWithinZone(point, to, 1);
-
-            // Buffer zone messages
-            if (!wasInBuffer && isInBuffer) {
-                this.plugin.sendNotification(player, Messages.get("messages.zone.approaching", Map.of("zone", point.getName())));
-            }
+    private void handleZoneTransition(Player player, Location to, ZoneMembershipTracker.Transition transition) {
+        // Buffer zone messages
+        for (CapturePoint point : transition.enteredBuffers) {
+            this.plugin.sendNotification(player, Messages.get("messages.zone.approaching", Map.of("zone", point.getName())));
+        }
 
-            // Capture zone messages
-            if (!wasInZone && isInZone) {
-                this.plugin.sendNotification(player, Messages.get("messages.zone.entered", Map.of("zone", point.getName())));
-                this.startContinuousActionBar(player, point);
-                this.attemptAutoCaptureOnEntry(player, point, to);
-                return;
-            }
+        // Left zone messages go first so an action bar started for a newly entered zone is not stopped again.
+        for (CapturePoint point : transition.leftZones) {
+            this.plugin.sendNotification(player, Messages.get("messages.zone.left", Map.of("zone", point.getName())));
+            this.stopContinuousActionBar(player);
+        }
 
-            // Left zone message
-            if (wasInZone && !isInZone) {
-                this.plugin.sendNotification(player, Messages.get("messages.zone.left", Map.of("zone", point.getName())));
-                this.stopContinuousActionBar(player);
-            }
+        // Capture zone messages
+        for (CapturePoint point : transition.enteredZones) {
+            this.plugin.sendNotification(player, Messages.get("messages.zone.entered", Map.of("zone", point.getName())));
+            this.startContinuousActionBar(player, point);
+            this.attemptAutoCaptureOnEntry(player, point, to);
+        }
     }
 
     @EventHandler
@@ -216,29 +198,19 @@ implements Listener {
     }
 
     private void sendActionBarMessage(Player player, String message) {
-        if (this.plugin.isNotificationsDisabled(player)) {
-            return;
-        }
-        String colorized = this.plugin.colorize(message);
-        try {
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(colorized));
-        } catch (NoClassDefFoundError | Exception e) {
-            // Ignore if action bar is not available; avoid spamming chat.
-        }
+        this.plugin.sendActionBar(player, message);
     }
 
-    private void cancelOwnerCapturesIfPlayerExitedZone(Player player, Location from, Location to, Set<String> relevantPointIds) {
-        if (player == null || to == null) {
-            return;
-        }
-        if (relevantPointIds == null || relevantPointIds.isEmpty()) {
+    private void cancelOwnerCapturesIfPlayerExitedZone(Player player, List<CapturePoint> leftZones) {
+        if (player == null || leftZones.isEmpty() || this.plugin.getActiveSessions().isEmpty()) {
             return;
         }
 
-        List<String> sessionsToCancel = new ArrayList<>();
-        for (String pointId : relevantPointIds) {
-            CaptureSession session = this.plugin.getActiveSession(pointId);
-            if (pointId == null || session == null || !session.isActive()) {
+        List<String> sessionsToCancel = null;
+        for (CapturePoint left : leftZones) {
+            String pointId = left.getId();
+            CaptureSession session = pointId != null ? this.plugin.getActiveSession(pointId) : null;
+            if (session == null || !session.isActive()) {
                 continue;
             }
 
@@ -247,16 +219,17 @@ implements Listener {
                 continue;
             }
 
-            boolean wasInside = from != null && this.plugin.isWithinZone(point, from);
-            if (!wasInside || this.plugin.isWithinZone(point, to)) {
-                continue;
-            }
-
             if (this.shouldCancelSessionWhenOwnerLeaves(pointId, session)) {
+                if (sessionsToCancel == null) {
+                    sessionsToCancel = new ArrayList<>();
+                }
                 sessionsToCancel.add(pointId);
             }
         }
 
+        if (sessionsToCancel == null) {
+            return;
+        }
         for (String pointId : sessionsToCancel) {
             this.plugin.cancelCapture(pointId, this.plugin.buildMovedTooFarReason(player));
             this.plugin.sendNotification(player, Messages.get("errors.moved-too-far"));
@@ -287,7 +260,7 @@ implements Listener {
             return false;
         }
 
-        for (Player online : center.getWorld().getPlayers()) {
+        for (Player online : this.plugin.getZoneMembershipTracker().getZoneOccupants(point.getId())) {
             if (online == null || !online.isOnline() || online.isDead()) {
                 continue;
             }
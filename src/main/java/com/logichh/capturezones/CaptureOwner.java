@@ -7,6 +7,8 @@ public final class CaptureOwner {
     private final CaptureOwnerType type;
     private final String id;
     private final String displayName;
+    // Built on first use; identifies the owner exactly for per-player match caching.
+    private String matchKey;
 
     public CaptureOwner(CaptureOwnerType type, String id, String displayName) {
         this.type = type != null ? type : CaptureOwnerType.TOWN;
@@ -34,6 +36,18 @@ public final class CaptureOwner {
         return displayName;
     }
 
+    /**
+     * Exact type, id and display name as one string, computed once per instance.
+     */
+    String matchKey() {
+        String key = this.matchKey;
+        if (key == null) {
+            key = this.type.name() + '|' + this.id + '|' + this.displayName;
+            this.matchKey = key;
+        }
+        return key;
+    }
+
     public boolean isSameOwner(CaptureOwner other) {
         if (other == null) {
             return false;
@@ -6,6 +6,18 @@ import org.bukkit.Location;
 import org.bukkit.World;
 
 public class CapturePoint {
+    // Groups of persisted fields, used to write only what changed since the last save.
+    public static final int DIRTY_LOCATION = 1;
+    public static final int DIRTY_SHAPE = 1 << 1;
+    public static final int DIRTY_REWARD = 1 << 2;
+    public static final int DIRTY_CONTROLLING_OWNER = 1 << 3;
+    public static final int DIRTY_CAPTURING_OWNER = 1 << 4;
+    public static final int DIRTY_DISPLAY = 1 << 5;
+    public static final int DIRTY_LAST_CAPTURE = 1 << 6;
+    public static final int DIRTY_COOLDOWNS = 1 << 7;
+    public static final int DIRTY_FIRST_CAPTURE_BONUS = 1 << 8;
+    public static final int DIRTY_ALL = (1 << 9) - 1;
+
     private String id;
     private String name;
     private Location location;
@@ -39,6 +51,7 @@ public class CapturePoint {
     private CaptureOwner recaptureLockPreviousAttacker;
     private long recaptureLockPreviousAttackerUntilTime;
     private boolean firstCaptureBonusAvailable = false;
+    private int dirtyMask = DIRTY_ALL;
 
     public CapturePoint(String id, String name, Location location, int chunkRadius, double reward) {
         if (id == null || id.trim().isEmpty()) {
@@ -113,6 +126,7 @@ public class CapturePoint {
         this.controllingOwner = sanitized == null
             ? null
             : CaptureOwner.fromDisplayName(CaptureOwnerType.TOWN, sanitized);
+        markDirty(DIRTY_CONTROLLING_OWNER);
     }
 
     public CaptureOwner getControllingOwner() {
@@ -130,6 +144,7 @@ public class CapturePoint {
         this.controllingTown = owner != null && owner.getDisplayName() != null
             ? owner.getDisplayName()
             : "";
+        markDirty(DIRTY_CONTROLLING_OWNER);
     }
 
     public String getType() {
@@ -138,6 +153,7 @@ public class CapturePoint {
 
     public void setType(String type) {
         this.type = type;
+        markDirty(DIRTY_DISPLAY);
     }
 
     public boolean isShowOnMap() {
@@ -146,6 +162,7 @@ public class CapturePoint {
 
     public void setShowOnMap(boolean showOnMap) {
         this.showOnMap = showOnMap;
+        markDirty(DIRTY_DISPLAY);
     }
 
     public UUID getWorldUUID() {
@@ -154,10 +171,12 @@ public class CapturePoint {
 
     public void setWorldUUID(UUID worldUUID) {
         this.worldUUID = worldUUID;
+        markDirty(DIRTY_LOCATION);
     }
 
     public void setReward(double reward) {
         this.reward = reward;
+        markDirty(DIRTY_REWARD);
     }
 
     public void setChunkRadius(int chunkRadius) {
@@ -181,6 +200,8 @@ public class CapturePoint {
         this.shapeType = ZoneShapeType.CIRCLE;
         this.chunkRadius = normalizedRadius;
         syncCuboidBoundsFromCircle();
+        ZoneGeometry.invalidate(this.id);
+        markDirty(DIRTY_SHAPE);
     }
 
     public void setCuboidBounds(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
@@ -206,6 +227,8 @@ public class CapturePoint {
             );
             this.worldUUID = this.location.getWorld().getUID();
         }
+        ZoneGeometry.invalidate(this.id);
+        markDirty(DIRTY_SHAPE | DIRTY_LOCATION);
     }
 
     public boolean contains(Location target, int extraChunkRadius) {
@@ -269,32 +292,8 @@ public class CapturePoint {
     }
 
     public double[][] getMapPolygonXZ() {
-        if (isCuboid()) {
-            double[] xs = {
-                this.cuboidMinX,
-                this.cuboidMaxX + 1,
-                this.cuboidMaxX + 1,
-                this.cuboidMinX
-            };
-            double[] zs = {
-                this.cuboidMinZ,
-                this.cuboidMinZ,
-                this.cuboidMaxZ + 1,
-                this.cuboidMaxZ + 1
-            };
-            return new double[][]{xs, zs};
-        }
-
-        int blockRadius = Math.max(1, this.chunkRadius) * 16;
-        int sides = Math.max(32, blockRadius / 2);
-        double[] xs = new double[sides];
-        double[] zs = new double[sides];
-        for (int i = 0; i < sides; i++) {
-            double angle = (2.0 * Math.PI * i) / sides;
-            xs[i] = this.location.getX() + blockRadius * Math.cos(angle);
-            zs[i] = this.location.getZ() + blockRadius * Math.sin(angle);
-        }
-        return new double[][]{xs, zs};
+        ZoneGeometry.Polygon polygon = ZoneGeometry.mapPolygon(this);
+        return new double[][]{polygon.copyXs(), polygon.copyZs()};
     }
 
     public int getCuboidMinX() {
@@ -335,6 +334,7 @@ public class CapturePoint {
 
     public void setLastCaptureTime(long time) {
         this.lastCaptureTime = time;
+        markDirty(DIRTY_LAST_CAPTURE);
     }
 
     public long getLastCaptureTime() {
@@ -347,6 +347,7 @@ public class CapturePoint {
 
     public void setCooldownUntilTime(long cooldownUntilTime) {
         this.cooldownUntilTime = Math.max(0L, cooldownUntilTime);
+        markDirty(DIRTY_COOLDOWNS);
     }
 
     public CaptureOwner getRecaptureLockPreviousOwner() {
@@ -360,11 +361,13 @@ public class CapturePoint {
     public void setRecaptureLockPreviousOwner(CaptureOwner owner, long untilTime) {
         this.recaptureLockPreviousOwner = owner;
         this.recaptureLockPreviousOwnerUntilTime = Math.max(0L, untilTime);
+        markDirty(DIRTY_COOLDOWNS);
     }
 
     public void clearRecaptureLockPreviousOwner() {
         this.recaptureLockPreviousOwner = null;
         this.recaptureLockPreviousOwnerUntilTime = 0L;
+        markDirty(DIRTY_COOLDOWNS);
     }
 
     public CaptureOwner getRecaptureLockPreviousAttacker() {
@@ -378,11 +381,13 @@ public class CapturePoint {
     public void setRecaptureLockPreviousAttacker(CaptureOwner owner, long untilTime) {
         this.recaptureLockPreviousAttacker = owner;
         this.recaptureLockPreviousAttackerUntilTime = Math.max(0L, untilTime);
+        markDirty(DIRTY_COOLDOWNS);
     }
 
     public void clearRecaptureLockPreviousAttacker() {
         this.recaptureLockPreviousAttacker = null;
         this.recaptureLockPreviousAttackerUntilTime = 0L;
+        markDirty(DIRTY_COOLDOWNS);
     }
 
     public void clearCaptureCooldownAndLocks() {
@@ -468,6 +473,7 @@ public class CapturePoint {
         this.capturingOwner = sanitized == null
             ? null
             : CaptureOwner.fromDisplayName(CaptureOwnerType.TOWN, sanitized);
+        markDirty(DIRTY_CAPTURING_OWNER);
     }
 
     public CaptureOwner getCapturingOwner() {
@@ -483,6 +489,7 @@ public class CapturePoint {
     public void setCapturingOwner(CaptureOwner owner) {
         this.capturingOwner = owner;
         this.capturingTown = owner != null ? owner.getDisplayName() : null;
+        markDirty(DIRTY_CAPTURING_OWNER);
     }
 
     public void setCaptureProgress(double progress) {
@@ -515,6 +522,24 @@ public class CapturePoint {
 
     public void setFirstCaptureBonusAvailable(boolean available) {
         this.firstCaptureBonusAvailable = available;
+        markDirty(DIRTY_FIRST_CAPTURE_BONUS);
+    }
+
+    public void markDirty(int fields) {
+        this.dirtyMask |= fields;
+    }
+
+    public int getDirtyMask() {
+        return this.dirtyMask;
+    }
+
+    /**
+     * Return the fields changed since the last call and mark the point clean.
+     */
+    public int consumeDirtyMask() {
+        int mask = this.dirtyMask;
+        this.dirtyMask = 0;
+        return mask;
     }
 
     private void syncCuboidBoundsFromCircle() {
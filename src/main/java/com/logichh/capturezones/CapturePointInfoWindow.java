@@ -7,18 +7,90 @@ import com.logichh.capturezones.CaptureZones;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class CapturePointInfoWindow {
     public static String formatInfoWindow(CapturePoint point) {
+        return collectInputs(point).render();
+    }
+
+    /**
+     * Info window HTML per point, rebuilt only when the values it is made from change.
+     */
+    static final class Cache {
+        private final Map<String, Rendered> rendered = new HashMap<>();
+
+        String get(CapturePoint point) {
+            Inputs inputs = collectInputs(point);
+            Rendered cached = this.rendered.get(point.getId());
+            if (cached != null && cached.inputs.equals(inputs)) {
+                return cached.html;
+            }
+            String html = inputs.render();
+            this.rendered.put(point.getId(), new Rendered(inputs, html));
+            return html;
+        }
+
+        void remove(String pointId) {
+            this.rendered.remove(pointId);
+        }
+
+        void clear() {
+            this.rendered.clear();
+        }
+    }
+
+    private static final class Rendered {
+        final Inputs inputs;
+        final String html;
+
+        Rendered(Inputs inputs, String html) {
+            this.inputs = inputs;
+            this.html = html;
+        }
+    }
+
+    /**
+     * Template and placeholder values for one info window; a null template means the KOTH layout.
+     */
+    private static final class Inputs {
+        final String template;
+        final Map<String, String> values;
+
+        Inputs(String template, Map<String, String> values) {
+            this.template = template;
+            this.values = values;
+        }
+
+        String render() {
+            return this.template == null ? renderKoth(this.values) : applyPlaceholders(this.template, this.values);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Inputs)) {
+                return false;
+            }
+            Inputs inputs = (Inputs) other;
+            return Objects.equals(this.template, inputs.template) && this.values.equals(inputs.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.template, this.values);
+        }
+    }
+
+    private static Inputs collectInputs(CapturePoint point) {
         CaptureZones plugin = (CaptureZones)CaptureZones.getPlugin(CaptureZones.class);
         ZoneConfigManager zoneManager = plugin.getZoneConfigManager();
 
         KothManager kothManager = plugin.getKothManager();
         if (kothManager != null && kothManager.isZoneActive(point.getId())) {
-            return formatKothInfoWindow(point, plugin, kothManager);
+            return collectKothInputs(point, plugin, kothManager);
         }
 
         String controllingTown = point.getControllingTown();
@@ -92,10 +164,10 @@ public class CapturePointInfoWindow {
         replacements.put("%label_reward%", com.logichh.capturezones.Messages.get("dynmap.infowindow.label.reward"));
         replacements.put("%label_item_reward%", com.logichh.capturezones.Messages.get("dynmap.infowindow.label.item_reward"));
 
-        return applyPlaceholders(template, replacements);
+        return new Inputs(template, replacements);
     }
 
-    private static String formatKothInfoWindow(CapturePoint point, CaptureZones plugin, KothManager kothManager) {
+    private static Inputs collectKothInputs(CapturePoint point, CaptureZones plugin, KothManager kothManager) {
         KothManager.ZoneStateSnapshot state = kothManager.getZoneState(point.getId());
         String holder = state.holderName == null || state.holderName.trim().isEmpty()
             ? Messages.get("dynmap.infowindow.koth.holder.none")
@@ -105,38 +177,50 @@ public class CapturePointInfoWindow {
         int remainingSeconds = state.remainingSeconds();
         double holdRadius = Math.max(0.5d, plugin.getConfig().getDouble("koth.gameplay.hold-radius-blocks", 5.0d));
 
+        Map<String, String> values = new HashMap<>();
+        values.put("name", point.getName());
+        values.put("holder", holder);
+        values.put("progress", String.valueOf(progress));
+        values.put("time_left", formatSeconds(remainingSeconds));
+        values.put("hold_radius", formatRadius(holdRadius));
+        values.put("reward", String.format(Locale.ROOT, "%.2f", plugin.getBaseReward(point)));
+        values.put("messages", String.valueOf(Messages.getRevision()));
+        return new Inputs(null, values);
+    }
+
+    private static String renderKoth(Map<String, String> values) {
         StringBuilder html = new StringBuilder();
         html.append("<div class=\"regioninfo\">")
             .append("<div style=\"font-size:120%; font-weight:bold; color:#FF5555;\">")
             .append(Messages.get("dynmap.infowindow.koth.status.active"))
             .append("</div>")
             .append("<div style=\"font-size:115%; margin-top:5px;\">")
-            .append(point.getName())
+            .append(values.get("name"))
             .append("</div>")
             .append("<div>&bull; ")
             .append(Messages.get("dynmap.infowindow.koth.label.holder"))
             .append(" - ")
-            .append(holder)
+            .append(values.get("holder"))
             .append("</div>")
             .append("<div>&bull; ")
             .append(Messages.get("dynmap.infowindow.koth.label.progress"))
             .append(" - ")
-            .append(progress)
+            .append(values.get("progress"))
             .append("%</div>")
             .append("<div>&bull; ")
             .append(Messages.get("dynmap.infowindow.koth.label.time_left"))
             .append(" - ")
-            .append(formatSeconds(remainingSeconds))
+            .append(values.get("time_left"))
             .append("</div>")
             .append("<div>&bull; ")
             .append(Messages.get("dynmap.infowindow.koth.label.hold_radius"))
             .append(" - ")
-            .append(formatRadius(holdRadius))
+            .append(values.get("hold_radius"))
             .append("</div>")
             .append("<div>&bull; ")
             .append(Messages.get("dynmap.infowindow.label.reward"))
             .append(" - ")
-            .append(String.format(Locale.ROOT, "%.2f", plugin.getBaseReward(point)))
+            .append(values.get("reward"))
             .append("</div>")
             .append("</div>");
         return html.toString();
@@ -0,0 +1,385 @@
+package com.logichh.capturezones;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Chunk grid of capture points, keyed by world.
+ * Each world keeps a primitive long -> int[] table per extra-chunk radius ("buffered" layers),
+ * so a lookup is a single probe that returns an immutable array of point slots.
+ * Callers iterate the returned slots and resolve them with {@link #pointAt(int)}; nothing is
+ * allocated per lookup. Returned arrays are never mutated after publication.
+ *
+ * Points are inserted, removed and updated individually; only the chunks a point covers are touched.
+ */
+final class CapturePointSpatialIndex {
+    static final int[] NO_SLOTS = new int[0];
+    private static final int MAX_BUFFERED_LAYER_RADIUS = 32;
+
+    private final Map<UUID, WorldGrid> worlds = new HashMap<>();
+    private final Map<String, Integer> slotsById = new HashMap<>();
+    private final TreeMap<Integer, Integer> bufferChunkCounts = new TreeMap<>();
+    private CapturePoint[] points = new CapturePoint[16];
+    private UUID[] slotWorlds = new UUID[16];
+    // minChunkX, maxChunkX, minChunkZ, maxChunkZ per slot at radius 0
+    private int[] footprints = new int[16 * 4];
+    private int[] slotBufferChunks = new int[16];
+    private int[] freeSlots = new int[8];
+    private int freeSlotCount;
+    private int slotHighWater;
+
+    synchronized void clear() {
+        this.worlds.clear();
+        this.slotsById.clear();
+        this.bufferChunkCounts.clear();
+        Arrays.fill(this.points, null);
+        Arrays.fill(this.slotWorlds, null);
+        this.freeSlotCount = 0;
+        this.slotHighWater = 0;
+    }
+
+    /**
+     * Insert a point, or move it if it is already indexed.
+     *
+     * @param bufferChunks the point's protection buffer, tracked for {@link #getMaxBufferChunks()}
+     */
+    synchronized void update(CapturePoint point, int bufferChunks) {
+        if (point == null || point.getId() == null) {
+            return;
+        }
+        remove(point.getId());
+        UUID worldId = resolveWorldId(point);
+        if (worldId == null) {
+            return;
+        }
+
+        int slot = allocateSlot();
+        this.points[slot] = point;
+        this.slotWorlds[slot] = worldId;
+        int base = slot * 4;
+        this.footprints[base] = point.getSpatialMinChunkX(0);
+        this.footprints[base + 1] = point.getSpatialMaxChunkX(0);
+        this.footprints[base + 2] = point.getSpatialMinChunkZ(0);
+        this.footprints[base + 3] = point.getSpatialMaxChunkZ(0);
+        int buffer = Math.max(0, bufferChunks);
+        this.slotBufferChunks[slot] = buffer;
+        this.bufferChunkCounts.merge(buffer, 1, Integer::sum);
+        this.slotsById.put(point.getId(), slot);
+
+        WorldGrid grid = this.worlds.computeIfAbsent(worldId, key -> new WorldGrid());
+        grid.slots = appendSlot(grid.slots, slot);
+        for (int radius = 0; radius < grid.layers.length; radius++) {
+            ChunkTable layer = grid.layers[radius];
+            if (layer != null) {
+                addFootprint(layer, slot, radius);
+            }
+        }
+    }
+
+    synchronized boolean remove(String pointId) {
+        Integer indexedSlot = pointId == null ? null : this.slotsById.remove(pointId);
+        if (indexedSlot == null) {
+            return false;
+        }
+        int slot = indexedSlot;
+        WorldGrid grid = this.worlds.get(this.slotWorlds[slot]);
+        if (grid != null) {
+            for (int radius = 0; radius < grid.layers.length; radius++) {
+                ChunkTable layer = grid.layers[radius];
+                if (layer != null) {
+                    removeFootprint(layer, slot, radius);
+                }
+            }
+            grid.slots = removeSlot(grid.slots, slot);
+            if (grid.slots.length == 0) {
+                this.worlds.remove(this.slotWorlds[slot]);
+            }
+        }
+
+        int buffer = this.slotBufferChunks[slot];
+        Integer count = this.bufferChunkCounts.get(buffer);
+        if (count != null && count > 1) {
+            this.bufferChunkCounts.put(buffer, count - 1);
+        } else {
+            this.bufferChunkCounts.remove(buffer);
+        }
+        this.points[slot] = null;
+        this.slotWorlds[slot] = null;
+        releaseSlot(slot);
+        return true;
+    }
+
+    /**
+     * Largest protection buffer among indexed points, or 0 when the index is empty.
+     */
+    synchronized int getMaxBufferChunks() {
+        return this.bufferChunkCounts.isEmpty() ? 0 : this.bufferChunkCounts.lastKey();
+    }
+
+    /**
+     * Slots of the points whose footprint, grown by {@code extraChunks}, covers the location's chunk.
+     */
+    int[] lookup(Location location, int extraChunks) {
+        if (location == null) {
+            return NO_SLOTS;
+        }
+        World world = location.getWorld();
+        if (world == null) {
+            return NO_SLOTS;
+        }
+        return lookup(world.getUID(), location.getBlockX() >> 4, location.getBlockZ() >> 4, extraChunks);
+    }
+
+    synchronized int[] lookup(UUID worldId, int chunkX, int chunkZ, int extraChunks) {
+        WorldGrid grid = worldId == null ? null : this.worlds.get(worldId);
+        if (grid == null) {
+            return NO_SLOTS;
+        }
+        int radius = Math.max(0, extraChunks);
+        if (radius > MAX_BUFFERED_LAYER_RADIUS) {
+            // Very wide searches fall back to every point in the world; callers still filter.
+            return grid.slots;
+        }
+        int[] slots = layer(grid, radius).get(toChunkKey(chunkX, chunkZ));
+        return slots != null ? slots : NO_SLOTS;
+    }
+
+    synchronized CapturePoint pointAt(int slot) {
+        return slot >= 0 && slot < this.slotHighWater ? this.points[slot] : null;
+    }
+
+    static boolean containsSlot(int[] slots, int slot) {
+        for (int candidate : slots) {
+            if (candidate == slot) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static long toChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) ^ (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private ChunkTable layer(WorldGrid grid, int radius) {
+        if (radius >= grid.layers.length) {
+            grid.layers = Arrays.copyOf(grid.layers, Math.max(radius + 1, grid.layers.length * 2));
+        }
+        ChunkTable layer = grid.layers[radius];
+        if (layer == null) {
+            layer = new ChunkTable(grid.slots.length * 4);
+            for (int slot : grid.slots) {
+                addFootprint(layer, slot, radius);
+            }
+            grid.layers[radius] = layer;
+        }
+        return layer;
+    }
+
+    private void addFootprint(ChunkTable table, int slot, int radius) {
+        int base = slot * 4;
+        for (int chunkX = this.footprints[base] - radius; chunkX <= this.footprints[base + 1] + radius; chunkX++) {
+            for (int chunkZ = this.footprints[base + 2] - radius; chunkZ <= this.footprints[base + 3] + radius; chunkZ++) {
+                table.add(toChunkKey(chunkX, chunkZ), slot);
+            }
+        }
+    }
+
+    private void removeFootprint(ChunkTable table, int slot, int radius) {
+        int base = slot * 4;
+        for (int chunkX = this.footprints[base] - radius; chunkX <= this.footprints[base + 1] + radius; chunkX++) {
+            for (int chunkZ = this.footprints[base + 2] - radius; chunkZ <= this.footprints[base + 3] + radius; chunkZ++) {
+                table.remove(toChunkKey(chunkX, chunkZ), slot);
+            }
+        }
+    }
+
+    private int allocateSlot() {
+        if (this.freeSlotCount > 0) {
+            return this.freeSlots[--this.freeSlotCount];
+        }
+        int slot = this.slotHighWater++;
+        if (slot == this.points.length) {
+            int capacity = this.points.length * 2;
+            this.points = Arrays.copyOf(this.points, capacity);
+            this.slotWorlds = Arrays.copyOf(this.slotWorlds, capacity);
+            this.footprints = Arrays.copyOf(this.footprints, capacity * 4);
+            this.slotBufferChunks = Arrays.copyOf(this.slotBufferChunks, capacity);
+        }
+        return slot;
+    }
+
+    private void releaseSlot(int slot) {
+        if (this.freeSlotCount == this.freeSlots.length) {
+            this.freeSlots = Arrays.copyOf(this.freeSlots, this.freeSlots.length * 2);
+        }
+        this.freeSlots[this.freeSlotCount++] = slot;
+    }
+
+    private static UUID resolveWorldId(CapturePoint point) {
+        if (point.getLocation() == null || point.getLocation().getWorld() == null) {
+            return null;
+        }
+        return point.getLocation().getWorld().getUID();
+    }
+
+    private static int[] appendSlot(int[] slots, int slot) {
+        int[] grown = Arrays.copyOf(slots, slots.length + 1);
+        grown[slots.length] = slot;
+        return grown;
+    }
+
+    private static int[] removeSlot(int[] slots, int slot) {
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != slot) {
+                continue;
+            }
+            if (slots.length == 1) {
+                return NO_SLOTS;
+            }
+            int[] shrunk = new int[slots.length - 1];
+            System.arraycopy(slots, 0, shrunk, 0, i);
+            System.arraycopy(slots, i + 1, shrunk, i, slots.length - i - 1);
+            return shrunk;
+        }
+        return slots;
+    }
+
+    private static final class WorldGrid {
+        private int[] slots = NO_SLOTS;
+        private ChunkTable[] layers = new ChunkTable[2];
+    }
+
+    /**
+     * Open-addressing long -> int[] table with linear probing and backward-shift deletion.
+     * Buckets are copy-on-write so arrays handed to callers stay stable.
+     */
+    static final class ChunkTable {
+        private long[] keys;
+        private int[][] values;
+        private int mask;
+        private int size;
+
+        ChunkTable(int expectedEntries) {
+            int capacity = 16;
+            while (capacity < expectedEntries * 2) {
+                capacity <<= 1;
+            }
+            this.keys = new long[capacity];
+            this.values = new int[capacity][];
+            this.mask = capacity - 1;
+        }
+
+        int[] get(long key) {
+            int index = mix(key) & this.mask;
+            int[] bucket;
+            while ((bucket = this.values[index]) != null) {
+                if (this.keys[index] == key) {
+                    return bucket;
+                }
+                index = (index + 1) & this.mask;
+            }
+            return null;
+        }
+
+        void add(long key, int slot) {
+            int index = mix(key) & this.mask;
+            int[] bucket;
+            while ((bucket = this.values[index]) != null) {
+                if (this.keys[index] == key) {
+                    if (!containsSlot(bucket, slot)) {
+                        this.values[index] = appendSlot(bucket, slot);
+                    }
+                    return;
+                }
+                index = (index + 1) & this.mask;
+            }
+            this.keys[index] = key;
+            this.values[index] = new int[]{slot};
+            if (++this.size * 2 > this.values.length) {
+                resize();
+            }
+        }
+
+        void remove(long key, int slot) {
+            int index = mix(key) & this.mask;
+            int[] bucket;
+            while ((bucket = this.values[index]) != null) {
+                if (this.keys[index] == key) {
+                    int[] remaining = removeSlot(bucket, slot);
+                    if (remaining.length == 0) {
+                        deleteAt(index);
+                    } else {
+                        this.values[index] = remaining;
+                    }
+                    return;
+                }
+                index = (index + 1) & this.mask;
+            }
+        }
+
+        int size() {
+            return this.size;
+        }
+
+        int capacity() {
+            return this.values.length;
+        }
+
+        /**
+         * Slot a key probes first at the current capacity.
+         */
+        int homeIndex(long key) {
+            return mix(key) & this.mask;
+        }
+
+        private void deleteAt(int index) {
+            int gap = index;
+            int next = (gap + 1) & this.mask;
+            while (this.values[next] != null) {
+                int home = mix(this.keys[next]) & this.mask;
+                // Shift back entries whose probe path crosses the gap.
+                if (((next - home) & this.mask) >= ((next - gap) & this.mask)) {
+                    this.keys[gap] = this.keys[next];
+                    this.values[gap] = this.values[next];
+                    gap = next;
+                }
+                next = (next + 1) & this.mask;
+            }
+            this.keys[gap] = 0L;
+            this.values[gap] = null;
+            this.size--;
+        }
+
+        private void resize() {
+            long[] oldKeys = this.keys;
+            int[][] oldValues = this.values;
+            int capacity = oldValues.length << 1;
+            this.keys = new long[capacity];
+            this.values = new int[capacity][];
+            this.mask = capacity - 1;
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] == null) {
+                    continue;
+                }
+                int index = mix(oldKeys[i]) & this.mask;
+                while (this.values[index] != null) {
+                    index = (index + 1) & this.mask;
+                }
+                this.keys[index] = oldKeys[i];
+                this.values[index] = oldValues[i];
+            }
+        }
+
+        private static int mix(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
@@ -0,0 +1,696 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Persists capture point state off the main thread.
+ *
+ * The main thread hands over immutable {@link Delta}s holding only the zones and field groups
+ * that changed. Deltas submitted while a write is in flight are merged, so at most one write
+ * runs and one waits. The merged {@link Changes} go to a {@link Backend} on a single I/O
+ * thread: {@link JournalBackend} for capture_points.yml, or the SQLite storage.
+ */
+final class CapturePointStore {
+    static final String WEEKLY_RESET_PATH = "metadata.weekly-reset-epoch-days";
+    private static final long FLUSH_TIMEOUT_SECONDS = 30L;
+
+    /**
+     * Where capture point changes end up. {@link #load} runs on the caller's thread, everything
+     * else on the store's I/O thread.
+     */
+    interface Backend {
+        /**
+         * Fill {@code config} with the stored state, laid out like capture_points.yml. Returns
+         * the number of journal entries that had to be replayed.
+         */
+        int load(YamlConfiguration config) throws Exception;
+
+        /**
+         * Called after a load with the state the main thread now holds.
+         */
+        default void rebase(Map<String, Map<String, Object>> points, Map<String, Object> weeklyReset, int replayedEntries) {
+        }
+
+        void write(Changes changes) throws Exception;
+
+        /**
+         * Fold incremental writes into a self-contained copy, if the backend keeps one.
+         */
+        default void compact() {
+        }
+    }
+
+    private final Logger logger;
+    private volatile Backend backend;
+    private ExecutorService executor;
+    private Changes pending;
+    private boolean compactPending;
+
+    CapturePointStore(Logger logger) {
+        this.logger = logger;
+    }
+
+    void setBackend(Backend backend) {
+        awaitIdle();
+        this.backend = backend;
+    }
+
+    Backend getBackend() {
+        return this.backend;
+    }
+
+    /**
+     * Wait for pending writes, then load the stored state into {@code config}. Returns the
+     * number of replayed journal entries.
+     */
+    int load(YamlConfiguration config) throws Exception {
+        awaitIdle();
+        Backend target = this.backend;
+        if (target == null) {
+            return 0;
+        }
+        int replayed = target.load(config);
+        rebase(target, config, replayed);
+        return replayed;
+    }
+
+    private synchronized void rebase(Backend target, ConfigurationSection loaded, int replayedEntries) {
+        Map<String, Map<String, Object>> points = new LinkedHashMap<>();
+        ConfigurationSection pointsSection = loaded.getConfigurationSection("points");
+        if (pointsSection != null) {
+            for (String id : pointsSection.getKeys(false)) {
+                ConfigurationSection pointSection = pointsSection.getConfigurationSection(id);
+                if (pointSection != null) {
+                    points.put(id, leafValues(pointSection));
+                }
+            }
+        }
+        ConfigurationSection resetSection = loaded.getConfigurationSection(WEEKLY_RESET_PATH);
+        Map<String, Object> weeklyReset = resetSection != null ? leafValues(resetSection) : Collections.emptyMap();
+        this.pending = null;
+        executor().execute(() -> target.rebase(points, weeklyReset, replayedEntries));
+    }
+
+    /**
+     * Queue a delta for writing. Merges with any delta that has not been written yet.
+     */
+    synchronized void submit(Delta delta) {
+        if (delta == null || delta.isEmpty() || this.backend == null) {
+            return;
+        }
+        boolean idle = this.pending == null && !this.compactPending;
+        if (this.pending == null) {
+            this.pending = new Changes();
+        }
+        this.pending.merge(delta);
+        if (idle) {
+            executor().execute(this::drain);
+        }
+    }
+
+    /**
+     * Compact the backend and block until every write is done.
+     */
+    void flush() {
+        requestCompaction();
+        awaitIdle();
+    }
+
+    /**
+     * Block until every submitted delta has been written.
+     */
+    void awaitIdle() {
+        Future<?> barrier;
+        synchronized (this) {
+            if (this.executor == null) {
+                return;
+            }
+            barrier = this.executor.submit(() -> { });
+        }
+        try {
+            barrier.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            this.logger.warning("Timed out waiting for capture point writes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Compact, finish pending writes and stop the I/O thread. A later submit starts a new one.
+     */
+    void shutdown() {
+        requestCompaction();
+        ExecutorService stopping;
+        synchronized (this) {
+            stopping = this.executor;
+            this.executor = null;
+        }
+        if (stopping == null) {
+            return;
+        }
+        stopping.shutdown();
+        try {
+            if (!stopping.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                this.logger.warning("Capture point writer did not finish within " + FLUSH_TIMEOUT_SECONDS + "s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void requestCompaction() {
+        if (this.executor == null) {
+            return;
+        }
+        boolean idle = this.pending == null && !this.compactPending;
+        this.compactPending = true;
+        if (idle) {
+            this.executor.execute(this::drain);
+        }
+    }
+
+    private ExecutorService executor() {
+        if (this.executor == null) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CaptureZones-PointWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.executor;
+    }
+
+    private void drain() {
+        Changes changes;
+        boolean compact;
+        synchronized (this) {
+            changes = this.pending;
+            compact = this.compactPending;
+            this.pending = null;
+            this.compactPending = false;
+        }
+        Backend target = this.backend;
+        if (target == null) {
+            return;
+        }
+        if (changes != null) {
+            try {
+                target.write(changes);
+            } catch (Exception e) {
+                this.logger.log(Level.SEVERE, "Failed to save capture zones: " + e.getMessage(), e);
+            }
+        }
+        if (compact) {
+            target.compact();
+        }
+    }
+
+    static void writeAtomically(Path target, String contents) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(contents.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static Map<String, Object> leafValues(ConfigurationSection section) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : section.getValues(true).entrySet()) {
+            if (!(entry.getValue() instanceof ConfigurationSection)) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Convert a JSON scalar back to the type YAML would have produced.
+     */
+    static Object fromJson(JsonElement value) {
+        if (value == null || value.isJsonNull()) {
+            return null;
+        }
+        if (!value.isJsonPrimitive()) {
+            return value.toString();
+        }
+        JsonPrimitive primitive = value.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (!primitive.isNumber()) {
+            return primitive.getAsString();
+        }
+        String raw = primitive.getAsString();
+        if (raw.indexOf('.') >= 0 || raw.indexOf('e') >= 0 || raw.indexOf('E') >= 0) {
+            return primitive.getAsDouble();
+        }
+        long number = primitive.getAsLong();
+        if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+            return (int) number;
+        }
+        return number;
+    }
+
+    /**
+     * capture_points.yml plus an append-only capture_points.yml.journal.
+     *
+     * Each write appends one JSON line per zone and applies it to an in-memory mirror of the
+     * file. Once the journal passes {@link #COMPACT_AFTER_ENTRIES} lines, and on flush or
+     * shutdown, the mirror is written as a full snapshot (temp file, fsync, atomic rename) and
+     * the journal is deleted. Loading replays the journal on top of the snapshot, so a crash
+     * between those two steps loses nothing.
+     */
+    static final class JournalBackend implements Backend {
+        private static final String HEADER =
+            "AUTO-GENERATED FILE - DO NOT EDIT UNLESS YOU KNOW WHAT YOU ARE DOING.\n" +
+            "This file stores capture zone state and metadata.";
+        static final int COMPACT_AFTER_ENTRIES = 500;
+
+        private final File file;
+        private final Logger logger;
+        private final Gson gson = new GsonBuilder().serializeNulls().create();
+        // Owned by the I/O thread.
+        private final Map<String, Map<String, Object>> mirrorPoints = new LinkedHashMap<>();
+        private final Map<String, Object> mirrorWeeklyReset = new LinkedHashMap<>();
+        private int journalEntries;
+
+        JournalBackend(File file, Logger logger) {
+            this.file = file;
+            this.logger = logger;
+        }
+
+        static File journalFile(File snapshotFile) {
+            return new File(snapshotFile.getParentFile(), snapshotFile.getName() + ".journal");
+        }
+
+        @Override
+        public int load(YamlConfiguration config) throws Exception {
+            if (this.file.exists()) {
+                config.load(this.file);
+            }
+            return replayJournal(config);
+        }
+
+        @Override
+        public void rebase(Map<String, Map<String, Object>> points, Map<String, Object> weeklyReset, int replayedEntries) {
+            this.mirrorPoints.clear();
+            this.mirrorPoints.putAll(points);
+            this.mirrorWeeklyReset.clear();
+            this.mirrorWeeklyReset.putAll(weeklyReset);
+            this.journalEntries = replayedEntries;
+            if (replayedEntries > 0) {
+                compact();
+            }
+        }
+
+        @Override
+        public void write(Changes changes) {
+            changes.applyTo(this.mirrorPoints, this.mirrorWeeklyReset);
+            try {
+                appendJournal(changes.toJournalLines(this.gson));
+            } catch (Exception e) {
+                // The mirror already holds the change; a full snapshot still persists it.
+                this.logger.log(Level.WARNING, "Failed to append capture point journal, writing a full snapshot instead: " + e.getMessage(), e);
+                compact();
+                return;
+            }
+            if (this.journalEntries >= COMPACT_AFTER_ENTRIES) {
+                compact();
+            }
+        }
+
+        @Override
+        public void compact() {
+            try {
+                YamlConfiguration config = new YamlConfiguration();
+                config.options().header(HEADER);
+                ConfigurationSection resetSection = config.createSection(WEEKLY_RESET_PATH);
+                for (Map.Entry<String, Object> entry : this.mirrorWeeklyReset.entrySet()) {
+                    resetSection.set(entry.getKey(), entry.getValue());
+                }
+                for (Map.Entry<String, Map<String, Object>> point : this.mirrorPoints.entrySet()) {
+                    String path = "points." + point.getKey() + ".";
+                    for (Map.Entry<String, Object> field : point.getValue().entrySet()) {
+                        config.set(path + field.getKey(), field.getValue());
+                    }
+                }
+                writeAtomically(this.file.toPath(), config.saveToString());
+                Files.deleteIfExists(journalFile(this.file).toPath());
+                this.journalEntries = 0;
+            } catch (Exception e) {
+                this.logger.log(Level.SEVERE, "Failed to save capture zones: " + e.getMessage(), e);
+            }
+        }
+
+        private void appendJournal(List<String> lines) throws IOException {
+            if (lines.isEmpty()) {
+                return;
+            }
+            StringBuilder out = new StringBuilder();
+            for (String line : lines) {
+                out.append(line).append('\n');
+            }
+            try (FileChannel channel = FileChannel.open(journalFile(this.file).toPath(),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(out.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            this.journalEntries += lines.size();
+        }
+
+        /**
+         * Apply every journal entry written since the last snapshot to {@code config} and
+         * return how many were applied. Unreadable lines, such as one torn by a crash, are
+         * skipped.
+         */
+        private int replayJournal(YamlConfiguration config) throws IOException {
+            File journal = journalFile(this.file);
+            if (!journal.exists()) {
+                return 0;
+            }
+            int applied = 0;
+            int lineNumber = 0;
+            for (String line : Files.readAllLines(journal.toPath(), StandardCharsets.UTF_8)) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                    if (entry.has("weekly-reset")) {
+                        config.set(WEEKLY_RESET_PATH, null);
+                        ConfigurationSection resetSection = config.createSection(WEEKLY_RESET_PATH);
+                        for (Map.Entry<String, JsonElement> reset : entry.getAsJsonObject("weekly-reset").entrySet()) {
+                            resetSection.set(reset.getKey(), fromJson(reset.getValue()));
+                        }
+                        applied++;
+                        continue;
+                    }
+                    String path = "points." + entry.get("id").getAsString();
+                    if (entry.has("remove") && entry.get("remove").getAsBoolean()) {
+                        config.set(path, null);
+                    }
+                    if (entry.has("set")) {
+                        for (Map.Entry<String, JsonElement> field : entry.getAsJsonObject("set").entrySet()) {
+                            config.set(path + "." + field.getKey(), fromJson(field.getValue()));
+                        }
+                    }
+                    applied++;
+                } catch (RuntimeException e) {
+                    this.logger.warning("Skipping unreadable capture point journal entry at line " + lineNumber + ": " + e.getMessage());
+                }
+            }
+            return applied;
+        }
+    }
+
+    /**
+     * Changes merged from one or more deltas, waiting for the I/O thread. Removals apply
+     * before field changes, so a zone deleted and recreated within one batch ends up
+     * recreated.
+     */
+    static final class Changes {
+        final Set<String> removed = new LinkedHashSet<>();
+        final Map<String, Map<String, Object>> changed = new LinkedHashMap<>();
+        Map<String, Long> weeklyReset;
+
+        private void merge(Delta delta) {
+            for (String id : delta.removed) {
+                this.changed.remove(id);
+                this.removed.add(id);
+            }
+            for (PointRecord record : delta.points) {
+                Map<String, Object> fields = this.changed.computeIfAbsent(record.id, ignored -> new LinkedHashMap<>());
+                record.writeFields(fields::put, delta.defaultOwnerType);
+            }
+            if (delta.weeklyReset != null) {
+                this.weeklyReset = delta.weeklyReset;
+            }
+        }
+
+        private void applyTo(Map<String, Map<String, Object>> points, Map<String, Object> weekly) {
+            for (String id : this.removed) {
+                points.remove(id);
+            }
+            for (Map.Entry<String, Map<String, Object>> point : this.changed.entrySet()) {
+                points.computeIfAbsent(point.getKey(), ignored -> new LinkedHashMap<>()).putAll(point.getValue());
+            }
+            if (this.weeklyReset != null) {
+                weekly.clear();
+                weekly.putAll(this.weeklyReset);
+            }
+        }
+
+        private List<String> toJournalLines(Gson gson) {
+            List<String> lines = new ArrayList<>();
+            for (String id : this.removed) {
+                JsonObject entry = new JsonObject();
+                entry.addProperty("id", id);
+                entry.addProperty("remove", true);
+                lines.add(gson.toJson(entry));
+            }
+            for (Map.Entry<String, Map<String, Object>> point : this.changed.entrySet()) {
+                JsonObject set = new JsonObject();
+                for (Map.Entry<String, Object> field : point.getValue().entrySet()) {
+                    set.add(field.getKey(), gson.toJsonTree(field.getValue()));
+                }
+                JsonObject entry = new JsonObject();
+                entry.addProperty("id", point.getKey());
+                entry.add("set", set);
+                lines.add(gson.toJson(entry));
+            }
+            if (this.weeklyReset != null) {
+                JsonObject reset = new JsonObject();
+                for (Map.Entry<String, Long> entry : this.weeklyReset.entrySet()) {
+                    reset.addProperty(entry.getKey(), entry.getValue());
+                }
+                JsonObject entry = new JsonObject();
+                entry.add("weekly-reset", reset);
+                lines.add(gson.toJson(entry));
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Immutable set of changes since the previous save.
+     */
+    static final class Delta {
+        final String defaultOwnerType;
+        final List<PointRecord> points;
+        final Set<String> removed;
+        final Map<String, Long> weeklyReset;
+
+        /**
+         * @param weeklyReset full weekly reset map, or null when it did not change
+         */
+        Delta(String defaultOwnerType, Collection<PointRecord> points, Collection<String> removed, Map<String, Long> weeklyReset) {
+            this.defaultOwnerType = defaultOwnerType;
+            this.points = Collections.unmodifiableList(new ArrayList<>(points));
+            this.removed = Collections.unmodifiableSet(new LinkedHashSet<>(removed));
+            this.weeklyReset = weeklyReset != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(weeklyReset))
+                : null;
+        }
+
+        boolean isEmpty() {
+            return this.points.isEmpty() && this.removed.isEmpty() && this.weeklyReset == null;
+        }
+    }
+
+    /**
+     * Receives one persisted field as a path relative to the point's section.
+     */
+    interface FieldSink {
+        void set(String path, Object value);
+    }
+
+    /**
+     * Immutable copy of one capture point, plus the field groups that need writing.
+     */
+    static final class PointRecord {
+        final String id;
+        final int fields;
+        final String name;
+        final String worldId;
+        final double x;
+        final double y;
+        final double z;
+        final int radius;
+        final String shape;
+        final int cuboidMinX;
+        final int cuboidMinY;
+        final int cuboidMinZ;
+        final int cuboidMaxX;
+        final int cuboidMaxY;
+        final int cuboidMaxZ;
+        final double reward;
+        final String controllingTown;
+        final CaptureOwner controllingOwner;
+        final String capturingTown;
+        final CaptureOwner capturingOwner;
+        final String type;
+        final boolean showOnMap;
+        final long lastCaptureTime;
+        final long cooldownUntil;
+        final CaptureOwner previousOwnerLock;
+        final long previousOwnerLockUntil;
+        final CaptureOwner previousAttackerLock;
+        final long previousAttackerLockUntil;
+        final boolean firstCaptureBonusAvailable;
+
+        /**
+         * @param fields {@code CapturePoint.DIRTY_*} groups to write
+         */
+        PointRecord(String id, CapturePoint point, int fields) {
+            this.id = id;
+            this.fields = fields;
+            this.name = point.getName();
+            this.worldId = point.getWorldUUID().toString();
+            this.x = point.getLocation().getX();
+            this.y = point.getLocation().getY();
+            this.z = point.getLocation().getZ();
+            this.radius = point.getChunkRadius();
+            this.shape = point.getShapeType().name().toLowerCase(Locale.ROOT);
+            this.cuboidMinX = point.getCuboidMinX();
+            this.cuboidMinY = point.getCuboidMinY();
+            this.cuboidMinZ = point.getCuboidMinZ();
+            this.cuboidMaxX = point.getCuboidMaxX();
+            this.cuboidMaxY = point.getCuboidMaxY();
+            this.cuboidMaxZ = point.getCuboidMaxZ();
+            this.reward = point.getReward();
+            this.controllingTown = point.getControllingTown();
+            this.controllingOwner = point.getControllingOwner();
+            this.capturingTown = point.getCapturingTown();
+            this.capturingOwner = point.getCapturingOwner();
+            this.type = point.getType();
+            this.showOnMap = point.isShowOnMap();
+            this.lastCaptureTime = point.getLastCaptureTime();
+            this.cooldownUntil = point.getCooldownUntilTime();
+            this.previousOwnerLock = point.getRecaptureLockPreviousOwner();
+            this.previousOwnerLockUntil = point.getRecaptureLockPreviousOwnerUntilTime();
+            this.previousAttackerLock = point.getRecaptureLockPreviousAttacker();
+            this.previousAttackerLockUntil = point.getRecaptureLockPreviousAttackerUntilTime();
+            this.firstCaptureBonusAvailable = point.isFirstCaptureBonusAvailable();
+        }
+
+        boolean has(int group) {
+            return (this.fields & group) != 0;
+        }
+
+        void writeFields(FieldSink out, String defaultOwnerType) {
+            // The name has no setter, so it travels with the location group.
+            if (has(CapturePoint.DIRTY_LOCATION)) {
+                out.set("name", this.name);
+                out.set("world", this.worldId);
+                out.set("x", this.x);
+                out.set("y", this.y);
+                out.set("z", this.z);
+            }
+            if (has(CapturePoint.DIRTY_SHAPE)) {
+                out.set("radius", this.radius);
+                out.set("shape", this.shape);
+                out.set("cuboid.min.x", this.cuboidMinX);
+                out.set("cuboid.min.y", this.cuboidMinY);
+                out.set("cuboid.min.z", this.cuboidMinZ);
+                out.set("cuboid.max.x", this.cuboidMaxX);
+                out.set("cuboid.max.y", this.cuboidMaxY);
+                out.set("cuboid.max.z", this.cuboidMaxZ);
+            }
+            if (has(CapturePoint.DIRTY_REWARD)) {
+                out.set("reward", this.reward);
+            }
+            if (has(CapturePoint.DIRTY_CONTROLLING_OWNER)) {
+                out.set("controllingTown", this.controllingTown);
+                writeOwner(out, "owner", this.controllingOwner, defaultOwnerType, this.controllingTown);
+            }
+            if (has(CapturePoint.DIRTY_CAPTURING_OWNER)) {
+                writeOwner(out, "capturingOwner", this.capturingOwner, defaultOwnerType, this.capturingTown);
+            }
+            if (has(CapturePoint.DIRTY_DISPLAY)) {
+                out.set("type", this.type);
+                out.set("showOnMap", this.showOnMap);
+            }
+            if (has(CapturePoint.DIRTY_LAST_CAPTURE)) {
+                out.set("lastCaptureTime", this.lastCaptureTime);
+            }
+            if (has(CapturePoint.DIRTY_COOLDOWNS)) {
+                out.set("cooldowns.zone-cooldown-until", this.cooldownUntil);
+                writeOwner(out, "cooldowns.recapture.previous-owner", this.previousOwnerLock, defaultOwnerType, null);
+                out.set("cooldowns.recapture.previous-owner.until", this.previousOwnerLockUntil);
+                writeOwner(out, "cooldowns.recapture.previous-attacker", this.previousAttackerLock, defaultOwnerType, null);
+                out.set("cooldowns.recapture.previous-attacker.until", this.previousAttackerLockUntil);
+            }
+            if (has(CapturePoint.DIRTY_FIRST_CAPTURE_BONUS)) {
+                out.set("firstCaptureBonusAvailable", this.firstCaptureBonusAvailable);
+            }
+        }
+
+        private static void writeOwner(
+            FieldSink out,
+            String path,
+            CaptureOwner owner,
+            String defaultOwnerType,
+            String fallbackDisplayName
+        ) {
+            if (owner != null) {
+                out.set(path + ".type", owner.getType().name().toLowerCase(Locale.ROOT));
+                out.set(path + ".id", owner.getId());
+                out.set(path + ".displayName", owner.getDisplayName());
+            } else {
+                out.set(path + ".type", defaultOwnerType);
+                out.set(path + ".id", null);
+                out.set(path + ".displayName", fallbackDisplayName);
+            }
+        }
+    }
+}
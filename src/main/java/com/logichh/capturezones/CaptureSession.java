@@ -42,6 +42,7 @@ public class CaptureSession {
     private int graceSecondsRemaining;
     private int initialGraceSeconds;
     private double captureProgressAccumulator;
+    private CaptureZones.CapturePolicy policy;
 
     public CaptureSession(CapturePoint point, String ownerName, Player player, int preparationTime, int captureTime) {
         this(point, CaptureOwner.fromDisplayName(CaptureOwnerType.TOWN, ownerName), player, preparationTime, captureTime);
@@ -81,6 +82,14 @@ public class CaptureSession {
         return pointId;
     }
 
+    CaptureZones.CapturePolicy getPolicy() {
+        return policy;
+    }
+
+    void setPolicy(CaptureZones.CapturePolicy policy) {
+        this.policy = policy;
+    }
+
     public String getTownName() {
         return townName;
     }
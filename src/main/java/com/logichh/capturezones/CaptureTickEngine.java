@@ -0,0 +1,216 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * One server tick timer that drives every per-second capture job (preparation, capture phase,
+ * KOTH, session timeouts) instead of one BukkitTask per job.
+ *
+ * Each job is pinned to one of the 20 tick phases of a second, picking the least loaded phase
+ * when it is scheduled, so many concurrent captures are spread over the second instead of all
+ * landing on the same tick. Jobs sharing a phase run in the order they were scheduled.
+ *
+ * Main thread only.
+ */
+final class CaptureTickEngine {
+    static final int TICKS_PER_SECOND = 20;
+    private static final double AVERAGE_WEIGHT = 0.05;
+
+    /**
+     * Receives the cost of every tick that ran at least one job.
+     */
+    interface TickListener {
+        void onTick(long tick, int jobsRun, long elapsedNanos);
+    }
+
+    private final Plugin plugin;
+    private final List<List<Ticket>> phases = new ArrayList<>(TICKS_PER_SECOND);
+    private BukkitTask task;
+    private long currentTick;
+    private int ticketCount;
+    private TickListener tickListener;
+    private long lastTickNanos;
+    private long maxTickNanos;
+    private double averageTickNanos;
+    private long jobRuns;
+
+    CaptureTickEngine(Plugin plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < TICKS_PER_SECOND; i++) {
+            this.phases.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Run {@code job} once per second, starting one to two seconds from now.
+     */
+    Ticket schedule(String name, Runnable job) {
+        return schedule(name, job, 1);
+    }
+
+    /**
+     * Run {@code job} every {@code intervalSeconds} seconds, first run after one interval plus at most
+     * one second of phase spreading.
+     */
+    Ticket schedule(String name, Runnable job, int intervalSeconds) {
+        int interval = Math.max(1, intervalSeconds);
+        // Pick the least loaded phase up to a second after the natural first run. Only shifting
+        // later keeps a job from firing early, so a phase never ends before its full interval.
+        long naturalRun = this.currentTick + (long) TICKS_PER_SECOND * interval;
+        long bestRun = naturalRun;
+        int bestLoad = phaseFor(naturalRun).size();
+        for (int shift = 1; shift < TICKS_PER_SECOND && bestLoad > 0; shift++) {
+            long candidate = naturalRun + shift;
+            int load = phaseFor(candidate).size();
+            if (load < bestLoad) {
+                bestLoad = load;
+                bestRun = candidate;
+            }
+        }
+
+        Ticket ticket = new Ticket(this, name, job, interval, bestRun);
+        phaseFor(bestRun).add(ticket);
+        this.ticketCount++;
+        ensureStarted();
+        return ticket;
+    }
+
+    void setTickListener(TickListener tickListener) {
+        this.tickListener = tickListener;
+    }
+
+    /**
+     * Cancel every job and stop the timer.
+     */
+    void shutdown() {
+        for (List<Ticket> phase : this.phases) {
+            for (Ticket ticket : phase) {
+                ticket.cancelled = true;
+            }
+            phase.clear();
+        }
+        this.ticketCount = 0;
+        stopTimer();
+    }
+
+    int getScheduledJobCount() {
+        return this.ticketCount;
+    }
+
+    long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    long getMaxTickNanos() {
+        return this.maxTickNanos;
+    }
+
+    long getAverageTickNanos() {
+        return (long) this.averageTickNanos;
+    }
+
+    long getJobRuns() {
+        return this.jobRuns;
+    }
+
+    private List<Ticket> phaseFor(long tick) {
+        return this.phases.get((int) Math.floorMod(tick, (long) TICKS_PER_SECOND));
+    }
+
+    private void ensureStarted() {
+        if (this.task == null) {
+            this.task = this.plugin.getServer().getScheduler().runTaskTimer(this.plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    private void stopTimer() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    private void tick() {
+        long tick = ++this.currentTick;
+        List<Ticket> phase = phaseFor(tick);
+        if (phase.isEmpty()) {
+            if (this.ticketCount == 0) {
+                stopTimer();
+            }
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int jobsRun = 0;
+        // Jobs may cancel themselves or schedule new ones while running.
+        for (Ticket ticket : phase.toArray(new Ticket[0])) {
+            if (ticket.cancelled || tick < ticket.nextRunTick) {
+                continue;
+            }
+            ticket.nextRunTick = tick + (long) TICKS_PER_SECOND * ticket.intervalSeconds;
+            jobsRun++;
+            try {
+                ticket.job.run();
+            } catch (RuntimeException e) {
+                this.plugin.getLogger().log(Level.WARNING, "Capture tick job '" + ticket.name + "' failed", e);
+            }
+        }
+        if (jobsRun == 0) {
+            return;
+        }
+
+        long elapsed = System.nanoTime() - startedAt;
+        this.jobRuns += jobsRun;
+        this.lastTickNanos = elapsed;
+        this.maxTickNanos = Math.max(this.maxTickNanos, elapsed);
+        this.averageTickNanos = this.averageTickNanos <= 0.0
+            ? elapsed
+            : this.averageTickNanos + (elapsed - this.averageTickNanos) * AVERAGE_WEIGHT;
+        TickListener listener = this.tickListener;
+        if (listener != null) {
+            listener.onTick(tick, jobsRun, elapsed);
+        }
+    }
+
+    private void remove(Ticket ticket) {
+        if (phaseFor(ticket.nextRunTick).remove(ticket)) {
+            this.ticketCount--;
+        }
+    }
+
+    /**
+     * Handle for one scheduled job.
+     */
+    static final class Ticket {
+        private final CaptureTickEngine engine;
+        private final String name;
+        private final Runnable job;
+        private final int intervalSeconds;
+        private long nextRunTick;
+        private boolean cancelled;
+
+        private Ticket(CaptureTickEngine engine, String name, Runnable job, int intervalSeconds, long nextRunTick) {
+            this.engine = engine;
+            this.name = name;
+            this.job = job;
+            this.intervalSeconds = intervalSeconds;
+            this.nextRunTick = nextRunTick;
+        }
+
+        void cancel() {
+            if (this.cancelled) {
+                return;
+            }
+            this.cancelled = true;
+            this.engine.remove(this);
+        }
+
+        boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.logichh.capturezones;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 import com.logichh.capturezones.api.CaptureZonesApi;
 import com.logichh.capturezones.AreaStyle;
 import com.logichh.capturezones.CaptureCommandTabCompleter;
@@ -25,12 +27,12 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -41,19 +43,26 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarFlag;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
-import org.bukkit.Particle;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.command.TabCompleter;
+import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -80,24 +89,26 @@ import java.util.stream.Stream;
 public class CaptureZones
 extends JavaPlugin {
     private FileConfiguration config;
+    // config.yml parsed off the main thread by a staged reload; replaces JavaPlugin's copy
+    private FileConfiguration installedConfig;
     private File capturePointsFile;
     private FileConfiguration capturePointsConfig;
     private Map<String, CapturePoint> capturePoints = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID, Map<Long, List<CapturePoint>>> capturePointSpatialIndex = new HashMap<>();
-    private final Map<UUID, List<CapturePoint>> capturePointsByWorld = new HashMap<>();
+    private final CapturePointSpatialIndex capturePointSpatialIndex = new CapturePointSpatialIndex();
     private boolean capturePointSpatialIndexDirty = true;
     private int capturePointSpatialIndexExtraChunks = 1;
+    private final ZoneMembershipTracker zoneMembershipTracker = new ZoneMembershipTracker(this);
+    private CaptureEvents captureEvents;
     private Map<String, CaptureSession> activeSessions = Collections.synchronizedMap(new HashMap<>());
     private Map<String, BossBar> captureBossBars = Collections.synchronizedMap(new HashMap<>());
-    private Map<String, BukkitTask> captureTasks = Collections.synchronizedMap(new HashMap<>());
+    private Map<String, CaptureTickEngine.Ticket> captureTasks = Collections.synchronizedMap(new HashMap<>());
+    private final CaptureTickEngine captureTickEngine = new CaptureTickEngine(this);
     private Map<String, String> pointTypes = Collections.synchronizedMap(new HashMap<>());
     private Map<UUID, Boolean> warnedPlayers = Collections.synchronizedMap(new HashMap<>());
     private Map<Location, BlockData> originalBlocks = Collections.synchronizedMap(new HashMap<>());
     private Map<UUID, Long> firstJoinTimes = Collections.synchronizedMap(new HashMap<>());
     public Map<UUID, Boolean> hiddenBossBars = Collections.synchronizedMap(new HashMap<>());
-    public Map<String, BukkitTask> boundaryTasks = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID, Set<String>> boundaryPointsByPlayer = Collections.synchronizedMap(new HashMap<>());
-    private final Map<UUID, BukkitTask> boundaryPlayerTasks = Collections.synchronizedMap(new HashMap<>());
+    private final BoundaryRenderer boundaryRenderer = new BoundaryRenderer(this);
     public Map<UUID, Boolean> disabledNotifications = Collections.synchronizedMap(new HashMap<>()); // Track who has disabled notifications
     private BukkitTask hourlyRewardTask;
     private Map<String, Long> lastHourlyRewardTimes = Collections.synchronizedMap(new HashMap<>());
@@ -113,7 +124,6 @@ extends JavaPlugin {
     private ReinforcementListener reinforcementListener;
     private Map<String, Integer> captureAttempts = Collections.synchronizedMap(new HashMap<>());
     private Map<String, Integer> successfulCaptures = Collections.synchronizedMap(new HashMap<>());
-    private Map<String, Integer> captureProgressSoundBuckets = Collections.synchronizedMap(new HashMap<>());
     private Map<String, Long> lastErrorTime = Collections.synchronizedMap(new HashMap<>());
     private Map<String, Boolean> warnedLegacyCapturePointPaths = Collections.synchronizedMap(new HashMap<>());
     private Set<String> warnedInvalidItemRewardEntries = Collections.synchronizedSet(new HashSet<>());
@@ -121,15 +131,14 @@ extends JavaPlugin {
     private Set<String> warnedInvalidPermissionGrantEntries = Collections.synchronizedSet(new HashSet<>());
     private static final int DEFAULT_SPATIAL_INDEX_EXTRA_CHUNKS = 1;
     private static final int ERROR_THROTTLE_MS = 60000;
-    private static final long DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS = 2000L;
-    private static final long DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS = 1000L;
+    static final long DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS = 2000L;
+    static final long DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS = 1000L;
     private static final int MAX_ITEM_REWARD_ENTRY_AMOUNT = 4096;
     private static final int MAX_PERMISSION_REWARD_TIERS = 64;
     private static final int MAX_PERMISSION_REWARD_GRANTS = 64;
     private static final long MAX_PERMISSION_REWARD_DURATION_MS = 31_536_000_000L;
     private static final long VISUAL_REFRESH_DEBOUNCE_TICKS = 2L;
     private static final long CAPTURE_POINT_SAVE_DEBOUNCE_TICKS = 40L;
-    private static final long BOSSBAR_AUDIENCE_SYNC_INTERVAL_MS = 2000L;
     private static final Pattern PERMISSION_REWARD_DURATION_PATTERN = Pattern.compile("^(\\d+)(ms|s|m|h|d|w)$");
     private static final String CANCEL_REASON_MOVED_TOO_FAR = "Player moved too far from capture zone";
     private static final String CANCEL_REASON_MOVED_TOO_FAR_PREFIX = "Player ";
@@ -137,7 +146,7 @@ extends JavaPlugin {
     private static final Material PREPARATION_BEAM_GLASS = Material.YELLOW_STAINED_GLASS;
     private static final Material CAPTURE_BEAM_GLASS = Material.RED_STAINED_GLASS;
     private final Map<String, Long> lastWeeklyResetEpochDays = new HashMap<>();
-    private BukkitTask sessionTimeoutTask;
+    private CaptureTickEngine.Ticket sessionTimeoutTask;
     private BukkitTask autoSaveTask;
     private BukkitTask weeklyResetTask;
     private BukkitTask dynmapUpdateTask;
@@ -148,8 +157,16 @@ extends JavaPlugin {
     private boolean fullMarkerRefreshQueued = false;
     private boolean fullHologramRefreshQueued = false;
     private BukkitTask capturePointSaveTask;
+    private final CapturePointStore capturePointStore = new CapturePointStore(this.getLogger());
+    private DataStorage dataStorage;
+    private CaptureEventJournal eventJournal;
+    private StagedReload stagedReload;
+    private StartupLoader startupLoader;
+    private final Set<String> persistedCapturePointIds = new HashSet<>();
+    private final Map<String, Long> persistedWeeklyResetEpochDays = new HashMap<>();
     private boolean capturePointsSaveDirty = false;
-    private final Map<String, Long> lastBossBarAudienceSyncAt = Collections.synchronizedMap(new HashMap<>());
+    private final BossBarAudiences bossBarAudiences = new BossBarAudiences();
+    private final HudOutput hudOutput = new HudOutput(this);
     
     // Statistics system
     private StatisticsManager statisticsManager;
@@ -183,14 +200,15 @@ extends JavaPlugin {
     private EnumSet<CaptureOwnerType> allowedOwnerTypes = EnumSet.of(CaptureOwnerType.TOWN);
     private CaptureOwnerType defaultOwnerType = CaptureOwnerType.TOWN;
     private OwnerPlatformAdapter ownerPlatform = new StandaloneOwnerPlatformAdapter();
+    private final OwnerResolutionCache ownerResolutionCache = new OwnerResolutionCache();
     private CaptureZonesApi apiService;
 
-    private enum ContestedProgressPolicy {
+    enum ContestedProgressPolicy {
         PAUSE,
         DECAY,
         ROLLBACK;
 
-        private static ContestedProgressPolicy fromConfigValue(String rawValue) {
+        static ContestedProgressPolicy fromConfigValue(String rawValue) {
             if (rawValue == null || rawValue.trim().isEmpty()) {
                 return PAUSE;
             }
@@ -202,6 +220,123 @@ extends JavaPlugin {
         }
     }
 
+    /**
+     * Capture settings of one session: the zone's compiled {@link ZoneSettings} snapshot, swapped
+     * whenever the zone's config is recompiled, plus the few values derived from it, the
+     * compiled HUD and broadcast messages and the progress sound, so the per-second capture
+     * tick does no config or message lookups.
+     */
+    static final class CapturePolicy {
+        // Seconds of remaining capture time per progress sound bucket
+        static final int PROGRESS_SOUND_BUCKET_SECONDS = 60;
+
+        final ZoneSettings zone;
+        // Progress seconds a contested tick decays or rolls back; 0 for PAUSE
+        final int contestedPolicySeconds;
+        // Player scaling only counts while speed modifiers are on
+        final boolean speedPlayerScalingEnabled;
+
+        final RenderedText preparationTitle = new RenderedText("bossbar.preparation-timer");
+        final RenderedText captureTitle = new RenderedText("bossbar.capturing");
+        final RenderedText contestedTitle = new RenderedText("bossbar.contested");
+        final RenderedText graceTitle = new RenderedText("bossbar.grace");
+        final RenderedText contestedActionbar = new RenderedText("messages.capture.contested-actionbar");
+        final RenderedText graceActionbar = new RenderedText("messages.capture.grace-actionbar");
+        final Messages.Template graceStarted = RenderedText.compile("messages.capture.grace-started");
+        final Messages.Template graceEnded = RenderedText.compile("messages.capture.grace-ended");
+        final Messages.Template contestedStarted = RenderedText.compile("messages.capture.contested-started");
+        final Messages.Template contestedEnded = RenderedText.compile("messages.capture.contested-ended");
+
+        // Null when sounds are off or the configured sound is invalid
+        final org.bukkit.Sound progressSound;
+        final float progressSoundVolume;
+        final float progressSoundPitch;
+        // Bucket the progress sound last played for; carried over when the policy is replaced
+        int progressSoundBucket = -1;
+
+        CapturePolicy(CaptureZones plugin, String pointId) {
+            ZoneSettings settings = plugin.getZoneSettings(pointId);
+            if (settings == null) {
+                throw new IllegalStateException("No zone settings for capture point " + pointId);
+            }
+            this.zone = settings;
+            this.contestedPolicySeconds = Math.max(0,
+                plugin.resolveContestedPolicySeconds(pointId, settings.contestedProgressPolicy));
+            this.speedPlayerScalingEnabled = settings.speedModifiersEnabled && settings.speedPlayerScalingEnabled;
+            this.progressSound = plugin.resolveSound("capture-progress");
+            this.progressSoundVolume = (float) plugin.config.getDouble("sounds.capture-progress.volume", 1.0);
+            this.progressSoundPitch = (float) plugin.config.getDouble("sounds.capture-progress.pitch", 1.0);
+        }
+
+        double captureSpeedMultiplier(int capturingPlayers) {
+            if (!this.zone.speedModifiersEnabled) {
+                return 1.0;
+            }
+            double multiplier = Math.max(0.0, this.zone.speedFlatMultiplier);
+            if (this.speedPlayerScalingEnabled) {
+                int extraPlayers = Math.max(0, Math.max(0, capturingPlayers) - 1);
+                int cappedExtraPlayers = Math.min(extraPlayers, Math.max(0, this.zone.speedMaxExtraPlayers));
+                multiplier *= 1.0 + (Math.max(0.0, this.zone.speedPerExtraPlayer) * cappedExtraPlayers);
+            }
+            return Math.max(this.zone.speedMinMultiplier, Math.min(this.zone.speedMaxMultiplier, multiplier));
+        }
+    }
+
+    /**
+     * One capture message and the text it last rendered to. The message is re-rendered only when
+     * a substituted value changes; placeholders are {town}, {zone}, {time}, {owners}, {players}
+     * and {policy}. Main thread only.
+     */
+    static final class RenderedText {
+        private static final String[] SLOTS = {"town", "zone", "time", "owners", "players", "policy"};
+
+        private final Messages.Template template;
+        private String town;
+        private String zone;
+        private int seconds = Integer.MIN_VALUE;
+        private int owners;
+        private int players;
+        private String text;
+
+        RenderedText(String key) {
+            this.template = compile(key);
+        }
+
+        static Messages.Template compile(String key) {
+            return Messages.template(key).positional(SLOTS);
+        }
+
+        String render(String town, String zone, int seconds, int owners, int players, String policy) {
+            String cached = cached(town, zone, seconds, owners, players);
+            if (cached != null) {
+                return cached;
+            }
+            return store(town, zone, seconds, owners, players,
+                this.template.render(town, zone, formatTime(seconds), owners, players, policy));
+        }
+
+        /**
+         * @return the last text if it was rendered from the same values, otherwise null
+         */
+        String cached(String town, String zone, int seconds, int owners, int players) {
+            if (this.text != null && seconds == this.seconds && owners == this.owners && players == this.players
+                && Objects.equals(town, this.town) && Objects.equals(zone, this.zone)) {
+                return this.text;
+            }
+            return null;
+        }
+
+        String store(String town, String zone, int seconds, int owners, int players, String text) {
+            this.town = town;
+            this.zone = zone;
+            this.seconds = seconds;
+            this.owners = owners;
+            this.players = players;
+            this.text = text;
+            return text;
+        }
+    }
+
     private enum CooldownTrigger {
         SUCCESS,
         CANCEL,
@@ -382,16 +517,51 @@ extends JavaPlugin {
         }
     }
 
+    @Override
+    public FileConfiguration getConfig() {
+        FileConfiguration installed = this.installedConfig;
+        return installed != null ? installed : super.getConfig();
+    }
+
+    @Override
+    public void reloadConfig() {
+        this.installedConfig = null;
+        super.reloadConfig();
+    }
+
+    /**
+     * Use a config.yml that was already read and parsed elsewhere, keeping the bundled
+     * defaults of the current one.
+     */
+    private void installConfig(YamlConfiguration staged) {
+        Configuration defaults = getConfig().getDefaults();
+        if (defaults != null) {
+            staged.setDefaults(defaults);
+        }
+        this.installedConfig = staged;
+        this.config = staged;
+    }
+
     @Override
     public void onEnable() {
         migrateLegacyDataFolderIfNeeded();
 
         // Save default config if it doesn't exist
         saveDefaultConfig();
+        this.startupLoader = new StartupLoader(getLogger(), getConfig().getInt("settings.startup-threads", 0));
+        try {
+            enable(this.startupLoader);
+        } finally {
+            this.startupLoader.close();
+            this.startupLoader = null;
+        }
+    }
+
+    private void enable(StartupLoader startup) {
         this.capturePointsFile = new File(getDataFolder(), "capture_points.yml");
         
         // Initialize messages system
-        Messages.init(this);
+        startup.phase("messages", () -> Messages.init(this));
         
         // Load config
         this.config = getConfig();
@@ -401,7 +571,7 @@ extends JavaPlugin {
 
         // Initialize add-missing-only schema migrations
         this.dataMigrationManager = new DataMigrationManager(this);
-        this.dataMigrationManager.migrateCoreFiles(this.capturePointsFile);
+        startup.phase("core migration", () -> this.dataMigrationManager.migrateCoreFiles(this.capturePointsFile));
 
         // Initialize owner platform and Towny integration mode
         if (!initializeOwnerPlatform()) {
@@ -415,40 +585,57 @@ extends JavaPlugin {
             getServer().getPluginManager().disablePlugin(this);
             return;
         }
+        this.hudOutput.loadConfig();
+
+        // Select the storage backend before anything loads persisted data
+        startup.phase("storage", () -> {
+            initializeStorage();
+            initializeEventJournal();
+        });
+
+        // Statistics and permission grants load in the background while zones are set up
+        if (this.config.getBoolean("statistics.enabled", true)) {
+            startup.prefetch("statistics", () -> this.dataStorage.loadStatistics());
+        }
+        startup.prefetch("permission grants", () -> this.dataStorage.loadPermissionGrants());
         
         // Load point types
         loadPointTypes();
         
         // Load capture zones
-        loadCapturePoints();
+        startup.phase("capture points", this::loadCapturePoints);
         
         // Initialize zone configuration manager
-        zoneConfigManager = new ZoneConfigManager(this);
-        zoneConfigManager.migrateExistingZones();
-        if (this.dataMigrationManager != null) {
-            this.dataMigrationManager.migrateZoneFiles();
-        }
-        zoneConfigManager.loadAllZoneConfigs();
-        invalidateCapturePointSpatialIndex();
+        startup.phase("zone configs", () -> {
+            zoneConfigManager = new ZoneConfigManager(this);
+            zoneConfigManager.migrateExistingZones();
+            if (this.dataMigrationManager != null) {
+                this.dataMigrationManager.migrateZoneFiles();
+            }
+            zoneConfigManager.loadAllZoneConfigs();
+            invalidateCapturePointSpatialIndex();
+        });
         
         // Setup optional KOTH subsystem before map/hologram rendering
         setupKothManager();
 
         // Setup integrations
-        setupMapProviders();
-        setupHolograms();
-        setupPlaceholderApiExpansion();
-        setupWorldGuard();
+        startup.phase("integrations", () -> {
+            setupMapProviders();
+            setupHolograms();
+            setupPlaceholderApiExpansion();
+            setupWorldGuard();
+        });
         
         // Initialize statistics system
-        setupStatistics();
+        startup.phase("statistics", this::setupStatistics);
         
         // Initialize Discord webhook
         discordWebhook = new DiscordWebhook(this);
         
         // Initialize shop system
-        setupShopSystem();
-        setupPermissionRewards();
+        startup.phase("shops", this::setupShopSystem);
+        startup.phase("permission rewards", this::setupPermissionRewards);
         
         // Start tasks
         startSessionTimeoutChecker();
@@ -457,10 +644,12 @@ extends JavaPlugin {
         startWeeklyResetTask();
         
         // Register listeners
-        getServer().getPluginManager().registerEvents(new CaptureEvents(this), this);
+        this.captureEvents = new CaptureEvents(this);
+        getServer().getPluginManager().registerEvents(this.captureEvents, this);
         getServer().getPluginManager().registerEvents(new CommandBlockListener(this), this);
         getServer().getPluginManager().registerEvents(new ZoneProtectionListener(this), this);
         getServer().getPluginManager().registerEvents(new PlayerEventListener(), this);
+        getServer().getPluginManager().registerEvents(this.boundaryRenderer, this);
         getServer().getPluginManager().registerEvents(new CaptureDeathListener(this), this);
         cuboidSelectionManager = new CuboidSelectionManager(this);
         getServer().getPluginManager().registerEvents(cuboidSelectionManager, this);
@@ -471,6 +660,9 @@ extends JavaPlugin {
         } else {
             getLogger().info("Towny NewDay listener disabled (Towny integration unavailable/disabled).");
         }
+        if (this.ownerPlatform instanceof TownyOwnerPlatformAdapter) {
+            getServer().getPluginManager().registerEvents(new TownyMembershipListener(this), this);
+        }
         reinforcementListener = new ReinforcementListener(this);
         getServer().getPluginManager().registerEvents(reinforcementListener, this);
         setupMobSpawner();
@@ -517,6 +709,8 @@ extends JavaPlugin {
         }
 
         registerApiService();
+        captureReloadBaseline();
+        startup.logSummary();
     }
 
     private void initializeMetrics() {
@@ -832,189 +1026,45 @@ extends JavaPlugin {
     }
 
     public boolean startBoundaryVisualization(Player player, CapturePoint point) {
-        BoundaryMode mode = getBoundaryMode();
-        if (mode == BoundaryMode.OFF || player == null || point == null || point.getId() == null || point.getId().trim().isEmpty()) {
+        if (getBoundaryMode() == BoundaryMode.OFF || player == null || point == null || point.getId() == null || point.getId().trim().isEmpty()) {
             return false;
         }
-
-        String key = boundaryKey(player.getUniqueId(), point.getId());
-        if (this.boundaryTasks.containsKey(key)) {
-            return true;
-        }
-
-        UUID playerId = player.getUniqueId();
-        this.boundaryPointsByPlayer
-            .computeIfAbsent(playerId, ignored -> Collections.synchronizedSet(new LinkedHashSet<>()))
-            .add(point.getId());
-        BukkitTask task = ensureBoundaryVisualizationTask(playerId);
-        this.boundaryTasks.put(key, task);
-        return true;
-    }
-
-    private BukkitTask ensureBoundaryVisualizationTask(UUID playerId) {
-        BukkitTask existing = this.boundaryPlayerTasks.get(playerId);
-        if (existing != null && !existing.isCancelled()) {
-            return existing;
-        }
-
-        BoundaryVisualSettings settings = getBoundarySettings(getBoundaryMode());
-        long interval = Math.max(1L, settings.intervalTicks);
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                Player player = Bukkit.getPlayer(playerId);
-                if (player == null || !player.isOnline() || getBoundaryMode() == BoundaryMode.OFF) {
-                    stopBoundaryVisualizationsForPlayer(playerId);
-                    this.cancel();
-                    return;
-                }
-
-                BoundaryVisualSettings activeSettings = getBoundarySettings(getBoundaryMode());
-                renderBoundariesForPlayer(player, activeSettings);
-            }
-        }.runTaskTimer(this, 0L, interval);
-        this.boundaryPlayerTasks.put(playerId, task);
-        return task;
-    }
-
-    private void renderBoundariesForPlayer(Player player, BoundaryVisualSettings settings) {
-        if (player == null || settings == null) {
-            return;
-        }
-        UUID playerId = player.getUniqueId();
-        Set<String> visiblePointIds = this.boundaryPointsByPlayer.get(playerId);
-        if (visiblePointIds == null || visiblePointIds.isEmpty()) {
-            return;
-        }
-
-        List<String> invalidPointIds = new ArrayList<>();
-        for (String pointId : new ArrayList<>(visiblePointIds)) {
-            if (pointId == null || pointId.trim().isEmpty()) {
-                invalidPointIds.add(pointId);
-                continue;
-            }
-            CapturePoint point = this.capturePoints.get(pointId);
-            if (point == null || point.getLocation() == null || point.getLocation().getWorld() == null) {
-                invalidPointIds.add(pointId);
-                continue;
-            }
-            if (!canRenderBoundaryForPlayer(point, player.getLocation(), settings.visibilityRangeChunks)) {
-                continue;
-            }
-            renderBoundaryForPoint(player, point, settings);
-        }
-
-        if (invalidPointIds.isEmpty()) {
-            return;
-        }
-        for (String invalidPointId : invalidPointIds) {
-            if (invalidPointId == null || invalidPointId.trim().isEmpty()) {
-                continue;
-            }
-            stopBoundaryVisualization(boundaryKey(playerId, invalidPointId));
-        }
+        return this.boundaryRenderer.show(player, point.getId());
     }
 
-    private void renderBoundaryForPoint(Player player, CapturePoint point, BoundaryVisualSettings settings) {
-        Location center = point.getLocation();
-        World world = center != null ? center.getWorld() : null;
-        if (world == null) {
-            return;
-        }
-
-        int blockRadius = point.getRadius();
-        int sides = Math.max(settings.minSides, (int) Math.round(blockRadius * settings.sidesMultiplier));
-        int minX = point.getCuboidMinX();
-        int maxX = point.getCuboidMaxX();
-        int minZ = point.getCuboidMinZ();
-        int maxZ = point.getCuboidMaxZ();
-
-        if (point.isCuboid()) {
-            int perimeter = Math.max(4, 2 * ((maxX - minX + 1) + (maxZ - minZ + 1)));
-            int step = Math.max(1, perimeter / Math.max(8, sides));
-
-            for (int x = minX; x <= maxX; x += step) {
-                spawnBoundaryColumn(player, world, x + 0.5, minZ + 0.5, settings);
-                spawnBoundaryColumn(player, world, x + 0.5, maxZ + 0.5, settings);
-            }
-            for (int z = minZ; z <= maxZ; z += step) {
-                spawnBoundaryColumn(player, world, minX + 0.5, z + 0.5, settings);
-                spawnBoundaryColumn(player, world, maxX + 0.5, z + 0.5, settings);
-            }
-            return;
-        }
-
-        for (int i = 0; i < sides; i++) {
-            double angle = 2.0 * Math.PI * i / sides;
-            double x = center.getX() + blockRadius * Math.cos(angle);
-            double z = center.getZ() + blockRadius * Math.sin(angle);
-            spawnBoundaryColumn(player, world, x, z, settings);
-        }
-    }
-
-    private void spawnBoundaryColumn(Player player, World world, double x, double z, BoundaryVisualSettings settings) {
-        int surfaceY = world.getHighestBlockYAt((int)Math.floor(x), (int)Math.floor(z));
-        int startY = Math.max(0, surfaceY + settings.minHeight);
-        int endY = Math.min(320, surfaceY + settings.maxHeight);
-
-        for (int yPos = startY; yPos <= endY; yPos++) {
-            try {
-                player.spawnParticle(Particle.GLOW, x, yPos, z, 1, 0.0, 0.0, 0.0, 0.0);
-            } catch (Exception e) {
-                player.spawnParticle(Particle.SOUL, x, yPos, z, 1, 0.0, 0.0, 0.0, 0.0);
-            }
+    public boolean isBoundaryVisualizationActive(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return false;
         }
+        UUID playerId = parseBoundaryPlayerId(key);
+        return playerId != null && this.boundaryRenderer.isShowing(playerId, parseBoundaryPointId(key));
     }
 
     public void stopBoundaryVisualization(String key) {
         if (key == null || key.trim().isEmpty()) {
             return;
         }
-        this.boundaryTasks.remove(key);
         UUID playerId = parseBoundaryPlayerId(key);
         String pointId = parseBoundaryPointId(key);
         if (playerId == null || pointId == null || pointId.isEmpty()) {
             return;
         }
-
-        Set<String> pointIds = this.boundaryPointsByPlayer.get(playerId);
-        if (pointIds != null) {
-            pointIds.remove(pointId);
-            if (!pointIds.isEmpty()) {
-                return;
-            }
-            this.boundaryPointsByPlayer.remove(playerId);
-        }
-
-        BukkitTask task = this.boundaryPlayerTasks.remove(playerId);
-        if (task != null && !task.isCancelled()) {
-            task.cancel();
-        }
+        this.boundaryRenderer.hide(playerId, pointId);
     }
 
     public void stopBoundaryVisualizationsForPlayer(UUID playerId) {
         if (playerId == null) {
             return;
         }
-        List<String> keys = new ArrayList<>();
-        String prefix = playerId + "_";
-        for (String key : new ArrayList<>(this.boundaryTasks.keySet())) {
-            if (key != null && key.startsWith(prefix)) {
-                keys.add(key);
-            }
-        }
-        for (String key : keys) {
-            stopBoundaryVisualization(key);
-        }
+        this.boundaryRenderer.hideAll(playerId);
     }
 
     public void cancelAllBoundaryTasks() {
-        for (BukkitTask task : new ArrayList<>(this.boundaryPlayerTasks.values())) {
-            cancelTask(task);
-        }
-        this.boundaryPlayerTasks.clear();
-        this.boundaryPointsByPlayer.clear();
-        this.boundaryTasks.clear();
+        this.boundaryRenderer.stop();
+    }
+
+    BoundaryRenderer getBoundaryRenderer() {
+        return this.boundaryRenderer;
     }
 
     private UUID parseBoundaryPlayerId(String key) {
@@ -1043,6 +1093,12 @@ extends JavaPlugin {
         }
     }
 
+    private void cancelTask(CaptureTickEngine.Ticket ticket) {
+        if (ticket != null) {
+            ticket.cancel();
+        }
+    }
+
     private void removeAllCaptureBossBars() {
         for (BossBar bossBar : this.captureBossBars.values()) {
             if (bossBar != null) {
@@ -1050,11 +1106,12 @@ extends JavaPlugin {
             }
         }
         this.captureBossBars.clear();
-        this.lastBossBarAudienceSyncAt.clear();
+        this.bossBarAudiences.clear();
+        this.hudOutput.clear();
     }
 
     private void cancelAllCaptureTasks() {
-        for (BukkitTask task : this.captureTasks.values()) {
+        for (CaptureTickEngine.Ticket task : new ArrayList<>(this.captureTasks.values())) {
             cancelTask(task);
         }
         this.captureTasks.clear();
@@ -1093,7 +1150,6 @@ extends JavaPlugin {
             this.removeCaptureBossBar(normalizedPointId);
         }
 
-        this.captureProgressSoundBuckets.remove(normalizedPointId);
         cancelTask(this.captureTasks.remove(normalizedPointId));
         return removeActiveSession(normalizedPointId);
     }
@@ -1116,10 +1172,6 @@ extends JavaPlugin {
         }
     }
 
-    private String boundaryKey(UUID playerId, String pointId) {
-        return playerId + "_" + pointId;
-    }
-
     public boolean boundariesEnabled() {
         return getBoundaryMode() != BoundaryMode.OFF;
     }
@@ -1133,7 +1185,15 @@ extends JavaPlugin {
         }
     }
 
-    private BoundaryVisualSettings getBoundarySettings(BoundaryMode mode) {
+    /**
+     * Settings for the current boundary mode, or null when boundaries are off.
+     */
+    BoundaryRenderer.Settings getActiveBoundarySettings() {
+        BoundaryMode mode = getBoundaryMode();
+        return mode == BoundaryMode.OFF ? null : getBoundarySettings(mode);
+    }
+
+    private BoundaryRenderer.Settings getBoundarySettings(BoundaryMode mode) {
         String path = mode == BoundaryMode.REDUCED ? "boundary-visuals.reduced." : "boundary-visuals.on.";
         int minSides = Math.max(16, this.config.getInt(path + "min-sides", mode == BoundaryMode.REDUCED ? 96 : 256));
         double multiplier = Math.max(1.0, this.config.getDouble(path + "sides-multiplier", mode == BoundaryMode.REDUCED ? 2.0 : 4.0));
@@ -1141,70 +1201,91 @@ extends JavaPlugin {
         int maxHeight = this.config.getInt(path + "vertical-range.max", mode == BoundaryMode.REDUCED ? 20 : 40);
         int visibilityRangeChunks = Math.max(0, this.config.getInt(path + "visibility-range-chunks", mode == BoundaryMode.REDUCED ? 6 : 8));
         long interval = Math.max(1L, this.config.getLong(path + "interval-ticks", mode == BoundaryMode.REDUCED ? 30L : 10L));
-        return new BoundaryVisualSettings(minSides, multiplier, minHeight, maxHeight, visibilityRangeChunks, interval);
+        int particleBudget = Math.max(1, this.config.getInt(path + "particle-budget", mode == BoundaryMode.REDUCED ? 300 : 800));
+        int lodDistance = Math.max(0, this.config.getInt(path + "lod-distance", mode == BoundaryMode.REDUCED ? 16 : 24));
+        return new BoundaryRenderer.Settings(minSides, multiplier, minHeight, maxHeight, visibilityRangeChunks, interval,
+            particleBudget, lodDistance);
     }
 
-    private boolean canRenderBoundaryForPlayer(CapturePoint point, Location playerLocation, int visibilityRangeChunks) {
-        if (point == null || playerLocation == null || point.getLocation() == null || point.getLocation().getWorld() == null || playerLocation.getWorld() == null) {
-            return false;
-        }
-        if (!point.getLocation().getWorld().getUID().equals(playerLocation.getWorld().getUID())) {
-            return false;
+    /**
+     * Select the storage backend from {@code storage.type}. Falls back to flat files when
+     * SQLite cannot be opened. Only read at startup.
+     */
+    private void initializeStorage() {
+        FlatFileDataStorage flatFile = new FlatFileDataStorage(this);
+        DataStorage selected = flatFile;
+        String type = this.config.getString("storage.type", "flat-file").trim().toLowerCase(Locale.ROOT);
+        if (type.equals("sqlite")) {
+            String fileName = this.config.getString("storage.sqlite.file", SqliteDataStorage.DEFAULT_FILE_NAME);
+            SqliteDataStorage sqlite = new SqliteDataStorage(this, new File(getDataFolder(), fileName));
+            if (sqlite.initialize()) {
+                selected = sqlite;
+            } else {
+                getLogger().warning("SQLite storage unavailable, falling back to flat-file storage.");
+            }
+        } else if (!type.equals("flat-file")) {
+            getLogger().warning("Unknown storage.type '" + type + "', using flat-file storage.");
         }
 
-        double visibilityBlocks = Math.max(0, visibilityRangeChunks) * 16.0;
-        if (point.isCuboid()) {
-            return isWithinCuboidBoundaryVisibility(point, playerLocation, visibilityBlocks);
+        this.dataStorage = selected;
+        this.capturePointStore.setBackend(selected.createCapturePointBackend(this.capturePointsFile));
+        if (selected instanceof SqliteDataStorage && this.dataMigrationManager != null) {
+            this.dataMigrationManager.importFlatFileData(flatFile, (SqliteDataStorage) selected, this.capturePointsFile);
         }
-        return isWithinCircleBoundaryVisibility(point, playerLocation, visibilityBlocks);
+        getLogger().info("Using " + selected.getName() + " storage.");
     }
 
-    private boolean isWithinCircleBoundaryVisibility(CapturePoint point, Location playerLocation, double visibilityBlocks) {
-        Location center = point.getLocation();
-        if (center == null) {
-            return false;
+    private void closeStorage() {
+        if (this.dataStorage != null) {
+            this.dataStorage.close();
         }
+    }
 
-        double dx = playerLocation.getX() - center.getX();
-        double dz = playerLocation.getZ() - center.getZ();
-        double distanceSquared = (dx * dx) + (dz * dz);
-        double radius = Math.max(0.0, point.getRadius());
-        double minDistance = Math.max(0.0, radius - visibilityBlocks);
-        double maxDistance = radius + visibilityBlocks;
-        return distanceSquared >= (minDistance * minDistance) && distanceSquared <= (maxDistance * maxDistance);
+    /**
+     * Worker pool for parallel loading, only available while the plugin is enabling.
+     */
+    StartupLoader getStartupLoader() {
+        return this.startupLoader;
     }
 
-    private boolean isWithinCuboidBoundaryVisibility(CapturePoint point, Location playerLocation, double visibilityBlocks) {
-        double minX = point.getCuboidMinX();
-        double maxX = point.getCuboidMaxX() + 1.0;
-        double minZ = point.getCuboidMinZ();
-        double maxZ = point.getCuboidMaxZ() + 1.0;
-        double x = playerLocation.getX();
-        double z = playerLocation.getZ();
+    DataStorage getDataStorage() {
+        return this.dataStorage;
+    }
 
-        double outsideX = 0.0;
-        if (x < minX) {
-            outsideX = minX - x;
-        } else if (x > maxX) {
-            outsideX = x - maxX;
-        }
-        double outsideZ = 0.0;
-        if (z < minZ) {
-            outsideZ = minZ - z;
-        } else if (z > maxZ) {
-            outsideZ = z - maxZ;
+    /**
+     * Start the append-only event journal from {@code journal}. Only read at startup.
+     */
+    private void initializeEventJournal() {
+        if (!this.config.getBoolean("journal.enabled", true)) {
+            return;
         }
+        CaptureEventJournal.Settings settings = new CaptureEventJournal.Settings(
+            Math.max(1L, this.config.getLong("journal.segment-size-mb", 8L)) * 1024L * 1024L,
+            this.config.getInt("journal.uncompressed-segments", 2),
+            Math.max(0L, this.config.getLong("journal.retention-days", 0L)) * 86_400_000L,
+            this.config.getLong("journal.group-commit-millis", 50L),
+            this.config.getBoolean("journal.fsync", true),
+            this.config.getInt("journal.queue-capacity", 10000)
+        );
+        this.eventJournal = new CaptureEventJournal(getDataFolder(), getLogger(), new Gson(), settings);
+        this.eventJournal.start();
+    }
 
-        if (outsideX > 0.0 || outsideZ > 0.0) {
-            double outsideDistanceSquared = (outsideX * outsideX) + (outsideZ * outsideZ);
-            return outsideDistanceSquared <= (visibilityBlocks * visibilityBlocks);
+    private void closeEventJournal() {
+        if (this.eventJournal != null) {
+            this.eventJournal.shutdown();
+            this.eventJournal = null;
         }
+    }
 
-        double distanceToBoundary = Math.min(
-            Math.min(x - minX, maxX - x),
-            Math.min(z - minZ, maxZ - z)
-        );
-        return distanceToBoundary <= visibilityBlocks;
+    CaptureEventJournal getEventJournal() {
+        return this.eventJournal;
+    }
+
+    private void journal(CaptureEventJournal.Event event) {
+        if (this.eventJournal != null) {
+            this.eventJournal.append(event);
+        }
     }
 
     private boolean initializeOwnerPlatform() {
@@ -1227,6 +1308,9 @@ extends JavaPlugin {
             return false;
         }
         this.ownerPlatform = selectedPlatform;
+        this.ownerResolutionCache.setTtlMillis(
+            this.config.getLong("capture-owners.cache-ttl-ms", OwnerResolutionCache.DEFAULT_TTL_MS)
+        );
 
         EnumSet<CaptureOwnerType> parsedAllowed = parseAllowedOwnerTypes(this.config.getStringList("capture-owners.allowed"));
         if (parsedAllowed.isEmpty()) {
@@ -1465,16 +1549,9 @@ extends JavaPlugin {
     }
 
     private void startSessionTimeoutChecker() {
-        if (this.sessionTimeoutTask != null && !this.sessionTimeoutTask.isCancelled()) {
-            this.sessionTimeoutTask.cancel();
-        }
+        cancelTask(this.sessionTimeoutTask);
         long timeout = this.config.getLong("settings.session-timeout", 3600000L);
-        this.sessionTimeoutTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                checkSessionTimeouts(timeout);
-            }
-        }.runTaskTimer(this, 1200L, 1200L);
+        this.sessionTimeoutTask = this.captureTickEngine.schedule("session-timeout", () -> checkSessionTimeouts(timeout), 60);
     }
 
     private void checkSessionTimeouts(long timeout) {
@@ -1725,6 +1802,7 @@ extends JavaPlugin {
         this.flushPendingCapturePointSave();
         cancelTask(this.capturePointSaveTask);
         this.capturePointSaveTask = null;
+        this.capturePointStore.shutdown();
 
         cancelTask(this.hourlyRewardTask);
         cancelTask(this.sessionTimeoutTask);
@@ -1748,6 +1826,14 @@ extends JavaPlugin {
             shutdownShopSystem();
             getLogger().info("Shop system shutdown complete");
         }
+        if (this.statisticsManager != null) {
+            this.statisticsManager.saveStatistics();
+        }
+        closeEventJournal();
+        closeStorage();
+        if (this.discordWebhook != null) {
+            this.discordWebhook.shutdown();
+        }
         
         this.cleanupResources();
         this.getLogger().info("CaptureZones has been disabled!");
@@ -1775,21 +1861,19 @@ extends JavaPlugin {
     private void cleanupResources() {
         removeAllCaptureBossBars();
         cancelAllCaptureTasks();
+        this.captureTickEngine.shutdown();
         cancelAllBoundaryTasks();
 
         this.capturePoints.clear();
         this.capturePointSpatialIndex.clear();
-        this.capturePointsByWorld.clear();
         this.capturePointSpatialIndexDirty = true;
+        this.zoneMembershipTracker.clear();
         this.activeSessions.clear();
         this.pointTypes.clear();
         this.warnedPlayers.clear();
         this.originalBlocks.clear();
         this.firstJoinTimes.clear();
         this.hiddenBossBars.clear();
-        this.boundaryPointsByPlayer.clear();
-        this.boundaryPlayerTasks.clear();
-        this.boundaryTasks.clear();
         this.disabledNotifications.clear();
         this.warnedLegacyCapturePointPaths.clear();
         this.lastHourlyRewardTimes.clear();
@@ -1800,7 +1884,7 @@ extends JavaPlugin {
         this.lastWeeklyResetEpochDays.clear();
         this.dirtyMarkerPointIds.clear();
         this.dirtyHologramPointIds.clear();
-        this.lastBossBarAudienceSyncAt.clear();
+        this.bossBarAudiences.clear();
         this.mapProviders.clear();
         this.hologramManager = null;
         this.kothManager = null;
@@ -2076,6 +2160,17 @@ extends JavaPlugin {
         return this.ownerPlatform;
     }
 
+    /**
+     * Shared per-second driver for capture sessions and other capture-related timers.
+     */
+    CaptureTickEngine getCaptureTickEngine() {
+        return this.captureTickEngine;
+    }
+
+    OwnerResolutionCache getOwnerResolutionCache() {
+        return this.ownerResolutionCache;
+    }
+
     public boolean isOwnerTypeAllowed(CaptureOwnerType type) {
         return type != null && this.allowedOwnerTypes.contains(type);
     }
@@ -2084,6 +2179,10 @@ extends JavaPlugin {
         if (player == null || this.ownerPlatform == null) {
             return null;
         }
+        return this.ownerResolutionCache.resolveOwner(player, this::resolveCaptureOwnerUncached);
+    }
+
+    private CaptureOwner resolveCaptureOwnerUncached(Player player) {
         for (CaptureOwnerType ownerType : this.buildOwnerResolutionOrder()) {
             String ownerName = this.ownerPlatform.resolveOwnerName(player, ownerType);
             if (ownerName == null || ownerName.trim().isEmpty()) {
@@ -2157,14 +2256,31 @@ extends JavaPlugin {
         if (player == null || ownerName == null || ownerName.trim().isEmpty() || this.ownerPlatform == null) {
             return false;
         }
-        return this.ownerPlatform.doesPlayerMatchOwner(player, ownerName, this.defaultOwnerType);
+        OwnerPlatformAdapter platform = this.ownerPlatform;
+        CaptureOwnerType ownerType = this.defaultOwnerType;
+        return this.ownerResolutionCache.matchesOwnerName(player, ownerType, ownerName,
+            target -> platform.doesPlayerMatchOwner(target, ownerName, ownerType));
     }
 
     public boolean doesPlayerMatchOwner(Player player, CaptureOwner owner) {
         if (player == null || owner == null || this.ownerPlatform == null) {
             return false;
         }
-        return this.ownerPlatform.doesPlayerMatchOwner(player, owner);
+        OwnerPlatformAdapter platform = this.ownerPlatform;
+        return this.ownerResolutionCache.matchesOwner(player, owner,
+            target -> platform.doesPlayerMatchOwner(target, owner));
+    }
+
+    /**
+     * Owner name of {@code player} for one owner type, served from the owner resolution cache.
+     */
+    String resolveOwnerName(Player player, CaptureOwnerType ownerType) {
+        if (player == null || ownerType == null || this.ownerPlatform == null) {
+            return null;
+        }
+        OwnerPlatformAdapter platform = this.ownerPlatform;
+        return this.ownerResolutionCache.resolveOwnerName(player, ownerType,
+            target -> platform.resolveOwnerName(target, ownerType));
     }
 
     private boolean areOwnersEquivalent(CaptureOwner first, CaptureOwner second) {
@@ -2188,7 +2304,7 @@ extends JavaPlugin {
         int opposingPlayers = 0;
         Set<String> opposingOwnerKeys = new HashSet<>();
 
-        for (Player online : center.getWorld().getPlayers()) {
+        for (Player online : this.zoneMembershipTracker.getZoneOccupants(point.getId())) {
             if (online == null || !online.isOnline() || online.isDead()) {
                 continue;
             }
@@ -2224,7 +2340,7 @@ extends JavaPlugin {
             return false;
         }
 
-        for (Player online : center.getWorld().getPlayers()) {
+        for (Player online : this.zoneMembershipTracker.getZoneOccupants(point.getId())) {
             if (online == null || !online.isOnline() || online.isDead()) {
                 continue;
             }
@@ -2238,24 +2354,47 @@ extends JavaPlugin {
         return false;
     }
 
-    private ContestedProgressPolicy resolveContestedProgressPolicy(String pointId) {
+    private CapturePolicy policyFor(CaptureSession session) {
+        CapturePolicy policy = session.getPolicy();
+        if (policy == null) {
+            policy = new CapturePolicy(this, session.getPointId());
+            session.setPolicy(policy);
+        }
+        return policy;
+    }
+
+    /**
+     * Re-resolve the capture policy of active sessions after zone settings were recompiled.
+     * A null zone id refreshes every active session.
+     */
+    void refreshCapturePolicies(String zoneId) {
+        for (CaptureSession session : new ArrayList<>(this.activeSessions.values())) {
+            if (session != null && (zoneId == null || zoneId.equals(session.getPointId()))) {
+                CapturePolicy previous = session.getPolicy();
+                CapturePolicy refreshed = new CapturePolicy(this, session.getPointId());
+                if (previous != null) {
+                    refreshed.progressSoundBucket = previous.progressSoundBucket;
+                }
+                session.setPolicy(refreshed);
+            }
+        }
+    }
+
+    private ZoneSettings getZoneSettings(String pointId) {
         ZoneConfigManager zoneManager = this.zoneConfigManager;
-        String rawPolicy = zoneManager != null
-            ? zoneManager.getString(pointId, "capture-conditions.contested.progress-policy", "PAUSE")
-            : this.config.getString("capture-conditions.contested.progress-policy", "PAUSE");
-        return ContestedProgressPolicy.fromConfigValue(rawPolicy);
+        return zoneManager != null ? zoneManager.getZoneSettings(pointId) : null;
     }
 
     private int resolveContestedPolicySeconds(String pointId, ContestedProgressPolicy policy) {
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
+        ZoneSettings settings = getZoneSettings(pointId);
         if (policy == ContestedProgressPolicy.DECAY) {
-            return zoneManager != null
-                ? zoneManager.getInt(pointId, "capture-conditions.contested.decay-seconds", 1)
+            return settings != null
+                ? settings.contestedDecaySeconds
                 : this.config.getInt("capture-conditions.contested.decay-seconds", 1);
         }
         if (policy == ContestedProgressPolicy.ROLLBACK) {
-            return zoneManager != null
-                ? zoneManager.getInt(pointId, "capture-conditions.contested.rollback-seconds", 3)
+            return settings != null
+                ? settings.contestedRollbackSeconds
                 : this.config.getInt("capture-conditions.contested.rollback-seconds", 3);
         }
         return 0;
@@ -2265,30 +2404,19 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.leave-grace.enabled", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.graceTimerEnabled
             : this.config.getBoolean("capture-conditions.leave-grace.enabled", false);
     }
 
-    private int resolveGraceDurationSeconds(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return 0;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        int configured = zoneManager != null
-            ? zoneManager.getInt(pointId, "capture-conditions.leave-grace.duration-seconds", 15)
-            : this.config.getInt("capture-conditions.leave-grace.duration-seconds", 15);
-        return Math.max(0, configured);
-    }
-
     public boolean isAutoCaptureOnEntryEnabled(String pointId) {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.auto-capture.enabled", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.autoCaptureEnabled
             : this.config.getBoolean("capture-conditions.auto-capture.enabled", false);
     }
 
@@ -2296,10 +2424,11 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return 0;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        int configured = zoneManager != null
-            ? zoneManager.getInt(pointId, "capture-conditions.auto-capture.entry-debounce-seconds", 10)
-            : this.config.getInt("capture-conditions.auto-capture.entry-debounce-seconds", 10);
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            return settings.autoCaptureEntryDebounceSeconds;
+        }
+        int configured = this.config.getInt("capture-conditions.auto-capture.entry-debounce-seconds", 10);
         return Math.max(0, configured);
     }
 
@@ -2307,52 +2436,21 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return true;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "bossbar.enabled", true)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.bossbarEnabled
             : this.config.getBoolean("bossbar.enabled", true);
     }
 
-    private boolean isContestedBossbarEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return true;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "bossbar.contested-enabled", true)
-            : this.config.getBoolean("bossbar.contested-enabled", true);
-    }
-
-    private boolean isGraceBossbarEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return true;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "bossbar.grace-enabled", true)
-            : this.config.getBoolean("bossbar.grace-enabled", true);
-    }
-
-    private boolean isCaptureCountdownEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return true;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture.capture.show-countdown", true)
-            : this.config.getBoolean("capture.capture.show-countdown", true);
-    }
-
     private String resolveCaptureBossbarTitleTemplate(String pointId) {
-        String fallback = this.config.getString(
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            return settings.captureBossbarTitleTemplate;
+        }
+        return this.config.getString(
             "bossbar.title",
             "&e%town% is capturing %point% (Started by %player%) - %time_left%"
         );
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        if (zoneManager == null) {
-            return fallback;
-        }
-        return zoneManager.getString(pointId, "bossbar.title", fallback);
     }
 
     private String resolveCaptureBossbarTitle(
@@ -2365,24 +2463,38 @@ extends JavaPlugin {
         if (point == null) {
             return "";
         }
-        String pointId = point.getId();
-        String template = resolveCaptureBossbarTitleTemplate(pointId);
+        CapturePolicy policy = session != null ? policyFor(session) : null;
+        int seconds = Math.max(0, remainingSeconds);
+        String template = policy != null
+            ? policy.zone.captureBossbarTitleTemplate
+            : resolveCaptureBossbarTitleTemplate(point.getId());
         if (template == null || template.trim().isEmpty()) {
+            if (policy != null) {
+                return policy.captureTitle.render(ownerName == null ? "" : ownerName, point.getName(), seconds, 0, 0, null);
+            }
             return Messages.get("bossbar.capturing", Map.of(
                 "town", ownerName == null ? "" : ownerName,
                 "zone", point.getName(),
-                "time", formatTime(Math.max(0, remainingSeconds))
+                "time", formatTime(seconds)
             ));
         }
+        // Without the countdown the configured title does not show the time, so it is not part of the key.
+        int shownSeconds = showCountdown ? seconds : -1;
+        if (policy != null) {
+            String cached = policy.captureTitle.cached(ownerName, point.getName(), shownSeconds, 0, 0);
+            if (cached != null) {
+                return cached;
+            }
+        }
         String starterName = session != null && session.getPlayerName() != null && !session.getPlayerName().isEmpty()
             ? session.getPlayerName()
             : (ownerName == null ? "" : ownerName);
-        String rendered = template
+        String rendered = colorize(template
             .replace("%town%", ownerName == null ? "" : ownerName)
             .replace("%point%", point.getName())
             .replace("%player%", starterName)
-            .replace("%time_left%", showCountdown ? formatTime(Math.max(0, remainingSeconds)) : "");
-        return colorize(rendered);
+            .replace("%time_left%", showCountdown ? formatTime(seconds) : ""));
+        return policy != null ? policy.captureTitle.store(ownerName, point.getName(), shownSeconds, 0, 0, rendered) : rendered;
     }
 
     private BarColor resolveCaptureBossbarColor(String pointId, CaptureSession session) {
@@ -2393,12 +2505,27 @@ extends JavaPlugin {
             progress = 1.0 - ((double) remaining / initial);
         }
 
-        String phaseKey = progress < 0.5 ? "start" : (progress < 0.85 ? "middle" : "end");
+        if (session != null) {
+            return policyFor(session).zone.bossbarColorForProgress(progress);
+        }
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            return settings.bossbarColorForProgress(progress);
+        }
+        return resolveCaptureBossbarPhaseColor(pointId, progress < 0.5 ? "start" : (progress < 0.85 ? "middle" : "end"));
+    }
+
+    private BarColor resolveCaptureBossbarPhaseColor(String pointId, String phaseKey) {
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            if ("middle".equals(phaseKey)) {
+                return settings.bossbarColorMiddle;
+            }
+            return "end".equals(phaseKey) ? settings.bossbarColorEnd : settings.bossbarColorStart;
+        }
+
         String path = "bossbar.color." + phaseKey;
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        String configured = zoneManager != null
-            ? zoneManager.getString(pointId, path, phaseKey.equals("start") ? "RED" : (phaseKey.equals("middle") ? "YELLOW" : "GREEN"))
-            : this.config.getString(path, phaseKey.equals("start") ? "RED" : (phaseKey.equals("middle") ? "YELLOW" : "GREEN"));
+        String configured = this.config.getString(path, phaseKey.equals("start") ? "RED" : (phaseKey.equals("middle") ? "YELLOW" : "GREEN"));
         BarColor parsed = parseBossbarColor(configured);
         if (parsed != null) {
             return parsed;
@@ -2412,7 +2539,7 @@ extends JavaPlugin {
         return BarColor.RED;
     }
 
-    private BarColor parseBossbarColor(String configured) {
+    static BarColor parseBossbarColor(String configured) {
         if (configured == null || configured.trim().isEmpty()) {
             return null;
         }
@@ -2461,75 +2588,13 @@ extends JavaPlugin {
         return parsed != null ? parsed.intValue() : -1;
     }
 
-    private boolean isContestedActionbarEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return true;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.progress-display.actionbar.contested.enabled", true)
-            : this.config.getBoolean("capture-conditions.progress-display.actionbar.contested.enabled", true);
-    }
-
-    private boolean isGraceActionbarEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return true;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.progress-display.actionbar.grace.enabled", true)
-            : this.config.getBoolean("capture-conditions.progress-display.actionbar.grace.enabled", true);
-    }
-
-    private long resolveContestedActionbarIntervalMs(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        long configured = zoneManager != null
-            ? zoneManager.getLong(pointId, "capture-conditions.progress-display.actionbar.contested.interval-ms", DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS)
-            : this.config.getLong("capture-conditions.progress-display.actionbar.contested.interval-ms", DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS);
-        return Math.max(100L, configured);
-    }
-
-    private long resolveGraceActionbarIntervalMs(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        long configured = zoneManager != null
-            ? zoneManager.getLong(pointId, "capture-conditions.progress-display.actionbar.grace.interval-ms", DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS)
-            : this.config.getLong("capture-conditions.progress-display.actionbar.grace.interval-ms", DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS);
-        return Math.max(100L, configured);
-    }
-
-    private boolean isCaptureSpeedModifiersEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return false;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.speed-modifiers.enabled", false)
-            : this.config.getBoolean("capture-conditions.speed-modifiers.enabled", false);
-    }
-
-    private boolean isCaptureSpeedPlayerScalingEnabled(String pointId) {
-        if (pointId == null || pointId.trim().isEmpty()) {
-            return false;
-        }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.speed-modifiers.owner-player-scaling.enabled", false)
-            : this.config.getBoolean("capture-conditions.speed-modifiers.owner-player-scaling.enabled", false);
-    }
-
     private boolean isCaptureCooldownEnabled(String pointId) {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.capture-cooldown.enabled", true)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.captureCooldownEnabled
             : this.config.getBoolean("capture-conditions.capture-cooldown.enabled", true);
     }
 
@@ -2537,10 +2602,11 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return 0L;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        long duration = zoneManager != null
-            ? zoneManager.getLong(pointId, "capture-conditions.capture-cooldown.duration-ms", 300000L)
-            : this.config.getLong("capture-conditions.capture-cooldown.duration-ms", 300000L);
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            return settings.captureCooldownDurationMs;
+        }
+        long duration = this.config.getLong("capture-conditions.capture-cooldown.duration-ms", 300000L);
         return Math.max(0L, duration);
     }
 
@@ -2548,7 +2614,7 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty() || trigger == null) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
+        ZoneSettings settings = getZoneSettings(pointId);
         String path;
         boolean fallback;
         switch (trigger) {
@@ -2567,9 +2633,17 @@ extends JavaPlugin {
             default:
                 return false;
         }
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, path, fallback)
-            : this.config.getBoolean(path, fallback);
+        if (settings != null) {
+            switch (trigger) {
+                case SUCCESS:
+                    return settings.cooldownOnSuccess;
+                case CANCEL:
+                    return settings.cooldownOnCancel;
+                default:
+                    return settings.cooldownOnFail;
+            }
+        }
+        return this.config.getBoolean(path, fallback);
     }
 
     private long safeAddMillis(long base, long delta) {
@@ -2631,9 +2705,9 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.capture-cooldown.anti-instant-recapture.enabled", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.antiInstantRecaptureEnabled
             : this.config.getBoolean("capture-conditions.capture-cooldown.anti-instant-recapture.enabled", false);
     }
 
@@ -2641,10 +2715,11 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return 0L;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        long duration = zoneManager != null
-            ? zoneManager.getLong(pointId, "capture-conditions.capture-cooldown.anti-instant-recapture.duration-ms", 300000L)
-            : this.config.getLong("capture-conditions.capture-cooldown.anti-instant-recapture.duration-ms", 300000L);
+        ZoneSettings settings = getZoneSettings(pointId);
+        if (settings != null) {
+            return settings.antiInstantRecaptureDurationMs;
+        }
+        long duration = this.config.getLong("capture-conditions.capture-cooldown.anti-instant-recapture.duration-ms", 300000L);
         return Math.max(0L, duration);
     }
 
@@ -2652,9 +2727,9 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-owner", true)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.lockPreviousOwner
             : this.config.getBoolean("capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-owner", true);
     }
 
@@ -2662,9 +2737,9 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-attacker", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.lockPreviousAttacker
             : this.config.getBoolean("capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-attacker", false);
     }
 
@@ -2672,9 +2747,9 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.recapture-policy.prevent-same-town", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.preventSameTownRecapture
             : this.config.getBoolean("capture-conditions.recapture-policy.prevent-same-town", false);
     }
 
@@ -2682,9 +2757,9 @@ extends JavaPlugin {
         if (pointId == null || pointId.trim().isEmpty()) {
             return false;
         }
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        return zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.recapture-policy.prevent-same-nation", false)
+        ZoneSettings settings = getZoneSettings(pointId);
+        return settings != null
+            ? settings.preventSameNationRecapture
             : this.config.getBoolean("capture-conditions.recapture-policy.prevent-same-nation", false);
     }
 
@@ -2804,16 +2879,12 @@ extends JavaPlugin {
         }
     }
 
-    private void applyContestedProgressPolicy(CaptureSession session, String pointId, ContestedProgressPolicy policy) {
-        if (session == null || pointId == null || pointId.trim().isEmpty() || policy == null) {
-            return;
-        }
-
-        if (policy == ContestedProgressPolicy.PAUSE) {
+    private void applyContestedProgressPolicy(CaptureSession session, CapturePolicy policy) {
+        if (session == null || policy == null || policy.zone.contestedProgressPolicy == ContestedProgressPolicy.PAUSE) {
             return;
         }
 
-        int deltaSeconds = Math.max(0, resolveContestedPolicySeconds(pointId, policy));
+        int deltaSeconds = policy.contestedPolicySeconds;
         if (deltaSeconds <= 0) {
             return;
         }
@@ -2835,33 +2906,27 @@ extends JavaPlugin {
         if (bossBar == null || point == null || session == null) {
             return;
         }
-        String pointId = point.getId();
-        if (!isBossbarEnabled(pointId) || (contested && !isContestedBossbarEnabled(pointId))) {
-            bossBar.setVisible(false);
+        CapturePolicy policy = policyFor(session);
+        if (!policy.zone.bossbarEnabled || (contested && !policy.zone.contestedBossbarEnabled)) {
+            this.hudOutput.setVisible(bossBar, false);
             return;
         }
-        bossBar.setVisible(true);
-        syncBossBarAudience(bossBar, point, null, false);
+        this.hudOutput.setVisible(bossBar, true);
 
         int timeLeft = session.getRemainingCaptureTime();
         String title;
+        BarColor color;
         if (contested) {
-            title = Messages.get("bossbar.contested", Map.of(
-                "town", ownerName,
-                "zone", point.getName(),
-                "time", formatTime(timeLeft),
-                "owners", String.valueOf(Math.max(1, contestedState.opposingOwners)),
-                "players", String.valueOf(Math.max(1, contestedState.opposingPlayers))
-            ));
-            bossBar.setColor(BarColor.YELLOW);
+            title = policy.contestedTitle.render(ownerName, point.getName(), timeLeft,
+                Math.max(1, contestedState.opposingOwners), Math.max(1, contestedState.opposingPlayers), null);
+            color = BarColor.YELLOW;
         } else {
-            boolean showCountdown = isCaptureCountdownEnabled(pointId);
-            title = resolveCaptureBossbarTitle(point, session, ownerName, timeLeft, showCountdown);
-            bossBar.setColor(resolveCaptureBossbarColor(pointId, session));
+            title = resolveCaptureBossbarTitle(point, session, ownerName, timeLeft, policy.zone.captureCountdownEnabled);
+            color = resolveCaptureBossbarColor(point.getId(), session);
         }
 
-        bossBar.setTitle(title);
-        bossBar.setProgress(Math.max(0.0, (double)timeLeft / Math.max(1, session.getInitialCaptureTime())));
+        this.hudOutput.updateBossBar(bossBar, title,
+            (double) timeLeft / Math.max(1, session.getInitialCaptureTime()), color);
     }
 
     private void updateGraceBossBar(
@@ -2873,62 +2938,45 @@ extends JavaPlugin {
         if (bossBar == null || point == null || session == null) {
             return;
         }
-        String pointId = point.getId();
-        if (!isBossbarEnabled(pointId) || !isGraceBossbarEnabled(pointId)) {
-            bossBar.setVisible(false);
+        CapturePolicy policy = policyFor(session);
+        if (!policy.zone.bossbarEnabled || !policy.zone.graceBossbarEnabled) {
+            this.hudOutput.setVisible(bossBar, false);
             return;
         }
-        bossBar.setVisible(true);
-        syncBossBarAudience(bossBar, point, null, false);
+        this.hudOutput.setVisible(bossBar, true);
 
         int graceLeft = Math.max(0, session.getGraceSecondsRemaining());
-        bossBar.setTitle(Messages.get("bossbar.grace", Map.of(
-            "town", ownerName,
-            "zone", point.getName(),
-            "time", formatTime(graceLeft)
-        )));
-        bossBar.setColor(BarColor.BLUE);
-
         int initialGrace = Math.max(1, session.getInitialGraceSeconds());
-        bossBar.setProgress(Math.max(0.0, Math.min(1.0, (double) graceLeft / initialGrace)));
+        this.hudOutput.updateBossBar(bossBar, policy.graceTitle.render(ownerName, point.getName(), graceLeft, 0, 0, null),
+            (double) graceLeft / initialGrace, BarColor.BLUE);
     }
 
     private void sendContestedActionbar(
         CapturePoint point,
         CaptureSession session,
         CaptureOwner capturingOwner,
-        ContestedState contestedState,
-        ContestedProgressPolicy policy
+        ContestedState contestedState
     ) {
-        if (point == null || session == null || capturingOwner == null || contestedState == null || policy == null) {
+        if (point == null || session == null || capturingOwner == null || contestedState == null) {
             return;
         }
-        String pointId = point.getId();
-        if (!isContestedActionbarEnabled(pointId)) {
+        CapturePolicy policy = policyFor(session);
+        if (!policy.zone.contestedActionbarEnabled) {
             return;
         }
 
         long now = System.currentTimeMillis();
-        long intervalMs = resolveContestedActionbarIntervalMs(pointId);
+        long intervalMs = policy.zone.contestedActionbarIntervalMs;
         if ((now - session.getLastContestedActionbarAt()) < intervalMs) {
             return;
         }
         session.setLastContestedActionbarAt(now);
 
-        String actionbar = Messages.get("messages.capture.contested-actionbar", Map.of(
-            "zone", point.getName(),
-            "town", capturingOwner.getDisplayName(),
-            "time", formatTime(session.getRemainingCaptureTime()),
-            "owners", String.valueOf(Math.max(1, contestedState.opposingOwners)),
-            "players", String.valueOf(Math.max(1, contestedState.opposingPlayers)),
-            "policy", policy.name()
-        ));
+        String actionbar = policy.contestedActionbar.render(capturingOwner.getDisplayName(), point.getName(),
+            session.getRemainingCaptureTime(), Math.max(1, contestedState.opposingOwners),
+            Math.max(1, contestedState.opposingPlayers), policy.zone.contestedProgressPolicy.name());
 
-        World world = point.getLocation() != null ? point.getLocation().getWorld() : null;
-        if (world == null) {
-            return;
-        }
-        for (Player player : world.getPlayers()) {
+        for (Player player : this.zoneMembershipTracker.getZoneOccupants(point.getId())) {
             if (player == null || !player.isOnline() || player.isDead()) {
                 continue;
             }
@@ -2943,30 +2991,23 @@ extends JavaPlugin {
         if (point == null || session == null || capturingOwner == null) {
             return;
         }
-        String pointId = point.getId();
-        if (!isGraceActionbarEnabled(pointId)) {
+        CapturePolicy policy = policyFor(session);
+        if (!policy.zone.graceActionbarEnabled) {
             return;
         }
 
         long now = System.currentTimeMillis();
-        long intervalMs = resolveGraceActionbarIntervalMs(pointId);
+        long intervalMs = policy.zone.graceActionbarIntervalMs;
         if ((now - session.getLastGraceActionbarAt()) < intervalMs) {
             return;
         }
         session.setLastGraceActionbarAt(now);
 
-        String actionbar = Messages.get("messages.capture.grace-actionbar", Map.of(
-            "zone", point.getName(),
-            "town", capturingOwner.getDisplayName(),
-            "time", formatTime(Math.max(0, session.getGraceSecondsRemaining()))
-        ));
-
-        World world = point.getLocation() != null ? point.getLocation().getWorld() : null;
-        if (world == null) {
-            return;
-        }
+        String actionbar = policy.graceActionbar.render(capturingOwner.getDisplayName(), point.getName(),
+            Math.max(0, session.getGraceSecondsRemaining()), 0, 0, null);
 
-        for (Player player : world.getPlayers()) {
+        // Grace means the capturers just stepped out, so the tracker's buffer ring is included.
+        for (Player player : this.zoneMembershipTracker.getPlayersNear(point.getId(), ZoneMembershipTracker.BUFFER_CHUNKS)) {
             if (player == null || !player.isOnline() || player.isDead()) {
                 continue;
             }
@@ -2983,15 +3024,18 @@ extends JavaPlugin {
         }
     }
 
-    private void sendActionBar(Player player, String message) {
+    /**
+     * Send an actionbar through {@link HudOutput}, which drops repeats and caps the rate per player.
+     */
+    public void sendActionBar(Player player, String message) {
         if (player == null || message == null || message.isEmpty() || isNotificationsDisabled(player)) {
             return;
         }
-        try {
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(colorize(message)));
-        } catch (Exception ignored) {
-            // Ignore actionbar delivery failures on unsupported clients/server forks.
-        }
+        this.hudOutput.sendActionbar(player, colorize(message));
+    }
+
+    HudOutput getHudOutput() {
+        return this.hudOutput;
     }
 
     public List<String> getForceCaptureTargets() {
@@ -3044,36 +3088,35 @@ extends JavaPlugin {
             return Collections.emptyList();
         }
 
-        int required = Math.max(0, requiredExtraChunks);
-        rebuildCapturePointSpatialIndexIfNeeded();
-
-        UUID worldId = location.getWorld().getUID();
-        Map<Long, List<CapturePoint>> worldIndex = this.capturePointSpatialIndex.get(worldId);
-        if (worldIndex == null) {
+        CapturePointSpatialIndex index = getCapturePointSpatialIndex();
+        int[] slots = index.lookup(location, requiredExtraChunks);
+        if (slots.length == 0) {
             return Collections.emptyList();
         }
-
-        int chunkX = location.getBlockX() >> 4;
-        int chunkZ = location.getBlockZ() >> 4;
-        if (required == 0) {
-            List<CapturePoint> candidates = worldIndex.get(toChunkKey(chunkX, chunkZ));
-            return candidates != null ? candidates : Collections.emptyList();
-        }
-
-        Set<CapturePoint> uniqueCandidates = new LinkedHashSet<>();
-        for (int x = chunkX - required; x <= chunkX + required; x++) {
-            for (int z = chunkZ - required; z <= chunkZ + required; z++) {
-                List<CapturePoint> bucket = worldIndex.get(toChunkKey(x, z));
-                if (bucket == null || bucket.isEmpty()) {
-                    continue;
-                }
-                uniqueCandidates.addAll(bucket);
+        List<CapturePoint> candidates = new ArrayList<>(slots.length);
+        for (int slot : slots) {
+            CapturePoint point = index.pointAt(slot);
+            if (point != null) {
+                candidates.add(point);
             }
         }
-        if (uniqueCandidates.isEmpty()) {
-            return Collections.emptyList();
-        }
-        return new ArrayList<>(uniqueCandidates);
+        return candidates;
+    }
+
+    /**
+     * Spatial index for allocation-free candidate lookups on hot paths.
+     * Slots returned by lookups stay valid until the index is next modified.
+     */
+    CapturePointSpatialIndex getCapturePointSpatialIndex() {
+        rebuildCapturePointSpatialIndexIfNeeded();
+        return this.capturePointSpatialIndex;
+    }
+
+    /**
+     * Per-player zone membership, kept current from player movement events.
+     */
+    ZoneMembershipTracker getZoneMembershipTracker() {
+        return this.zoneMembershipTracker;
     }
 
     public int getSpatialIndexExtraChunks() {
@@ -3093,89 +3136,80 @@ extends JavaPlugin {
         return Math.sqrt(dx * dx + dz * dz) / 16.0;
     }
 
+    /**
+     * Schedule a full index rebuild. Used for bulk loads and reloads; single zone changes
+     * go through {@link #refreshCapturePointSpatialIndex(String)}.
+     */
     public void invalidateCapturePointSpatialIndex() {
         this.capturePointSpatialIndexDirty = true;
+        ZoneGeometry.clear();
+        this.boundaryRenderer.invalidate(null);
+        this.zoneMembershipTracker.invalidate();
     }
 
-    private synchronized void rebuildCapturePointSpatialIndexIfNeeded() {
-        if (!this.capturePointSpatialIndexDirty) {
-            return;
-        }
-
-        Map<UUID, Map<Long, List<CapturePoint>>> newSpatialIndex = new HashMap<>();
-        Map<UUID, List<CapturePoint>> newPointsByWorld = new HashMap<>();
-        List<CapturePoint> snapshot = new ArrayList<>(this.capturePoints.values());
-        int maxExtraChunks = calculateSpatialIndexExtraChunks(snapshot);
-
-        for (CapturePoint point : snapshot) {
-            if (point == null || point.getLocation() == null || point.getLocation().getWorld() == null) {
-                continue;
-            }
-
-            Location center = point.getLocation();
-            UUID worldId = center.getWorld().getUID();
-            newPointsByWorld.computeIfAbsent(worldId, key -> new ArrayList<>()).add(point);
-
-            Map<Long, List<CapturePoint>> worldIndex = newSpatialIndex.computeIfAbsent(worldId, key -> new HashMap<>());
-            int minChunkX = point.getSpatialMinChunkX(0);
-            int maxChunkX = point.getSpatialMaxChunkX(0);
-            int minChunkZ = point.getSpatialMinChunkZ(0);
-            int maxChunkZ = point.getSpatialMaxChunkZ(0);
-
-            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
-                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
-                    long chunkKey = toChunkKey(chunkX, chunkZ);
-                    worldIndex.computeIfAbsent(chunkKey, key -> new ArrayList<>()).add(point);
-                }
-            }
-        }
-
-        this.capturePointSpatialIndex.clear();
-        this.capturePointSpatialIndex.putAll(newSpatialIndex);
-        this.capturePointsByWorld.clear();
-        this.capturePointsByWorld.putAll(newPointsByWorld);
-        this.capturePointSpatialIndexExtraChunks = maxExtraChunks;
-        this.capturePointSpatialIndexDirty = false;
+    /**
+     * Re-index one capture point after it was created, deleted, or its bounds or buffer settings changed.
+     */
+    public void refreshCapturePointSpatialIndex(String pointId) {
+        refreshCapturePointSpatialIndex(pointId, true);
     }
 
-    private int calculateSpatialIndexExtraChunks(List<CapturePoint> points) {
-        int maxExtra = DEFAULT_SPATIAL_INDEX_EXTRA_CHUNKS;
-        if (this.zoneConfigManager == null || points == null || points.isEmpty()) {
-            return maxExtra;
+    /**
+     * @param resyncBar false when the caller resyncs every bar itself afterwards, as a reload does
+     */
+    private synchronized void refreshCapturePointSpatialIndex(String pointId, boolean resyncBar) {
+        this.zoneMembershipTracker.invalidate();
+        ZoneGeometry.invalidate(pointId != null ? pointId.trim() : null);
+        this.boundaryRenderer.invalidate(pointId != null ? pointId.trim() : null);
+        if (resyncBar) {
+            resyncBossBarAudience(pointId != null ? pointId.trim() : null);
+        }
+        if (pointId == null || pointId.trim().isEmpty() || this.capturePointSpatialIndexDirty) {
+            // A pending full rebuild will pick the change up.
+            return;
         }
-
-        for (CapturePoint point : points) {
-            if (point == null) {
-                continue;
-            }
-
-            try {
-                boolean bufferEnabled = this.zoneConfigManager.getBoolean(
-                    point.getId(),
-                    "protection.buffer-zone.enabled",
-                    true
-                );
-                if (!bufferEnabled) {
-                    continue;
-                }
-                int bufferSize = this.zoneConfigManager.getInt(
-                    point.getId(),
-                    "protection.buffer-zone.size",
-                    1
-                );
-                if (bufferSize > maxExtra) {
-                    maxExtra = bufferSize;
-                }
-            } catch (Exception ignored) {
-                // Keep safe default for index sizing.
-            }
+        String normalizedPointId = pointId.trim();
+        CapturePoint point = this.capturePoints.get(normalizedPointId);
+        if (point == null) {
+            this.capturePointSpatialIndex.remove(normalizedPointId);
+        } else {
+            this.capturePointSpatialIndex.update(point, resolveSpatialIndexBufferChunks(point));
+        }
+        this.capturePointSpatialIndexExtraChunks = Math.max(
+            DEFAULT_SPATIAL_INDEX_EXTRA_CHUNKS,
+            this.capturePointSpatialIndex.getMaxBufferChunks()
+        );
+    }
+
+    private synchronized void rebuildCapturePointSpatialIndexIfNeeded() {
+        if (!this.capturePointSpatialIndexDirty) {
+            return;
         }
 
-        return Math.max(DEFAULT_SPATIAL_INDEX_EXTRA_CHUNKS, maxExtra);
+        this.capturePointSpatialIndex.clear();
+        for (CapturePoint point : new ArrayList<>(this.capturePoints.values())) {
+            if (point != null) {
+                this.capturePointSpatialIndex.update(point, resolveSpatialIndexBufferChunks(point));
+            }
+        }
+        this.capturePointSpatialIndexExtraChunks = Math.max(
+            DEFAULT_SPATIAL_INDEX_EXTRA_CHUNKS,
+            this.capturePointSpatialIndex.getMaxBufferChunks()
+        );
+        this.capturePointSpatialIndexDirty = false;
     }
 
-    private long toChunkKey(int chunkX, int chunkZ) {
-        return ((long) chunkX << 32) ^ (chunkZ & 0xFFFFFFFFL);
+    private int resolveSpatialIndexBufferChunks(CapturePoint point) {
+        if (this.zoneConfigManager == null || point == null) {
+            return 0;
+        }
+        try {
+            ZoneSettings settings = this.zoneConfigManager.getZoneSettings(point.getId());
+            return settings != null ? Math.max(0, settings.effectiveBufferChunks()) : 0;
+        } catch (Exception ignored) {
+            // Keep safe default for index sizing.
+            return 0;
+        }
     }
 
     public boolean isWithinChunkRadius(Location center, Location target, int chunkRadius) {
@@ -3211,25 +3245,7 @@ extends JavaPlugin {
         ON, REDUCED, OFF
     }
 
-    private static class BoundaryVisualSettings {
-        final int minSides;
-        final double sidesMultiplier;
-        final int minHeight;
-        final int maxHeight;
-        final int visibilityRangeChunks;
-        final long intervalTicks;
-
-        BoundaryVisualSettings(int minSides, double sidesMultiplier, int minHeight, int maxHeight, int visibilityRangeChunks, long intervalTicks) {
-            this.minSides = minSides;
-            this.sidesMultiplier = sidesMultiplier;
-            this.minHeight = minHeight;
-            this.maxHeight = maxHeight;
-            this.visibilityRangeChunks = visibilityRangeChunks;
-            this.intervalTicks = intervalTicks;
-        }
-    }
-
-    private boolean shouldShowBossBarToPlayer(CapturePoint point, Player player, int extraChunks) {
+    private boolean shouldShowBossBarToPlayer(CapturePoint point, Player player, Location location, int extraChunks) {
         if (point == null || player == null || !player.isOnline()) {
             return false;
         }
@@ -3242,22 +3258,23 @@ extends JavaPlugin {
         if (extraChunks < 0) {
             return true;
         }
-        return isWithinZone(point, player.getLocation(), extraChunks);
+        return isWithinZone(point, location != null ? location : player.getLocation(), extraChunks);
     }
 
     private boolean shouldShowPreparationBossBarToPlayer(
         CapturePoint point,
         CaptureOwner owner,
         Player player,
+        Location location,
         int extraChunks
     ) {
         if (owner == null || !doesPlayerMatchOwner(player, owner)) {
             return false;
         }
-        return shouldShowBossBarToPlayer(point, player, extraChunks);
+        return shouldShowBossBarToPlayer(point, player, location, extraChunks);
     }
 
-    private boolean shouldPlayerSeeBossBarForPoint(Player player, String pointId) {
+    private boolean shouldPlayerSeeBossBarForPoint(Player player, String pointId, Location location) {
         if (player == null || pointId == null || pointId.isEmpty()) {
             return false;
         }
@@ -3269,38 +3286,58 @@ extends JavaPlugin {
         CaptureSession session = this.activeSessions.get(pointId);
         if (session != null && session.isInPreparationPhase()) {
             CaptureOwner owner = session.getOwner();
-            return shouldShowPreparationBossBarToPlayer(point, owner, player, visibilityExtraChunks);
+            return shouldShowPreparationBossBarToPlayer(point, owner, player, location, visibilityExtraChunks);
         }
-        return shouldShowBossBarToPlayer(point, player, visibilityExtraChunks);
+        return shouldShowBossBarToPlayer(point, player, location, visibilityExtraChunks);
     }
 
+    /**
+     * Re-evaluate a bar for every online player. Only needed when the bar is created or its
+     * audience rule changes (preparation is owner-only, capture and grace are not); everything
+     * else goes through {@link #refreshBossBarAudienceForPlayer(Player, Location, Location)}.
+     */
     private void syncBossBarAudience(BossBar bossBar, CapturePoint point, CaptureOwner owner, boolean ownerOnly) {
-        if (bossBar == null || point == null) {
+        if (bossBar == null || point == null || point.getId() == null) {
             return;
         }
-        String pointId = point.getId();
-        if (pointId != null) {
-            long now = System.currentTimeMillis();
-            long lastSync = this.lastBossBarAudienceSyncAt.getOrDefault(pointId, 0L);
-            if ((now - lastSync) < BOSSBAR_AUDIENCE_SYNC_INTERVAL_MS) {
-                return;
-            }
-            this.lastBossBarAudienceSyncAt.put(pointId, now);
-        }
-
         int visibilityExtraChunks = resolveBossbarVisibilityExtraChunks();
         for (Player online : Bukkit.getOnlinePlayers()) {
             boolean shouldShow = ownerOnly
-                ? shouldShowPreparationBossBarToPlayer(point, owner, online, visibilityExtraChunks)
-                : shouldShowBossBarToPlayer(point, online, visibilityExtraChunks);
-            if (shouldShow) {
-                bossBar.addPlayer(online);
-            } else {
-                bossBar.removePlayer(online);
+                ? shouldShowPreparationBossBarToPlayer(point, owner, online, null, visibilityExtraChunks)
+                : shouldShowBossBarToPlayer(point, online, null, visibilityExtraChunks);
+            this.bossBarAudiences.apply(point.getId(), bossBar, online, shouldShow);
+        }
+    }
+
+    /**
+     * Re-evaluate every active bar for every online player, after zone bounds or the bossbar
+     * visibility radius changed.
+     */
+    public void resyncBossBarAudiences() {
+        if (this.captureBossBars.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, BossBar>> bars = new ArrayList<>(this.captureBossBars.entrySet());
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            for (Map.Entry<String, BossBar> entry : bars) {
+                applyBossBarVisibility(online, entry.getKey(), entry.getValue(), null);
             }
         }
     }
 
+    /**
+     * Re-evaluate one point's bar for every online player, after that point's bounds changed.
+     */
+    private void resyncBossBarAudience(String pointId) {
+        BossBar bossBar = pointId != null ? this.captureBossBars.get(pointId) : null;
+        if (bossBar == null) {
+            return;
+        }
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            applyBossBarVisibility(online, pointId, bossBar, null);
+        }
+    }
+
     public void showBossBarForPlayer(Player player) {
         if (player == null) {
             return;
@@ -3313,20 +3350,17 @@ extends JavaPlugin {
     }
 
     public void removePlayerFromAllBossBars(Player player) {
-        if (player == null) {
-            return;
-        }
-        for (BossBar bossBar : this.captureBossBars.values()) {
-            if (bossBar != null) {
-                bossBar.removePlayer(player);
-            }
-        }
+        this.bossBarAudiences.removePlayer(player, this.captureBossBars);
     }
 
     public void refreshBossBarAudienceForPlayer(Player player) {
         refreshBossBarAudienceForPlayer(player, null, null);
     }
 
+    /**
+     * Update the bars one player sees after they moved from {@code from} to {@code to}. Only
+     * zones near either location and bars the player already sees are checked.
+     */
     public void refreshBossBarAudienceForPlayer(Player player, Location from, Location to) {
         if (player == null) {
             return;
@@ -3340,47 +3374,48 @@ extends JavaPlugin {
             return;
         }
 
+        if (to == null) {
+            to = player.getLocation();
+        }
         int visibilityExtraChunks = resolveBossbarVisibilityExtraChunks();
-        Set<String> candidatePointIds = new LinkedHashSet<>();
         if (visibilityExtraChunks < 0) {
-            candidatePointIds.addAll(this.captureBossBars.keySet());
-        } else {
-            if (from == null && to == null) {
-                to = player.getLocation();
-            }
-            if (to != null) {
-                for (CapturePoint point : getCandidateCapturePoints(to, visibilityExtraChunks)) {
-                    if (point != null && point.getId() != null) {
-                        candidatePointIds.add(point.getId());
-                    }
-                }
+            for (Map.Entry<String, BossBar> entry : new ArrayList<>(this.captureBossBars.entrySet())) {
+                applyBossBarVisibility(player, entry.getKey(), entry.getValue(), to);
             }
-            if (from != null) {
-                for (CapturePoint point : getCandidateCapturePoints(from, visibilityExtraChunks)) {
-                    if (point != null && point.getId() != null) {
-                        candidatePointIds.add(point.getId());
-                    }
-                }
-            }
-            for (Map.Entry<String, BossBar> entry : this.captureBossBars.entrySet()) {
-                BossBar bossBar = entry.getValue();
-                if (bossBar != null && bossBar.getPlayers().contains(player)) {
-                    candidatePointIds.add(entry.getKey());
+            return;
+        }
+
+        CapturePointSpatialIndex index = getCapturePointSpatialIndex();
+        int[] toSlots = index.lookup(to, visibilityExtraChunks);
+        int[] fromSlots = from != null ? index.lookup(from, visibilityExtraChunks) : CapturePointSpatialIndex.NO_SLOTS;
+        for (int slot : toSlots) {
+            applyBossBarVisibility(player, index.pointAt(slot), to);
+        }
+        if (fromSlots != toSlots) {
+            for (int slot : fromSlots) {
+                if (!CapturePointSpatialIndex.containsSlot(toSlots, slot)) {
+                    applyBossBarVisibility(player, index.pointAt(slot), to);
                 }
             }
         }
+        // Bars the player already sees for zones outside both lookups still need a visibility check.
+        for (String pointId : this.bossBarAudiences.viewedBy(player.getUniqueId())) {
+            applyBossBarVisibility(player, pointId, this.captureBossBars.get(pointId), to);
+        }
+    }
 
-        for (String pointId : candidatePointIds) {
-            BossBar bossBar = this.captureBossBars.get(pointId);
-            if (bossBar == null) {
-                continue;
-            }
-            if (shouldPlayerSeeBossBarForPoint(player, pointId)) {
-                bossBar.addPlayer(player);
-            } else {
-                bossBar.removePlayer(player);
-            }
+    private void applyBossBarVisibility(Player player, CapturePoint point, Location location) {
+        if (point != null && point.getId() != null) {
+            String pointId = point.getId();
+            applyBossBarVisibility(player, pointId, this.captureBossBars.get(pointId), location);
+        }
+    }
+
+    private void applyBossBarVisibility(Player player, String pointId, BossBar bossBar, Location location) {
+        if (bossBar == null) {
+            return;
         }
+        this.bossBarAudiences.apply(pointId, bossBar, player, shouldPlayerSeeBossBarForPoint(player, pointId, location));
     }
 
     public boolean isNotificationsDisabled(Player player) {
@@ -4082,9 +4117,188 @@ extends JavaPlugin {
         }
     }
 
+    /**
+     * Reload only the configuration files that changed since the last load, keeping active
+     * captures running. Changed files are found and parsed off the main thread; the result is
+     * applied here in one pass, or not at all when any of them fails to parse.
+     *
+     * @param callback runs on the main thread with the plan (null when another reload is still
+     *                 running) or the error that stopped it
+     */
+    void reloadChanged(BiConsumer<StagedReload.Plan, Throwable> callback) {
+        if (this.stagedReload == null) {
+            this.stagedReload = new StagedReload(getDataFolder(), this.dataMigrationManager);
+        }
+        StagedReload reload = this.stagedReload;
+        List<String> zoneIds = new ArrayList<>(this.capturePoints.keySet());
+        reload.stage(zoneIds, this.dataStorage instanceof FlatFileDataStorage).whenComplete((plan, error) ->
+            Bukkit.getScheduler().runTask(this, () -> {
+                if (error != null) {
+                    callback.accept(null, error.getCause() != null ? error.getCause() : error);
+                    return;
+                }
+                if (plan == null) {
+                    callback.accept(null, null);
+                    return;
+                }
+                if (!plan.errors.isEmpty()) {
+                    reload.finish(plan, false);
+                    for (String failure : plan.errors) {
+                        getLogger().warning("Reload cancelled, could not parse " + failure);
+                    }
+                    callback.accept(plan, null);
+                    return;
+                }
+                try {
+                    applyStagedReload(plan);
+                    reload.finish(plan, true);
+                } catch (RuntimeException e) {
+                    reload.finish(plan, false);
+                    getLogger().warning("Failed to apply reloaded configuration: " + e.getMessage());
+                    callback.accept(plan, e);
+                    return;
+                }
+                callback.accept(plan, null);
+            }));
+    }
+
+    /**
+     * Apply a staged reload. Sessions, bossbars and capture tasks are left running; sessions
+     * pick up recompiled zone settings through {@link #refreshCapturePolicies(String)}, and only
+     * the components whose config.yml section changed are restarted.
+     */
+    private void applyStagedReload(StagedReload.Plan plan) {
+        if (plan.isEmpty()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        if (plan.configChanged) {
+            installConfig(plan.config);
+            if (plan.configSectionChanged("towny") || plan.configSectionChanged("capture-owners")) {
+                getLogger().warning("Owner platform settings changed; run '/cap admin reload full' to apply them.");
+            }
+            if (plan.configSectionChanged("storage") || plan.configSectionChanged("journal")) {
+                getLogger().warning("Storage and journal settings only take effect after a restart.");
+            }
+        }
+        for (Map.Entry<String, JsonObject> language : plan.languages.entrySet()) {
+            Messages.applyLanguage(language.getKey(), language.getValue());
+        }
+        if (plan.languages.isEmpty() && plan.configSectionChanged("settings")) {
+            Messages.setActiveLanguage(this.config.getString("settings.language", "en"));
+        }
+
+        boolean recompileAllZones = plan.configChanged || plan.templateChanged;
+        if (this.zoneConfigManager != null) {
+            if (plan.templateChanged) {
+                this.zoneConfigManager.reloadDefaults();
+            }
+            for (Map.Entry<String, YamlConfiguration> zone : plan.zoneConfigs.entrySet()) {
+                if (!this.capturePoints.containsKey(zone.getKey())) {
+                    continue;
+                }
+                this.zoneConfigManager.applyZoneConfig(zone.getKey(), zone.getValue());
+                if (!recompileAllZones) {
+                    // Bars are resynced once below, not per zone.
+                    refreshCapturePointSpatialIndex(zone.getKey(), false);
+                }
+            }
+            if (recompileAllZones) {
+                this.zoneConfigManager.recompileAllSettings();
+                invalidateCapturePointSpatialIndex();
+            }
+            for (String failure : this.stagedReload.saveMigratedZones(plan)) {
+                getLogger().warning("Could not save migrated zone config " + failure);
+            }
+        } else if (plan.configChanged) {
+            refreshCapturePolicies(null);
+        }
+
+        if (plan.configChanged) {
+            restartChangedComponents(plan);
+        }
+        if (this.shopManager != null) {
+            for (Map.Entry<String, YamlConfiguration> shop : plan.shops.entrySet()) {
+                this.shopManager.replaceShop(ShopData.fromConfig(shop.getKey(), shop.getValue()));
+            }
+        }
+        if (recompileAllZones || !plan.zoneConfigs.isEmpty()) {
+            invalidateHourlyRewardSchedule();
+        }
+        if (plan.configChanged || !plan.zoneConfigs.isEmpty()) {
+            resyncBossBarAudiences();
+        }
+        if (this.hasMapProviders()) {
+            this.updateAllMarkers();
+        }
+        this.updateAllHolograms();
+
+        long mainThreadMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        getLogger().info("Reloaded " + plan.describe() + " in " + mainThreadMillis + " ms on the main thread; "
+            + this.activeSessions.size() + " active capture(s) kept.");
+    }
+
+    private void restartChangedComponents(StagedReload.Plan plan) {
+        if (plan.configSectionChanged("discord") && this.discordWebhook != null) {
+            this.discordWebhook.loadConfig();
+        }
+        if (plan.configSectionChanged("shops")) {
+            setupShopSystem();
+        }
+        if (plan.configSectionChanged("koth")) {
+            setupKothManager();
+        }
+        if (plan.configSectionChanged("dynmap") || plan.configSectionChanged("bluemap")) {
+            cleanupMapProviders();
+            setupMapProviders();
+        }
+        if (plan.configSectionChanged("holograms")) {
+            setupHolograms();
+        }
+        if (plan.configSectionChanged("reinforcements") && this.reinforcementListener != null) {
+            setupMobSpawner();
+        }
+        if (plan.configSectionChanged("statistics") && this.statisticsManager != null) {
+            startStatisticsAutoSaveTask();
+        }
+        if (plan.configSectionChanged("settings")) {
+            this.hudOutput.loadConfig();
+            startSessionTimeoutChecker();
+            startAutoSave();
+        }
+        if (plan.configSectionChanged("boundary-visuals") || plan.configSectionChanged("settings")) {
+            cancelAllBoundaryTasks();
+            if (boundariesEnabled() && this.config.getBoolean("settings.auto-show-boundaries", true)) {
+                for (Player player : Bukkit.getOnlinePlayers()) {
+                    this.autoShowBoundariesForPlayer(player);
+                }
+            }
+        }
+    }
+
+    StagedReload getStagedReload() {
+        return this.stagedReload;
+    }
+
+    /**
+     * Remember the files on disk as loaded, so the next staged reload only picks up later edits.
+     */
+    private void captureReloadBaseline() {
+        if (this.stagedReload == null) {
+            this.stagedReload = new StagedReload(getDataFolder(), this.dataMigrationManager);
+        }
+        this.stagedReload.captureBaseline(new ArrayList<>(this.capturePoints.keySet()),
+            this.dataStorage instanceof FlatFileDataStorage);
+    }
+
+    /**
+     * Full reload: stops every capture, re-reads all files including capture_points.yml and
+     * restarts every component. {@link #reloadChanged} is the non-disruptive alternative.
+     */
     public void reloadAll() {
         this.reloadConfig();
         this.config = this.getConfig();
+        this.hudOutput.loadConfig();
         cleanupActiveCapturesForLifecycle("reload");
         removeAllCaptureBossBars();
         cancelAllCaptureTasks();
@@ -4094,6 +4308,7 @@ extends JavaPlugin {
         this.flushPendingCapturePointSave();
         cancelTask(this.capturePointSaveTask);
         this.capturePointSaveTask = null;
+        flushCapturePointStore();
         this.fullMarkerRefreshQueued = false;
         this.fullHologramRefreshQueued = false;
         this.dirtyMarkerPointIds.clear();
@@ -4161,6 +4376,7 @@ extends JavaPlugin {
                 this.autoShowBoundariesForPlayer(player);
             }
         }
+        captureReloadBaseline();
     }
 
     /**
@@ -4197,6 +4413,7 @@ extends JavaPlugin {
         }
 
         // Core schema migration (config first, then other owned files)
+        flushCapturePointStore();
         this.dataMigrationManager.migrateCoreFiles(this.capturePointsFile);
 
         // Zone schema repair (template + every zone config)
@@ -4363,86 +4580,41 @@ extends JavaPlugin {
             if (this.capturePointsFile == null) {
                 this.capturePointsFile = new File(this.getDataFolder(), "capture_points.yml");
             }
-            File file = this.capturePointsFile;
-            if (!file.exists()) {
-                file.createNewFile();
-            }
-            YamlConfiguration config = new YamlConfiguration();
-            config.options().header(
-                "AUTO-GENERATED FILE - DO NOT EDIT UNLESS YOU KNOW WHAT YOU ARE DOING.\n" +
-                "This file stores capture zone state and metadata."
-            );
-            ConfigurationSection resetSection = config.createSection("metadata.weekly-reset-epoch-days");
-            for (Map.Entry<String, Long> entry : this.lastWeeklyResetEpochDays.entrySet()) {
-                resetSection.set(entry.getKey(), entry.getValue());
-            }
+            List<CapturePointStore.PointRecord> changed = new ArrayList<>();
             for (Map.Entry<String, CapturePoint> entry : this.capturePoints.entrySet()) {
-                String path = "points." + entry.getKey();
-                CapturePoint point = entry.getValue();
-                config.set(path + ".name", (Object)point.getName());
-                config.set(path + ".world", (Object)point.getWorldUUID().toString());
-                config.set(path + ".x", (Object)point.getLocation().getX());
-                config.set(path + ".y", (Object)point.getLocation().getY());
-                config.set(path + ".z", (Object)point.getLocation().getZ());
-                config.set(path + ".radius", (Object)point.getChunkRadius());
-                config.set(path + ".shape", point.getShapeType().name().toLowerCase());
-                config.set(path + ".cuboid.min.x", point.getCuboidMinX());
-                config.set(path + ".cuboid.min.y", point.getCuboidMinY());
-                config.set(path + ".cuboid.min.z", point.getCuboidMinZ());
-                config.set(path + ".cuboid.max.x", point.getCuboidMaxX());
-                config.set(path + ".cuboid.max.y", point.getCuboidMaxY());
-                config.set(path + ".cuboid.max.z", point.getCuboidMaxZ());
-                config.set(path + ".reward", (Object)point.getReward());
-                config.set(path + ".controllingTown", (Object)point.getControllingTown());
-                CaptureOwner controllingOwner = point.getControllingOwner();
-                if (controllingOwner != null) {
-                    config.set(path + ".owner.type", controllingOwner.getType().name().toLowerCase());
-                    config.set(path + ".owner.id", controllingOwner.getId());
-                    config.set(path + ".owner.displayName", controllingOwner.getDisplayName());
-                } else {
-                    config.set(path + ".owner.type", this.defaultOwnerType.name().toLowerCase());
-                    config.set(path + ".owner.id", null);
-                    config.set(path + ".owner.displayName", point.getControllingTown());
-                }
-                CaptureOwner capturingOwner = point.getCapturingOwner();
-                if (capturingOwner != null) {
-                    config.set(path + ".capturingOwner.type", capturingOwner.getType().name().toLowerCase());
-                    config.set(path + ".capturingOwner.id", capturingOwner.getId());
-                    config.set(path + ".capturingOwner.displayName", capturingOwner.getDisplayName());
-                } else {
-                    config.set(path + ".capturingOwner.type", this.defaultOwnerType.name().toLowerCase());
-                    config.set(path + ".capturingOwner.id", null);
-                    config.set(path + ".capturingOwner.displayName", point.getCapturingTown());
+                int fields = entry.getValue().consumeDirtyMask();
+                if (!this.persistedCapturePointIds.contains(entry.getKey())) {
+                    fields = CapturePoint.DIRTY_ALL;
                 }
-                config.set(path + ".type", (Object)point.getType());
-                config.set(path + ".showOnMap", (Object)point.isShowOnMap());
-                config.set(path + ".lastCaptureTime", (Object)point.getLastCaptureTime());
-                config.set(path + ".cooldowns.zone-cooldown-until", point.getCooldownUntilTime());
-                CaptureOwner previousOwnerLock = point.getRecaptureLockPreviousOwner();
-                if (previousOwnerLock != null) {
-                    config.set(path + ".cooldowns.recapture.previous-owner.type", previousOwnerLock.getType().name().toLowerCase());
-                    config.set(path + ".cooldowns.recapture.previous-owner.id", previousOwnerLock.getId());
-                    config.set(path + ".cooldowns.recapture.previous-owner.displayName", previousOwnerLock.getDisplayName());
-                } else {
-                    config.set(path + ".cooldowns.recapture.previous-owner.type", this.defaultOwnerType.name().toLowerCase());
-                    config.set(path + ".cooldowns.recapture.previous-owner.id", null);
-                    config.set(path + ".cooldowns.recapture.previous-owner.displayName", null);
+                if (fields != 0) {
+                    changed.add(new CapturePointStore.PointRecord(entry.getKey(), entry.getValue(), fields));
                 }
-                config.set(path + ".cooldowns.recapture.previous-owner.until", point.getRecaptureLockPreviousOwnerUntilTime());
-                CaptureOwner previousAttackerLock = point.getRecaptureLockPreviousAttacker();
-                if (previousAttackerLock != null) {
-                    config.set(path + ".cooldowns.recapture.previous-attacker.type", previousAttackerLock.getType().name().toLowerCase());
-                    config.set(path + ".cooldowns.recapture.previous-attacker.id", previousAttackerLock.getId());
-                    config.set(path + ".cooldowns.recapture.previous-attacker.displayName", previousAttackerLock.getDisplayName());
-                } else {
-                    config.set(path + ".cooldowns.recapture.previous-attacker.type", this.defaultOwnerType.name().toLowerCase());
-                    config.set(path + ".cooldowns.recapture.previous-attacker.id", null);
-                    config.set(path + ".cooldowns.recapture.previous-attacker.displayName", null);
+            }
+            List<String> removed = new ArrayList<>();
+            for (String id : this.persistedCapturePointIds) {
+                if (!this.capturePoints.containsKey(id)) {
+                    removed.add(id);
                 }
-                config.set(path + ".cooldowns.recapture.previous-attacker.until", point.getRecaptureLockPreviousAttackerUntilTime());
-                config.set(path + ".firstCaptureBonusAvailable", point.isFirstCaptureBonusAvailable());
             }
-            config.save(file);
+            Map<String, Long> weeklyReset = this.lastWeeklyResetEpochDays.equals(this.persistedWeeklyResetEpochDays)
+                ? null
+                : this.lastWeeklyResetEpochDays;
+            CapturePointStore.Delta delta = new CapturePointStore.Delta(
+                this.defaultOwnerType.name().toLowerCase(),
+                changed,
+                removed,
+                weeklyReset
+            );
+            if (delta.isEmpty()) {
+                return;
+            }
+            this.persistedCapturePointIds.clear();
+            this.persistedCapturePointIds.addAll(this.capturePoints.keySet());
+            if (weeklyReset != null) {
+                this.persistedWeeklyResetEpochDays.clear();
+                this.persistedWeeklyResetEpochDays.putAll(weeklyReset);
+            }
+            this.capturePointStore.submit(delta);
         }
         catch (Exception e) {
             this.getLogger().severe("Failed to save capture zones: " + e.getMessage());
@@ -4450,18 +4622,27 @@ extends JavaPlugin {
         }
     }
 
+    /**
+     * Fold the capture point journal into capture_points.yml and wait for it, so the file
+     * alone holds the full state for migration and repair.
+     */
+    void flushCapturePointStore() {
+        this.capturePointStore.flush();
+    }
+
     public void loadCapturePoints() {
         try {
             invalidateCapturePointSpatialIndex();
             if (this.capturePointsFile == null) {
                 this.capturePointsFile = new File(this.getDataFolder(), "capture_points.yml");
             }
-            File file = this.capturePointsFile;
-            if (!file.exists()) {
-                return;
-            }
+            this.persistedCapturePointIds.clear();
+            this.persistedWeeklyResetEpochDays.clear();
             YamlConfiguration config = new YamlConfiguration();
-            config.load(file);
+            int replayed = this.capturePointStore.load(config);
+            if (replayed > 0) {
+                this.getLogger().info("Replayed " + replayed + " capture zone journal entries.");
+            }
             this.lastWeeklyResetEpochDays.clear();
             ConfigurationSection resetSection = config.getConfigurationSection("metadata.weekly-reset-epoch-days");
             if (resetSection != null) {
@@ -4469,6 +4650,7 @@ extends JavaPlugin {
                     this.lastWeeklyResetEpochDays.put(key, resetSection.getLong(key, -1L));
                 }
             }
+            this.persistedWeeklyResetEpochDays.putAll(this.lastWeeklyResetEpochDays);
             long legacyReset = config.getLong("metadata.lastWeeklyResetEpochDay", -1L);
             ConfigurationSection pointsSection = config.getConfigurationSection("points");
             if (pointsSection == null) {
@@ -4579,7 +4761,9 @@ extends JavaPlugin {
                     if (!this.lastWeeklyResetEpochDays.containsKey(id) && legacyReset >= 0L) {
                         this.lastWeeklyResetEpochDays.put(id, legacyReset);
                     }
+                    point.consumeDirtyMask();
                     this.capturePoints.put(id, point);
+                    this.persistedCapturePointIds.add(id);
                     this.getLogger().info("Loaded capture zone: " + name);
                 } catch (IllegalArgumentException pointLoadError) {
                     this.getLogger().warning("Invalid capture zone entry '" + id + "': " + pointLoadError.getMessage());
@@ -4734,14 +4918,7 @@ extends JavaPlugin {
             if (areOwnersEquivalent(existingSession.getOwner(), owner) ||
                 existingSession.getTownName().equalsIgnoreCase(ownerName)) {
                 existingSession.getPlayers().add(player);
-                BossBar bossBar = captureBossBars.get(pointId);
-                if (bossBar != null) {
-                    if (shouldPlayerSeeBossBarForPoint(player, pointId)) {
-                        bossBar.addPlayer(player);
-                    } else {
-                        bossBar.removePlayer(player);
-                    }
-                }
+                applyBossBarVisibility(player, pointId, captureBossBars.get(pointId), locationForCaptureAttempt);
                 player.sendMessage(Messages.get("messages.capture.joined-own", Map.of("point", point.getName())));
                 return true;
             }
@@ -4825,6 +5002,7 @@ extends JavaPlugin {
 
         // Create capture session
         CaptureSession session = new CaptureSession(point, owner, player, preparationTime, captureTime);
+        session.setPolicy(new CapturePolicy(this, pointId));
         session.getPlayers().add(player);
         activeSessions.put(pointId, session);
         
@@ -4864,7 +5042,7 @@ extends JavaPlugin {
 
         // Start preparation task
         final BossBar preparationBossBar = bossBar;
-        BukkitTask prepTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
+        CaptureTickEngine.Ticket prepTask = this.captureTickEngine.schedule("preparation:" + pointId, () -> {
             if (!session.isActive()) {
                 return;
             }
@@ -4878,14 +5056,9 @@ extends JavaPlugin {
             session.decrementPreparationTime();
             int timeLeft = session.getRemainingPreparationTime();
 
+            CapturePolicy policy = policyFor(session);
             if (preparationBossBar != null) {
-                if (isBossbarEnabled(pointId)) {
-                    preparationBossBar.setVisible(true);
-                    syncBossBarAudience(preparationBossBar, point, activeOwner, true);
-                } else {
-                    preparationBossBar.setVisible(false);
-                    preparationBossBar.removeAll();
-                }
+                this.hudOutput.setVisible(preparationBossBar, policy.zone.bossbarEnabled);
             }
             
             if (timeLeft <= 0) {
@@ -4896,14 +5069,11 @@ extends JavaPlugin {
 
             if (showCountdown && preparationBossBar != null) {
                 // Update boss bar with preparation time
-                String title = Messages.get("bossbar.preparation-timer", Map.of(
-                    "zone", point.getName(),
-                    "time", formatTime(timeLeft)
-                ));
-                preparationBossBar.setTitle(title);
-                preparationBossBar.setProgress(Math.max(0.0, (double)timeLeft / session.getInitialPreparationTime()));
+                String title = policy.preparationTitle.render(null, point.getName(), timeLeft, 0, 0, null);
+                this.hudOutput.updateBossBar(preparationBossBar, title,
+                    (double) timeLeft / Math.max(1, session.getInitialPreparationTime()), null);
             }
-        }, 20L, 20L);
+        });
 
         // Store preparation task
         captureTasks.put(pointId, prepTask);
@@ -4920,30 +5090,30 @@ extends JavaPlugin {
         }
 
         // Cancel the preparation task first
-        BukkitTask prepTask = captureTasks.get(pointId);
-        if (prepTask != null && !prepTask.isCancelled()) {
-            prepTask.cancel();
-        }
+        cancelTask(captureTasks.get(pointId));
 
         // Start capture phase first
         session.startCapturePhase();
         point.setCapturingOwner(owner);
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_PHASE)
+            .with("zone", pointId)
+            .with("owner", ownerName)
+            .with("phase", "capture"));
         setBeaconBeamGlass(point, CAPTURE_BEAM_GLASS);
-        this.captureProgressSoundBuckets.put(pointId, Math.max(0, session.getRemainingCaptureTime()) / 60);
+        policyFor(session).progressSoundBucket =
+            Math.max(0, session.getRemainingCaptureTime()) / CapturePolicy.PROGRESS_SOUND_BUCKET_SECONDS;
 
         // Update boss bar
         BossBar bossBar = captureBossBars.get(pointId);
         if (bossBar != null) {
-            boolean showCountdown = isCaptureCountdownEnabled(pointId);
             String title = resolveCaptureBossbarTitle(
                 point,
                 session,
                 ownerName,
                 session.getRemainingCaptureTime(),
-                showCountdown
+                policyFor(session).zone.captureCountdownEnabled
             );
-            bossBar.setTitle(title);
-            bossBar.setColor(resolveCaptureBossbarColor(pointId, session));
+            this.hudOutput.updateBossBar(bossBar, title, null, resolveCaptureBossbarColor(pointId, session));
             syncBossBarAudience(bossBar, point, null, false);
         }
 
@@ -4962,81 +5132,34 @@ extends JavaPlugin {
             reinforcementListener.startReinforcementWaves(pointId, point);
         }
 
-        ZoneConfigManager zoneManager = this.zoneConfigManager;
-        boolean contestedEnabled = zoneManager != null
-            ? zoneManager.getBoolean(pointId, "capture-conditions.contested.enabled", false)
-            : this.config.getBoolean("capture-conditions.contested.enabled", false);
-        boolean graceEnabled = isGraceTimerEnabled(pointId);
-        boolean speedModifiersEnabled = isCaptureSpeedModifiersEnabled(pointId);
-        boolean speedPlayerScalingEnabled = speedModifiersEnabled && isCaptureSpeedPlayerScalingEnabled(pointId);
-        double speedFlatMultiplier = 1.0;
-        double speedMinMultiplier = 0.1;
-        double speedMaxMultiplier = 5.0;
-        int speedMaxExtraPlayers = 4;
-        double speedPerExtraPlayer = 0.25;
-        if (speedModifiersEnabled) {
-            speedFlatMultiplier = zoneManager != null
-                ? zoneManager.getDouble(pointId, "capture-conditions.speed-modifiers.flat-multiplier", 1.0)
-                : this.config.getDouble("capture-conditions.speed-modifiers.flat-multiplier", 1.0);
-            speedMinMultiplier = zoneManager != null
-                ? zoneManager.getDouble(pointId, "capture-conditions.speed-modifiers.min-multiplier", 0.1)
-                : this.config.getDouble("capture-conditions.speed-modifiers.min-multiplier", 0.1);
-            speedMaxMultiplier = zoneManager != null
-                ? zoneManager.getDouble(pointId, "capture-conditions.speed-modifiers.max-multiplier", 5.0)
-                : this.config.getDouble("capture-conditions.speed-modifiers.max-multiplier", 5.0);
-            if (speedMaxMultiplier < speedMinMultiplier) {
-                speedMaxMultiplier = speedMinMultiplier;
-            }
-
-            if (speedPlayerScalingEnabled) {
-                speedMaxExtraPlayers = zoneManager != null
-                    ? zoneManager.getInt(pointId, "capture-conditions.speed-modifiers.owner-player-scaling.max-extra-players", 4)
-                    : this.config.getInt("capture-conditions.speed-modifiers.owner-player-scaling.max-extra-players", 4);
-                speedPerExtraPlayer = zoneManager != null
-                    ? zoneManager.getDouble(pointId, "capture-conditions.speed-modifiers.owner-player-scaling.per-extra-player", 0.25)
-                    : this.config.getDouble("capture-conditions.speed-modifiers.owner-player-scaling.per-extra-player", 0.25);
-            }
-        }
-        int graceDurationSeconds = graceEnabled ? resolveGraceDurationSeconds(pointId) : 0;
-        ContestedProgressPolicy contestedPolicy = resolveContestedProgressPolicy(pointId);
-        final boolean speedModifiersEnabledFinal = speedModifiersEnabled;
-        final boolean speedPlayerScalingEnabledFinal = speedPlayerScalingEnabled;
-        final double speedFlatMultiplierFinal = speedFlatMultiplier;
-        final double speedMinMultiplierFinal = speedMinMultiplier;
-        final double speedMaxMultiplierFinal = speedMaxMultiplier;
-        final int speedMaxExtraPlayersFinal = speedMaxExtraPlayers;
-        final double speedPerExtraPlayerFinal = speedPerExtraPlayer;
-        
         // Start capture task
-        BukkitTask captureTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
+        CaptureTickEngine.Ticket captureTask = this.captureTickEngine.schedule("capture:" + pointId, () -> {
             if (!session.isActive()) {
                 return;
             }
 
+            // Re-read each tick: a zone config reload swaps in a new policy.
+            CapturePolicy policy = policyFor(session);
             CaptureOwner activeOwner = session.getOwner() != null ? session.getOwner() : owner;
             String activeOwnerName = activeOwner != null && activeOwner.getDisplayName() != null
                 ? activeOwner.getDisplayName()
                 : ownerName;
 
-            if (!graceEnabled && activeOwner != null && !hasAnyCapturingOwnerPlayerInZone(point, activeOwner)) {
+            if (!policy.zone.graceTimerEnabled && activeOwner != null && !hasAnyCapturingOwnerPlayerInZone(point, activeOwner)) {
                 cancelCapture(pointId, buildMovedTooFarReason(resolveMovedTooFarPlayerName(session, activeOwner)));
                 return;
             }
 
             ContestedState contestedState = ContestedState.clear();
-            if ((contestedEnabled || graceEnabled || speedPlayerScalingEnabledFinal) && activeOwner != null) {
+            if ((policy.zone.contestedEnabled || policy.zone.graceTimerEnabled || policy.speedPlayerScalingEnabled) && activeOwner != null) {
                 contestedState = evaluateContestedState(point, activeOwner);
             }
 
-            if (graceEnabled && activeOwner != null && contestedState.capturingPlayers <= 0) {
+            if (policy.zone.graceTimerEnabled && activeOwner != null && contestedState.capturingPlayers <= 0) {
                 if (!session.isGraceActive()) {
-                    session.startGrace(graceDurationSeconds);
-                    String graceStartedMessage = Messages.get("messages.capture.grace-started", Map.of(
-                        "town", activeOwnerName,
-                        "zone", point.getName(),
-                        "time", formatTime(Math.max(0, session.getGraceSecondsRemaining()))
-                    ));
-                    broadcastMessage(graceStartedMessage);
+                    session.startGrace(policy.zone.graceDurationSeconds);
+                    broadcastMessage(policy.graceStarted.render(activeOwnerName, point.getName(),
+                        formatTime(Math.max(0, session.getGraceSecondsRemaining()))));
                 } else {
                     session.decrementGraceSeconds();
                 }
@@ -5049,11 +5172,11 @@ extends JavaPlugin {
 
                 if (session.isContested()) {
                     session.setContested(false);
-                    String contestedEndMessage = Messages.get("messages.capture.contested-ended", Map.of(
-                        "town", activeOwnerName,
-                        "zone", point.getName()
-                    ));
-                    broadcastMessage(contestedEndMessage);
+                    journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CONTEST)
+                        .with("zone", pointId)
+                        .with("owner", activeOwnerName)
+                        .with("contested", false));
+                    broadcastMessage(policy.contestedEnded.render(activeOwnerName, point.getName()));
                 }
 
                 updateGraceBossBar(
@@ -5068,26 +5191,23 @@ extends JavaPlugin {
 
             if (session.isGraceActive()) {
                 session.clearGrace();
-                String graceEndedMessage = Messages.get("messages.capture.grace-ended", Map.of(
-                    "town", activeOwnerName,
-                    "zone", point.getName()
-                ));
-                broadcastMessage(graceEndedMessage);
+                broadcastMessage(policy.graceEnded.render(activeOwnerName, point.getName()));
             }
 
-            if (contestedEnabled && contestedState.contested) {
+            if (policy.zone.contestedEnabled && contestedState.contested) {
                 if (!session.isContested()) {
                     session.setContested(true);
-                    String contestedStartMessage = Messages.get("messages.capture.contested-started", Map.of(
-                        "town", activeOwnerName,
-                        "zone", point.getName(),
-                        "owners", String.valueOf(Math.max(1, contestedState.opposingOwners)),
-                        "players", String.valueOf(Math.max(1, contestedState.opposingPlayers))
-                    ));
-                    broadcastMessage(contestedStartMessage);
+                    journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CONTEST)
+                        .with("zone", pointId)
+                        .with("owner", activeOwnerName)
+                        .with("contested", true)
+                        .with("opposingOwners", contestedState.opposingOwners)
+                        .with("opposingPlayers", contestedState.opposingPlayers));
+                    broadcastMessage(policy.contestedStarted.render(activeOwnerName, point.getName(), null,
+                        Math.max(1, contestedState.opposingOwners), Math.max(1, contestedState.opposingPlayers)));
                 }
 
-                applyContestedProgressPolicy(session, pointId, contestedPolicy);
+                applyContestedProgressPolicy(session, policy);
 
                 updateCaptureBossBar(
                     bossBar,
@@ -5097,33 +5217,20 @@ extends JavaPlugin {
                     true,
                     contestedState
                 );
-                sendContestedActionbar(point, session, activeOwner, contestedState, contestedPolicy);
+                sendContestedActionbar(point, session, activeOwner, contestedState);
                 return;
             }
 
             if (session.isContested()) {
                 session.setContested(false);
-                String contestedEndMessage = Messages.get("messages.capture.contested-ended", Map.of(
-                    "town", activeOwnerName,
-                    "zone", point.getName()
-                ));
-                broadcastMessage(contestedEndMessage);
-            }
-
-            double captureSpeedMultiplier = 1.0;
-            if (speedModifiersEnabledFinal) {
-                captureSpeedMultiplier = Math.max(0.0, speedFlatMultiplierFinal);
-                if (speedPlayerScalingEnabledFinal) {
-                    int capturingOwnerPlayers = Math.max(0, contestedState.capturingPlayers);
-                    int extraPlayers = Math.max(0, capturingOwnerPlayers - 1);
-                    int cappedExtraPlayers = Math.min(extraPlayers, Math.max(0, speedMaxExtraPlayersFinal));
-                    captureSpeedMultiplier *= 1.0 + (Math.max(0.0, speedPerExtraPlayerFinal) * cappedExtraPlayers);
-                }
-                captureSpeedMultiplier = Math.max(
-                    speedMinMultiplierFinal,
-                    Math.min(speedMaxMultiplierFinal, captureSpeedMultiplier)
-                );
+                journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CONTEST)
+                    .with("zone", pointId)
+                    .with("owner", activeOwnerName)
+                    .with("contested", false));
+                broadcastMessage(policy.contestedEnded.render(activeOwnerName, point.getName()));
             }
+
+            double captureSpeedMultiplier = policy.captureSpeedMultiplier(contestedState.capturingPlayers);
             int progressToApply = session.consumeCaptureProgress(captureSpeedMultiplier);
             if (progressToApply > 0) {
                 session.decrementCaptureTimeBy(progressToApply);
@@ -5135,7 +5242,7 @@ extends JavaPlugin {
                 return;
             }
 
-            playCaptureProgressSoundIfNeeded(pointId, point, session);
+            playCaptureProgressSoundIfNeeded(point, session, policy);
             updateCaptureBossBar(
                 bossBar,
                 point,
@@ -5144,7 +5251,7 @@ extends JavaPlugin {
                 false,
                 ContestedState.clear()
             );
-        }, 20L, 20L);
+        });
 
         captureTasks.put(pointId, captureTask);
     }
@@ -5318,6 +5425,12 @@ extends JavaPlugin {
         if (statisticsManager != null) {
             statisticsManager.onCaptureFailed(normalizedPointId, session.getTownName(), session.getInitiatorUUID());
         }
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CANCEL)
+            .with("zone", normalizedPointId)
+            .with("owner", session.getTownName())
+            .with("reason", "death")
+            .with("victim", safeVictimName)
+            .with("killer", safeKillerName));
         
         // Send Discord webhook notification for capture failure
         if (discordWebhook != null) {
@@ -5336,20 +5449,17 @@ extends JavaPlugin {
         }
 
         BossBar bossBar = this.captureBossBars.remove(normalizedPointId);
-        this.lastBossBarAudienceSyncAt.remove(normalizedPointId);
+        // The bar stays up a few seconds for the death title; its viewers are no longer tracked.
+        this.bossBarAudiences.forget(normalizedPointId);
         if (bossBar != null) {
+            this.hudOutput.forget(bossBar);
             String deathTitle = zoneConfigManager != null
                 ? zoneConfigManager.getString(normalizedPointId, "bossbar.death_title", "&c%victim% has been defeated by %killer% at %point%!")
                 : this.config.getString("bossbar.death_title", "&c%victim% has been defeated by %killer% at %point%!");
             deathTitle = deathTitle.replace("%victim%", safeVictimName).replace("%killer%", safeKillerName).replace("%point%", pointName);
             bossBar.setTitle(this.colorize(deathTitle));
             bossBar.setColor(BarColor.RED);
-            Bukkit.getScheduler().runTaskLater((Plugin)this, () -> {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    bossBar.removePlayer(player);
-                }
-                bossBar.removeAll();
-            }, 100L);
+            Bukkit.getScheduler().runTaskLater((Plugin)this, bossBar::removeAll, 100L);
         }
 
         cancelTask(this.captureTasks.remove(normalizedPointId));
@@ -5396,6 +5506,10 @@ extends JavaPlugin {
         if (statisticsManager != null) {
             statisticsManager.onCaptureFailed(normalizedPointId, session.getTownName(), session.getInitiatorUUID());
         }
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CANCEL)
+            .with("zone", normalizedPointId)
+            .with("owner", session.getTownName())
+            .with("reason", reason != null && !reason.isEmpty() ? reason : "stopped"));
         
         // Send Discord webhook notification for capture cancellation
         if (discordWebhook != null) {
@@ -5588,21 +5702,13 @@ extends JavaPlugin {
         removeBeacon(point);
 
         // Cancel any lingering scheduled tasks (preparation/capture)
-        BukkitTask scheduled = captureTasks.remove(pointId);
-        if (scheduled != null && !scheduled.isCancelled()) {
-            scheduled.cancel();
-        }
+        cancelTask(captureTasks.remove(pointId));
 
         // Ensure boss bar is removed if present
         removeCaptureBossBar(pointId);
         
-        // Clean up boundary visualization tasks for this zone
-        List<String> boundaryKeys = new ArrayList<>(this.boundaryTasks.keySet());
-        for (String key : boundaryKeys) {
-            if (key != null && key.endsWith("_" + pointId)) {
-                stopBoundaryVisualization(key);
-            }
-        }
+        // Stop showing this zone's boundary to everyone
+        this.boundaryRenderer.hideZone(pointId);
         
         // Remove map markers for this point across all active providers
         if (hasMapProviders()) {
@@ -5615,7 +5721,7 @@ extends JavaPlugin {
         captureTasks.remove(pointId);
         clearHourlyRewardTracking(pointId);
         lastWeeklyResetEpochDays.remove(pointId);
-        invalidateCapturePointSpatialIndex();
+        refreshCapturePointSpatialIndex(pointId);
         invalidateHourlyRewardSchedule();
         
         // Backup zone config file (safe delete)
@@ -5683,7 +5789,6 @@ extends JavaPlugin {
         point.setMinPlayers(minPlayers);
         point.setMaxPlayers(maxPlayers);
         capturePoints.put(id, point);
-        invalidateCapturePointSpatialIndex();
         invalidateHourlyRewardSchedule();
         saveCapturePoints();
         
@@ -5693,6 +5798,7 @@ extends JavaPlugin {
             zoneConfigManager.setZoneSetting(id, "rewards.base-reward", reward);
             getLogger().info("Generated config file for zone: " + id);
         }
+        refreshCapturePointSpatialIndex(id);
         
         // Update map markers immediately for the new point
         if (hasMapProviders()) {
@@ -5772,7 +5878,6 @@ extends JavaPlugin {
         point.setMinPlayers(minPlayers);
         point.setMaxPlayers(maxPlayers);
         capturePoints.put(id, point);
-        invalidateCapturePointSpatialIndex();
         invalidateHourlyRewardSchedule();
         saveCapturePoints();
 
@@ -5781,6 +5886,7 @@ extends JavaPlugin {
             zoneConfigManager.setZoneSetting(id, "rewards.base-reward", reward);
             getLogger().info("Generated config file for cuboid zone: " + id);
         }
+        refreshCapturePointSpatialIndex(id);
 
         if (hasMapProviders()) {
             createOrUpdateMarker(point);
@@ -7502,6 +7608,10 @@ extends JavaPlugin {
         } else {
             playCaptureSound("capture-failed");
         }
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_CANCEL)
+            .with("zone", normalizedPointId)
+            .with("owner", session.getTownName())
+            .with("reason", reason));
         cleanupCaptureRuntime(normalizedPointId, point, true, true);
         if (point != null && applyCaptureCooldown(point, normalizedPointId, CooldownTrigger.CANCEL)) {
             saveCapturePoints();
@@ -7571,7 +7681,7 @@ extends JavaPlugin {
         this.capturePoints.remove(normalizedPointId);
         clearHourlyRewardTracking(normalizedPointId);
         this.removeHologram(normalizedPointId);
-        invalidateCapturePointSpatialIndex();
+        refreshCapturePointSpatialIndex(normalizedPointId);
         invalidateHourlyRewardSchedule();
     }
 
@@ -7649,23 +7759,18 @@ extends JavaPlugin {
 
     private void removeCaptureBossBar(String pointId) {
         BossBar bossBar = captureBossBars.remove(pointId);
-        this.lastBossBarAudienceSyncAt.remove(pointId);
-        if (bossBar != null) {
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                bossBar.removePlayer(player);
-            }
-            bossBar.removeAll();
-        }
+        this.hudOutput.forget(bossBar);
+        this.bossBarAudiences.clear(pointId, bossBar);
     }
 
-    private String formatTime(int seconds) {
+    private static String formatTime(int seconds) {
         int minutes = seconds / 60;
         int remainingSeconds = seconds % 60;
         return String.format("%d:%02d", minutes, remainingSeconds);
     }
 
-    private void playCaptureProgressSoundIfNeeded(String pointId, CapturePoint point, CaptureSession session) {
-        if (pointId == null || point == null || session == null || point.getLocation() == null) {
+    private void playCaptureProgressSoundIfNeeded(CapturePoint point, CaptureSession session, CapturePolicy policy) {
+        if (point == null || session == null || point.getLocation() == null) {
             return;
         }
 
@@ -7675,14 +7780,16 @@ extends JavaPlugin {
             return;
         }
 
-        int currentBucket = remainingCaptureTime / 60;
-        Integer previousBucket = this.captureProgressSoundBuckets.get(pointId);
-        if (previousBucket != null && previousBucket == currentBucket) {
+        int currentBucket = remainingCaptureTime / CapturePolicy.PROGRESS_SOUND_BUCKET_SECONDS;
+        if (policy.progressSoundBucket == currentBucket) {
             return;
         }
 
-        this.captureProgressSoundBuckets.put(pointId, currentBucket);
-        playCaptureSoundAtLocation("capture-progress", point.getLocation());
+        policy.progressSoundBucket = currentBucket;
+        if (policy.progressSound != null) {
+            playSoundAtLocation(policy.progressSound, policy.progressSoundVolume, policy.progressSoundPitch,
+                point.getLocation());
+        }
     }
     
     // Sound System Methods
@@ -7710,25 +7817,38 @@ extends JavaPlugin {
     }
     
     public void playCaptureSoundAtLocation(String soundEvent, Location location) {
-        if (!config.getBoolean("sounds.enabled", true)) {
+        org.bukkit.Sound sound = resolveSound(soundEvent);
+        if (sound == null) {
             return;
         }
-        
-        String soundName = config.getString("sounds." + soundEvent + ".sound", "entity.player.levelup");
         float volume = (float) config.getDouble("sounds." + soundEvent + ".volume", 1.0);
         float pitch = (float) config.getDouble("sounds." + soundEvent + ".pitch", 1.0);
-        
+        playSoundAtLocation(sound, volume, pitch, location);
+    }
+
+    /**
+     * The configured sound for {@code soundEvent}, or null when sounds are off or the name is invalid.
+     */
+    private org.bukkit.Sound resolveSound(String soundEvent) {
+        if (!config.getBoolean("sounds.enabled", true)) {
+            return null;
+        }
+        String soundName = config.getString("sounds." + soundEvent + ".sound", "entity.player.levelup");
+        try {
+            return org.bukkit.Sound.valueOf(soundName);
+        } catch (Exception e) {
+            getLogger().warning("Invalid sound: " + soundName);
+            return null;
+        }
+    }
+
+    private void playSoundAtLocation(org.bukkit.Sound sound, float volume, float pitch, Location location) {
         // Only play for players who haven't disabled notifications
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getWorld() == location.getWorld() && 
+            if (player.getWorld() == location.getWorld() &&
                 player.getLocation().distance(location) < 100 &&
                 !disabledNotifications.getOrDefault(player.getUniqueId(), false)) {
-                try {
-                    org.bukkit.Sound sound = org.bukkit.Sound.valueOf(soundName);
-                    player.playSound(location, sound, volume, pitch);
-                } catch (Exception e) {
-                    getLogger().warning("Invalid sound: " + soundName);
-                }
+                player.playSound(location, sound, volume, pitch);
             }
         }
     }
@@ -7770,6 +7890,8 @@ extends JavaPlugin {
         @EventHandler
         public void onPlayerJoin(PlayerJoinEvent event) {
             Player player = event.getPlayer();
+            CaptureZones.this.ownerResolutionCache.invalidate(player.getUniqueId());
+            CaptureZones.this.zoneMembershipTracker.update(player, player.getLocation());
             if (!CaptureZones.this.hiddenBossBars.getOrDefault(player.getUniqueId(), false).booleanValue() &&
                 !CaptureZones.this.disabledNotifications.getOrDefault(player.getUniqueId(), false)) {
                 CaptureZones.this.refreshBossBarAudienceForPlayer(player);
@@ -7792,8 +7914,61 @@ extends JavaPlugin {
         public void onPlayerQuit(PlayerQuitEvent event) {
             Player player = event.getPlayer();
             CaptureZones.this.removePlayerFromAllBossBars(player);
+            CaptureZones.this.hudOutput.removePlayer(player.getUniqueId());
             CaptureZones.this.stopBoundaryVisualizationsForPlayer(player.getUniqueId());
         }
+
+        // Membership is dropped last so quit handlers still see the player in their zones.
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerQuitMonitor(PlayerQuitEvent event) {
+            CaptureZones.this.zoneMembershipTracker.remove(event.getPlayer());
+            CaptureZones.this.ownerResolutionCache.invalidate(event.getPlayer().getUniqueId());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onPlayerTeleport(PlayerTeleportEvent event) {
+            updateZoneMembership(event.getPlayer(), event.getTo());
+            CaptureZones.this.refreshBossBarAudienceForPlayer(event.getPlayer(), event.getFrom(), event.getTo());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+            Player player = event.getPlayer();
+            updateZoneMembership(player, player.getLocation());
+            CaptureZones.this.refreshBossBarAudienceForPlayer(player);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerDeathMonitor(PlayerDeathEvent event) {
+            CaptureZones.this.zoneMembershipTracker.remove(event.getEntity());
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onPlayerRespawn(PlayerRespawnEvent event) {
+            updateZoneMembership(event.getPlayer(), event.getRespawnLocation());
+            CaptureZones.this.refreshBossBarAudienceForPlayer(event.getPlayer(), null, event.getRespawnLocation());
+        }
+
+        // Players riding a vehicle do not fire PlayerMoveEvent.
+        @EventHandler(priority = EventPriority.MONITOR)
+        public void onVehicleMove(VehicleMoveEvent event) {
+            for (Entity passenger : event.getVehicle().getPassengers()) {
+                if (passenger instanceof Player) {
+                    updateZoneMembership((Player) passenger, event.getTo());
+                    if (event.getFrom().getBlockX() >> 4 != event.getTo().getBlockX() >> 4
+                        || event.getFrom().getBlockZ() >> 4 != event.getTo().getBlockZ() >> 4) {
+                        CaptureZones.this.refreshBossBarAudienceForPlayer((Player) passenger, event.getFrom(), event.getTo());
+                    }
+                }
+            }
+        }
+
+        private void updateZoneMembership(Player player, Location to) {
+            ZoneMembershipTracker.Transition transition = CaptureZones.this.zoneMembershipTracker.update(player, to);
+            if (transition != null && CaptureZones.this.captureEvents != null) {
+                CaptureZones.this.captureEvents.applyTransition(player, to, transition);
+            }
+        }
     }
 
     // Test method: Start a capture with custom duration for testing
@@ -7818,6 +7993,7 @@ extends JavaPlugin {
 
         // Create capture session with custom duration
         CaptureSession session = new CaptureSession(point, owner, player, preparationSeconds / 60, captureSeconds / 60);
+        session.setPolicy(new CapturePolicy(this, pointId));
         session.getPlayers().add(player);
         activeSessions.put(pointId, session);
 
@@ -7828,19 +8004,10 @@ extends JavaPlugin {
             BarStyle.SOLID
         );
         captureBossBars.put(pointId, bossBar);
-        
-        // Show boss bar to all players for testing
-        int visibilityExtraChunks = resolveBossbarVisibilityExtraChunks();
-        for (Player online : Bukkit.getOnlinePlayers()) {
-            if (shouldShowBossBarToPlayer(point, online, visibilityExtraChunks)) {
-                bossBar.addPlayer(online);
-            } else {
-                bossBar.removePlayer(online);
-            }
-        }
+        syncBossBarAudience(bossBar, point, null, false);
 
         // Short preparation phase
-        BukkitTask prepTask = Bukkit.getScheduler().runTaskTimer(this, () -> {
+        CaptureTickEngine.Ticket prepTask = this.captureTickEngine.schedule("preparation:" + pointId, () -> {
             if (!session.isActive()) {
                 return;
             }
@@ -7858,7 +8025,7 @@ extends JavaPlugin {
                 startCapturePhase(point, owner, player);
                 return;
             }
-        }, 20L, 20L);
+        });
 
         captureTasks.put(pointId, prepTask);
         return true;
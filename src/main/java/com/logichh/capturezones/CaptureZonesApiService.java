@@ -15,6 +15,7 @@ import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.nio.file.Path;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -356,7 +357,7 @@ final class CaptureZonesApiService implements CaptureZonesApi {
             if (!updated) {
                 return CaptureZonesActionResult.fail("Failed to set zone config value.");
             }
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId.trim());
             plugin.refreshPointVisuals(zoneId.trim());
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("zoneId", zoneId.trim());
@@ -385,7 +386,7 @@ final class CaptureZonesApiService implements CaptureZonesApi {
                 return CaptureZonesActionResult.fail("Failed to reset zone config path.");
             }
             zcm.saveZoneConfig(zoneId.trim());
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId.trim());
             plugin.refreshPointVisuals(zoneId.trim());
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("zoneId", zoneId.trim());
@@ -409,7 +410,7 @@ final class CaptureZonesApiService implements CaptureZonesApi {
             if (!generated) {
                 return CaptureZonesActionResult.fail("Failed to regenerate zone config.");
             }
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId.trim());
             plugin.refreshPointVisuals(zoneId.trim());
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("zoneId", zoneId.trim());
@@ -431,7 +432,7 @@ final class CaptureZonesApiService implements CaptureZonesApi {
             if (!reloaded) {
                 return CaptureZonesActionResult.fail("Failed to reload zone config.");
             }
-            plugin.invalidateCapturePointSpatialIndex();
+            plugin.refreshCapturePointSpatialIndex(zoneId.trim());
             plugin.refreshPointVisuals(zoneId.trim());
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("zoneId", zoneId.trim());
@@ -721,6 +722,21 @@ final class CaptureZonesApiService implements CaptureZonesApi {
         out.put("worldGuardEnabled", plugin.isWorldGuardEnabled());
         out.put("mapProvidersEnabled", plugin.hasMapProviders());
         out.put("ownerPlatform", plugin.getOwnerPlatform() == null ? "unknown" : plugin.getOwnerPlatform().getPlatformKey());
+        OwnerResolutionCache ownerCache = plugin.getOwnerResolutionCache();
+        Map<String, Object> ownerCacheStats = new LinkedHashMap<>();
+        ownerCacheStats.put("ttlMs", ownerCache.getTtlMillis());
+        ownerCacheStats.put("entries", ownerCache.size());
+        ownerCacheStats.put("hits", ownerCache.getHits());
+        ownerCacheStats.put("misses", ownerCache.getMisses());
+        out.put("ownerCache", ownerCacheStats);
+        CaptureTickEngine tickEngine = plugin.getCaptureTickEngine();
+        Map<String, Object> tickEngineStats = new LinkedHashMap<>();
+        tickEngineStats.put("scheduledJobs", tickEngine.getScheduledJobCount());
+        tickEngineStats.put("jobRuns", tickEngine.getJobRuns());
+        tickEngineStats.put("lastTickMicros", tickEngine.getLastTickNanos() / 1000L);
+        tickEngineStats.put("averageTickMicros", tickEngine.getAverageTickNanos() / 1000L);
+        tickEngineStats.put("maxTickMicros", tickEngine.getMaxTickNanos() / 1000L);
+        out.put("captureEngine", tickEngineStats);
         out.put("capabilities", new ArrayList<>(capabilitiesInternal()));
         return out;
     }
@@ -860,6 +876,69 @@ final class CaptureZonesApiService implements CaptureZonesApi {
         out.put("topTownsByRewards", statsEntryRows(statisticsManager.getTopTownsByRewards(10), "town", "rewards"));
         out.put("topPlayersByKills", playerRows(statisticsManager.getTopPlayersByKills(10), "kills"));
         out.put("topPlayersByKDRatio", playerRows(statisticsManager.getTopPlayersByKDRatio(10), "kdRatio"));
+        out.put("windows", statisticsWindowRows(statisticsManager));
+        if (plugin.getDataStorage() instanceof FlatFileDataStorage) {
+            StatisticsFileStore store = ((FlatFileDataStorage) plugin.getDataStorage()).getStatisticsStore();
+            Map<String, Object> persistence = new LinkedHashMap<>();
+            persistence.put("gzip", store.isGzip());
+            persistence.put("backups", store.getBackups());
+            persistence.put("writes", store.getWrites());
+            persistence.put("failedWrites", store.getFailedWrites());
+            persistence.put("coalescedSnapshots", store.getCoalescedSnapshots());
+            persistence.put("lastSnapshotMicros", store.getLastSnapshotMicros());
+            persistence.put("lastWriteMillis", store.getLastWriteMillis());
+            persistence.put("lastWriteBytes", store.getLastWriteBytes());
+            persistence.put("lastLoadMillis", store.getLastLoadMillis());
+            out.put("persistence", persistence);
+        }
+        CaptureEventJournal journal = plugin.getEventJournal();
+        if (journal != null) {
+            Map<String, Object> journalStats = new LinkedHashMap<>();
+            journalStats.put("writtenEvents", journal.getWrittenEvents());
+            journalStats.put("queuedEvents", journal.getQueuedEvents());
+            journalStats.put("droppedEvents", journal.getDroppedEvents());
+            journalStats.put("batches", journal.getBatches());
+            journalStats.put("largestBatch", journal.getLargestBatch());
+            journalStats.put("failedBatches", journal.getFailedBatches());
+            journalStats.put("lastBatchMicros", journal.getLastBatchMicros());
+            journalStats.put("rolledSegments", journal.getRolledSegments());
+            journalStats.put("compressedSegments", journal.getCompressedSegments());
+            journalStats.put("deletedSegments", journal.getDeletedSegments());
+            out.put("journal", journalStats);
+        }
+        HudOutput hud = plugin.getHudOutput();
+        Map<String, Object> hudStats = new LinkedHashMap<>();
+        hudStats.put("sentBossBarUpdates", hud.getSentBossBarUpdates());
+        hudStats.put("suppressedBossBarUpdates", hud.getSuppressedBossBarUpdates());
+        hudStats.put("sentActionbars", hud.getSentActionbars());
+        hudStats.put("suppressedActionbars", hud.getSuppressedActionbars());
+        hudStats.put("rateLimitedActionbars", hud.getRateLimitedActionbars());
+        out.put("hud", hudStats);
+        BoundaryRenderer boundaries = plugin.getBoundaryRenderer();
+        Map<String, Object> boundaryStats = new LinkedHashMap<>();
+        boundaryStats.put("viewers", boundaries.getViewerCount());
+        boundaryStats.put("particlesSent", boundaries.getParticlesSent());
+        boundaryStats.put("columnsOutOfRange", boundaries.getColumnsOutOfRange());
+        boundaryStats.put("columnsOutOfView", boundaries.getColumnsOutOfView());
+        boundaryStats.put("budgetLimitedPasses", boundaries.getBudgetLimitedPasses());
+        out.put("boundaries", boundaryStats);
+        DiscordWebhook webhook = plugin.getDiscordWebhook();
+        if (webhook != null) {
+            DiscordWebhookDispatcher dispatcher = webhook.getDispatcher();
+            Map<String, Object> discord = new LinkedHashMap<>();
+            discord.put("queueDepth", dispatcher.getQueueDepth());
+            discord.put("queueCapacity", dispatcher.getQueueCapacity());
+            discord.put("sentMessages", dispatcher.getSentMessages());
+            discord.put("sentEmbeds", dispatcher.getSentEmbeds());
+            discord.put("droppedMessages", dispatcher.getDropped());
+            discord.put("failedMessages", dispatcher.getFailedMessages());
+            discord.put("retries", dispatcher.getRetries());
+            discord.put("rateLimited", dispatcher.getRateLimited());
+            discord.put("averageRequestMillis", dispatcher.getAverageRequestMillis());
+            discord.put("lastDeliveryMillis", dispatcher.getLastDeliveryMillis());
+            discord.put("maxDeliveryMillis", dispatcher.getMaxDeliveryMillis());
+            out.put("discord", discord);
+        }
         return out;
     }
 
@@ -1000,6 +1079,31 @@ final class CaptureZonesApiService implements CaptureZonesApi {
         return row;
     }
 
+    private Map<String, Object> statisticsWindowRows(StatisticsManager statisticsManager) {
+        Map<String, Object> windows = new LinkedHashMap<>();
+        for (String period : statisticsManager.getWindowPeriods()) {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            for (StatisticsWindows.Metric metric : StatisticsWindows.Metric.values()) {
+                List<Map.Entry<String, Double>> top = statisticsManager.getWindowTop(period, metric, 10);
+                if (!"player".equals(metric.kind)) {
+                    metrics.put(metric.id, statsEntryRows(top, metric.kind, "value"));
+                    continue;
+                }
+                List<Map.Entry<UUID, Double>> players = new ArrayList<>();
+                for (Map.Entry<String, Double> entry : top) {
+                    try {
+                        players.add(new AbstractMap.SimpleImmutableEntry<>(UUID.fromString(entry.getKey()), entry.getValue()));
+                    } catch (IllegalArgumentException ignored) {
+                        // Not a player UUID.
+                    }
+                }
+                metrics.put(metric.id, playerRows(players, "value"));
+            }
+            windows.put(period, metrics);
+        }
+        return windows;
+    }
+
     private List<Map<String, Object>> statsEntryRows(List<? extends Map.Entry<?, ?>> entries, String keyName, String valueName) {
         if (entries == null || entries.isEmpty()) {
             return Collections.emptyList();
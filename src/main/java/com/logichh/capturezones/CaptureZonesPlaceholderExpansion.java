@@ -9,6 +9,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.UUID;
 
 public final class CaptureZonesPlaceholderExpansion extends PlaceholderExpansion {
     private static final List<String> ZONE_FIELD_SUFFIXES = Arrays.asList(
@@ -109,9 +110,94 @@ public final class CaptureZonesPlaceholderExpansion extends PlaceholderExpansion
             return resolveZonePlaceholder(raw.substring("zone_".length()));
         }
 
+        if (normalized.startsWith("stats_")) {
+            return resolveWindowPlaceholder(player, raw.substring("stats_".length()));
+        }
+
         return null;
     }
 
+    /**
+     * stats_<period>_<metric> for the requesting player, their owner or the zone they stand in;
+     * stats_<period>_top_<metric>_<rank>[_value] for leaderboard rows.
+     */
+    private String resolveWindowPlaceholder(OfflinePlayer offlinePlayer, String token) {
+        StatisticsManager statisticsManager = plugin.getStatisticsManager();
+        int split = token.indexOf('_');
+        if (statisticsManager == null || split <= 0) {
+            return "";
+        }
+        String period = token.substring(0, split).toLowerCase(Locale.ROOT);
+        String rest = token.substring(split + 1);
+        String loweredRest = rest.toLowerCase(Locale.ROOT);
+
+        if (loweredRest.startsWith("top_")) {
+            String spec = loweredRest.substring("top_".length());
+            boolean valueRequested = spec.endsWith("_value");
+            if (valueRequested) {
+                spec = spec.substring(0, spec.length() - "_value".length());
+            }
+            int rankSplit = spec.lastIndexOf('_');
+            if (rankSplit <= 0) {
+                return "";
+            }
+            StatisticsWindows.Metric metric = StatisticsWindows.Metric.fromId(spec.substring(0, rankSplit));
+            int rank;
+            try {
+                rank = Integer.parseInt(spec.substring(rankSplit + 1));
+            } catch (NumberFormatException ignored) {
+                return "";
+            }
+            if (metric == null || rank <= 0) {
+                return "";
+            }
+            List<Map.Entry<String, Double>> top = statisticsManager.getWindowTop(period, metric, Math.max(10, rank));
+            if (rank > top.size()) {
+                return valueRequested ? "0" : "";
+            }
+            Map.Entry<String, Double> row = top.get(rank - 1);
+            return valueRequested ? formatWindowValue(row.getValue()) : windowEntityName(metric, row.getKey());
+        }
+
+        StatisticsWindows.Metric metric = StatisticsWindows.Metric.fromId(loweredRest);
+        if (metric == null) {
+            return "";
+        }
+        Player player = offlinePlayer != null ? offlinePlayer.getPlayer() : null;
+        String entity = null;
+        if ("player".equals(metric.kind)) {
+            entity = offlinePlayer != null ? offlinePlayer.getUniqueId().toString() : null;
+        } else if ("town".equals(metric.kind)) {
+            entity = player != null ? plugin.resolveOwnerName(player, plugin.getDefaultOwnerType()) : null;
+        } else if (player != null && player.isOnline()) {
+            CapturePoint point = findCapturePointAt(player.getLocation());
+            entity = point != null ? point.getId() : null;
+        }
+        if (entity == null) {
+            return "0";
+        }
+        return formatWindowValue(statisticsManager.getWindowTotal(period, metric, entity));
+    }
+
+    private String windowEntityName(StatisticsWindows.Metric metric, String key) {
+        if (!"player".equals(metric.kind)) {
+            return key;
+        }
+        try {
+            String name = plugin.getServer().getOfflinePlayer(UUID.fromString(key)).getName();
+            return name != null ? name : key;
+        } catch (IllegalArgumentException ignored) {
+            return key;
+        }
+    }
+
+    private String formatWindowValue(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1.0E15) {
+            return String.valueOf((long) value);
+        }
+        return String.format(Locale.ROOT, "%.2f", value);
+    }
+
     private String resolveHerePlaceholder(OfflinePlayer offlinePlayer, String field) {
         String normalizedField = normalizeField(field);
         Player player = offlinePlayer != null ? offlinePlayer.getPlayer() : null;
@@ -40,13 +40,14 @@ implements Listener {
         Location playerLocation = player.getLocation();
         ZoneConfigManager zoneConfigManager = this.plugin.getZoneConfigManager();
         int indexExtra = this.plugin.getSpatialIndexExtraChunks();
-        for (CapturePoint point : this.plugin.getCandidateCapturePoints(playerLocation, indexExtra)) {
-            boolean bufferEnabled = zoneConfigManager != null
-                ? zoneConfigManager.getBoolean(point.getId(), "protection.buffer-zone.enabled", true)
-                : true;
-            int bufferSize = bufferEnabled && zoneConfigManager != null
-                ? zoneConfigManager.getInt(point.getId(), "protection.buffer-zone.size", 1)
-                : (bufferEnabled ? 1 : 0);
+        CapturePointSpatialIndex index = this.plugin.getCapturePointSpatialIndex();
+        for (int slot : index.lookup(playerLocation, indexExtra)) {
+            CapturePoint point = index.pointAt(slot);
+            if (point == null) {
+                continue;
+            }
+            ZoneSettings settings = zoneConfigManager != null ? zoneConfigManager.getZoneSettings(point.getId()) : null;
+            int bufferSize = settings != null ? settings.effectiveBufferChunks() : 1;
 
             boolean isInCaptureZone = this.plugin.isWithinZone(point, playerLocation);
             boolean isInBufferZone = bufferSize > 0 && this.plugin.isWithinZone(point, playerLocation, bufferSize);
@@ -22,11 +22,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.logging.Logger;
 
 /**
@@ -53,6 +55,45 @@ public final class DataMigrationManager {
         migrateStatisticsFile();
     }
 
+    /**
+     * One-shot copy of the flat files into a freshly selected SQLite database.
+     * The flat files are left in place so switching back to flat-file keeps working.
+     */
+    void importFlatFileData(FlatFileDataStorage source, SqliteDataStorage target, File capturePointsFile) {
+        if (target.hasImportedFlatFiles()) {
+            return;
+        }
+
+        try {
+            YamlConfiguration points = new YamlConfiguration();
+            source.createCapturePointBackend(capturePointsFile).load(points);
+            target.importCapturePoints(points);
+            ConfigurationSection pointsSection = points.getConfigurationSection("points");
+            int pointCount = pointsSection != null ? pointsSection.getKeys(false).size() : 0;
+
+            StatisticsData statistics = source.loadStatistics();
+            if (statistics != null) {
+                target.saveStatistics(statistics);
+            }
+
+            Map<String, ShopData> shops = source.loadShops();
+            for (ShopData shop : shops.values()) {
+                target.saveShop(shop);
+            }
+
+            Map<UUID, Map<String, Map<String, Long>>> grants = source.loadPermissionGrants();
+            target.savePermissionGrants(grants, grants.keySet());
+
+            target.awaitWrites();
+            target.markFlatFilesImported();
+            logger.info("Imported flat-file data into SQLite: " + pointCount + " zones, "
+                + (statistics != null ? "statistics, " : "") + shops.size() + " shops, "
+                + grants.size() + " players with permission rewards.");
+        } catch (Exception e) {
+            logger.severe("Failed to import flat-file data into SQLite, will retry on next start: " + e.getMessage());
+        }
+    }
+
     /**
      * Restore primary YAML templates as exact raw copies from the plugin jar.
      * This preserves banner/comments/order from bundled resources.
@@ -80,8 +121,8 @@ public final class DataMigrationManager {
             return;
         }
 
-        FileConfiguration defaults = YamlConfiguration.loadConfiguration(zoneTemplateFile);
-        if (defaults.getKeys(true).isEmpty()) {
+        FileConfiguration defaults = loadZoneTemplate();
+        if (defaults == null) {
             logger.warning("zone-template.yml is empty; skipping zone schema migration.");
             return;
         }
@@ -91,21 +132,59 @@ public final class DataMigrationManager {
             return;
         }
 
-        for (File zoneFile : files) {
+        // Each file is merged against the shared, read-only template on the startup pool.
+        StartupLoader.forEach(plugin.getStartupLoader(), Arrays.asList(files), zoneFile -> {
             try {
-                YamlConfiguration zoneConfig = YamlConfiguration.loadConfiguration(zoneFile);
-                List<String> addedPaths = new ArrayList<>();
-                boolean changed = mergeMissingSection(zoneConfig, defaults, "", addedPaths);
-                if (!changed) {
-                    continue;
-                }
-                backupBeforeWrite(zoneFile);
-                zoneConfig.save(zoneFile);
-                logger.info("Zone schema migrated (add-missing-only): " + zoneFile.getName() + " (" + addedPaths.size() + " keys added)");
+                migrateZoneConfig(zoneFile, YamlConfiguration.loadConfiguration(zoneFile), defaults);
             } catch (Exception e) {
                 logger.warning("Failed migrating zone schema for " + zoneFile.getName() + ": " + e.getMessage());
             }
+        });
+    }
+
+    /**
+     * zone-template.yml as migration defaults, or null when it is missing or empty.
+     */
+    FileConfiguration loadZoneTemplate() {
+        File zoneTemplateFile = new File(plugin.getDataFolder(), "zone-template.yml");
+        if (!zoneTemplateFile.isFile()) {
+            return null;
+        }
+        FileConfiguration defaults = YamlConfiguration.loadConfiguration(zoneTemplateFile);
+        return defaults.getKeys(true).isEmpty() ? null : defaults;
+    }
+
+    /**
+     * Add the template keys missing from one already parsed zone config and save it.
+     * Safe off the main thread.
+     *
+     * @return true when keys were added and the file was rewritten
+     */
+    boolean migrateZoneConfig(File zoneFile, YamlConfiguration zoneConfig, FileConfiguration defaults) throws IOException {
+        int added = mergeZoneDefaults(zoneConfig, defaults);
+        if (added == 0) {
+            return false;
         }
+        saveMigratedZoneConfig(zoneFile, zoneConfig, added);
+        return true;
+    }
+
+    /**
+     * Add the template keys missing from a parsed zone config in memory only; staged reloads
+     * save the result with {@link #saveMigratedZoneConfig} once the reload is applied.
+     *
+     * @return the number of keys added
+     */
+    int mergeZoneDefaults(YamlConfiguration zoneConfig, FileConfiguration defaults) {
+        List<String> addedPaths = new ArrayList<>();
+        mergeMissingSection(zoneConfig, defaults, "", addedPaths);
+        return addedPaths.size();
+    }
+
+    void saveMigratedZoneConfig(File zoneFile, YamlConfiguration zoneConfig, int addedKeys) throws IOException {
+        backupBeforeWrite(zoneFile);
+        zoneConfig.save(zoneFile);
+        logger.info("Zone schema migrated (add-missing-only): " + zoneFile.getName() + " (" + addedKeys + " keys added)");
     }
 
     private void migrateZoneTemplateSchema() {
@@ -322,7 +401,7 @@ public final class DataMigrationManager {
             return;
         }
 
-        for (File shopFile : shopFiles) {
+        StartupLoader.forEach(plugin.getStartupLoader(), Arrays.asList(shopFiles), shopFile -> {
             try {
                 YamlConfiguration config = YamlConfiguration.loadConfiguration(shopFile);
                 List<String> addedPaths = new ArrayList<>();
@@ -386,7 +465,7 @@ public final class DataMigrationManager {
                 }
 
                 if (!changed) {
-                    continue;
+                    return;
                 }
 
                 backupBeforeWrite(shopFile);
@@ -395,15 +474,25 @@ public final class DataMigrationManager {
             } catch (Exception e) {
                 logger.warning("Failed migrating shop schema for " + shopFile.getName() + ": " + e.getMessage());
             }
-        }
+        });
     }
 
     private void migrateStatisticsFile() {
+        if (plugin.getConfig().getBoolean("statistics.storage.gzip", false)) {
+            // Compressed statistics are always written in the current schema.
+            return;
+        }
         File statsFile = new File(plugin.getDataFolder(), "statistics.json");
         JsonElement defaultTree = gson.toJsonTree(new StatisticsData());
 
         try {
             if (!statsFile.exists()) {
+                File gzipFile = new File(plugin.getDataFolder(), "statistics.json.gz");
+                if (gzipFile.exists() || StatisticsFileStore.hasBackups(statsFile)) {
+                    // A default file would be newer than the real data and shadow it on load.
+                    logger.info("statistics.json is missing; leaving recovery to its compressed copy or backups.");
+                    return;
+                }
                 statsFile.getParentFile().mkdirs();
                 try (FileWriter writer = new FileWriter(statsFile, StandardCharsets.UTF_8)) {
                     gson.toJson(defaultTree, writer);
@@ -721,7 +810,8 @@ public final class DataMigrationManager {
         if (backupFile.exists()) {
             return;
         }
-        if (!backupFile.getParentFile().exists() && !backupFile.getParentFile().mkdirs()) {
+        // Parallel migrations may create the same folder at once.
+        if (!backupFile.getParentFile().mkdirs() && !backupFile.getParentFile().isDirectory()) {
             logger.warning("Failed to create backup folder: " + backupFile.getParent());
             return;
         }
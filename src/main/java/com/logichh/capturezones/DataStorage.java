@@ -0,0 +1,49 @@
+package com.logichh.capturezones;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Storage backend for zone state, statistics, shops and permission reward grants.
+ *
+ * Selected once at startup from {@code storage.type}. Load methods block; save methods may
+ * hand the work to a writer thread, so callers pass data they will not mutate afterwards or
+ * let the backend copy it first.
+ */
+interface DataStorage {
+    String getName();
+
+    boolean initialize();
+
+    /**
+     * Finish queued writes and release resources.
+     */
+    void close();
+
+    CapturePointStore.Backend createCapturePointBackend(File capturePointsFile);
+
+    /**
+     * @return stored statistics, or null when none were saved yet
+     */
+    StatisticsData loadStatistics() throws Exception;
+
+    void saveStatistics(StatisticsData data) throws Exception;
+
+    Map<String, ShopData> loadShops();
+
+    void saveShop(ShopData shop);
+
+    void deleteShop(String zoneId);
+
+    /**
+     * @return playerId -> permission -> sourceKey -> expiresAtMillis, not yet normalized
+     */
+    Map<UUID, Map<String, Map<String, Long>>> loadPermissionGrants() throws Exception;
+
+    /**
+     * Persist the grants of {@code changedPlayers}; other players' rows are left as stored.
+     */
+    void savePermissionGrants(Map<UUID, Map<String, Map<String, Long>>> grants, Set<UUID> changedPlayers) throws Exception;
+}
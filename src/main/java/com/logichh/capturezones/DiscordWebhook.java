@@ -5,14 +5,9 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 
 import java.awt.Color;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
@@ -43,11 +38,18 @@ public class DiscordWebhook {
     // Per-zone rate limiting: zoneId -> last message timestamp
     private final Map<String, Long> lastMessageTime = new ConcurrentHashMap<>();
     private long rateLimitMs = 1000; // 1 second per zone by default
+
+    private final DiscordWebhookDispatcher dispatcher;
     
     public DiscordWebhook(CaptureZones plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
+        ConfigurationSection discord = plugin.getConfig().getConfigurationSection("discord");
+        int queueCapacity = discord != null ? discord.getInt("queue-capacity", 200) : 200;
+        this.dispatcher = new DiscordWebhookDispatcher(logger, DiscordWebhookDispatcher.createClient(),
+            queueCapacity, 500L, 5);
         loadConfig();
+        this.dispatcher.start();
     }
     
     /**
@@ -68,6 +70,7 @@ public class DiscordWebhook {
         this.showCoordinates = discord.getBoolean("show-coordinates", true);
         this.showRewardsAmount = discord.getBoolean("show-rewards-amount", true);
         this.rateLimitMs = discord.getLong("rate-limit-ms", 1000);
+        this.dispatcher.configure(discord.getLong("batch-window-ms", 500L), discord.getInt("max-attempts", 5));
 
         ConfigurationSection embed = discord.getConfigurationSection("embed");
         String serverName = plugin.getServer() != null ? plugin.getServer().getName() : "Server";
@@ -525,23 +528,14 @@ public class DiscordWebhook {
      */
     @SuppressWarnings("unchecked")
     private void sendEmbed(String title, String description, Color color, JSONObject... fields) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                JSONObject embed = buildEmbed(title, description, color, fields);
-                
-                // Build payload
-                JSONObject payload = new JSONObject();
-                applyRoleMention(payload, null);
-                JSONArray embeds = new JSONArray();
-                embeds.add(embed);
-                payload.put("embeds", embeds);
-                
-                sendWebhook(payload);
-                
-            } catch (Exception e) {
-                logger.warning("Failed to send Discord embed: " + e.getMessage());
-            }
-        });
+        try {
+            JSONObject embed = buildEmbed(title, description, color, fields);
+            JSONObject envelope = new JSONObject();
+            applyRoleMention(envelope, null);
+            dispatcher.submitEmbed(webhookUrl, envelope.toJSONString(), embed.toJSONString());
+        } catch (Exception e) {
+            logger.warning("Failed to send Discord embed: " + e.getMessage());
+        }
     }
     
     /**
@@ -549,16 +543,13 @@ public class DiscordWebhook {
      */
     @SuppressWarnings("unchecked")
     private void sendPlainText(String message) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                JSONObject payload = new JSONObject();
-                applyRoleMention(payload, message);
-                sendWebhook(payload);
-                
-            } catch (Exception e) {
-                logger.warning("Failed to send Discord message: " + e.getMessage());
-            }
-        });
+        try {
+            JSONObject payload = new JSONObject();
+            applyRoleMention(payload, message);
+            dispatcher.submitPlain(webhookUrl, payload.toJSONString());
+        } catch (Exception e) {
+            logger.warning("Failed to send Discord message: " + e.getMessage());
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -629,40 +620,14 @@ public class DiscordWebhook {
     }
     
     /**
-     * Send webhook HTTP request
+     * Stop the delivery thread, giving queued alerts a few seconds to go out.
      */
-    private void sendWebhook(JSONObject payload) {
-        try {
-            URL url = new URL(webhookUrl);
-            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-            connection.setRequestMethod("POST");
-            connection.setRequestProperty("Content-Type", "application/json");
-            connection.setRequestProperty("User-Agent", "CaptureZones-Webhook/1.0");
-            connection.setDoOutput(true);
-            
-            try (OutputStream os = connection.getOutputStream()) {
-                byte[] input = payload.toJSONString().getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-            
-            int responseCode = connection.getResponseCode();
-            if (responseCode == 204 || responseCode == 200) {
-                // Success - Discord returns 204 No Content on success
-                if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
-                    logger.info("Discord webhook sent successfully.");
-                }
-            } else {
-                logger.warning("Discord webhook returned code " + responseCode);
-            }
-            
-            connection.disconnect();
-            
-        } catch (Exception e) {
-            logger.warning("Failed to send Discord webhook: " + e.getMessage());
-            if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
-                e.printStackTrace();
-            }
-        }
+    public void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    DiscordWebhookDispatcher getDispatcher() {
+        return dispatcher;
     }
     
     /**
@@ -0,0 +1,481 @@
+package com.logichh.capturezones;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Delivers Discord webhook payloads from a bounded queue on a single worker thread.
+ *
+ * Embeds queued within {@code batchWindowMillis} of each other for the same webhook and
+ * mention are sent as one message (up to 10 embeds, 6000 characters). The worker follows
+ * Discord's rate limit headers and retries 429, 5xx and network failures a limited number
+ * of times. When the queue is full new alerts are dropped and counted, so a slow or
+ * unreachable Discord never backs up the server.
+ */
+final class DiscordWebhookDispatcher {
+    static final int MAX_EMBEDS_PER_MESSAGE = 10;
+    static final int MAX_EMBED_TEXT = 6000;
+
+    private static final String USER_AGENT = "CaptureZones-Webhook/1.0";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+    private static final long MAX_BACKOFF_MILLIS = 30_000L;
+    private static final long SHUTDOWN_MILLIS = 5_000L;
+
+    private final Logger logger;
+    private final HttpClient client;
+    // Replaces scheme, host and port of webhook URLs when set; null sends to the URL as given.
+    private final URI baseUri;
+    private final Clock clock;
+    private final BlockingQueue<Message> queue;
+    private final Thread worker;
+    private volatile long batchWindowMillis;
+    private volatile int maxAttempts;
+    private volatile boolean running = true;
+
+    // Worker thread only.
+    private Message carried;
+    private long blockedUntil;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong sentEmbeds = new AtomicLong();
+    private final AtomicLong failedMessages = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong requestMillisTotal = new AtomicLong();
+    private volatile long lastDeliveryMillis;
+    private volatile long maxDeliveryMillis;
+
+    DiscordWebhookDispatcher(Logger logger, HttpClient client, int queueCapacity, long batchWindowMillis, int maxAttempts) {
+        this(logger, client, queueCapacity, batchWindowMillis, maxAttempts, null, Clock.SYSTEM);
+    }
+
+    DiscordWebhookDispatcher(Logger logger, HttpClient client, int queueCapacity, long batchWindowMillis, int maxAttempts,
+                             URI baseUri, Clock clock) {
+        this.logger = logger;
+        this.client = client;
+        this.baseUri = baseUri;
+        this.clock = clock;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchWindowMillis = Math.max(0L, batchWindowMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.worker = new Thread(this::run, "CaptureZones-Discord");
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Shared client for the plugin; keeps connections to Discord alive between messages.
+     */
+    static HttpClient createClient() {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    void start() {
+        this.worker.start();
+    }
+
+    void configure(long batchWindowMillis, int maxAttempts) {
+        this.batchWindowMillis = Math.max(0L, batchWindowMillis);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Queue a message with one embed. {@code envelopeJson} holds the other payload fields
+     * (content, allowed_mentions); messages with equal envelopes may share a request.
+     *
+     * @return false when the queue is full or the dispatcher is shut down
+     */
+    boolean submitEmbed(String webhookUrl, String envelopeJson, String embedJson) {
+        return offer(new Message(webhookUrl, envelopeJson, JsonParser.parseString(embedJson).getAsJsonObject(),
+            this.clock.millis()));
+    }
+
+    /**
+     * Queue a message without embeds; it is always sent on its own.
+     */
+    boolean submitPlain(String webhookUrl, String payloadJson) {
+        return offer(new Message(webhookUrl, payloadJson, null, this.clock.millis()));
+    }
+
+    private boolean offer(Message message) {
+        if (!this.running || !this.queue.offer(message)) {
+            long total = this.dropped.incrementAndGet();
+            if (total == 1L || total % 100L == 0L) {
+                this.logger.warning("Discord webhook queue is full; " + total + " alert(s) dropped so far.");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Stop accepting messages and give the worker a few seconds to deliver what is queued.
+     */
+    void shutdown() {
+        this.running = false;
+        try {
+            this.worker.join(SHUTDOWN_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (this.worker.isAlive()) {
+            this.worker.interrupt();
+        }
+        int abandoned = this.queue.size() + (this.carried != null ? 1 : 0);
+        if (abandoned > 0) {
+            this.dropped.addAndGet(abandoned);
+            this.queue.clear();
+            this.logger.warning("Discord webhook shut down with " + abandoned + " undelivered alert(s).");
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Message first = this.carried;
+            this.carried = null;
+            if (first == null) {
+                if (!this.running && this.queue.isEmpty()) {
+                    return;
+                }
+                try {
+                    first = this.queue.poll(250L, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+            }
+
+            List<Message> batch = new ArrayList<>();
+            batch.add(first);
+            if (first.embed != null) {
+                long waitMillis = first.queuedAt + this.batchWindowMillis - this.clock.millis();
+                if (waitMillis > 0L && this.running && !sleep(waitMillis)) {
+                    this.carried = first;
+                    return;
+                }
+                int textLength = first.embedTextLength;
+                while (batch.size() < MAX_EMBEDS_PER_MESSAGE) {
+                    Message next = this.queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (!first.canShareWith(next) || textLength + next.embedTextLength > MAX_EMBED_TEXT) {
+                        this.carried = next;
+                        break;
+                    }
+                    batch.add(next);
+                    textLength += next.embedTextLength;
+                }
+            }
+
+            try {
+                deliver(batch);
+            } catch (InterruptedException e) {
+                this.dropped.addAndGet(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                this.failedMessages.incrementAndGet();
+                this.logger.log(Level.WARNING, "Failed to send Discord webhook", e);
+            }
+        }
+    }
+
+    private void deliver(List<Message> batch) throws InterruptedException {
+        Message first = batch.get(0);
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(target(first.webhookUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("User-Agent", USER_AGENT)
+                .POST(HttpRequest.BodyPublishers.ofString(buildPayload(batch), StandardCharsets.UTF_8))
+                .build();
+        } catch (IllegalArgumentException e) {
+            this.failedMessages.incrementAndGet();
+            this.logger.warning("Discord webhook URL is invalid: " + e.getMessage());
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            long waitMillis = this.blockedUntil - this.clock.millis();
+            if (waitMillis > 0L) {
+                this.clock.sleep(waitMillis);
+            }
+
+            long started = System.nanoTime();
+            HttpResponse<String> response;
+            try {
+                response = this.client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                if (!retry(attempt, backoffMillis(attempt))) {
+                    this.failedMessages.incrementAndGet();
+                    this.logger.warning("Failed to send Discord webhook: " + e.getMessage());
+                    return;
+                }
+                continue;
+            }
+            this.requests.incrementAndGet();
+            this.requestMillisTotal.addAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            applyRateLimitHeaders(response.headers());
+
+            int status = response.statusCode();
+            if (status >= 200 && status < 300) {
+                recordDelivered(batch);
+                return;
+            }
+            if (status == 429) {
+                this.rateLimited.incrementAndGet();
+                long retryAfter = retryAfterMillis(response);
+                this.blockedUntil = Math.max(this.blockedUntil, this.clock.millis() + retryAfter);
+                if (retry(attempt, 0L)) {
+                    continue;
+                }
+            } else if (status >= 500 && retry(attempt, backoffMillis(attempt))) {
+                continue;
+            }
+            this.failedMessages.incrementAndGet();
+            this.logger.warning("Discord webhook returned code " + status);
+            return;
+        }
+    }
+
+    private boolean retry(int attempt, long delayMillis) throws InterruptedException {
+        if (attempt >= this.maxAttempts) {
+            return false;
+        }
+        this.retries.incrementAndGet();
+        if (delayMillis > 0L) {
+            this.clock.sleep(delayMillis);
+        }
+        return true;
+    }
+
+    private void recordDelivered(List<Message> batch) {
+        this.sentMessages.incrementAndGet();
+        if (batch.get(0).embed != null) {
+            this.sentEmbeds.addAndGet(batch.size());
+        }
+        long delivery = this.clock.millis() - batch.get(0).queuedAt;
+        this.lastDeliveryMillis = delivery;
+        if (delivery > this.maxDeliveryMillis) {
+            this.maxDeliveryMillis = delivery;
+        }
+    }
+
+    /**
+     * Pause before the next request once the bucket is used up, instead of waiting for a 429.
+     */
+    private void applyRateLimitHeaders(HttpHeaders headers) {
+        String remaining = headers.firstValue("X-RateLimit-Remaining").orElse(null);
+        String resetAfter = headers.firstValue("X-RateLimit-Reset-After").orElse(null);
+        if (!"0".equals(remaining) || resetAfter == null) {
+            return;
+        }
+        long millis = secondsToMillis(resetAfter);
+        if (millis > 0L) {
+            this.blockedUntil = Math.max(this.blockedUntil, this.clock.millis() + millis);
+        }
+    }
+
+    private URI target(String webhookUrl) {
+        URI uri = URI.create(webhookUrl);
+        if (this.baseUri == null) {
+            return uri;
+        }
+        String query = uri.getRawQuery();
+        return this.baseUri.resolve(uri.getRawPath() + (query != null ? "?" + query : ""));
+    }
+
+    private static long retryAfterMillis(HttpResponse<String> response) {
+        String body = response.body();
+        if (body != null && !body.isEmpty()) {
+            try {
+                JsonElement parsed = JsonParser.parseString(body);
+                if (parsed.isJsonObject() && parsed.getAsJsonObject().has("retry_after")) {
+                    return Math.max(0L, (long) Math.ceil(parsed.getAsJsonObject().get("retry_after").getAsDouble() * 1000.0));
+                }
+            } catch (RuntimeException ignored) {
+                // Fall back to the header.
+            }
+        }
+        long header = secondsToMillis(response.headers().firstValue("Retry-After").orElse(null));
+        return header > 0L ? header : 1000L;
+    }
+
+    private static long secondsToMillis(String seconds) {
+        if (seconds == null) {
+            return -1L;
+        }
+        try {
+            return (long) Math.ceil(Double.parseDouble(seconds.trim()) * 1000.0);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static long backoffMillis(int attempt) {
+        return Math.min(MAX_BACKOFF_MILLIS, 1000L << Math.min(attempt - 1, 5));
+    }
+
+    private static String buildPayload(List<Message> batch) {
+        Message first = batch.get(0);
+        if (first.embed == null) {
+            return first.envelopeJson;
+        }
+        JsonObject payload = JsonParser.parseString(first.envelopeJson).getAsJsonObject();
+        JsonArray embeds = new JsonArray();
+        for (Message message : batch) {
+            embeds.add(message.embed);
+        }
+        payload.add("embeds", embeds);
+        return payload.toString();
+    }
+
+    /**
+     * Characters Discord counts towards the 6000 character limit of one message.
+     */
+    static int embedTextLength(JsonObject embed) {
+        int length = stringLength(embed, "title") + stringLength(embed, "description");
+        if (embed.has("author") && embed.get("author").isJsonObject()) {
+            length += stringLength(embed.getAsJsonObject("author"), "name");
+        }
+        if (embed.has("footer") && embed.get("footer").isJsonObject()) {
+            length += stringLength(embed.getAsJsonObject("footer"), "text");
+        }
+        if (embed.has("fields") && embed.get("fields").isJsonArray()) {
+            for (JsonElement field : embed.getAsJsonArray("fields")) {
+                if (field.isJsonObject()) {
+                    length += stringLength(field.getAsJsonObject(), "name") + stringLength(field.getAsJsonObject(), "value");
+                }
+            }
+        }
+        return length;
+    }
+
+    private static int stringLength(JsonObject object, String key) {
+        JsonElement value = object.get(key);
+        return value != null && value.isJsonPrimitive() ? value.getAsString().length() : 0;
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            this.clock.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    int getQueueDepth() {
+        return this.queue.size();
+    }
+
+    int getQueueCapacity() {
+        return this.queue.size() + this.queue.remainingCapacity();
+    }
+
+    long getDropped() {
+        return this.dropped.get();
+    }
+
+    long getSentMessages() {
+        return this.sentMessages.get();
+    }
+
+    long getSentEmbeds() {
+        return this.sentEmbeds.get();
+    }
+
+    long getFailedMessages() {
+        return this.failedMessages.get();
+    }
+
+    long getRetries() {
+        return this.retries.get();
+    }
+
+    long getRateLimited() {
+        return this.rateLimited.get();
+    }
+
+    long getAverageRequestMillis() {
+        long count = this.requests.get();
+        return count == 0L ? 0L : this.requestMillisTotal.get() / count;
+    }
+
+    long getLastDeliveryMillis() {
+        return this.lastDeliveryMillis;
+    }
+
+    long getMaxDeliveryMillis() {
+        return this.maxDeliveryMillis;
+    }
+
+    private static final class Message {
+        final String webhookUrl;
+        final String envelopeJson;
+        final JsonObject embed;
+        final int embedTextLength;
+        final long queuedAt;
+
+        Message(String webhookUrl, String envelopeJson, JsonObject embed, long queuedAt) {
+            this.webhookUrl = webhookUrl;
+            this.envelopeJson = envelopeJson;
+            this.embed = embed;
+            this.embedTextLength = embed != null ? embedTextLength(embed) : 0;
+            this.queuedAt = queuedAt;
+        }
+
+        boolean canShareWith(Message other) {
+            return other.embed != null
+                && this.webhookUrl.equals(other.webhookUrl)
+                && this.envelopeJson.equals(other.envelopeJson);
+        }
+    }
+
+    /**
+     * Time source for batching, rate limits and backoff, so tests need not wait in real time.
+     */
+    interface Clock {
+        Clock SYSTEM = new Clock() {
+            @Override
+            public long millis() {
+                return System.currentTimeMillis();
+            }
+
+            @Override
+            public void sleep(long millis) throws InterruptedException {
+                Thread.sleep(millis);
+            }
+        };
+
+        long millis();
+
+        void sleep(long millis) throws InterruptedException;
+    }
+}
@@ -7,6 +7,9 @@ import org.dynmap.markers.Marker;
 import org.dynmap.markers.MarkerAPI;
 import org.dynmap.markers.MarkerSet;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 /**
@@ -149,18 +152,31 @@ public class DynmapProvider implements MapProvider {
         }
         
         try {
-            // Clear existing markers
-            for (Marker marker : markerSet.getMarkers()) {
-                marker.deleteMarker();
-            }
-            for (AreaMarker areaMarker : markerSet.getAreaMarkers()) {
-                areaMarker.deleteMarker();
-            }
-            
-            // Update all capture zones
+            // Redraw only markers whose rendered values changed
+            Set<String> pointIds = new HashSet<>();
             for (CapturePoint point : plugin.getCapturePoints().values()) {
-                if (point != null && point.isShowOnMap() && plugin.shouldDisplayPoint(point)) {
+                if (point == null) {
+                    continue;
+                }
+                if (point.isShowOnMap() && plugin.shouldDisplayPoint(point)) {
                     townUpdater.updateMarker(point);
+                    pointIds.add(point.getId());
+                } else {
+                    townUpdater.removeMarkers(point.getId());
+                }
+            }
+
+            // Drop markers of deleted zones and anything else left in our set
+            for (Marker marker : new ArrayList<>(markerSet.getMarkers())) {
+                if (!isCurrentMarker(marker.getMarkerID(), pointIds)) {
+                    marker.deleteMarker();
+                    townUpdater.forgetMarker(marker.getMarkerID());
+                }
+            }
+            for (AreaMarker areaMarker : new ArrayList<>(markerSet.getAreaMarkers())) {
+                if (!isCurrentMarker(areaMarker.getMarkerID(), pointIds)) {
+                    areaMarker.deleteMarker();
+                    townUpdater.forgetMarker(areaMarker.getMarkerID());
                 }
             }
             
@@ -175,6 +191,19 @@ public class DynmapProvider implements MapProvider {
         }
     }
     
+    private boolean isCurrentMarker(String markerId, Set<String> pointIds) {
+        if (markerId == null || !townUpdater.isRendered(markerId)) {
+            return false;
+        }
+        return hasPointSuffix(markerId, "capture_buffer_", pointIds)
+            || hasPointSuffix(markerId, "capture_", pointIds)
+            || hasPointSuffix(markerId, "center_", pointIds);
+    }
+
+    private boolean hasPointSuffix(String markerId, String prefix, Set<String> pointIds) {
+        return markerId.startsWith(prefix) && pointIds.contains(markerId.substring(prefix.length()));
+    }
+    
     @Override
     public void cleanup() {
         if (markerSet != null) {
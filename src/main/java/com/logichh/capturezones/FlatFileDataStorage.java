@@ -0,0 +1,293 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Default storage: capture_points.yml (with its journal), statistics.json, shops/*_shop.yml and
+ * permission_rewards/<uuid>.yml in the plugin folder.
+ */
+final class FlatFileDataStorage implements DataStorage {
+    static final String STATISTICS_FILE_NAME = "statistics.json";
+    static final String SHOPS_FOLDER_NAME = "shops";
+    static final String PERMISSION_REWARDS_FILE_NAME = "permission_rewards.yml";
+    static final String PERMISSION_REWARDS_FOLDER_NAME = "permission_rewards";
+    private static final String SHOP_FILE_SUFFIX = "_shop.yml";
+    private static final String GRANT_FILE_SUFFIX = ".yml";
+
+    private final CaptureZones plugin;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+    private final StatisticsFileStore statisticsStore;
+    private final File shopsFolder;
+    private final File permissionRewardsFolder;
+    // Single-file layout of older versions, split per player on first load.
+    private final File legacyPermissionRewardsFile;
+
+    FlatFileDataStorage(CaptureZones plugin) {
+        this.plugin = plugin;
+        this.statisticsStore = new StatisticsFileStore(
+            new File(plugin.getDataFolder(), STATISTICS_FILE_NAME),
+            plugin.getLogger(),
+            this.gson,
+            plugin.getConfig().getBoolean("statistics.storage.gzip", false),
+            plugin.getConfig().getInt("statistics.storage.backups", 3)
+        );
+        this.shopsFolder = new File(plugin.getDataFolder(), SHOPS_FOLDER_NAME);
+        this.permissionRewardsFolder = new File(plugin.getDataFolder(), PERMISSION_REWARDS_FOLDER_NAME);
+        this.legacyPermissionRewardsFile = new File(plugin.getDataFolder(), PERMISSION_REWARDS_FILE_NAME);
+    }
+
+    @Override
+    public String getName() {
+        return "flat-file";
+    }
+
+    @Override
+    public boolean initialize() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        this.statisticsStore.shutdown();
+    }
+
+    @Override
+    public CapturePointStore.Backend createCapturePointBackend(File capturePointsFile) {
+        return new CapturePointStore.JournalBackend(capturePointsFile, this.plugin.getLogger());
+    }
+
+    @Override
+    public StatisticsData loadStatistics() throws IOException {
+        return this.statisticsStore.load();
+    }
+
+    @Override
+    public void saveStatistics(StatisticsData data) {
+        data.drainDirtyRows();
+        this.statisticsStore.save(data);
+    }
+
+    StatisticsFileStore getStatisticsStore() {
+        return this.statisticsStore;
+    }
+
+    @Override
+    public Map<String, ShopData> loadShops() {
+        Map<String, ShopData> shops = new LinkedHashMap<>();
+        if (!this.shopsFolder.exists()) {
+            this.shopsFolder.mkdirs();
+        }
+        File[] files = this.shopsFolder.listFiles((dir, name) -> name.endsWith(SHOP_FILE_SUFFIX));
+        if (files != null) {
+            Map<File, ShopData> loaded = StartupLoader.map(this.plugin.getStartupLoader(), Arrays.asList(files),
+                file -> ShopData.load(file.getName().replace(SHOP_FILE_SUFFIX, ""), file));
+            for (ShopData shop : loaded.values()) {
+                shops.put(shop.getZoneId(), shop);
+            }
+        }
+        return shops;
+    }
+
+    @Override
+    public void saveShop(ShopData shop) {
+        if (!this.shopsFolder.exists()) {
+            this.shopsFolder.mkdirs();
+        }
+        shop.save(shopFile(shop.getZoneId()));
+    }
+
+    @Override
+    public void deleteShop(String zoneId) {
+        File file = shopFile(zoneId);
+        if (file.exists()) {
+            file.delete();
+        }
+    }
+
+    private File shopFile(String zoneId) {
+        return new File(this.shopsFolder, zoneId + SHOP_FILE_SUFFIX);
+    }
+
+    @Override
+    public Map<UUID, Map<String, Map<String, Long>>> loadPermissionGrants() throws IOException {
+        Map<UUID, Map<String, Map<String, Long>>> grants = new HashMap<>();
+        if (this.legacyPermissionRewardsFile.exists()) {
+            splitLegacyPermissionRewards();
+        }
+        File[] files = this.permissionRewardsFolder.listFiles((dir, name) -> name.endsWith(GRANT_FILE_SUFFIX));
+        if (files == null) {
+            return grants;
+        }
+        for (File file : files) {
+            UUID playerId;
+            try {
+                playerId = UUID.fromString(file.getName().substring(0, file.getName().length() - GRANT_FILE_SUFFIX.length()));
+            } catch (IllegalArgumentException ignored) {
+                continue;
+            }
+            FileConfiguration config = YamlConfiguration.loadConfiguration(file);
+            readGrantRows(config.getList("grants"), playerId, grants);
+        }
+        return grants;
+    }
+
+    /**
+     * Only the files of {@code changedPlayers} are rewritten; a player with no grants left
+     * loses their file.
+     */
+    @Override
+    public void savePermissionGrants(Map<UUID, Map<String, Map<String, Long>>> grants, Set<UUID> changedPlayers) throws IOException {
+        if (changedPlayers.isEmpty()) {
+            return;
+        }
+        if (!this.permissionRewardsFolder.exists() && !this.permissionRewardsFolder.mkdirs()) {
+            throw new IOException("Failed to create folder for permission rewards.");
+        }
+        for (UUID playerId : changedPlayers) {
+            if (playerId == null) {
+                continue;
+            }
+            writePlayerGrants(playerId, grants.get(playerId));
+        }
+    }
+
+    private File grantFile(UUID playerId) {
+        return new File(this.permissionRewardsFolder, playerId + GRANT_FILE_SUFFIX);
+    }
+
+    private void writePlayerGrants(UUID playerId, Map<String, Map<String, Long>> byPermission) throws IOException {
+        List<Map<String, Object>> rows = grantRows(byPermission);
+        File file = grantFile(playerId);
+        if (rows.isEmpty()) {
+            if (file.exists() && !file.delete()) {
+                throw new IOException("Failed to delete " + file.getName());
+            }
+            return;
+        }
+        FileConfiguration config = new YamlConfiguration();
+        config.set("version", 1);
+        config.set("grants", rows);
+        config.save(file);
+    }
+
+    /**
+     * Move the single permission_rewards.yml of older versions into per-player files, then
+     * keep it as permission_rewards.yml.migrated.
+     */
+    private void splitLegacyPermissionRewards() throws IOException {
+        FileConfiguration legacy = YamlConfiguration.loadConfiguration(this.legacyPermissionRewardsFile);
+        ConfigurationSection playersSection = legacy.getConfigurationSection("players");
+        if (playersSection != null) {
+            if (!this.permissionRewardsFolder.exists() && !this.permissionRewardsFolder.mkdirs()) {
+                throw new IOException("Failed to create folder for permission rewards.");
+            }
+            for (String uuidRaw : playersSection.getKeys(false)) {
+                UUID playerId;
+                try {
+                    playerId = UUID.fromString(uuidRaw);
+                } catch (IllegalArgumentException ignored) {
+                    continue;
+                }
+                // A per-player file already there is newer than the legacy copy.
+                if (grantFile(playerId).exists()) {
+                    continue;
+                }
+                Map<UUID, Map<String, Map<String, Long>>> player = new HashMap<>();
+                readGrantRows(playersSection.getList(uuidRaw + ".grants"), playerId, player);
+                writePlayerGrants(playerId, player.get(playerId));
+            }
+        }
+        File migrated = new File(this.legacyPermissionRewardsFile.getParentFile(),
+            PERMISSION_REWARDS_FILE_NAME + ".migrated");
+        if (migrated.exists()) {
+            migrated.delete();
+        }
+        if (!this.legacyPermissionRewardsFile.renameTo(migrated)) {
+            throw new IOException("Failed to rename " + PERMISSION_REWARDS_FILE_NAME + " after splitting it.");
+        }
+        this.plugin.getLogger().info("Split " + PERMISSION_REWARDS_FILE_NAME + " into "
+            + PERMISSION_REWARDS_FOLDER_NAME + "/ (one file per player).");
+    }
+
+    private static void readGrantRows(List<?> rows, UUID playerId, Map<UUID, Map<String, Map<String, Long>>> grants) {
+        if (rows == null) {
+            return;
+        }
+        for (Object rawRow : rows) {
+            if (!(rawRow instanceof Map<?, ?>)) {
+                continue;
+            }
+            Map<?, ?> row = (Map<?, ?>) rawRow;
+            Object permissionRaw = row.get("permission");
+            Object sourceRaw = row.get("source");
+            Long expiresAt = parseLongValue(row.get("expires-at"));
+            if (permissionRaw == null || sourceRaw == null || expiresAt == null) {
+                continue;
+            }
+            grants.computeIfAbsent(playerId, ignored -> new HashMap<>())
+                .computeIfAbsent(String.valueOf(permissionRaw), ignored -> new HashMap<>())
+                .put(String.valueOf(sourceRaw), expiresAt);
+        }
+    }
+
+    private static List<Map<String, Object>> grantRows(Map<String, Map<String, Long>> byPermission) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (byPermission == null) {
+            return rows;
+        }
+        for (Map.Entry<String, Map<String, Long>> permissionEntry : byPermission.entrySet()) {
+            String permission = permissionEntry.getKey();
+            Map<String, Long> bySource = permissionEntry.getValue();
+            if (permission == null || permission.isEmpty() || bySource == null || bySource.isEmpty()) {
+                continue;
+            }
+
+            for (Map.Entry<String, Long> sourceEntry : bySource.entrySet()) {
+                String source = sourceEntry.getKey();
+                Long expiresAt = sourceEntry.getValue();
+                if (source == null || source.trim().isEmpty() || expiresAt == null) {
+                    continue;
+                }
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("permission", permission);
+                row.put("source", source);
+                row.put("expires-at", expiresAt);
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static Long parseLongValue(Object raw) {
+        if (raw instanceof Number) {
+            return ((Number) raw).longValue();
+        }
+        if (raw == null) {
+            return null;
+        }
+        String text = String.valueOf(raw).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException ignored) {
+            return null;
+        }
+    }
+}
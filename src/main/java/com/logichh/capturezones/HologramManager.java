@@ -8,13 +8,13 @@ import org.bukkit.scheduler.BukkitTask;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
 import java.util.logging.Logger;
 
 /**
@@ -41,6 +41,10 @@ public class HologramManager {
     private final CaptureZones plugin;
     private final Logger logger;
     private final Set<String> proximitySuspendedPoints;
+    // hologram instance id -> what it was last rendered from
+    private final Map<String, MarkerSnapshot> renderedInstances;
+    // reused by resolveTemplateValues; holograms only render on the main thread
+    private final Map<String, String> templateValues;
     private HologramProvider provider;
     private BukkitTask updateTask;
 
@@ -48,6 +52,8 @@ public class HologramManager {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.proximitySuspendedPoints = new HashSet<>();
+        this.renderedInstances = new HashMap<>();
+        this.templateValues = new LinkedHashMap<>();
         this.provider = new NoopHologramProvider();
     }
 
@@ -94,16 +100,17 @@ public class HologramManager {
         this.provider = new NoopHologramProvider();
         this.provider.initialize();
         this.proximitySuspendedPoints.clear();
+        this.renderedInstances.clear();
     }
 
     public void updateAll() {
         if (!isActive()) {
             return;
         }
-        Map<UUID, List<Location>> viewerLocationsByWorld = collectViewerLocationsByWorld();
+        Set<String> viewedPoints = collectViewedPoints();
         this.proximitySuspendedPoints.retainAll(plugin.getCapturePoints().keySet());
         for (CapturePoint point : plugin.getCapturePoints().values()) {
-            updatePoint(point, viewerLocationsByWorld);
+            updatePoint(point, viewedPoints);
         }
     }
 
@@ -111,7 +118,11 @@ public class HologramManager {
         updatePoint(point, null);
     }
 
-    private void updatePoint(CapturePoint point, Map<UUID, List<Location>> viewerLocationsByWorld) {
+    /**
+     * @param viewedPoints ids of points with a player in visibility range, or null to check
+     *                     this point's world directly
+     */
+    private void updatePoint(CapturePoint point, Set<String> viewedPoints) {
         if (point == null || point.getId() == null || point.getId().trim().isEmpty()) {
             return;
         }
@@ -130,8 +141,10 @@ public class HologramManager {
         }
 
         if (shouldSuspendWhenNoPlayersNearby(pointId)) {
-            double visibilityRange = resolveVisibilityRange(pointId);
-            if (!hasNearbyViewer(pointLocation, visibilityRange, viewerLocationsByWorld)) {
+            boolean viewed = viewedPoints != null
+                ? viewedPoints.contains(pointId)
+                : hasNearbyViewer(pointLocation, resolveVisibilityRange(pointId));
+            if (!viewed) {
                 if (proximitySuspendedPoints.add(pointId)) {
                     removePoint(pointId);
                 }
@@ -147,24 +160,32 @@ public class HologramManager {
             return;
         }
 
-        double heightOffset = resolveZoneDouble(pointId, "hologram.height-offset", resolveDefaultHeightOffset());
-        double spacing = resolveZoneDouble(pointId, "hologram.line-spacing", resolveDefaultLineSpacing());
-        int configuredInstances = resolveZoneInt(pointId, "hologram.instances", resolveDefaultInstances());
+        ZoneSettings settings = resolveZoneSettings(pointId);
+        double heightOffset = settings != null ? settings.hologramHeightOffset : resolveDefaultHeightOffset();
+        double spacing = settings != null ? settings.hologramLineSpacing : resolveDefaultLineSpacing();
+        int configuredInstances = settings != null ? settings.hologramInstances : resolveDefaultInstances();
         int instances = Math.max(1, Math.min(MAX_INSTANCES_HARD_LIMIT, configuredInstances));
-        double configuredHorizontalOffset = resolveZoneDouble(
-            pointId,
-            "hologram.horizontal-offset",
-            resolveDefaultHorizontalOffset()
-        );
+        double configuredHorizontalOffset = settings != null
+            ? settings.hologramHorizontalOffset
+            : resolveDefaultHorizontalOffset();
         double horizontalOffset = clamp(configuredHorizontalOffset, 0.0d, MAX_HORIZONTAL_OFFSET);
-        boolean fixedOrientation = resolveZoneBoolean(pointId, "hologram.fixed-orientation", resolveDefaultFixedOrientation());
+        boolean fixedOrientation = settings != null ? settings.hologramFixedOrientation : resolveDefaultFixedOrientation();
 
         Location centerBase = pointLocation.clone().add(0.0d, heightOffset, 0.0d);
         List<Location> instanceBases = buildInstanceBases(centerBase, instances, horizontalOffset, fixedOrientation);
         int effectiveInstances = Math.max(1, instanceBases.size());
         for (int index = 0; index < instanceBases.size(); index++) {
             String hologramId = buildInstanceId(pointId, effectiveInstances, index);
-            provider.createOrUpdate(hologramId, instanceBases.get(index), lines, spacing, fixedOrientation);
+            Location base = instanceBases.get(index);
+            MarkerSnapshot snapshot = new MarkerSnapshot(
+                base.getWorld().getUID(), base.getX(), base.getY(), base.getZ(), base.getYaw(),
+                lines, spacing, fixedOrientation
+            );
+            if (snapshot.equals(renderedInstances.get(hologramId)) && provider.isRendered(hologramId)) {
+                continue;
+            }
+            provider.createOrUpdate(hologramId, base, lines, spacing, fixedOrientation);
+            renderedInstances.put(hologramId, snapshot);
         }
         removeUnusedInstanceIds(pointId, effectiveInstances);
     }
@@ -173,12 +194,17 @@ public class HologramManager {
         if (pointId == null || pointId.trim().isEmpty() || this.provider == null) {
             return;
         }
-        this.provider.remove(pointId);
+        removeInstance(pointId);
         for (int index = 0; index < MAX_INSTANCES_HARD_LIMIT; index++) {
-            this.provider.remove(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
+            removeInstance(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
         }
     }
 
+    private void removeInstance(String hologramId) {
+        this.renderedInstances.remove(hologramId);
+        this.provider.remove(hologramId);
+    }
+
     public boolean isActive() {
         return this.provider != null && this.provider.isAvailable();
     }
@@ -219,7 +245,8 @@ public class HologramManager {
     }
 
     private boolean isZoneHologramEnabled(String pointId) {
-        return resolveZoneBoolean(pointId, "hologram.enabled", false);
+        ZoneSettings settings = resolveZoneSettings(pointId);
+        return settings != null && settings.hologramEnabled;
     }
 
     private double resolveDefaultHeightOffset() {
@@ -250,57 +277,73 @@ public class HologramManager {
     }
 
     private boolean shouldSuspendWhenNoPlayersNearby(String pointId) {
-        return resolveZoneBoolean(
-            pointId,
-            "hologram.pause-when-no-players-nearby",
-            plugin.getConfig().getBoolean("holograms.pause-when-no-players-nearby", true)
-        );
+        ZoneSettings settings = resolveZoneSettings(pointId);
+        if (settings != null) {
+            return settings.hologramPauseWhenNoPlayersNearby;
+        }
+        return plugin.getConfig().getBoolean("holograms.pause-when-no-players-nearby", true);
     }
 
     private double resolveVisibilityRange(String pointId) {
-        double defaultRange = plugin.getConfig().getDouble("holograms.visibility-range", DEFAULT_VISIBILITY_RANGE_BLOCKS);
-        double configured = resolveZoneDouble(pointId, "hologram.visibility-range", defaultRange);
+        ZoneSettings settings = resolveZoneSettings(pointId);
+        double configured = settings != null
+            ? settings.hologramVisibilityRange
+            : plugin.getConfig().getDouble("holograms.visibility-range", DEFAULT_VISIBILITY_RANGE_BLOCKS);
         return clamp(configured, MIN_VISIBILITY_RANGE_BLOCKS, MAX_VISIBILITY_RANGE_BLOCKS);
     }
 
-    private Map<UUID, List<Location>> collectViewerLocationsByWorld() {
-        Map<UUID, List<Location>> viewerLocationsByWorld = new LinkedHashMap<>();
+    /**
+     * Ids of the points that have a living player within their visibility range. Each player
+     * is looked up in the capture point spatial index, so only points whose footprint lies
+     * within range of the player's chunk are distance-checked.
+     */
+    private Set<String> collectViewedPoints() {
+        Set<String> viewedPoints = new HashSet<>();
+        double maxRange = 0.0d;
+        for (String pointId : plugin.getCapturePoints().keySet()) {
+            if (shouldSuspendWhenNoPlayersNearby(pointId)) {
+                maxRange = Math.max(maxRange, resolveVisibilityRange(pointId));
+            }
+        }
+        if (maxRange <= 0.0d) {
+            return viewedPoints;
+        }
+
+        CapturePointSpatialIndex index = plugin.getCapturePointSpatialIndex();
+        int rangeChunks = (int) Math.ceil(maxRange / 16.0d) + 1;
+        Location playerLocation = new Location(null, 0.0d, 0.0d, 0.0d);
         for (Player player : Bukkit.getOnlinePlayers()) {
             if (player == null || !player.isOnline() || player.isDead()) {
                 continue;
             }
-            Location playerLocation = player.getLocation();
+            player.getLocation(playerLocation);
             if (playerLocation.getWorld() == null) {
                 continue;
             }
-            UUID worldId = playerLocation.getWorld().getUID();
-            viewerLocationsByWorld.computeIfAbsent(worldId, ignored -> new ArrayList<>()).add(playerLocation);
+            for (int slot : index.lookup(playerLocation, rangeChunks)) {
+                CapturePoint point = index.pointAt(slot);
+                if (point == null || viewedPoints.contains(point.getId())) {
+                    continue;
+                }
+                Location pointLocation = point.getLocation();
+                if (pointLocation == null || pointLocation.getWorld() == null
+                    || !pointLocation.getWorld().getUID().equals(playerLocation.getWorld().getUID())) {
+                    continue;
+                }
+                double range = resolveVisibilityRange(point.getId());
+                if (pointLocation.distanceSquared(playerLocation) <= range * range) {
+                    viewedPoints.add(point.getId());
+                }
+            }
         }
-        return viewerLocationsByWorld;
+        return viewedPoints;
     }
 
-    private boolean hasNearbyViewer(
-        Location pointLocation,
-        double rangeBlocks,
-        Map<UUID, List<Location>> viewerLocationsByWorld
-    ) {
+    private boolean hasNearbyViewer(Location pointLocation, double rangeBlocks) {
         if (pointLocation == null || pointLocation.getWorld() == null) {
             return false;
         }
         double rangeSquared = rangeBlocks * rangeBlocks;
-        if (viewerLocationsByWorld != null) {
-            List<Location> worldViewerLocations = viewerLocationsByWorld.get(pointLocation.getWorld().getUID());
-            if (worldViewerLocations == null || worldViewerLocations.isEmpty()) {
-                return false;
-            }
-            for (Location playerLocation : worldViewerLocations) {
-                if (playerLocation != null && playerLocation.distanceSquared(pointLocation) <= rangeSquared) {
-                    return true;
-                }
-            }
-            return false;
-        }
-
         for (Player player : pointLocation.getWorld().getPlayers()) {
             if (player == null || !player.isOnline() || player.isDead()) {
                 continue;
@@ -317,8 +360,9 @@ public class HologramManager {
             return Collections.emptyList();
         }
         String pointId = point.getId();
+        ZoneSettings settings = resolveZoneSettings(pointId);
         int maxLines = (int) Math.max(1, Math.min(MAX_LINES_HARD_LIMIT,
-            resolveZoneInt(pointId, "hologram.max-lines", resolveDefaultMaxLines())));
+            settings != null ? settings.hologramMaxLines : resolveDefaultMaxLines()));
 
         List<String> templates = resolveLineTemplates(pointId);
         if (templates.isEmpty()) {
@@ -351,7 +395,8 @@ public class HologramManager {
             }
         }
 
-        List<String> parsed = parseStringList(resolveZoneList(pointId, "hologram.lines"));
+        ZoneSettings settings = resolveZoneSettings(pointId);
+        List<String> parsed = parseStringList(settings != null ? settings.hologramLines : Collections.emptyList());
         if (!parsed.isEmpty()) {
             return parsed;
         }
@@ -371,7 +416,8 @@ public class HologramManager {
     }
 
     private Map<String, String> resolveTemplateValues(CapturePoint point, CaptureSession session) {
-        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> values = this.templateValues;
+        values.clear();
         KothManager.ZoneStateSnapshot kothState = resolveKothState(point);
         String ownerName = resolveOwnerName(point);
         String ownerType = resolveOwnerType(point);
@@ -567,14 +613,14 @@ public class HologramManager {
         int cappedActive = Math.max(1, Math.min(MAX_INSTANCES_HARD_LIMIT, activeInstances));
         if (cappedActive <= 1) {
             for (int index = 0; index < MAX_INSTANCES_HARD_LIMIT; index++) {
-                provider.remove(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
+                removeInstance(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
             }
             return;
         }
 
-        provider.remove(pointId);
+        removeInstance(pointId);
         for (int index = cappedActive; index < MAX_INSTANCES_HARD_LIMIT; index++) {
-            provider.remove(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
+            removeInstance(buildInstanceId(pointId, MAX_INSTANCES_HARD_LIMIT, index));
         }
     }
 
@@ -598,36 +644,9 @@ public class HologramManager {
         return result;
     }
 
-    private List<?> resolveZoneList(String pointId, String path) {
-        ZoneConfigManager manager = plugin.getZoneConfigManager();
-        if (manager != null) {
-            return manager.getList(pointId, path, Collections.emptyList());
-        }
-        return Collections.emptyList();
-    }
-
-    private boolean resolveZoneBoolean(String pointId, String path, boolean fallback) {
+    private ZoneSettings resolveZoneSettings(String pointId) {
         ZoneConfigManager manager = plugin.getZoneConfigManager();
-        if (manager != null) {
-            return manager.getBoolean(pointId, path, fallback);
-        }
-        return fallback;
-    }
-
-    private double resolveZoneDouble(String pointId, String path, double fallback) {
-        ZoneConfigManager manager = plugin.getZoneConfigManager();
-        if (manager != null) {
-            return manager.getDouble(pointId, path, fallback);
-        }
-        return fallback;
-    }
-
-    private int resolveZoneInt(String pointId, String path, int fallback) {
-        ZoneConfigManager manager = plugin.getZoneConfigManager();
-        if (manager != null) {
-            return manager.getInt(pointId, path, fallback);
-        }
-        return fallback;
+        return manager != null ? manager.getZoneSettings(pointId) : null;
     }
 
     private List<String> parseStringList(List<?> raw) {
@@ -16,6 +16,12 @@ public interface HologramProvider {
 
     void createOrUpdate(String pointId, Location baseLocation, List<String> lines, double lineSpacing, boolean fixedOrientation);
 
+    /**
+     * Whether the hologram from the last {@link #createOrUpdate} still exists in the world,
+     * so an unchanged hologram can be skipped.
+     */
+    boolean isRendered(String pointId);
+
     void remove(String pointId);
 
     void cleanup();
@@ -0,0 +1,197 @@
+package com.logichh.capturezones;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import net.md_5.bungee.api.ChatMessageType;
+import net.md_5.bungee.api.chat.TextComponent;
+import org.bukkit.boss.BarColor;
+import org.bukkit.boss.BossBar;
+import org.bukkit.entity.Player;
+
+/**
+ * Change-only output for capture bossbars and actionbars.
+ *
+ * Every setTitle/setProgress/setColor and every actionbar is a packet per viewer, while most
+ * one-second updates render the same thing again. Bars remember their last title, colour and
+ * progress bucket; players remember their last actionbar text. Unchanged values are dropped,
+ * and actionbars are also capped per player per second. Identical actionbar text is still
+ * repeated every {@link #ACTIONBAR_REPEAT_MS} so it does not fade on the client.
+ * Main thread only; the counters may be read from anywhere.
+ */
+final class HudOutput {
+    // Progress is resent once it moves by more than 1/PROGRESS_BUCKETS of the bar.
+    private static final int PROGRESS_BUCKETS = 200;
+    // Clients fade an actionbar out after roughly three seconds.
+    private static final long ACTIONBAR_REPEAT_MS = 2000L;
+    private static final long RATE_WINDOW_MS = 1000L;
+    private static final int DEFAULT_MAX_ACTIONBARS_PER_SECOND = 4;
+
+    private final CaptureZones plugin;
+    // Bars are dropped with their session, so weak keys keep discarded bars from piling up.
+    private final Map<BossBar, BarState> bars = new WeakHashMap<>();
+    private final Map<UUID, ActionbarState> actionbars = new HashMap<>();
+    private int maxActionbarsPerSecond = DEFAULT_MAX_ACTIONBARS_PER_SECOND;
+
+    private final AtomicLong sentBossBarUpdates = new AtomicLong();
+    private final AtomicLong suppressedBossBarUpdates = new AtomicLong();
+    private final AtomicLong sentActionbars = new AtomicLong();
+    private final AtomicLong suppressedActionbars = new AtomicLong();
+    private final AtomicLong rateLimitedActionbars = new AtomicLong();
+
+    HudOutput(CaptureZones plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Re-read settings.actionbar-max-per-second; 0 or less turns the cap off.
+     */
+    void loadConfig() {
+        this.maxActionbarsPerSecond = this.plugin.getConfig().getInt(
+            "settings.actionbar-max-per-second", DEFAULT_MAX_ACTIONBARS_PER_SECOND);
+    }
+
+    /**
+     * Push whichever of title, progress and colour changed. Null arguments are left alone.
+     */
+    void updateBossBar(BossBar bossBar, String title, Double progress, BarColor color) {
+        if (bossBar == null) {
+            return;
+        }
+        BarState state = this.bars.computeIfAbsent(bossBar, ignored -> new BarState());
+        if (title != null) {
+            if (title.equals(state.title)) {
+                this.suppressedBossBarUpdates.incrementAndGet();
+            } else {
+                bossBar.setTitle(title);
+                state.title = title;
+                this.sentBossBarUpdates.incrementAndGet();
+            }
+        }
+        if (progress != null) {
+            double clamped = Math.max(0.0, Math.min(1.0, progress.doubleValue()));
+            int bucket = (int) Math.round(clamped * PROGRESS_BUCKETS);
+            if (bucket == state.progressBucket) {
+                this.suppressedBossBarUpdates.incrementAndGet();
+            } else {
+                bossBar.setProgress(clamped);
+                state.progressBucket = bucket;
+                this.sentBossBarUpdates.incrementAndGet();
+            }
+        }
+        if (color != null) {
+            if (color == state.color) {
+                this.suppressedBossBarUpdates.incrementAndGet();
+            } else {
+                bossBar.setColor(color);
+                state.color = color;
+                this.sentBossBarUpdates.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Show or hide a bar unless it already is.
+     */
+    void setVisible(BossBar bossBar, boolean visible) {
+        if (bossBar == null) {
+            return;
+        }
+        if (bossBar.isVisible() == visible) {
+            this.suppressedBossBarUpdates.incrementAndGet();
+            return;
+        }
+        bossBar.setVisible(visible);
+        this.sentBossBarUpdates.incrementAndGet();
+    }
+
+    /**
+     * Forget what a bar last showed, for bars that are discarded or changed directly.
+     */
+    void forget(BossBar bossBar) {
+        if (bossBar != null) {
+            this.bars.remove(bossBar);
+        }
+    }
+
+    /**
+     * Send an already colourised actionbar unless the player just saw the same text or hit the
+     * per-second cap. Returns true when a packet went out.
+     */
+    boolean sendActionbar(Player player, String text) {
+        if (player == null || text == null || text.isEmpty()) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        ActionbarState state = this.actionbars.computeIfAbsent(player.getUniqueId(), ignored -> new ActionbarState());
+        if (text.equals(state.text) && (now - state.sentAt) < ACTIONBAR_REPEAT_MS) {
+            this.suppressedActionbars.incrementAndGet();
+            return false;
+        }
+        if ((now - state.windowStartedAt) >= RATE_WINDOW_MS) {
+            state.windowStartedAt = now;
+            state.sentInWindow = 0;
+        }
+        if (this.maxActionbarsPerSecond > 0 && state.sentInWindow >= this.maxActionbarsPerSecond) {
+            this.rateLimitedActionbars.incrementAndGet();
+            return false;
+        }
+        try {
+            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(text));
+        } catch (NoClassDefFoundError | Exception ignored) {
+            // Actionbars are optional on unsupported clients/server forks.
+            return false;
+        }
+        state.text = text;
+        state.sentAt = now;
+        state.sentInWindow++;
+        this.sentActionbars.incrementAndGet();
+        return true;
+    }
+
+    void removePlayer(UUID playerId) {
+        if (playerId != null) {
+            this.actionbars.remove(playerId);
+        }
+    }
+
+    void clear() {
+        this.bars.clear();
+        this.actionbars.clear();
+    }
+
+    long getSentBossBarUpdates() {
+        return this.sentBossBarUpdates.get();
+    }
+
+    long getSuppressedBossBarUpdates() {
+        return this.suppressedBossBarUpdates.get();
+    }
+
+    long getSentActionbars() {
+        return this.sentActionbars.get();
+    }
+
+    long getSuppressedActionbars() {
+        return this.suppressedActionbars.get();
+    }
+
+    long getRateLimitedActionbars() {
+        return this.rateLimitedActionbars.get();
+    }
+
+    private static final class BarState {
+        String title;
+        int progressBucket = -1;
+        BarColor color;
+    }
+
+    private static final class ActionbarState {
+        String text;
+        long sentAt;
+        long windowStartedAt;
+        int sentInWindow;
+    }
+}
@@ -18,8 +18,6 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -175,7 +173,7 @@ public final class KothManager {
     private final Set<String> scheduleTriggerKeys;
     private final Set<String> warnedInvalidScheduleEntries;
     private BukkitTask scheduleTask;
-    private BukkitTask tickTask;
+    private CaptureTickEngine.Ticket tickTask;
 
     public KothManager(CaptureZones plugin) {
         this.plugin = plugin;
@@ -392,19 +390,14 @@ public final class KothManager {
     }
 
     private void startTickTask() {
-        this.tickTask = plugin.getServer().getScheduler().runTaskTimer(
-            plugin,
-            this::tickActiveZones,
-            20L,
-            20L
-        );
+        this.tickTask = plugin.getCaptureTickEngine().schedule("koth", this::tickActiveZones);
     }
 
     private void cancelTasks() {
         if (scheduleTask != null && !scheduleTask.isCancelled()) {
             scheduleTask.cancel();
         }
-        if (tickTask != null && !tickTask.isCancelled()) {
+        if (tickTask != null) {
             tickTask.cancel();
         }
         scheduleTask = null;
@@ -558,6 +551,16 @@ public final class KothManager {
             }
 
             RewardResult rewards = rewardWinner(point, holder);
+            CaptureEventJournal journal = plugin.getEventJournal();
+            if (journal != null) {
+                journal.append(CaptureEventJournal.event(CaptureEventJournal.KOTH_WIN)
+                    .with("zone", zoneId)
+                    .with("player", holder.getUniqueId())
+                    .with("playerName", holder.getName())
+                    .with("money", rewards.moneyAmount)
+                    .with("items", rewards.itemsSummary)
+                    .with("permissions", rewards.permissionsSummary));
+            }
             plugin.broadcastChatMessage(Messages.get("messages.koth.captured", Map.of(
                 "zone", point.getName(),
                 "player", holder.getName(),
@@ -585,7 +588,7 @@ public final class KothManager {
 
         Location center = point.getLocation();
         List<Player> contenders = new ArrayList<>();
-        for (Player online : world.getPlayers()) {
+        for (Player online : plugin.getZoneMembershipTracker().getZoneOccupants(point.getId())) {
             if (online == null || !online.isOnline() || online.isDead()) {
                 continue;
             }
@@ -920,12 +923,8 @@ public final class KothManager {
         if (message == null || message.isEmpty()) {
             return;
         }
-        String colorized = plugin.colorize(message);
-        try {
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, TextComponent.fromLegacyText(colorized));
-        } catch (NoClassDefFoundError | Exception ignored) {
-            // ActionBar is optional; ignore silently.
-        }
+        // Contender actionbars repeat every tick; HudOutput drops the unchanged ones.
+        plugin.getHudOutput().sendActionbar(player, plugin.colorize(message));
     }
 
     private boolean isScheduleDayAllowed() {
@@ -0,0 +1,37 @@
+package com.logichh.capturezones;
+
+import java.util.Arrays;
+
+/**
+ * The values a web map marker, info window or hologram was last rendered from. Renderers keep
+ * one per marker and only call the map or entity API when a freshly built snapshot differs.
+ *
+ * Values are compared with {@link Arrays#deepEquals}, so primitive arrays such as polygon
+ * vertices compare by content.
+ */
+final class MarkerSnapshot {
+    private final Object[] values;
+    private final int hash;
+
+    MarkerSnapshot(Object... values) {
+        this.values = values;
+        this.hash = Arrays.deepHashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof MarkerSnapshot)) {
+            return false;
+        }
+        MarkerSnapshot snapshot = (MarkerSnapshot) other;
+        return this.hash == snapshot.hash && Arrays.deepEquals(this.values, snapshot.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+}
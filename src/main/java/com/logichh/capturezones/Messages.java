@@ -14,6 +14,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,7 +25,8 @@ import java.util.logging.Level;
 /**
  * Handles localization for the CaptureZones plugin.
  * Supports JSON-based language files with automatic fallback to English.
- * Features placeholder replacement and ChatColor translation.
+ * Messages are compiled once per load into {@link Template}s (colour codes translated,
+ * placeholders split out) kept in one flat key table for the active language.
  *
  * @author LogicHH
  * @version 1.0
@@ -40,6 +42,12 @@ public class Messages {
     private static Map<String, Map<String, Object>> languageCache = new HashMap<>();
     private static Map<String, Object> fallbackCache;
 
+    // Active language merged over English, flattened to dotted keys. Replaced wholesale on
+    // load, reload and language change, so readers on any thread need no lock.
+    private static volatile Map<String, Template> templates = Collections.emptyMap();
+    private static volatile Map<String, List<Template>> listTemplates = Collections.emptyMap();
+    private static volatile int revision;
+
     /**
      * Initializes the Messages system.
      * Must be called in onEnable() after config is loaded.
@@ -61,6 +69,27 @@ public class Messages {
         loadLanguages();
     }
 
+    /**
+     * Replaces one language with an already parsed file, merged over its bundled copy, and
+     * recompiles the active templates. Other languages stay as loaded.
+     *
+     * @param langCode The language code, taken from the file name
+     * @param json The parsed language file
+     */
+    public static void applyLanguage(String langCode, JsonObject json) {
+        Map<String, Object> translations = parseJsonObject(json);
+        Map<String, Object> bundled = loadBundledLanguage(langCode);
+        if (bundled != null) {
+            bundled.putAll(translations);
+            translations = bundled;
+        }
+        languageCache.put(langCode, translations);
+        if (DEFAULT_LANG.equals(langCode)) {
+            fallbackCache = translations;
+        }
+        setActiveLanguage(plugin.getConfig().getString("settings.language", DEFAULT_LANG));
+    }
+
     /**
      * Loads all available language files from the lang/ directory.
      */
@@ -215,6 +244,56 @@ public class Messages {
             activeLanguage = DEFAULT_LANG;
             plugin.getLogger().warning("Language '" + language + "' not found, falling back to '" + DEFAULT_LANG + "'");
         }
+        compileTemplates();
+    }
+
+    /**
+     * Rebuilds the flat template tables from English plus the active language.
+     */
+    private static void compileTemplates() {
+        Map<String, Template> compiled = new HashMap<>();
+        Map<String, List<Template>> compiledLists = new HashMap<>();
+        compileInto(fallbackCache, "", compiled, compiledLists);
+        if (!DEFAULT_LANG.equals(activeLanguage)) {
+            compileInto(languageCache.get(activeLanguage), "", compiled, compiledLists);
+        }
+        templates = compiled;
+        listTemplates = compiledLists;
+        revision++;
+    }
+
+    /**
+     * Incremented whenever the message tables are rebuilt, so text cached from them can be
+     * recognised as stale.
+     */
+    public static int getRevision() {
+        return revision;
+    }
+
+    private static void compileInto(Map<String, Object> source, String prefix,
+                                    Map<String, Template> compiled, Map<String, List<Template>> compiledLists) {
+        if (source == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            String key = prefix + entry.getKey();
+            Object value = entry.getValue();
+            if (value instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> nested = (Map<String, Object>) value;
+                compileInto(nested, key + ".", compiled, compiledLists);
+            } else if (value instanceof List) {
+                List<Template> items = new ArrayList<>();
+                for (Object item : (List<?>) value) {
+                    items.add(Template.compile(String.valueOf(item)));
+                }
+                compiledLists.put(key, Collections.unmodifiableList(items));
+                compiled.remove(key);
+            } else {
+                compiled.put(key, Template.compile(String.valueOf(value)));
+                compiledLists.remove(key);
+            }
+        }
     }
 
     /**
@@ -253,13 +332,7 @@ public class Messages {
      * @return The translated message with placeholders replaced and ChatColor applied
      */
     public static String get(String key, Map<String, String> placeholders) {
-        String message = getRaw(key);
-        if (placeholders != null) {
-            for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-            }
-        }
-        return ChatColor.translateAlternateColorCodes('&', message);
+        return template(key).render(placeholders);
     }
 
     /**
@@ -271,11 +344,18 @@ public class Messages {
      * @return The translated message with placeholders replaced and ChatColor applied
      */
     public static String get(String key, Object... args) {
-        String message = getRaw(key);
-        for (int i = 0; i < args.length; i++) {
-            message = message.replace("{" + i + "}", String.valueOf(args[i]));
-        }
-        return ChatColor.translateAlternateColorCodes('&', message);
+        return template(key).render(args);
+    }
+
+    /**
+     * Gets the compiled template for a key, for callers that render the same message often.
+     *
+     * @param key The translation key
+     * @return The template, or one rendering the key itself if it is not translated
+     */
+    public static Template template(String key) {
+        Template template = templates.get(key);
+        return template != null ? template : Template.compile(key);
     }
 
     /**
@@ -296,54 +376,173 @@ public class Messages {
      * @return A list of translated messages with placeholders replaced and ChatColor applied
      */
     public static List<String> getList(String key, Map<String, String> placeholders) {
-        Object value = getRawObject(key);
-        if (!(value instanceof List)) {
+        List<Template> items = listTemplates.get(key);
+        if (items == null) {
             return new ArrayList<>();
         }
 
-        List<String> result = new ArrayList<>();
-        for (Object item : (List<?>) value) {
-            String message = String.valueOf(item);
-            if (placeholders != null) {
-                for (Map.Entry<String, String> entry : placeholders.entrySet()) {
-                    message = message.replace("{" + entry.getKey() + "}", entry.getValue());
-                }
-            }
-            result.add(ChatColor.translateAlternateColorCodes('&', message));
+        List<String> result = new ArrayList<>(items.size());
+        for (Template item : items) {
+            result.add(item.render(placeholders));
         }
         return result;
     }
 
     /**
-     * Gets the raw (uncolored) translation value.
-     *
-     * @param key The translation key
-     * @return The raw translation string
+     * A message parsed into literal runs, with colour codes already translated, and
+     * {placeholder} slots. Rendering appends into one StringBuilder; substituted values are
+     * colour-translated only when they contain '&'.
      */
-    private static String getRaw(String key) {
-        Object value = getRawObject(key);
-        return value != null ? String.valueOf(value) : key;
-    }
+    public static final class Template {
+        // literals.length == slots.length + 1; literal i precedes slot i
+        private final String[] literals;
+        private final String[] slots;
+        // Numeric slot names as positional indexes, -1 otherwise
+        private final int[] positions;
+        private final String text;
+
+        private Template(String[] literals, String[] slots, int[] positions, String text) {
+            this.literals = literals;
+            this.slots = slots;
+            this.positions = positions;
+            this.text = text;
+        }
 
-    /**
-     * Gets the raw translation object with fallback logic.
-     *
-     * @param key The translation key
-     * @return The translation object, or null if not found
-     */
-    private static Object getRawObject(String key) {
-        Map<String, Object> activeMap = languageCache.get(activeLanguage);
-        if (activeMap != null && activeMap.containsKey(key)) {
-            return activeMap.get(key);
+        static Template compile(String raw) {
+            String text = ChatColor.translateAlternateColorCodes('&', raw);
+            List<String> literals = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int index = 0;
+            while (index < text.length()) {
+                int open = text.indexOf('{', index);
+                int close = open < 0 ? -1 : text.indexOf('}', open + 1);
+                if (close < 0) {
+                    literal.append(text, index, text.length());
+                    break;
+                }
+                String name = text.substring(open + 1, close);
+                literal.append(text, index, open);
+                if (isPlaceholderName(name)) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    slots.add(name);
+                    index = close + 1;
+                } else {
+                    literal.append('{');
+                    index = open + 1;
+                }
+            }
+            literals.add(literal.toString());
+
+            int[] positions = new int[slots.size()];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = parsePosition(slots.get(i));
+            }
+            return new Template(literals.toArray(new String[0]), slots.toArray(new String[0]), positions, text);
+        }
+
+        /**
+         * @return the message with named placeholders filled; missing ones are left as-is
+         */
+        public String render(Map<String, String> placeholders) {
+            if (this.slots.length == 0 || placeholders == null || placeholders.isEmpty()) {
+                return this.text;
+            }
+            StringBuilder out = new StringBuilder(this.text.length() + 16 * this.slots.length);
+            renderTo(out, placeholders);
+            return out.toString();
+        }
+
+        /**
+         * @return the message with {0}, {1}, ... filled from {@code args}; null args are left as-is
+         */
+        public String render(Object... args) {
+            if (this.slots.length == 0 || args == null || args.length == 0) {
+                return this.text;
+            }
+            StringBuilder out = new StringBuilder(this.text.length() + 16 * this.slots.length);
+            for (int i = 0; i < this.slots.length; i++) {
+                out.append(this.literals[i]);
+                int position = this.positions[i];
+                if (position >= 0 && position < args.length && args[position] != null) {
+                    appendValue(out, String.valueOf(args[position]));
+                } else {
+                    out.append('{').append(this.slots[i]).append('}');
+                }
+            }
+            out.append(this.literals[this.slots.length]);
+            return out.toString();
         }
 
-        // Try fallback to English
-        if (fallbackCache != null && fallbackCache.containsKey(key)) {
-            return fallbackCache.get(key);
+        /**
+         * @return this message with each named slot bound to its index in {@code names}, so hot
+         * paths can fill it through {@link #render(Object...)} without a placeholder map
+         */
+        public Template positional(String... names) {
+            int[] bound = new int[this.slots.length];
+            for (int i = 0; i < bound.length; i++) {
+                bound[i] = -1;
+                for (int n = 0; n < names.length; n++) {
+                    if (names[n].equals(this.slots[i])) {
+                        bound[i] = n;
+                        break;
+                    }
+                }
+            }
+            return new Template(this.literals, this.slots, bound, this.text);
         }
 
-        // Last resort: return the key itself
-        return key;
+        public void renderTo(StringBuilder out, Map<String, String> placeholders) {
+            for (int i = 0; i < this.slots.length; i++) {
+                out.append(this.literals[i]);
+                String value = placeholders != null ? placeholders.get(this.slots[i]) : null;
+                if (value != null) {
+                    appendValue(out, value);
+                } else {
+                    out.append('{').append(this.slots[i]).append('}');
+                }
+            }
+            out.append(this.literals[this.slots.length]);
+        }
+
+        @Override
+        public String toString() {
+            return this.text;
+        }
+
+        private static void appendValue(StringBuilder out, String value) {
+            if (value.indexOf('&') < 0) {
+                out.append(value);
+            } else {
+                out.append(ChatColor.translateAlternateColorCodes('&', value));
+            }
+        }
+
+        private static boolean isPlaceholderName(String name) {
+            if (name.isEmpty()) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                char c = name.charAt(i);
+                if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int parsePosition(String name) {
+            for (int i = 0; i < name.length(); i++) {
+                if (!Character.isDigit(name.charAt(i))) {
+                    return -1;
+                }
+            }
+            try {
+                return Integer.parseInt(name);
+            } catch (NumberFormatException e) {
+                return -1;
+            }
+        }
     }
 }
-
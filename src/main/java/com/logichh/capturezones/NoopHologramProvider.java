@@ -28,6 +28,11 @@ public class NoopHologramProvider implements HologramProvider {
         // Intentionally empty.
     }
 
+    @Override
+    public boolean isRendered(String pointId) {
+        return false;
+    }
+
     @Override
     public void remove(String pointId) {
         // Intentionally empty.
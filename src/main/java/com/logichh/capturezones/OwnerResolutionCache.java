@@ -0,0 +1,159 @@
+package com.logichh.capturezones;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.bukkit.entity.Player;
+
+/**
+ * Short-lived per-player cache in front of the owner platform adapter.
+ *
+ * Zone loops resolve the owner of every player in every active zone each second, which on
+ * Towny means resident and town lookups. Entries expire after a short TTL and are dropped
+ * explicitly on join, quit and Towny membership changes. Scoreboard team changes fire no
+ * Bukkit event, so that platform relies on the TTL alone.
+ */
+final class OwnerResolutionCache {
+    static final long DEFAULT_TTL_MS = 2000L;
+    private static final String NO_NAME = "";
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile long ttlMillis = DEFAULT_TTL_MS;
+
+    void setTtlMillis(long ttlMillis) {
+        this.ttlMillis = Math.max(0L, ttlMillis);
+        invalidateAll();
+    }
+
+    long getTtlMillis() {
+        return this.ttlMillis;
+    }
+
+    CaptureOwner resolveOwner(Player player, Function<Player, CaptureOwner> loader) {
+        Entry entry = entryFor(player);
+        if (entry == null) {
+            this.misses.increment();
+            return loader.apply(player);
+        }
+        if (entry.ownerResolved) {
+            this.hits.increment();
+            return entry.owner;
+        }
+        this.misses.increment();
+        CaptureOwner owner = loader.apply(player);
+        entry.owner = owner;
+        entry.ownerResolved = true;
+        return owner;
+    }
+
+    String resolveOwnerName(Player player, CaptureOwnerType ownerType, Function<Player, String> loader) {
+        Entry entry = entryFor(player);
+        if (entry == null || ownerType == null) {
+            this.misses.increment();
+            return loader.apply(player);
+        }
+        String cached = entry.ownerNames.get(ownerType);
+        if (cached != null) {
+            this.hits.increment();
+            return cached == NO_NAME ? null : cached;
+        }
+        this.misses.increment();
+        String name = loader.apply(player);
+        entry.ownerNames.put(ownerType, name != null ? name : NO_NAME);
+        return name;
+    }
+
+    /**
+     * Cached answer to "does this player belong to {@code owner}", keyed by the owner's
+     * {@link CaptureOwner#matchKey()}.
+     */
+    boolean matchesOwner(Player player, CaptureOwner owner, Predicate<Player> loader) {
+        Entry entry = entryFor(player);
+        if (entry == null || owner == null) {
+            this.misses.increment();
+            return loader.test(player);
+        }
+        return matches(entry.ownerMatches, owner.matchKey(), player, loader);
+    }
+
+    /**
+     * Cached answer to "does this player belong to the {@code ownerType} named {@code ownerName}",
+     * keyed by the name exactly as given.
+     */
+    boolean matchesOwnerName(Player player, CaptureOwnerType ownerType, String ownerName, Predicate<Player> loader) {
+        Entry entry = entryFor(player);
+        if (entry == null || ownerType == null || ownerName == null) {
+            this.misses.increment();
+            return loader.test(player);
+        }
+        Map<String, Boolean> byName = entry.nameMatches.computeIfAbsent(ownerType, ignored -> new ConcurrentHashMap<>());
+        return matches(byName, ownerName, player, loader);
+    }
+
+    private boolean matches(Map<String, Boolean> cache, String key, Player player, Predicate<Player> loader) {
+        Boolean cached = cache.get(key);
+        if (cached != null) {
+            this.hits.increment();
+            return cached;
+        }
+        this.misses.increment();
+        boolean matches = loader.test(player);
+        cache.put(key, matches);
+        return matches;
+    }
+
+    void invalidate(UUID playerId) {
+        if (playerId != null) {
+            this.entries.remove(playerId);
+        }
+    }
+
+    void invalidateAll() {
+        this.entries.clear();
+    }
+
+    long getHits() {
+        return this.hits.sum();
+    }
+
+    long getMisses() {
+        return this.misses.sum();
+    }
+
+    int size() {
+        return this.entries.size();
+    }
+
+    private Entry entryFor(Player player) {
+        long ttl = this.ttlMillis;
+        if (player == null || ttl <= 0L) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        UUID playerId = player.getUniqueId();
+        Entry entry = this.entries.get(playerId);
+        if (entry == null || now - entry.createdAt >= ttl) {
+            entry = new Entry(now);
+            this.entries.put(playerId, entry);
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        final long createdAt;
+        final Map<CaptureOwnerType, String> ownerNames = new ConcurrentHashMap<>();
+        final Map<String, Boolean> ownerMatches = new ConcurrentHashMap<>();
+        final Map<CaptureOwnerType, Map<String, Boolean>> nameMatches = new ConcurrentHashMap<>();
+        volatile CaptureOwner owner;
+        volatile boolean ownerResolved;
+
+        Entry(long createdAt) {
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -1,9 +1,6 @@
 package com.logichh.capturezones;
 
 import org.bukkit.Bukkit;
-import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -13,13 +10,10 @@ import org.bukkit.permissions.PermissionAttachment;
 import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.scheduler.BukkitTask;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -31,12 +25,10 @@ import java.util.logging.Logger;
  * Manages plugin-owned permission rewards (permanent and timed).
  */
 public class PermissionRewardManager implements Listener {
-    private static final String DATA_FILE_NAME = "permission_rewards.yml";
     private static final long EXPIRATION_CHECK_INTERVAL_TICKS = 20L;
 
     private final CaptureZones plugin;
     private final Logger logger;
-    private final File dataFile;
 
     // playerId -> permission -> sourceKey -> expiresAtMillis (0 = permanent)
     private final Map<UUID, Map<String, Map<String, Long>>> grants = new HashMap<>();
@@ -44,12 +36,12 @@ public class PermissionRewardManager implements Listener {
     private final Map<UUID, Set<String>> appliedPermissions = new HashMap<>();
 
     private BukkitTask expirationTask;
-    private boolean dirty;
+    // Players whose grants changed since the last save.
+    private final Set<UUID> dirtyPlayers = new HashSet<>();
 
     public PermissionRewardManager(CaptureZones plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        this.dataFile = new File(plugin.getDataFolder(), DATA_FILE_NAME);
     }
 
     public void initialize() {
@@ -62,7 +54,7 @@ public class PermissionRewardManager implements Listener {
         stopExpirationTask();
         clearAllAttachments();
         grants.clear();
-        dirty = false;
+        dirtyPlayers.clear();
         load();
         applyToOnlinePlayers();
         startExpirationTask();
@@ -99,7 +91,7 @@ public class PermissionRewardManager implements Listener {
         boolean changed = previous == null || previous.longValue() != merged;
         if (changed) {
             bySource.put(normalizedSource, merged);
-            dirty = true;
+            dirtyPlayers.add(playerId);
         }
 
         if (pruneExpiredForPlayer(playerId, now)) {
@@ -321,7 +313,7 @@ public class PermissionRewardManager implements Listener {
             changed = true;
         }
         if (changed) {
-            dirty = true;
+            dirtyPlayers.add(playerId);
         }
         return changed;
     }
@@ -374,7 +366,7 @@ public class PermissionRewardManager implements Listener {
     }
 
     private void saveIfDirty() {
-        if (!dirty) {
+        if (dirtyPlayers.isEmpty()) {
             return;
         }
         save();
@@ -382,135 +374,50 @@ public class PermissionRewardManager implements Listener {
 
     private void save() {
         try {
-            if (!plugin.getDataFolder().exists() && !plugin.getDataFolder().mkdirs()) {
-                logger.warning("Failed to create data folder for permission rewards.");
-                return;
-            }
-
-            FileConfiguration config = new YamlConfiguration();
-            config.set("version", 1);
-
-            ConfigurationSection playersSection = config.createSection("players");
-            for (Map.Entry<UUID, Map<String, Map<String, Long>>> playerEntry : grants.entrySet()) {
-                UUID playerId = playerEntry.getKey();
-                if (playerId == null) {
-                    continue;
-                }
-                List<Map<String, Object>> rows = new ArrayList<>();
-                Map<String, Map<String, Long>> byPermission = playerEntry.getValue();
-                if (byPermission == null || byPermission.isEmpty()) {
-                    continue;
-                }
-
-                for (Map.Entry<String, Map<String, Long>> permissionEntry : byPermission.entrySet()) {
-                    String permission = permissionEntry.getKey();
-                    Map<String, Long> bySource = permissionEntry.getValue();
-                    if (permission == null || permission.isEmpty() || bySource == null || bySource.isEmpty()) {
-                        continue;
-                    }
-
-                    for (Map.Entry<String, Long> sourceEntry : bySource.entrySet()) {
-                        String source = sourceEntry.getKey();
-                        Long expiresAt = sourceEntry.getValue();
-                        if (source == null || source.trim().isEmpty() || expiresAt == null) {
-                            continue;
-                        }
-                        Map<String, Object> row = new LinkedHashMap<>();
-                        row.put("permission", permission);
-                        row.put("source", source);
-                        row.put("expires-at", expiresAt);
-                        rows.add(row);
-                    }
-                }
-
-                if (!rows.isEmpty()) {
-                    playersSection.set(playerId.toString() + ".grants", rows);
-                }
-            }
-
-            config.save(dataFile);
-            dirty = false;
-        } catch (IOException io) {
-            logger.warning("Failed to save permission reward data: " + io.getMessage());
+            plugin.getDataStorage().savePermissionGrants(grants, dirtyPlayers);
+            dirtyPlayers.clear();
+        } catch (Exception e) {
+            logger.warning("Failed to save permission reward data: " + e.getMessage());
         }
     }
 
     private void load() {
         grants.clear();
-        if (!dataFile.exists()) {
-            dirty = false;
-            return;
-        }
-
-        FileConfiguration config = YamlConfiguration.loadConfiguration(dataFile);
-        ConfigurationSection playersSection = config.getConfigurationSection("players");
-        if (playersSection == null) {
-            dirty = false;
+        dirtyPlayers.clear();
+        Map<UUID, Map<String, Map<String, Long>>> stored;
+        try {
+            stored = StartupLoader.take(plugin.getStartupLoader(), "permission grants",
+                () -> plugin.getDataStorage().loadPermissionGrants());
+        } catch (Exception e) {
+            logger.warning("Failed to load permission reward data: " + e.getMessage());
             return;
         }
 
         long now = System.currentTimeMillis();
-        for (String uuidRaw : playersSection.getKeys(false)) {
-            UUID playerId;
-            try {
-                playerId = UUID.fromString(uuidRaw);
-            } catch (IllegalArgumentException ignored) {
-                continue;
-            }
-
-            List<?> rows = playersSection.getList(uuidRaw + ".grants");
-            if (rows == null || rows.isEmpty()) {
-                continue;
-            }
-
-            for (Object rawRow : rows) {
-                if (!(rawRow instanceof Map<?, ?>)) {
-                    continue;
-                }
-                Map<?, ?> row = (Map<?, ?>) rawRow;
-                Object permissionRaw = row.get("permission");
-                Object sourceRaw = row.get("source");
-                Object expiresRaw = row.get("expires-at");
-                if (permissionRaw == null || sourceRaw == null || expiresRaw == null) {
+        for (Map.Entry<UUID, Map<String, Map<String, Long>>> playerEntry : stored.entrySet()) {
+            UUID playerId = playerEntry.getKey();
+            for (Map.Entry<String, Map<String, Long>> permissionEntry : playerEntry.getValue().entrySet()) {
+                String permission = normalizePermissionNode(permissionEntry.getKey());
+                if (permission == null) {
                     continue;
                 }
+                for (Map.Entry<String, Long> sourceEntry : permissionEntry.getValue().entrySet()) {
+                    String source = normalizeSourceKey(sourceEntry.getKey());
+                    Long expiresAt = sourceEntry.getValue();
+                    if (source == null || expiresAt == null) {
+                        continue;
+                    }
+                    if (expiresAt > 0L && expiresAt <= now) {
+                        continue;
+                    }
 
-                String permission = normalizePermissionNode(String.valueOf(permissionRaw));
-                String source = normalizeSourceKey(String.valueOf(sourceRaw));
-                Long expiresAt = parseLongValue(expiresRaw);
-                if (permission == null || source == null || expiresAt == null) {
-                    continue;
-                }
-                if (expiresAt > 0L && expiresAt <= now) {
-                    continue;
+                    Map<String, Map<String, Long>> byPermission = grants.computeIfAbsent(playerId, ignored -> new HashMap<>());
+                    Map<String, Long> bySource = byPermission.computeIfAbsent(permission, ignored -> new HashMap<>());
+                    long merged = mergeExpiry(bySource.get(source), expiresAt);
+                    bySource.put(source, merged);
                 }
-
-                Map<String, Map<String, Long>> byPermission = grants.computeIfAbsent(playerId, ignored -> new HashMap<>());
-                Map<String, Long> bySource = byPermission.computeIfAbsent(permission, ignored -> new HashMap<>());
-                long merged = mergeExpiry(bySource.get(source), expiresAt);
-                bySource.put(source, merged);
             }
         }
-
-        dirty = false;
-    }
-
-    private Long parseLongValue(Object raw) {
-        if (raw instanceof Number) {
-            return ((Number) raw).longValue();
-        }
-        if (raw == null) {
-            return null;
-        }
-        String text = String.valueOf(raw).trim();
-        if (text.isEmpty()) {
-            return null;
-        }
-        try {
-            return Long.parseLong(text);
-        } catch (NumberFormatException ignored) {
-            return null;
-        }
     }
 
     public static final class GrantResult {
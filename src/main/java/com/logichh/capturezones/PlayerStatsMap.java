@@ -0,0 +1,314 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * UUID to {@link StatisticsData.PlayerStats} map that keeps the UUID bits in two primitive
+ * columns with open addressing, instead of a HashMap node and a UUID object per player.
+ * UUID instances are only created while iterating.
+ *
+ * Serialized as a plain JSON object keyed by UUID string, the same as a HashMap.
+ */
+final class PlayerStatsMap extends AbstractMap<UUID, StatisticsData.PlayerStats> {
+    private static final StatisticsData.PlayerStats DELETED = new StatisticsData.PlayerStats();
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] mostBits = new long[0];
+    private long[] leastBits = new long[0];
+    // null = empty slot, DELETED = removed slot.
+    private StatisticsData.PlayerStats[] values = new StatisticsData.PlayerStats[0];
+    private StatisticsData.PlayerStats nullKeyValue;
+    private int size;
+    private int used;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key == null) {
+            return this.nullKeyValue != null;
+        }
+        return key instanceof UUID && indexOf((UUID) key) >= 0;
+    }
+
+    @Override
+    public StatisticsData.PlayerStats get(Object key) {
+        if (key == null) {
+            return this.nullKeyValue;
+        }
+        if (!(key instanceof UUID)) {
+            return null;
+        }
+        int index = indexOf((UUID) key);
+        return index < 0 ? null : this.values[index];
+    }
+
+    @Override
+    public StatisticsData.PlayerStats put(UUID key, StatisticsData.PlayerStats value) {
+        if (value == null) {
+            return remove(key);
+        }
+        if (key == null) {
+            StatisticsData.PlayerStats previous = this.nullKeyValue;
+            this.nullKeyValue = value;
+            if (previous == null) {
+                this.size++;
+            }
+            return previous;
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            StatisticsData.PlayerStats previous = this.values[index];
+            this.values[index] = value;
+            return previous;
+        }
+        if ((this.used + 1) * 4 > this.values.length * 3) {
+            int capacity = MIN_CAPACITY;
+            while ((this.size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+            resize(capacity);
+        }
+        int slot = findFreeSlot(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (this.values[slot] == null) {
+            this.used++;
+        }
+        this.mostBits[slot] = key.getMostSignificantBits();
+        this.leastBits[slot] = key.getLeastSignificantBits();
+        this.values[slot] = value;
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public StatisticsData.PlayerStats remove(Object key) {
+        if (key == null) {
+            StatisticsData.PlayerStats previous = this.nullKeyValue;
+            if (previous != null) {
+                this.nullKeyValue = null;
+                this.size--;
+            }
+            return previous;
+        }
+        if (!(key instanceof UUID)) {
+            return null;
+        }
+        int index = indexOf((UUID) key);
+        if (index < 0) {
+            return null;
+        }
+        StatisticsData.PlayerStats previous = this.values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        this.mostBits = new long[0];
+        this.leastBits = new long[0];
+        this.values = new StatisticsData.PlayerStats[0];
+        this.nullKeyValue = null;
+        this.size = 0;
+        this.used = 0;
+    }
+
+    @Override
+    public Set<Entry<UUID, StatisticsData.PlayerStats>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<UUID, StatisticsData.PlayerStats>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return PlayerStatsMap.this.size;
+            }
+        };
+    }
+
+    private void removeAt(int index) {
+        this.values[index] = DELETED;
+        this.size--;
+    }
+
+    private int indexOf(UUID key) {
+        if (this.values.length == 0) {
+            return -1;
+        }
+        long most = key.getMostSignificantBits();
+        long least = key.getLeastSignificantBits();
+        int mask = this.values.length - 1;
+        for (int slot = mix(most, least) & mask, probes = 0; probes < this.values.length; slot = (slot + 1) & mask, probes++) {
+            StatisticsData.PlayerStats value = this.values[slot];
+            if (value == null) {
+                return -1;
+            }
+            if (value != DELETED && this.mostBits[slot] == most && this.leastBits[slot] == least) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findFreeSlot(long most, long least) {
+        int mask = this.values.length - 1;
+        int slot = mix(most, least) & mask;
+        while (this.values[slot] != null && this.values[slot] != DELETED) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = this.mostBits;
+        long[] oldLeast = this.leastBits;
+        StatisticsData.PlayerStats[] oldValues = this.values;
+        this.mostBits = new long[capacity];
+        this.leastBits = new long[capacity];
+        this.values = new StatisticsData.PlayerStats[capacity];
+        this.used = 0;
+        for (int i = 0; i < oldValues.length; i++) {
+            StatisticsData.PlayerStats value = oldValues[i];
+            if (value != null && value != DELETED) {
+                int slot = findFreeSlot(oldMost[i], oldLeast[i]);
+                this.mostBits[slot] = oldMost[i];
+                this.leastBits[slot] = oldLeast[i];
+                this.values[slot] = value;
+                this.used++;
+            }
+        }
+    }
+
+    private static int mix(long most, long least) {
+        long hash = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private final class EntryIterator implements Iterator<Entry<UUID, StatisticsData.PlayerStats>> {
+        private boolean nullKeyPending = PlayerStatsMap.this.nullKeyValue != null;
+        private int next = advance(0);
+        private int current = -1;
+        private boolean currentIsNullKey;
+
+        private int advance(int from) {
+            StatisticsData.PlayerStats[] slots = PlayerStatsMap.this.values;
+            int slot = from;
+            while (slot < slots.length && (slots[slot] == null || slots[slot] == DELETED)) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nullKeyPending || this.next < PlayerStatsMap.this.values.length;
+        }
+
+        @Override
+        public Entry<UUID, StatisticsData.PlayerStats> next() {
+            if (this.nullKeyPending) {
+                this.nullKeyPending = false;
+                this.currentIsNullKey = true;
+                this.current = -1;
+                return new SimpleEntry<>(null, PlayerStatsMap.this.nullKeyValue);
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.currentIsNullKey = false;
+            this.current = this.next;
+            this.next = advance(this.next + 1);
+            int slot = this.current;
+            UUID key = new UUID(PlayerStatsMap.this.mostBits[slot], PlayerStatsMap.this.leastBits[slot]);
+            return new SimpleEntry<>(key, PlayerStatsMap.this.values[slot]) {
+                @Override
+                public StatisticsData.PlayerStats setValue(StatisticsData.PlayerStats value) {
+                    if (value == null) {
+                        throw new NullPointerException("value");
+                    }
+                    PlayerStatsMap.this.values[slot] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (this.currentIsNullKey) {
+                this.currentIsNullKey = false;
+                PlayerStatsMap.this.remove(null);
+                return;
+            }
+            StatisticsData.PlayerStats[] slots = PlayerStatsMap.this.values;
+            if (this.current < 0 || slots[this.current] == null || slots[this.current] == DELETED) {
+                throw new IllegalStateException();
+            }
+            removeAt(this.current);
+            this.current = -1;
+        }
+    }
+
+    /**
+     * Gson adapter for the {@code Map<UUID, PlayerStats>} field of {@link StatisticsData}.
+     */
+    static final class JsonAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            TypeAdapter<StatisticsData.PlayerStats> statsAdapter = gson.getAdapter(StatisticsData.PlayerStats.class);
+            return (TypeAdapter<T>) new TypeAdapter<Map<UUID, StatisticsData.PlayerStats>>() {
+                @Override
+                public void write(JsonWriter out, Map<UUID, StatisticsData.PlayerStats> map) throws IOException {
+                    out.beginObject();
+                    for (Map.Entry<UUID, StatisticsData.PlayerStats> entry : map.entrySet()) {
+                        out.name(String.valueOf(entry.getKey()));
+                        statsAdapter.write(out, entry.getValue());
+                    }
+                    out.endObject();
+                }
+
+                @Override
+                public Map<UUID, StatisticsData.PlayerStats> read(JsonReader in) throws IOException {
+                    PlayerStatsMap map = new PlayerStatsMap();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        String rawId = in.nextName();
+                        if (in.peek() == JsonToken.NULL) {
+                            in.nextNull();
+                            continue;
+                        }
+                        StatisticsData.PlayerStats stats = statsAdapter.read(in);
+                        UUID playerId;
+                        try {
+                            playerId = "null".equals(rawId) ? null : UUID.fromString(rawId);
+                        } catch (IllegalArgumentException ignored) {
+                            continue;
+                        }
+                        map.put(playerId, stats);
+                    }
+                    in.endObject();
+                    return map;
+                }
+            };
+        }
+    }
+}
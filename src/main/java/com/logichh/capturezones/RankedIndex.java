@@ -0,0 +1,192 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Leaderboard kept sorted as scores change: an order-statistic treap ordered by score
+ * (highest first), ties broken by key.
+ *
+ * Updates and rank lookups are O(log n); reading the top N walks N nodes. Not thread safe.
+ */
+final class RankedIndex<K extends Comparable<K>> {
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> root;
+
+    /**
+     * Insert {@code key} or move it to its new position.
+     */
+    void update(K key, double score) {
+        Node<K> existing = this.nodes.get(key);
+        if (existing != null) {
+            if (Double.compare(existing.score, score) == 0) {
+                return;
+            }
+            this.root = delete(this.root, existing);
+        }
+        Node<K> node = new Node<>(key, score);
+        this.nodes.put(key, node);
+        this.root = insert(this.root, node);
+    }
+
+    void remove(K key) {
+        Node<K> existing = this.nodes.remove(key);
+        if (existing != null) {
+            this.root = delete(this.root, existing);
+        }
+    }
+
+    void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * @return up to {@code limit} keys, best first
+     */
+    List<K> top(int limit) {
+        List<K> result = new ArrayList<>(Math.max(0, Math.min(limit, size())));
+        collect(this.root, limit, result);
+        return result;
+    }
+
+    /**
+     * @return 1-based position of {@code key}, or 0 when it is not ranked
+     */
+    int rank(K key) {
+        Node<K> target = this.nodes.get(key);
+        if (target == null) {
+            return 0;
+        }
+        int ahead = 0;
+        Node<K> current = this.root;
+        while (current != null) {
+            int order = compare(target, current);
+            if (order == 0) {
+                return ahead + size(current.left) + 1;
+            }
+            if (order < 0) {
+                current = current.left;
+            } else {
+                ahead += size(current.left) + 1;
+                current = current.right;
+            }
+        }
+        return 0;
+    }
+
+    private static <K extends Comparable<K>> void collect(Node<K> node, int limit, List<K> out) {
+        if (node == null || out.size() >= limit) {
+            return;
+        }
+        collect(node.left, limit, out);
+        if (out.size() < limit) {
+            out.add(node.key);
+            collect(node.right, limit, out);
+        }
+    }
+
+    private static <K extends Comparable<K>> int compare(Node<K> a, Node<K> b) {
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : a.key.compareTo(b.key);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static <K extends Comparable<K>> Node<K> insert(Node<K> root, Node<K> node) {
+        if (root == null) {
+            return node;
+        }
+        if (compare(node, root) < 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        root.resize();
+        return root;
+    }
+
+    private static <K extends Comparable<K>> Node<K> delete(Node<K> root, Node<K> node) {
+        if (root == null) {
+            return null;
+        }
+        int order = compare(node, root);
+        if (order < 0) {
+            root.left = delete(root.left, node);
+        } else if (order > 0) {
+            root.right = delete(root.right, node);
+        } else {
+            return merge(root.left, root.right);
+        }
+        root.resize();
+        return root;
+    }
+
+    private static <K extends Comparable<K>> Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.resize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.resize();
+        return right;
+    }
+
+    private static <K extends Comparable<K>> Node<K> rotateRight(Node<K> node) {
+        Node<K> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.resize();
+        pivot.resize();
+        return pivot;
+    }
+
+    private static <K extends Comparable<K>> Node<K> rotateLeft(Node<K> node) {
+        Node<K> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.resize();
+        pivot.resize();
+        return pivot;
+    }
+
+    private static final class Node<K> {
+        final K key;
+        final double score;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node<K> left;
+        Node<K> right;
+        int size = 1;
+
+        Node(K key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+
+        void resize() {
+            this.size = 1 + RankedIndex.size(this.left) + RankedIndex.size(this.right);
+        }
+    }
+}
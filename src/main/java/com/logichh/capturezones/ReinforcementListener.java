@@ -22,12 +22,12 @@ public class ReinforcementListener implements Listener {
     private static final String META_SOURCE = "reinforcement_source";
     private static final String META_MYTHIC_TYPE = "reinforcement_mythic_type";
 
-    private enum TargetingMode {
+    enum TargetingMode {
         CAPTURING_OWNER_ONLY,
         OPPOSING_OWNER_ONLY,
         ANY_PLAYER_IN_ZONE;
 
-        private static TargetingMode fromConfigValue(String rawValue) {
+        static TargetingMode fromConfigValue(String rawValue) {
             if (rawValue == null || rawValue.trim().isEmpty()) {
                 return CAPTURING_OWNER_ONLY;
             }
@@ -39,13 +39,13 @@ public class ReinforcementListener implements Listener {
         }
     }
 
-    private enum SpawnYMode {
+    enum SpawnYMode {
         SURFACE,
         ZONE_CENTER,
         ORIGIN_PLAYER,
         CLAMPED;
 
-        private static SpawnYMode fromConfigValue(String rawValue) {
+        static SpawnYMode fromConfigValue(String rawValue) {
             if (rawValue == null || rawValue.trim().isEmpty()) {
                 return SURFACE;
             }
@@ -181,119 +181,74 @@ public class ReinforcementListener implements Listener {
         }
     }
 
+    private ZoneSettings getZoneSettings(String pointId) {
+        return plugin.getZoneConfigManager().getZoneSettings(pointId);
+    }
+
     private int getWaveIntervalSeconds(String pointId) {
-        int interval = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.wave-interval", 30);
-        return Math.max(1, interval);
+        return getZoneSettings(pointId).reinforcementWaveIntervalSeconds;
     }
 
     private int getStopSpawningUnderSeconds(String pointId) {
-        int threshold = plugin.getZoneConfigManager().getInt(
-            pointId,
-            "reinforcements.stop-spawning-under-seconds",
-            60
-        );
-        return Math.max(0, threshold);
+        return getZoneSettings(pointId).reinforcementStopSpawningUnderSeconds;
     }
 
     private int getBaseMobsPerWave(String pointId) {
-        int base = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.mobs-per-wave", 1);
-        return Math.max(0, base);
+        return getZoneSettings(pointId).reinforcementBaseMobsPerWave;
     }
 
     private int getWavePhaseIncrease(String pointId) {
-        int increase = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.wave-phase-increase", 1);
-        return Math.max(0, increase);
+        return getZoneSettings(pointId).reinforcementWavePhaseIncrease;
     }
 
     private int getMaxMobsPerWave(String pointId) {
-        int maxPerWave = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.max-mobs-per-wave", 12);
-        return Math.max(1, maxPerWave);
+        return getZoneSettings(pointId).reinforcementMaxMobsPerWave;
     }
 
     private int calculateMobsForPhase(String pointId, int phase) {
         int safePhase = Math.max(1, phase);
-        int baseMobs = getBaseMobsPerWave(pointId);
-        int phaseIncrease = getWavePhaseIncrease(pointId);
+        ZoneSettings settings = getZoneSettings(pointId);
+        int baseMobs = settings.reinforcementBaseMobsPerWave;
+        int phaseIncrease = settings.reinforcementWavePhaseIncrease;
         long calculated = (long) baseMobs + ((long) safePhase * phaseIncrease);
         int cappedForInt = (int) Math.min(Integer.MAX_VALUE, Math.max(0L, calculated));
-        return Math.min(cappedForInt, getMaxMobsPerWave(pointId));
+        return Math.min(cappedForInt, settings.reinforcementMaxMobsPerWave);
     }
 
     private int getMaxMobsPerPoint(String pointId) {
-        int max = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.max-mobs-per-point", 50);
-        return Math.max(1, max);
+        return getZoneSettings(pointId).reinforcementMaxMobsPerPoint;
     }
 
     private TargetingMode getTargetingMode(String pointId) {
-        String rawMode = plugin.getZoneConfigManager().getString(
-            pointId,
-            "reinforcements.targeting.mode",
-            TargetingMode.CAPTURING_OWNER_ONLY.name()
-        );
-        return TargetingMode.fromConfigValue(rawMode);
+        return getZoneSettings(pointId).reinforcementTargetingMode;
     }
 
     private int getTargetSearchExtraChunks(String pointId) {
-        int value = plugin.getZoneConfigManager().getInt(
-            pointId,
-            "reinforcements.targeting.search-extra-chunks",
-            4
-        );
-        return Math.max(0, value);
+        return getZoneSettings(pointId).reinforcementTargetSearchExtraChunks;
     }
 
     private long getTargetRetargetIntervalTicks(String pointId) {
-        int value = plugin.getZoneConfigManager().getInt(
-            pointId,
-            "reinforcements.targeting.retarget-interval-ticks",
-            20
-        );
-        return Math.max(1L, (long) value);
+        return getZoneSettings(pointId).reinforcementRetargetIntervalTicks;
     }
 
     private double getSpawnMinDistance(String pointId) {
-        double value = plugin.getZoneConfigManager().getDouble(
-            pointId,
-            "reinforcements.spawn-location.min-distance",
-            3.0
-        );
-        return Math.max(0.0, value);
+        return getZoneSettings(pointId).reinforcementSpawnMinDistance;
     }
 
     private double getSpawnMaxDistance(String pointId) {
-        double minDistance = getSpawnMinDistance(pointId);
-        double value = plugin.getZoneConfigManager().getDouble(
-            pointId,
-            "reinforcements.spawn-location.max-distance",
-            11.0
-        );
-        return Math.max(minDistance, value);
+        return getZoneSettings(pointId).reinforcementSpawnMaxDistance;
     }
 
     private double getSpawnSurfaceOffset(String pointId) {
-        return plugin.getZoneConfigManager().getDouble(
-            pointId,
-            "reinforcements.spawn-location.surface-offset",
-            1.0
-        );
+        return getZoneSettings(pointId).reinforcementSpawnSurfaceOffset;
     }
 
     private SpawnYMode getSpawnYMode(String pointId) {
-        String rawMode = plugin.getZoneConfigManager().getString(
-            pointId,
-            "reinforcements.spawn-location.y-mode",
-            SpawnYMode.SURFACE.name()
-        );
-        return SpawnYMode.fromConfigValue(rawMode);
+        return getZoneSettings(pointId).reinforcementSpawnYMode;
     }
 
     private double getSpawnClampRange(String pointId) {
-        double value = plugin.getZoneConfigManager().getDouble(
-            pointId,
-            "reinforcements.spawn-location.clamp-range",
-            8.0
-        );
-        return Math.max(0.0, value);
+        return getZoneSettings(pointId).reinforcementSpawnClampRange;
     }
 
     private double resolveSpawnY(String pointId, CapturePoint point, Location origin, Location spawnLoc) {
@@ -347,7 +302,7 @@ public class ReinforcementListener implements Listener {
             return null;
         }
 
-        String ownerName = plugin.getOwnerPlatform().resolveOwnerName(player, ownerType);
+        String ownerName = plugin.resolveOwnerName(player, ownerType);
         if (ownerName == null || ownerName.trim().isEmpty()) {
             return null;
         }
@@ -400,7 +355,7 @@ public class ReinforcementListener implements Listener {
 
     private void spawnReinforcementWave(String pointId, CapturePoint point, int phase) {
         // Use zone-specific config
-        if (!plugin.getZoneConfigManager().getBoolean(pointId, "reinforcements.enabled", true)) {
+        if (!getZoneSettings(pointId).reinforcementsEnabled) {
             return;
         }
 
@@ -541,8 +496,11 @@ public class ReinforcementListener implements Listener {
 
     private int getZoneSpawnLimit(String pointId) {
         int value = 3;
-        if (plugin.getZoneConfigManager() != null && pointId != null) {
-            value = plugin.getZoneConfigManager().getInt(pointId, "reinforcements.spawn-rate.max-per-tick", 3);
+        ZoneSettings settings = plugin.getZoneConfigManager() != null
+            ? plugin.getZoneConfigManager().getZoneSettings(pointId)
+            : null;
+        if (settings != null) {
+            return settings.reinforcementSpawnLimitPerTick;
         } else if (plugin.getZoneConfigManager() != null) {
             value = plugin.getZoneConfigManager().getDefaultInt("reinforcements.spawn-rate.max-per-tick", 3);
         } else {
@@ -831,8 +789,9 @@ public class ReinforcementListener implements Listener {
 
         int extraChunks = getTargetSearchExtraChunks(pointId);
         List<Player> candidates = new ArrayList<>();
+        Collection<Player> nearbyPlayers = plugin.getZoneMembershipTracker().getPlayersNear(pointId, extraChunks);
 
-        for (Player player : center.getWorld().getPlayers()) {
+        for (Player player : nearbyPlayers != null ? nearbyPlayers : center.getWorld().getPlayers()) {
             if (!player.isOnline() || player.isDead()) {
                 continue;
             }
@@ -965,7 +924,7 @@ public class ReinforcementListener implements Listener {
 
     public void startReinforcementWaves(String pointId, CapturePoint point) {
         // Use zone-specific config
-        if (!plugin.getZoneConfigManager().getBoolean(pointId, "reinforcements.enabled", true)) {
+        if (!getZoneSettings(pointId).reinforcementsEnabled) {
             return;
         }
 
@@ -183,6 +183,14 @@ public class ShopData {
     
     // Persistence
     public void save(File file) {
+        try {
+            toConfig().save(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    
+    public YamlConfiguration toConfig() {
         YamlConfiguration config = new YamlConfiguration();
         
         config.set("enabled", enabled);
@@ -209,21 +217,19 @@ public class ShopData {
             index++;
         }
         
-        try {
-            config.save(file);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        return config;
     }
     
     public static ShopData load(String zoneId, File file) {
-        ShopData data = new ShopData(zoneId);
-        
         if (!file.exists()) {
-            return data;
+            return new ShopData(zoneId);
         }
         
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        return fromConfig(zoneId, YamlConfiguration.loadConfiguration(file));
+    }
+    
+    public static ShopData fromConfig(String zoneId, ConfigurationSection config) {
+        ShopData data = new ShopData(zoneId);
         
         data.setEnabled(config.getBoolean("enabled", false));
         data.setAccessMode(parseEnum(AccessMode.class, config.getString("access-mode", "ALWAYS"), AccessMode.ALWAYS));
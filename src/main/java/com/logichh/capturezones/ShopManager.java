@@ -6,7 +6,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.Material;
 
-import java.io.File;
 import java.util.*;
 
 /**
@@ -17,7 +16,6 @@ public class ShopManager {
     private final CaptureZones plugin;
     private final Map<String, ShopData> shops;
     private final Map<String, DynamicPricing> pricingEngines;
-    private final File shopsFolder;
     private org.bukkit.scheduler.BukkitTask restockTask;
     private org.bukkit.scheduler.BukkitTask pricingTask;
     
@@ -25,12 +23,6 @@ public class ShopManager {
         this.plugin = plugin;
         this.shops = new HashMap<>();
         this.pricingEngines = new HashMap<>();
-        this.shopsFolder = new File(plugin.getDataFolder(), "shops");
-        
-        if (!shopsFolder.exists()) {
-            shopsFolder.mkdirs();
-        }
-        
         loadAllShops();
         startPeriodicTasks();
     }
@@ -42,19 +34,27 @@ public class ShopManager {
         shops.clear();
         pricingEngines.clear();
         
-        File[] files = shopsFolder.listFiles((dir, name) -> name.endsWith("_shop.yml"));
-        if (files != null) {
-            for (File file : files) {
-                String zoneId = file.getName().replace("_shop.yml", "");
-                ShopData shop = ShopData.load(zoneId, file);
-                shops.put(zoneId, shop);
-                pricingEngines.put(zoneId, new DynamicPricing(shop));
-                
-                plugin.getLogger().info("Loaded shop for zone: " + zoneId);
-            }
+        for (Map.Entry<String, ShopData> entry : plugin.getDataStorage().loadShops().entrySet()) {
+            String zoneId = entry.getKey();
+            ShopData shop = entry.getValue();
+            shops.put(zoneId, shop);
+            pricingEngines.put(zoneId, new DynamicPricing(shop));
+            
+            plugin.getLogger().info("Loaded shop for zone: " + zoneId);
         }
     }
     
+    /**
+     * Replace one zone's shop with data read from its file, resetting its pricing engine
+     */
+    void replaceShop(ShopData shop) {
+        if (shop == null || shop.getZoneId() == null) {
+            return;
+        }
+        shops.put(shop.getZoneId(), shop);
+        pricingEngines.put(shop.getZoneId(), new DynamicPricing(shop));
+    }
+    
     /**
      * Get or create shop for a zone
      */
@@ -119,8 +119,11 @@ public class ShopManager {
     public void saveShop(String zoneId) {
         ShopData shop = shops.get(zoneId);
         if (shop != null) {
-            File file = new File(shopsFolder, zoneId + "_shop.yml");
-            shop.save(file);
+            plugin.getDataStorage().saveShop(shop);
+            StagedReload reload = plugin.getStagedReload();
+            if (reload != null) {
+                reload.recordShopWrite(zoneId);
+            }
         }
     }
     
@@ -139,10 +142,7 @@ public class ShopManager {
     public void deleteShop(String zoneId) {
         shops.remove(zoneId);
         pricingEngines.remove(zoneId);
-        File file = new File(shopsFolder, zoneId + "_shop.yml");
-        if (file.exists()) {
-            file.delete();
-        }
+        plugin.getDataStorage().deleteShop(zoneId);
     }
     
     /**
@@ -284,6 +284,7 @@ public class ShopManager {
             
             // Record transaction
             shop.recordBuy(quantity, totalCost);
+            journalTransaction(player, zoneId, "buy", item, quantity, totalCost);
             
             // Save
             saveShop(zoneId);
@@ -380,6 +381,7 @@ public class ShopManager {
             
             // Record transaction
             shop.recordSell(quantity, totalEarnings);
+            journalTransaction(player, zoneId, "sell", item, quantity, totalEarnings);
             
             // Save
             saveShop(zoneId);
@@ -399,6 +401,22 @@ public class ShopManager {
         }
     }
     
+    private void journalTransaction(Player player, String zoneId, String action, ShopItemConfig item,
+                                    int quantity, double amount) {
+        CaptureEventJournal journal = plugin.getEventJournal();
+        if (journal == null) {
+            return;
+        }
+        journal.append(CaptureEventJournal.event(CaptureEventJournal.SHOP_TRANSACTION)
+            .with("zone", zoneId)
+            .with("player", player.getUniqueId())
+            .with("playerName", player.getName())
+            .with("action", action)
+            .with("item", item.getMaterial().name())
+            .with("quantity", quantity)
+            .with("amount", amount));
+    }
+    
     /**
      * Manual restock for a shop
      */
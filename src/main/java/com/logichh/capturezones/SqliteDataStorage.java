@@ -0,0 +1,639 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Embedded SQLite storage in one local database file, using the JDBC driver bundled with the
+ * server.
+ *
+ * A single writer thread owns the connection. Saves become prepared, batched upserts of only
+ * the rows that changed: one row per capture point field, statistics entity, shop and
+ * permission grant. Loads block until the writer thread has answered.
+ */
+final class SqliteDataStorage implements DataStorage {
+    static final String DEFAULT_FILE_NAME = "capturezones.db";
+    private static final String FLAT_FILE_IMPORT_KEY = "flat-file-import";
+    private static final String META_ROW = "meta";
+    private static final String LAST_RESET_ID = "last-reset";
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    private interface SqlTask<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    private final Logger logger;
+    private final File databaseFile;
+    private final Gson gson = new GsonBuilder().serializeNulls().create();
+    private ExecutorService writer;
+    // Owned by the writer thread.
+    private Connection connection;
+
+    SqliteDataStorage(CaptureZones plugin, File databaseFile) {
+        this.logger = plugin.getLogger();
+        this.databaseFile = databaseFile;
+    }
+
+    @Override
+    public String getName() {
+        return "sqlite";
+    }
+
+    @Override
+    public boolean initialize() {
+        try {
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            this.logger.severe("SQLite JDBC driver not found; it is loaded from plugin.yml libraries, which needs Spigot 1.16.5 or newer.");
+            return false;
+        }
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CaptureZones-SQLite");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            call(ignored -> {
+                open();
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            this.logger.severe("Failed to open SQLite database " + this.databaseFile.getName() + ": " + e.getMessage());
+            close();
+            return false;
+        }
+    }
+
+    private void open() throws SQLException {
+        File parent = this.databaseFile.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + this.databaseFile.getAbsolutePath());
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("PRAGMA synchronous=NORMAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS storage_metadata ("
+                + "meta_key TEXT PRIMARY KEY, meta_value TEXT)");
+            statement.execute("CREATE TABLE IF NOT EXISTS capture_point_fields ("
+                + "point_id TEXT NOT NULL, path TEXT NOT NULL, value TEXT NOT NULL, "
+                + "PRIMARY KEY (point_id, path))");
+            statement.execute("CREATE TABLE IF NOT EXISTS weekly_resets ("
+                + "zone_id TEXT PRIMARY KEY, epoch_day INTEGER NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS statistics ("
+                + "kind TEXT NOT NULL, id TEXT NOT NULL, data TEXT NOT NULL, "
+                + "PRIMARY KEY (kind, id))");
+            statement.execute("CREATE TABLE IF NOT EXISTS shops ("
+                + "zone_id TEXT PRIMARY KEY, data TEXT NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS permission_grants ("
+                + "player_id TEXT NOT NULL, permission TEXT NOT NULL, source TEXT NOT NULL, "
+                + "expires_at INTEGER NOT NULL, PRIMARY KEY (player_id, permission, source))");
+        }
+    }
+
+    @Override
+    public void close() {
+        ExecutorService stopping = this.writer;
+        this.writer = null;
+        if (stopping == null) {
+            return;
+        }
+        stopping.execute(() -> {
+            if (this.connection == null) {
+                return;
+            }
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                this.logger.warning("Failed to close SQLite database: " + e.getMessage());
+            }
+            this.connection = null;
+        });
+        stopping.shutdown();
+        try {
+            if (!stopping.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                this.logger.warning("SQLite writer did not finish within " + TIMEOUT_SECONDS + "s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Block until every queued write has run.
+     */
+    void awaitWrites() {
+        try {
+            call(ignored -> null);
+        } catch (Exception e) {
+            this.logger.warning("Failed waiting for SQLite writes: " + e.getMessage());
+        }
+    }
+
+    private <T> T call(SqlTask<T> task) throws Exception {
+        ExecutorService current = this.writer;
+        if (current == null) {
+            throw new SQLException("SQLite storage is closed");
+        }
+        try {
+            return current.submit(() -> task.run(this.connection)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    private void enqueue(String description, SqlTask<?> task) {
+        ExecutorService current = this.writer;
+        if (current == null) {
+            this.logger.warning("SQLite storage is closed, dropped write: " + description);
+            return;
+        }
+        current.execute(() -> {
+            try {
+                inTransaction(this.connection, task);
+            } catch (SQLException e) {
+                this.logger.log(Level.WARNING, "SQLite write failed (" + description + "): " + e.getMessage(), e);
+            }
+        });
+    }
+
+    private static <T> T inTransaction(Connection connection, SqlTask<T> task) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            T result = task.run(connection);
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // ==================== CAPTURE POINTS ====================
+
+    @Override
+    public CapturePointStore.Backend createCapturePointBackend(File capturePointsFile) {
+        return new CapturePointStore.Backend() {
+            @Override
+            public int load(YamlConfiguration config) throws Exception {
+                loadCapturePoints(config);
+                return 0;
+            }
+
+            @Override
+            public void write(CapturePointStore.Changes changes) throws Exception {
+                call(connection -> inTransaction(connection, tx -> writeCapturePoints(tx, changes)));
+            }
+        };
+    }
+
+    private void loadCapturePoints(YamlConfiguration config) throws Exception {
+        call(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet rows = statement.executeQuery("SELECT point_id, path, value FROM capture_point_fields")) {
+                    while (rows.next()) {
+                        config.set(
+                            "points." + rows.getString(1) + "." + rows.getString(2),
+                            CapturePointStore.fromJson(JsonParser.parseString(rows.getString(3)))
+                        );
+                    }
+                }
+                try (ResultSet rows = statement.executeQuery("SELECT zone_id, epoch_day FROM weekly_resets")) {
+                    while (rows.next()) {
+                        config.set(CapturePointStore.WEEKLY_RESET_PATH + "." + rows.getString(1), rows.getLong(2));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private Void writeCapturePoints(Connection connection, CapturePointStore.Changes changes) throws SQLException {
+        try (PreparedStatement deletePoint = connection.prepareStatement(
+                "DELETE FROM capture_point_fields WHERE point_id = ?");
+             PreparedStatement deleteField = connection.prepareStatement(
+                "DELETE FROM capture_point_fields WHERE point_id = ? AND path = ?");
+             PreparedStatement upsert = connection.prepareStatement(
+                "INSERT INTO capture_point_fields (point_id, path, value) VALUES (?, ?, ?) "
+                    + "ON CONFLICT (point_id, path) DO UPDATE SET value = excluded.value")) {
+            for (String id : changes.removed) {
+                deletePoint.setString(1, id);
+                deletePoint.addBatch();
+            }
+            deletePoint.executeBatch();
+            for (Map.Entry<String, Map<String, Object>> point : changes.changed.entrySet()) {
+                for (Map.Entry<String, Object> field : point.getValue().entrySet()) {
+                    if (field.getValue() == null) {
+                        deleteField.setString(1, point.getKey());
+                        deleteField.setString(2, field.getKey());
+                        deleteField.addBatch();
+                    } else {
+                        upsert.setString(1, point.getKey());
+                        upsert.setString(2, field.getKey());
+                        upsert.setString(3, this.gson.toJson(field.getValue()));
+                        upsert.addBatch();
+                    }
+                }
+            }
+            deleteField.executeBatch();
+            upsert.executeBatch();
+        }
+        if (changes.weeklyReset != null) {
+            try (Statement clear = connection.createStatement();
+                 PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO weekly_resets (zone_id, epoch_day) VALUES (?, ?)")) {
+                clear.executeUpdate("DELETE FROM weekly_resets");
+                for (Map.Entry<String, Long> entry : changes.weeklyReset.entrySet()) {
+                    insert.setString(1, entry.getKey());
+                    insert.setLong(2, entry.getValue());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Write a capture_points.yml layout into the database, for the flat-file import.
+     */
+    void importCapturePoints(ConfigurationSection loaded) throws Exception {
+        CapturePointStore.Changes changes = new CapturePointStore.Changes();
+        ConfigurationSection pointsSection = loaded.getConfigurationSection("points");
+        if (pointsSection != null) {
+            for (String id : pointsSection.getKeys(false)) {
+                ConfigurationSection pointSection = pointsSection.getConfigurationSection(id);
+                if (pointSection != null) {
+                    changes.removed.add(id);
+                    changes.changed.put(id, CapturePointStore.leafValues(pointSection));
+                }
+            }
+        }
+        ConfigurationSection resetSection = loaded.getConfigurationSection(CapturePointStore.WEEKLY_RESET_PATH);
+        if (resetSection != null) {
+            changes.weeklyReset = new LinkedHashMap<>();
+            for (String zoneId : resetSection.getKeys(false)) {
+                changes.weeklyReset.put(zoneId, resetSection.getLong(zoneId));
+            }
+        }
+        call(connection -> inTransaction(connection, tx -> writeCapturePoints(tx, changes)));
+    }
+
+    // ==================== STATISTICS ====================
+
+    @Override
+    public StatisticsData loadStatistics() throws Exception {
+        boolean[] legacyWindows = {false};
+        JsonObject root = call(connection -> {
+            JsonObject players = new JsonObject();
+            JsonObject towns = new JsonObject();
+            JsonObject zones = new JsonObject();
+            JsonObject series = new JsonObject();
+            JsonObject loaded = new JsonObject();
+            int rowCount = 0;
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery("SELECT kind, id, data FROM statistics")) {
+                while (rows.next()) {
+                    rowCount++;
+                    String kind = rows.getString(1);
+                    String id = rows.getString(2);
+                    String data = rows.getString(3);
+                    if (StatisticsData.PLAYER_ROW.equals(kind)) {
+                        players.add(id, JsonParser.parseString(data));
+                    } else if (StatisticsData.TOWN_ROW.equals(kind)) {
+                        towns.add(id, JsonParser.parseString(data));
+                    } else if (StatisticsData.ZONE_ROW.equals(kind)) {
+                        zones.add(id, JsonParser.parseString(data));
+                    } else if (StatisticsData.SERVER_ROW.equals(kind)) {
+                        loaded.add("serverRecords", JsonParser.parseString(data));
+                    } else if (StatisticsData.WINDOW_ROW.equals(kind)) {
+                        addWindowRow(series, id, data);
+                    } else if (StatisticsData.LEGACY_WINDOWS_ROW.equals(kind)) {
+                        loaded.add("windows", JsonParser.parseString(data));
+                        legacyWindows[0] = true;
+                    } else if (META_ROW.equals(kind) && LAST_RESET_ID.equals(id)) {
+                        loaded.add("lastReset", JsonParser.parseString(data));
+                    }
+                }
+            }
+            if (rowCount == 0) {
+                return null;
+            }
+            loaded.add("playerStats", players);
+            loaded.add("townStats", towns);
+            loaded.add("zoneStats", zones);
+            if (!legacyWindows[0]) {
+                JsonObject windows = new JsonObject();
+                windows.add("series", series);
+                loaded.add("windows", windows);
+            }
+            return loaded;
+        });
+        if (root == null) {
+            return null;
+        }
+        StatisticsData data = this.gson.fromJson(root, StatisticsData.class);
+        if (data != null && !legacyWindows[0]) {
+            // Data from the single legacy windows row stays dirty, so the first save splits it.
+            data.drainDirtyRows();
+        }
+        return data;
+    }
+
+    private static void addWindowRow(JsonObject series, String rowId, String data) {
+        String[] key = StatisticsWindows.splitRowId(rowId);
+        if (key == null) {
+            return;
+        }
+        JsonObject byEntity = series.getAsJsonObject(key[0]);
+        if (byEntity == null) {
+            byEntity = new JsonObject();
+            series.add(key[0], byEntity);
+        }
+        byEntity.add(key[1], JsonParser.parseString(data));
+    }
+
+    @Override
+    public void saveStatistics(StatisticsData data) {
+        StatisticsData.DirtyRows dirty = data.drainDirtyRows();
+        boolean replaceAll = dirty == null;
+        List<String[]> upserts = new ArrayList<>();
+        List<String[]> deletes = new ArrayList<>();
+        if (replaceAll) {
+            for (Map.Entry<UUID, StatisticsData.PlayerStats> entry : data.getAllPlayerStats().entrySet()) {
+                upserts.add(row(StatisticsData.PLAYER_ROW, entry.getKey().toString(), entry.getValue()));
+            }
+            for (Map.Entry<String, StatisticsData.TownStats> entry : data.getAllTownStats().entrySet()) {
+                upserts.add(row(StatisticsData.TOWN_ROW, entry.getKey(), entry.getValue()));
+            }
+            for (Map.Entry<String, StatisticsData.ZoneStats> entry : data.getAllZoneStats().entrySet()) {
+                upserts.add(row(StatisticsData.ZONE_ROW, entry.getKey(), entry.getValue()));
+            }
+            upserts.add(row(StatisticsData.SERVER_ROW, StatisticsData.SERVER_ROW, data.readServerRecords()));
+            StatisticsWindows windows = data.readWindows();
+            for (String rowId : windows.rowIds()) {
+                StatisticsWindows.Buckets buckets = windows.rowBuckets(rowId);
+                if (buckets != null) {
+                    upserts.add(row(StatisticsData.WINDOW_ROW, rowId, buckets));
+                }
+            }
+            upserts.add(row(META_ROW, LAST_RESET_ID, data.getLastReset()));
+        } else {
+            for (UUID playerId : dirty.players) {
+                dirtyRow(upserts, deletes, StatisticsData.PLAYER_ROW, playerId.toString(),
+                    data.readPlayerStats(playerId));
+            }
+            for (String town : dirty.towns) {
+                dirtyRow(upserts, deletes, StatisticsData.TOWN_ROW, town, data.readTownStats(town));
+            }
+            for (String zone : dirty.zones) {
+                dirtyRow(upserts, deletes, StatisticsData.ZONE_ROW, zone, data.readZoneStats(zone));
+            }
+            if (dirty.server) {
+                upserts.add(row(StatisticsData.SERVER_ROW, StatisticsData.SERVER_ROW, data.readServerRecords()));
+            }
+            for (String rowId : dirty.windows) {
+                dirtyRow(upserts, deletes, StatisticsData.WINDOW_ROW, rowId, data.readWindows().rowBuckets(rowId));
+            }
+        }
+        if (!replaceAll && upserts.isEmpty() && deletes.isEmpty()) {
+            return;
+        }
+
+        enqueue("statistics", connection -> {
+            if (replaceAll) {
+                try (Statement clear = connection.createStatement()) {
+                    clear.executeUpdate("DELETE FROM statistics");
+                }
+            }
+            try (PreparedStatement upsert = connection.prepareStatement(
+                    "INSERT INTO statistics (kind, id, data) VALUES (?, ?, ?) "
+                        + "ON CONFLICT (kind, id) DO UPDATE SET data = excluded.data");
+                 PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM statistics WHERE kind = ? AND id = ?")) {
+                for (String[] row : upserts) {
+                    upsert.setString(1, row[0]);
+                    upsert.setString(2, row[1]);
+                    upsert.setString(3, row[2]);
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+                for (String[] row : deletes) {
+                    delete.setString(1, row[0]);
+                    delete.setString(2, row[1]);
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    private String[] row(String kind, String id, Object value) {
+        return new String[]{kind, id, this.gson.toJson(value)};
+    }
+
+    private void dirtyRow(List<String[]> upserts, List<String[]> deletes, String kind, String id, Object value) {
+        if (value == null) {
+            deletes.add(new String[]{kind, id});
+        } else {
+            upserts.add(row(kind, id, value));
+        }
+    }
+
+    // ==================== SHOPS ====================
+
+    @Override
+    public Map<String, ShopData> loadShops() {
+        Map<String, String> rows;
+        try {
+            rows = call(connection -> {
+                Map<String, String> loaded = new LinkedHashMap<>();
+                try (Statement statement = connection.createStatement();
+                     ResultSet result = statement.executeQuery("SELECT zone_id, data FROM shops")) {
+                    while (result.next()) {
+                        loaded.put(result.getString(1), result.getString(2));
+                    }
+                }
+                return loaded;
+            });
+        } catch (Exception e) {
+            this.logger.severe("Failed to load shops from SQLite: " + e.getMessage());
+            return new LinkedHashMap<>();
+        }
+
+        Map<String, ShopData> shops = new LinkedHashMap<>();
+        for (Map.Entry<String, String> row : rows.entrySet()) {
+            YamlConfiguration config = new YamlConfiguration();
+            try {
+                config.loadFromString(row.getValue());
+            } catch (InvalidConfigurationException e) {
+                this.logger.warning("Skipping unreadable shop for zone " + row.getKey() + ": " + e.getMessage());
+                continue;
+            }
+            shops.put(row.getKey(), ShopData.fromConfig(row.getKey(), config));
+        }
+        return shops;
+    }
+
+    @Override
+    public void saveShop(ShopData shop) {
+        String zoneId = shop.getZoneId();
+        String data = shop.toConfig().saveToString();
+        enqueue("shop " + zoneId, connection -> {
+            try (PreparedStatement upsert = connection.prepareStatement(
+                    "INSERT INTO shops (zone_id, data) VALUES (?, ?) "
+                        + "ON CONFLICT (zone_id) DO UPDATE SET data = excluded.data")) {
+                upsert.setString(1, zoneId);
+                upsert.setString(2, data);
+                upsert.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteShop(String zoneId) {
+        enqueue("delete shop " + zoneId, connection -> {
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM shops WHERE zone_id = ?")) {
+                delete.setString(1, zoneId);
+                delete.executeUpdate();
+            }
+            return null;
+        });
+    }
+
+    // ==================== PERMISSION GRANTS ====================
+
+    @Override
+    public Map<UUID, Map<String, Map<String, Long>>> loadPermissionGrants() throws Exception {
+        return call(connection -> {
+            Map<UUID, Map<String, Map<String, Long>>> grants = new HashMap<>();
+            try (Statement statement = connection.createStatement();
+                 ResultSet rows = statement.executeQuery(
+                    "SELECT player_id, permission, source, expires_at FROM permission_grants")) {
+                while (rows.next()) {
+                    UUID playerId;
+                    try {
+                        playerId = UUID.fromString(rows.getString(1));
+                    } catch (IllegalArgumentException ignored) {
+                        continue;
+                    }
+                    grants.computeIfAbsent(playerId, ignored -> new HashMap<>())
+                        .computeIfAbsent(rows.getString(2), ignored -> new HashMap<>())
+                        .put(rows.getString(3), rows.getLong(4));
+                }
+            }
+            return grants;
+        });
+    }
+
+    @Override
+    public void savePermissionGrants(Map<UUID, Map<String, Map<String, Long>>> grants, Set<UUID> changedPlayers) {
+        if (changedPlayers.isEmpty()) {
+            return;
+        }
+        // Copy the affected players' rows now; the live map keeps changing on the main thread.
+        Map<String, List<Object[]>> rowsByPlayer = new LinkedHashMap<>();
+        for (UUID playerId : changedPlayers) {
+            List<Object[]> rows = new ArrayList<>();
+            Map<String, Map<String, Long>> byPermission = grants.get(playerId);
+            if (byPermission != null) {
+                for (Map.Entry<String, Map<String, Long>> permissionEntry : byPermission.entrySet()) {
+                    for (Map.Entry<String, Long> sourceEntry : permissionEntry.getValue().entrySet()) {
+                        if (sourceEntry.getKey() != null && sourceEntry.getValue() != null) {
+                            rows.add(new Object[]{permissionEntry.getKey(), sourceEntry.getKey(), sourceEntry.getValue()});
+                        }
+                    }
+                }
+            }
+            rowsByPlayer.put(playerId.toString(), rows);
+        }
+
+        enqueue("permission grants", connection -> {
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM permission_grants WHERE player_id = ?");
+                 PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO permission_grants (player_id, permission, source, expires_at) VALUES (?, ?, ?, ?)")) {
+                for (Map.Entry<String, List<Object[]>> player : rowsByPlayer.entrySet()) {
+                    delete.setString(1, player.getKey());
+                    delete.addBatch();
+                    for (Object[] row : player.getValue()) {
+                        insert.setString(1, player.getKey());
+                        insert.setString(2, (String) row[0]);
+                        insert.setString(3, (String) row[1]);
+                        insert.setLong(4, (Long) row[2]);
+                        insert.addBatch();
+                    }
+                }
+                delete.executeBatch();
+                insert.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    // ==================== FLAT-FILE IMPORT ====================
+
+    boolean hasImportedFlatFiles() {
+        try {
+            return call(connection -> {
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT meta_value FROM storage_metadata WHERE meta_key = ?")) {
+                    select.setString(1, FLAT_FILE_IMPORT_KEY);
+                    try (ResultSet rows = select.executeQuery()) {
+                        return rows.next();
+                    }
+                }
+            });
+        } catch (Exception e) {
+            this.logger.warning("Failed to read SQLite storage metadata: " + e.getMessage());
+            return true;
+        }
+    }
+
+    void markFlatFilesImported() {
+        String importedAt = String.valueOf(System.currentTimeMillis());
+        enqueue("storage metadata", connection -> {
+            try (PreparedStatement upsert = connection.prepareStatement(
+                    "INSERT INTO storage_metadata (meta_key, meta_value) VALUES (?, ?) "
+                        + "ON CONFLICT (meta_key) DO UPDATE SET meta_value = excluded.meta_value")) {
+                upsert.setString(1, FLAT_FILE_IMPORT_KEY);
+                upsert.setString(2, importedAt);
+                upsert.executeUpdate();
+            }
+            return null;
+        });
+        awaitWrites();
+    }
+}
@@ -0,0 +1,431 @@
+package com.logichh.capturezones;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Finds and parses the configuration files that changed since the last load.
+ *
+ * {@link #stage} runs on its own thread: it fingerprints config.yml, zone-template.yml, the
+ * zone configs, shop files and language files by modification time and size, hashes only the
+ * files whose fingerprint moved, and parses the ones whose content really changed. The
+ * resulting {@link Plan} is applied by the caller on the main thread; {@link #finish} then
+ * makes its fingerprints the new baseline. A plan with parse errors should be dropped whole.
+ */
+final class StagedReload {
+    static final String CONFIG_FILE = "config.yml";
+    static final String ZONE_TEMPLATE_FILE = "zone-template.yml";
+    private static final String ZONES_FOLDER = "zones";
+    private static final String ZONE_FILE_SUFFIX = "_config.yml";
+    private static final String SHOPS_FOLDER = "shops";
+    private static final String SHOP_FILE_SUFFIX = "_shop.yml";
+    private static final String LANG_FOLDER = "lang";
+    private static final String LANG_FILE_SUFFIX = ".json";
+
+    private final File dataFolder;
+    // Brings changed zone configs up to the template schema, as startup does; may be null
+    private final DataMigrationManager migrations;
+    private final AtomicBoolean running = new AtomicBoolean();
+    // Files the plugin wrote itself (shop saves), so a reload does not read them back over
+    // newer in-memory state
+    private final Map<String, Fingerprint> ownWrites = new ConcurrentHashMap<>();
+    private volatile Baseline baseline = new Baseline(Collections.emptyMap(), null);
+
+    StagedReload(File dataFolder, DataMigrationManager migrations) {
+        this.dataFolder = dataFolder;
+        this.migrations = migrations;
+    }
+
+    /**
+     * Record the current files as loaded, without parsing them. Called after startup and
+     * after a full reload.
+     */
+    CompletableFuture<Void> captureBaseline(Collection<String> zoneIds, boolean watchShops) {
+        List<String> zones = new ArrayList<>(zoneIds);
+        return CompletableFuture.runAsync(() -> {
+            Map<String, Fingerprint> fingerprints = new HashMap<>();
+            String configText = null;
+            for (Map.Entry<String, File> entry : watchedFiles(zones, watchShops).entrySet()) {
+                try {
+                    byte[] content = Files.readAllBytes(entry.getValue().toPath());
+                    fingerprints.put(entry.getKey(), Fingerprint.of(entry.getValue(), content));
+                    if (CONFIG_FILE.equals(entry.getKey())) {
+                        configText = new String(content, StandardCharsets.UTF_8);
+                    }
+                } catch (IOException ignored) {
+                    // Missing from the baseline means it is picked up as changed next time.
+                }
+            }
+            this.baseline = new Baseline(fingerprints, configText);
+        }, StagedReload::runOnReloadThread);
+    }
+
+    /**
+     * Note that the plugin just saved a zone's shop file. Until someone else edits it, a
+     * staged reload treats it as unchanged.
+     */
+    void recordShopWrite(String zoneId) {
+        String name = zoneId + SHOP_FILE_SUFFIX;
+        File file = new File(new File(this.dataFolder, SHOPS_FOLDER), name);
+        if (file.isFile()) {
+            this.ownWrites.put(SHOPS_FOLDER + "/" + name, Fingerprint.ofMetadata(file));
+        }
+    }
+
+    /**
+     * Diff and parse changed files off the main thread. Completes with null when another
+     * staged reload is still in progress.
+     *
+     * @param zoneIds ids of the loaded zones, snapshotted by the caller on the main thread
+     */
+    CompletableFuture<Plan> stage(Collection<String> zoneIds, boolean watchShops) {
+        if (!this.running.compareAndSet(false, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<String> zones = new ArrayList<>(zoneIds);
+        long startedAt = System.nanoTime();
+        CompletableFuture<Plan> plan = CompletableFuture.supplyAsync(
+            () -> buildPlan(zones, watchShops, startedAt), StagedReload::runOnReloadThread);
+        plan.whenComplete((ignored, error) -> {
+            if (error != null) {
+                this.running.set(false);
+            }
+        });
+        return plan;
+    }
+
+    /**
+     * Make an applied plan's fingerprints the baseline, or just release the lock when the
+     * plan was dropped.
+     */
+    void finish(Plan plan, boolean applied) {
+        if (plan != null && applied) {
+            this.baseline = new Baseline(plan.fingerprints, plan.configText);
+        }
+        this.running.set(false);
+    }
+
+    private Plan buildPlan(List<String> zoneIds, boolean watchShops, long startedAt) {
+        Baseline previous = this.baseline;
+        Plan plan = new Plan(startedAt);
+        plan.configText = previous.configText;
+        FileConfiguration zoneTemplate = null;
+
+        for (Map.Entry<String, File> entry : watchedFiles(zoneIds, watchShops).entrySet()) {
+            String key = entry.getKey();
+            File file = entry.getValue();
+            Fingerprint known = previous.fingerprints.get(key);
+            if (known != null && known.matchesMetadata(file)) {
+                plan.fingerprints.put(key, known);
+                continue;
+            }
+            Fingerprint written = this.ownWrites.get(key);
+            if (written != null && written.matchesMetadata(file)) {
+                plan.fingerprints.put(key, written);
+                continue;
+            }
+
+            byte[] content;
+            try {
+                content = Files.readAllBytes(file.toPath());
+            } catch (IOException e) {
+                plan.errors.add(key + ": " + e.getMessage());
+                continue;
+            }
+            Fingerprint current = Fingerprint.of(file, content);
+            plan.fingerprints.put(key, current);
+            if (known != null && known.crc == current.crc && known.size == current.size) {
+                // Touched or rewritten with identical content.
+                continue;
+            }
+            if (this.migrations != null && key.startsWith(ZONES_FOLDER + "/")) {
+                if (zoneTemplate == null) {
+                    zoneTemplate = this.migrations.loadZoneTemplate();
+                }
+                if (zoneTemplate != null) {
+                    migrateZone(plan, key, content, zoneTemplate);
+                    continue;
+                }
+            }
+            parseChanged(plan, key, new String(content, StandardCharsets.UTF_8));
+        }
+        return plan;
+    }
+
+    private void parseChanged(Plan plan, String key, String text) {
+        try {
+            if (CONFIG_FILE.equals(key)) {
+                YamlConfiguration updated = parseYaml(text);
+                plan.changedConfigSections.addAll(changedSections(plan.configText, updated));
+                plan.configChanged = true;
+                plan.configText = text;
+                plan.config = updated;
+            } else if (ZONE_TEMPLATE_FILE.equals(key)) {
+                parseYaml(text);
+                plan.templateChanged = true;
+            } else if (key.startsWith(ZONES_FOLDER + "/")) {
+                plan.zoneConfigs.put(stripName(key, ZONES_FOLDER, ZONE_FILE_SUFFIX), parseYaml(text));
+            } else if (key.startsWith(SHOPS_FOLDER + "/")) {
+                plan.shops.put(stripName(key, SHOPS_FOLDER, SHOP_FILE_SUFFIX), parseYaml(text));
+            } else if (key.startsWith(LANG_FOLDER + "/")) {
+                JsonElement json = JsonParser.parseString(text);
+                if (!json.isJsonObject()) {
+                    throw new IllegalArgumentException("expected a JSON object");
+                }
+                plan.languages.put(stripName(key, LANG_FOLDER, LANG_FILE_SUFFIX), json.getAsJsonObject());
+            }
+        } catch (Exception e) {
+            plan.errors.add(key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parse a changed zone config and add any template keys it lacks, in memory only. Files
+     * are left untouched until {@link #saveMigratedZones} runs for an accepted plan.
+     */
+    private void migrateZone(Plan plan, String key, byte[] content, FileConfiguration zoneTemplate) {
+        try {
+            YamlConfiguration zoneConfig = parseYaml(new String(content, StandardCharsets.UTF_8));
+            int added = this.migrations.mergeZoneDefaults(zoneConfig, zoneTemplate);
+            if (added > 0) {
+                plan.migratedZones.put(key, added);
+            }
+            plan.zoneConfigs.put(stripName(key, ZONES_FOLDER, ZONE_FILE_SUFFIX), zoneConfig);
+        } catch (Exception e) {
+            plan.errors.add(key + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the zone configs a plan migrated in memory, once the plan is being applied, and
+     * fingerprint the rewritten files so the next reload does not see them as changed.
+     *
+     * @return one message per file that could not be written
+     */
+    List<String> saveMigratedZones(Plan plan) {
+        List<String> failures = new ArrayList<>();
+        for (Map.Entry<String, Integer> migrated : plan.migratedZones.entrySet()) {
+            String key = migrated.getKey();
+            YamlConfiguration zoneConfig = plan.zoneConfigs.get(stripName(key, ZONES_FOLDER, ZONE_FILE_SUFFIX));
+            if (zoneConfig == null) {
+                continue;
+            }
+            File file = new File(this.dataFolder, key);
+            try {
+                this.migrations.saveMigratedZoneConfig(file, zoneConfig, migrated.getValue());
+                plan.fingerprints.put(key, Fingerprint.of(file, Files.readAllBytes(file.toPath())));
+            } catch (IOException e) {
+                failures.add(key + ": " + e.getMessage());
+            }
+        }
+        return failures;
+    }
+
+    private Map<String, File> watchedFiles(List<String> zoneIds, boolean watchShops) {
+        Map<String, File> files = new TreeMap<>();
+        addIfExists(files, CONFIG_FILE, new File(this.dataFolder, CONFIG_FILE));
+        addIfExists(files, ZONE_TEMPLATE_FILE, new File(this.dataFolder, ZONE_TEMPLATE_FILE));
+        File zonesFolder = new File(this.dataFolder, ZONES_FOLDER);
+        for (String zoneId : zoneIds) {
+            String name = zoneId + ZONE_FILE_SUFFIX;
+            addIfExists(files, ZONES_FOLDER + "/" + name, new File(zonesFolder, name));
+        }
+        if (watchShops) {
+            addFolder(files, SHOPS_FOLDER, SHOP_FILE_SUFFIX);
+        }
+        addFolder(files, LANG_FOLDER, LANG_FILE_SUFFIX);
+        return files;
+    }
+
+    private void addFolder(Map<String, File> files, String folderName, String suffix) {
+        File[] children = new File(this.dataFolder, folderName).listFiles((dir, name) -> name.endsWith(suffix));
+        if (children != null) {
+            for (File child : children) {
+                addIfExists(files, folderName + "/" + child.getName(), child);
+            }
+        }
+    }
+
+    private static void addIfExists(Map<String, File> files, String key, File file) {
+        if (file.isFile()) {
+            files.put(key, file);
+        }
+    }
+
+    private static String stripName(String key, String folder, String suffix) {
+        return key.substring(folder.length() + 1, key.length() - suffix.length());
+    }
+
+    private static YamlConfiguration parseYaml(String text) throws Exception {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(text);
+        return yaml;
+    }
+
+    /**
+     * Top-level config.yml keys whose values differ. Every key counts as changed when there
+     * is no previous text to compare with.
+     */
+    private static Set<String> changedSections(String previousText, YamlConfiguration updated) {
+        Set<String> changed = new LinkedHashSet<>();
+        Map<String, Map<String, Object>> before = Collections.emptyMap();
+        if (previousText != null) {
+            try {
+                before = leavesBySection(parseYaml(previousText));
+            } catch (Exception ignored) {
+                // The old text no longer parses; treat everything as changed.
+            }
+        }
+        Map<String, Map<String, Object>> after = leavesBySection(updated);
+        Set<String> keys = new LinkedHashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        for (String key : keys) {
+            if (previousText == null || !Objects.equals(before.get(key), after.get(key))) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    private static Map<String, Map<String, Object>> leavesBySection(YamlConfiguration config) {
+        Map<String, Map<String, Object>> sections = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : config.getValues(true).entrySet()) {
+            if (entry.getValue() instanceof ConfigurationSection) {
+                continue;
+            }
+            String path = entry.getKey();
+            int dot = path.indexOf('.');
+            String section = dot < 0 ? path : path.substring(0, dot);
+            sections.computeIfAbsent(section, ignored -> new HashMap<>()).put(path, entry.getValue());
+        }
+        return sections;
+    }
+
+    private static void runOnReloadThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "CaptureZones-Reload");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Changed and already parsed files, ready to apply on the main thread.
+     */
+    static final class Plan {
+        final long startedAtNanos;
+        final Map<String, Fingerprint> fingerprints = new HashMap<>();
+        final Set<String> changedConfigSections = new LinkedHashSet<>();
+        // zone id -> parsed zone config
+        final Map<String, YamlConfiguration> zoneConfigs = new LinkedHashMap<>();
+        // zone file key -> template keys added in memory, written once the plan is applied
+        final Map<String, Integer> migratedZones = new LinkedHashMap<>();
+        // zone id -> parsed shop file
+        final Map<String, YamlConfiguration> shops = new LinkedHashMap<>();
+        // language code -> parsed language file
+        final Map<String, JsonObject> languages = new LinkedHashMap<>();
+        final List<String> errors = new ArrayList<>();
+        boolean configChanged;
+        boolean templateChanged;
+        String configText;
+        // Parsed config.yml, set when configChanged; installed as is instead of re-reading the file
+        YamlConfiguration config;
+
+        private Plan(long startedAtNanos) {
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        boolean isEmpty() {
+            return !this.configChanged && !this.templateChanged && this.zoneConfigs.isEmpty()
+                && this.shops.isEmpty() && this.languages.isEmpty();
+        }
+
+        boolean configSectionChanged(String section) {
+            return this.changedConfigSections.contains(section);
+        }
+
+        /**
+         * Short list of what changed, for logs and command feedback.
+         */
+        String describe() {
+            List<String> parts = new ArrayList<>();
+            if (this.configChanged) {
+                parts.add("config.yml " + this.changedConfigSections);
+            }
+            if (this.templateChanged) {
+                parts.add(ZONE_TEMPLATE_FILE);
+            }
+            if (!this.zoneConfigs.isEmpty()) {
+                parts.add(this.zoneConfigs.size() + " zone config(s)");
+            }
+            if (!this.shops.isEmpty()) {
+                parts.add(this.shops.size() + " shop(s)");
+            }
+            if (!this.languages.isEmpty()) {
+                parts.add("languages " + this.languages.keySet());
+            }
+            return String.join(", ", parts);
+        }
+    }
+
+    static final class Fingerprint {
+        final long modified;
+        final long size;
+        final long crc;
+
+        private Fingerprint(long modified, long size, long crc) {
+            this.modified = modified;
+            this.size = size;
+            this.crc = crc;
+        }
+
+        /**
+         * Fingerprint without a content hash, for files the plugin wrote itself. Any later
+         * change of size or modification time reads and parses the file again.
+         */
+        static Fingerprint ofMetadata(File file) {
+            return new Fingerprint(file.lastModified(), file.length(), -1L);
+        }
+
+        static Fingerprint of(File file, byte[] content) {
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            return new Fingerprint(file.lastModified(), content.length, crc.getValue());
+        }
+
+        boolean matchesMetadata(File file) {
+            return this.modified == file.lastModified() && this.size == file.length();
+        }
+    }
+
+    private static final class Baseline {
+        final Map<String, Fingerprint> fingerprints;
+        final String configText;
+
+        Baseline(Map<String, Fingerprint> fingerprints, String configText) {
+            this.fingerprints = fingerprints;
+            this.configText = configText;
+        }
+    }
+}
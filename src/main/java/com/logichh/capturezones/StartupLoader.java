@@ -0,0 +1,190 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Bounded worker pool for the file-heavy part of startup, plus per-phase timing.
+ *
+ * Workers only read, migrate and parse files into detached objects (YAML trees, statistics
+ * data, grant maps); the main thread registers whatever they return. Loading code reaches the
+ * pool through {@link CaptureZones#getStartupLoader()}, which is null outside onEnable, and
+ * the static helpers fall back to running on the caller's thread in that case.
+ */
+final class StartupLoader implements AutoCloseable {
+    private static final int DEFAULT_MAX_THREADS = 4;
+    private static final int MAX_THREADS = 16;
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final int threads;
+    private final long startedAt = System.nanoTime();
+    // phase name -> millis; phaseOrder keeps the order phases finished. Guarded by phaseOrder.
+    private final Map<String, Long> phaseMillis = new HashMap<>();
+    private final List<String> phaseOrder = new ArrayList<>();
+    private final Map<String, CompletableFuture<?>> prefetched = new ConcurrentHashMap<>();
+
+    StartupLoader(Logger logger, int configuredThreads) {
+        this.logger = logger;
+        int available = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.threads = configuredThreads > 0
+            ? Math.min(MAX_THREADS, configuredThreads)
+            : Math.min(DEFAULT_MAX_THREADS, available);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.threads, runnable -> {
+            Thread thread = new Thread(runnable, "CaptureZones-Startup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run one startup step on the calling thread and record how long it took.
+     */
+    void phase(String name, Runnable step) {
+        long phaseStartedAt = System.nanoTime();
+        try {
+            step.run();
+        } finally {
+            record(name, phaseStartedAt);
+        }
+    }
+
+    /**
+     * Start loading something in the background; {@link #take} picks the result up later.
+     */
+    <T> void prefetch(String name, Callable<T> task) {
+        this.prefetched.put(name, CompletableFuture.supplyAsync(() -> {
+            long phaseStartedAt = System.nanoTime();
+            try {
+                return task.call();
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            } finally {
+                record(name + " (background)", phaseStartedAt);
+            }
+        }, this.executor));
+    }
+
+    /**
+     * Result of a prefetch started under {@code name}, or of {@code fallback} when there is no
+     * loader or nothing was prefetched.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T take(StartupLoader loader, String name, Callable<T> fallback) throws Exception {
+        CompletableFuture<?> future = loader != null ? loader.prefetched.remove(name) : null;
+        if (future == null) {
+            return fallback.call();
+        }
+        try {
+            return (T) future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                ? e.getCause().getCause()
+                : e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /**
+     * Apply {@code task} to every input on the pool and collect the non-null results in input
+     * order. Without a loader, or for a single input, the work runs on the caller's thread.
+     * Tasks handle their own per-item failures; an exception escaping one is rethrown here.
+     * Only call this from the main thread: a pool worker waiting on the pool could deadlock.
+     */
+    static <T, R> Map<T, R> map(StartupLoader loader, Collection<T> inputs, Function<T, R> task) {
+        Map<T, R> results = new LinkedHashMap<>();
+        if (loader == null || inputs.size() < 2) {
+            for (T input : inputs) {
+                R result = task.apply(input);
+                if (result != null) {
+                    results.put(input, result);
+                }
+            }
+            return results;
+        }
+
+        Map<T, CompletableFuture<R>> futures = new LinkedHashMap<>();
+        for (T input : inputs) {
+            futures.put(input, CompletableFuture.supplyAsync(() -> task.apply(input), loader.executor));
+        }
+        for (Map.Entry<T, CompletableFuture<R>> entry : futures.entrySet()) {
+            R result;
+            try {
+                result = entry.getValue().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            if (result != null) {
+                results.put(entry.getKey(), result);
+            }
+        }
+        return results;
+    }
+
+    static <T> void forEach(StartupLoader loader, Collection<T> inputs, Consumer<T> task) {
+        map(loader, inputs, input -> {
+            task.accept(input);
+            return null;
+        });
+    }
+
+    /**
+     * Log the total and per-phase startup time.
+     */
+    void logSummary() {
+        long totalMillis = (System.nanoTime() - this.startedAt) / 1_000_000L;
+        StringBuilder summary = new StringBuilder("Startup took ").append(totalMillis).append(" ms on ")
+            .append(this.threads).append(" loader thread(s)");
+        synchronized (this.phaseOrder) {
+            String separator = ": ";
+            for (String name : this.phaseOrder) {
+                summary.append(separator).append(name).append(' ').append(this.phaseMillis.get(name)).append(" ms");
+                separator = ", ";
+            }
+        }
+        this.logger.info(summary.toString());
+    }
+
+    @Override
+    public void close() {
+        for (CompletableFuture<?> unused : this.prefetched.values()) {
+            unused.cancel(false);
+        }
+        this.prefetched.clear();
+        this.executor.shutdown();
+    }
+
+    private void record(String name, long phaseStartedAt) {
+        long millis = (System.nanoTime() - phaseStartedAt) / 1_000_000L;
+        synchronized (this.phaseOrder) {
+            if (this.phaseMillis.put(name, millis) == null) {
+                this.phaseOrder.add(name);
+            }
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.logichh.capturezones;
 
+import com.google.gson.annotations.JsonAdapter;
+
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -10,8 +14,20 @@ import java.util.UUID;
  */
 public class StatisticsData {
     
-    // Player statistics
-    private Map<UUID, PlayerStats> playerStats = new HashMap<>();
+    // Row kinds used by storage backends that persist one row per entity
+    static final String PLAYER_ROW = "player";
+    static final String TOWN_ROW = "town";
+    static final String ZONE_ROW = "zone";
+    static final String SERVER_ROW = "server";
+    // One row per windowed metric and entity, id from StatisticsWindows.rowId
+    static final String WINDOW_ROW = "window";
+    // Older layout that kept every window in a single row; only read, then rewritten
+    static final String LEGACY_WINDOWS_ROW = "windows";
+    
+
+    // Player statistics, keyed by primitive UUID columns
+    @JsonAdapter(PlayerStatsMap.JsonAdapterFactory.class)
+    private Map<UUID, PlayerStats> playerStats = new PlayerStatsMap();
     
     // Town statistics
     private Map<String, TownStats> townStats = new HashMap<>();
@@ -25,22 +41,122 @@ public class StatisticsData {
     // Last reset timestamp
     private long lastReset = System.currentTimeMillis();
     
+    // Time-bucketed counters for rolling windows
+    private StatisticsWindows windows = new StatisticsWindows();
+    
+    // Rows handed out for modification since the last save, null when every row needs
+    // writing. Not serialized.
+    private transient DirtyRows dirtyRows = null;
+    
     public PlayerStats getPlayerStats(UUID playerId) {
+        if (dirtyRows != null) {
+            dirtyRows.players.add(playerId);
+        }
         return playerStats.computeIfAbsent(playerId, k -> new PlayerStats());
     }
     
     public TownStats getTownStats(String townName) {
+        if (dirtyRows != null) {
+            dirtyRows.towns.add(townName);
+        }
         return townStats.computeIfAbsent(townName, k -> new TownStats());
     }
     
     public ZoneStats getZoneStats(String zoneId) {
+        if (dirtyRows != null) {
+            dirtyRows.zones.add(zoneId);
+        }
         return zoneStats.computeIfAbsent(zoneId, k -> new ZoneStats());
     }
     
     public ServerRecords getServerRecords() {
+        if (dirtyRows != null) {
+            dirtyRows.server = true;
+        }
         return serverRecords;
     }
     
+    /**
+     * Player statistics without marking the row changed, or null when the player has none.
+     */
+    public PlayerStats readPlayerStats(UUID playerId) {
+        return playerStats.get(playerId);
+    }
+    
+    /**
+     * Town statistics without marking the row changed, or null when the town has none.
+     */
+    public TownStats readTownStats(String townName) {
+        return townStats.get(townName);
+    }
+    
+    /**
+     * Zone statistics without marking the row changed, or null when the zone has none.
+     */
+    public ZoneStats readZoneStats(String zoneId) {
+        return zoneStats.get(zoneId);
+    }
+
+    /**
+     * Server records without marking the row changed, for queries and storage writes.
+     */
+    public ServerRecords readServerRecords() {
+        return serverRecords;
+    }
+    
+    /**
+     * Compact the windowed counters, marking only the entities that changed.
+     */
+    void compactWindows(long now) {
+        for (String rowId : readWindows().compact(now, getSeasonStart())) {
+            markWindowDirty(rowId);
+        }
+    }
+    
+    /**
+     * Add to one windowed counter and mark just that metric/entity row changed.
+     */
+    void recordWindow(StatisticsWindows.Metric metric, String entity, double amount, long now) {
+        readWindows().record(metric, entity, amount, now);
+        if (entity != null && dirtyRows != null) {
+            dirtyRows.windows.add(StatisticsWindows.rowId(metric, entity));
+        }
+    }
+    
+    /**
+     * Start of the season window: the configured season start, or the last reset.
+     */
+    long getSeasonStart() {
+        long configured = readWindows().getSettings().seasonStartMillis;
+        return configured > 0L ? configured : lastReset;
+    }
+    
+    /**
+     * Windowed counters without marking the row changed, for queries and storage writes.
+     */
+    StatisticsWindows readWindows() {
+        if (windows == null) {
+            windows = new StatisticsWindows();
+        }
+        return windows;
+    }
+    
+    private void markWindowDirty(String rowId) {
+        if (dirtyRows != null) {
+            dirtyRows.windows.add(rowId);
+        }
+    }
+    
+    /**
+     * Rows that may have changed since the previous call, or null when every row has to be
+     * rewritten (fresh data or a reset).
+     */
+    DirtyRows drainDirtyRows() {
+        DirtyRows drained = dirtyRows;
+        dirtyRows = new DirtyRows();
+        return drained;
+    }
+    
     public Map<UUID, PlayerStats> getAllPlayerStats() {
         return playerStats;
     }
@@ -55,20 +171,55 @@ public class StatisticsData {
     
     public void removePlayerStats(UUID playerId) {
         playerStats.remove(playerId);
+        if (dirtyRows != null) {
+            dirtyRows.players.add(playerId);
+        }
+        for (String rowId : readWindows().removeEntity(PLAYER_ROW, String.valueOf(playerId))) {
+            markWindowDirty(rowId);
+        }
     }
     
     public void resetAllStats() {
+        resetAllStats(System.currentTimeMillis());
+    }
+    
+    /**
+     * Reset with an explicit timestamp, so a journal rebuild ends up with the same lastReset
+     * as the live data it replays.
+     */
+    void resetAllStats(long resetAt) {
         playerStats.clear();
         townStats.clear();
         zoneStats.clear();
         serverRecords = new ServerRecords();
-        lastReset = System.currentTimeMillis();
+        readWindows().clear();
+        lastReset = resetAt;
+        dirtyRows = null;
     }
     
     public long getLastReset() {
         return lastReset;
     }
     
+    /**
+     * True while no player, town or zone has been recorded since the last reset.
+     */
+    boolean isEmpty() {
+        return playerStats.isEmpty() && townStats.isEmpty() && zoneStats.isEmpty();
+    }
+    
+    /**
+     * Changed rows per kind, keyed by the entity itself so marking a row builds no string.
+     */
+    static final class DirtyRows {
+        final Set<UUID> players = new HashSet<>();
+        final Set<String> towns = new HashSet<>();
+        final Set<String> zones = new HashSet<>();
+        // Row ids from StatisticsWindows.rowId
+        final Set<String> windows = new HashSet<>();
+        boolean server;
+    }
+    
     /**
      * Player-specific statistics
      */
@@ -109,8 +260,10 @@ public class StatisticsData {
         public int maxSimultaneousZones = 0;
         public int currentControlledZones = 0;
         public long longestControlStreak = 0; // milliseconds
-        public Map<String, Integer> capturesPerZone = new HashMap<>();
-        public Map<String, Long> holdTimePerZone = new HashMap<>();
+        @JsonAdapter(ZoneCounterMap.JsonAdapterFactory.class)
+        public Map<String, Integer> capturesPerZone = ZoneCounterMap.ofInts();
+        @JsonAdapter(ZoneCounterMap.JsonAdapterFactory.class)
+        public Map<String, Long> holdTimePerZone = ZoneCounterMap.ofLongs();
         
         public double getSuccessRate() {
             int total = totalCaptures + failedCaptures;
@@ -0,0 +1,361 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * statistics.json persistence for the flat-file storage.
+ *
+ * A save takes a JSON tree snapshot on the calling thread and streams it to disk on a
+ * background thread: temp file, fsync, then atomic replace, keeping the previous files as
+ * numbered backups. Snapshots queued while a write is running are coalesced to the newest.
+ * Loading streams the newest of statistics.json / statistics.json.gz and falls back to the
+ * backups when it is unreadable.
+ */
+final class StatisticsFileStore {
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30L;
+
+    private final File plainFile;
+    private final File gzipFile;
+    private final Logger logger;
+    private final Gson gson;
+    private final boolean gzip;
+    private final int backups;
+    private final AtomicReference<JsonElement> pending = new AtomicReference<>();
+    private ExecutorService executor;
+
+    private volatile long writes;
+    private volatile long failedWrites;
+    private volatile long coalescedSnapshots;
+    private volatile long lastSnapshotMicros;
+    private volatile long lastWriteMillis;
+    private volatile long lastWriteBytes;
+    private volatile long lastLoadMillis;
+
+    StatisticsFileStore(File file, Logger logger, Gson gson, boolean gzip, int backups) {
+        this.plainFile = file;
+        this.gzipFile = new File(file.getParentFile(), file.getName() + GZIP_SUFFIX);
+        this.logger = logger;
+        this.gson = gson;
+        this.gzip = gzip;
+        this.backups = Math.max(0, backups);
+    }
+
+    /**
+     * @return the stored statistics, or null when there is no readable file or backup
+     */
+    StatisticsData load() throws IOException {
+        long startedAt = System.currentTimeMillis();
+        List<File> candidates = new ArrayList<>();
+        File newest = newestExisting(this.plainFile, this.gzipFile);
+        // With no primary file left (e.g. a crash between rotating and replacing it in an
+        // older version), the backups of either format are still worth trying.
+        List<File> bases = new ArrayList<>();
+        if (newest != null) {
+            candidates.add(newest);
+            bases.add(newest);
+        } else {
+            bases.add(this.gzip ? this.gzipFile : this.plainFile);
+            bases.add(this.gzip ? this.plainFile : this.gzipFile);
+        }
+        for (int i = 1; i <= this.backups; i++) {
+            for (File base : bases) {
+                candidates.add(backupFile(base, i));
+            }
+        }
+
+        IOException firstFailure = null;
+        for (File candidate : candidates) {
+            if (!candidate.isFile()) {
+                continue;
+            }
+            try {
+                StatisticsData loaded = read(candidate);
+                if (loaded == null) {
+                    continue;
+                }
+                if (candidate != newest) {
+                    this.logger.warning("Loaded statistics from backup " + candidate.getName() + ".");
+                }
+                this.lastLoadMillis = System.currentTimeMillis() - startedAt;
+                return loaded;
+            } catch (IOException | RuntimeException e) {
+                this.logger.warning("Could not read " + candidate.getName() + ": " + e.getMessage());
+                if (firstFailure == null) {
+                    firstFailure = e instanceof IOException ? (IOException) e : new IOException(e.getMessage(), e);
+                }
+            }
+        }
+        if (firstFailure != null) {
+            throw firstFailure;
+        }
+        return null;
+    }
+
+    /**
+     * Snapshot {@code data} now and write it in the background.
+     */
+    void save(StatisticsData data) {
+        long startedAt = System.nanoTime();
+        JsonElement snapshot = this.gson.toJsonTree(data);
+        this.lastSnapshotMicros = (System.nanoTime() - startedAt) / 1000L;
+
+        if (this.pending.getAndSet(snapshot) != null) {
+            this.coalescedSnapshots++;
+            return;
+        }
+        ensureExecutor().execute(this::drain);
+    }
+
+    /**
+     * Wait for the queued write, if any.
+     */
+    void flush() {
+        ExecutorService current = this.executor;
+        if (current == null) {
+            return;
+        }
+        try {
+            Future<?> barrier = current.submit(() -> { });
+            barrier.get(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            this.logger.warning("Timed out waiting for the statistics write: " + e.getMessage());
+        }
+    }
+
+    void shutdown() {
+        ExecutorService stopping = this.executor;
+        this.executor = null;
+        if (stopping == null) {
+            return;
+        }
+        stopping.shutdown();
+        try {
+            if (!stopping.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                this.logger.warning("Statistics writer did not finish within " + SHUTDOWN_TIMEOUT_SECONDS + "s.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    long getWrites() {
+        return this.writes;
+    }
+
+    long getFailedWrites() {
+        return this.failedWrites;
+    }
+
+    long getCoalescedSnapshots() {
+        return this.coalescedSnapshots;
+    }
+
+    long getLastSnapshotMicros() {
+        return this.lastSnapshotMicros;
+    }
+
+    long getLastWriteMillis() {
+        return this.lastWriteMillis;
+    }
+
+    long getLastWriteBytes() {
+        return this.lastWriteBytes;
+    }
+
+    long getLastLoadMillis() {
+        return this.lastLoadMillis;
+    }
+
+    boolean isGzip() {
+        return this.gzip;
+    }
+
+    int getBackups() {
+        return this.backups;
+    }
+
+    private synchronized ExecutorService ensureExecutor() {
+        if (this.executor == null) {
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CaptureZones-StatsWriter");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.executor;
+    }
+
+    private void drain() {
+        JsonElement snapshot = this.pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            this.lastWriteBytes = write(snapshot, this.gzip ? this.gzipFile : this.plainFile);
+            this.lastWriteMillis = System.currentTimeMillis() - startedAt;
+            this.writes++;
+        } catch (IOException | RuntimeException e) {
+            this.failedWrites++;
+            this.logger.log(Level.SEVERE, "Failed to save statistics: " + e.getMessage(), e);
+        }
+    }
+
+    private long write(JsonElement snapshot, File target) throws IOException {
+        Path targetPath = target.toPath();
+        Path parent = targetPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = targetPath.resolveSibling(target.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+            if (this.gzip) {
+                out = new GZIPOutputStream(out, BUFFER_SIZE);
+            }
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            JsonWriter jsonWriter = new JsonWriter(writer);
+            if (!this.gzip) {
+                jsonWriter.setIndent("  ");
+            }
+            this.gson.toJson(snapshot, jsonWriter);
+            jsonWriter.flush();
+            if (out instanceof GZIPOutputStream) {
+                ((GZIPOutputStream) out).finish();
+            }
+            out.flush();
+            channel.force(true);
+        }
+        long bytes = Files.size(temp);
+
+        rotateBackups(target);
+        try {
+            Files.move(temp, targetPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return bytes;
+    }
+
+    /**
+     * Shift the numbered backups and keep the current file as .1. The current file stays in
+     * place (hard link, or a copy where links are unsupported) so a crash before the atomic
+     * replace never leaves the store without its primary file.
+     */
+    private void rotateBackups(File target) throws IOException {
+        if (this.backups <= 0 || !target.isFile()) {
+            return;
+        }
+        Files.deleteIfExists(backupFile(target, this.backups).toPath());
+        for (int i = this.backups - 1; i >= 1; i--) {
+            File from = backupFile(target, i);
+            if (from.isFile()) {
+                Files.move(from.toPath(), backupFile(target, i + 1).toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path first = backupFile(target, 1).toPath();
+        Files.deleteIfExists(first);
+        try {
+            Files.createLink(first, target.toPath());
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(target.toPath(), first, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Whether any numbered backup of {@code file} or its gzip twin exists.
+     */
+    static boolean hasBackups(File file) {
+        File gzipTwin = new File(file.getParentFile(), file.getName() + GZIP_SUFFIX);
+        File[] siblings = file.getParentFile() != null ? file.getParentFile().listFiles() : null;
+        if (siblings == null) {
+            return false;
+        }
+        for (File sibling : siblings) {
+            String name = sibling.getName();
+            if (isBackupOf(name, file.getName()) || isBackupOf(name, gzipTwin.getName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBackupOf(String name, String base) {
+        if (!name.startsWith(base + ".") || name.length() == base.length() + 1) {
+            return false;
+        }
+        for (int i = base.length() + 1; i < name.length(); i++) {
+            if (!Character.isDigit(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private StatisticsData read(File file) throws IOException {
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file.toPath()), BUFFER_SIZE)) {
+            InputStream in = isGzip(raw) ? new GZIPInputStream(raw, BUFFER_SIZE) : raw;
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            JsonReader jsonReader = new JsonReader(reader);
+            return this.gson.fromJson(jsonReader, StatisticsData.class);
+        }
+    }
+
+    private static boolean isGzip(InputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        return first == (GZIPInputStream.GZIP_MAGIC & 0xFF) && second == ((GZIPInputStream.GZIP_MAGIC >> 8) & 0xFF);
+    }
+
+    private static File newestExisting(File a, File b) {
+        if (!a.isFile()) {
+            return b.isFile() ? b : null;
+        }
+        if (!b.isFile()) {
+            return a;
+        }
+        return b.lastModified() > a.lastModified() ? b : a;
+    }
+
+    private static File backupFile(File file, int index) {
+        return new File(file.getParentFile(), file.getName() + "." + index);
+    }
+}
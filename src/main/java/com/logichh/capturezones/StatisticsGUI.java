@@ -117,7 +117,7 @@ public class StatisticsGUI {
         Inventory inv = Bukkit.createInventory(null, 54, Messages.get("gui.stats.main.title"));
         applyFrame(inv, MAIN_BORDER_MATERIAL, FILL_MATERIAL);
 
-        StatisticsData.ServerRecords records = statsManager.getData().getServerRecords();
+        StatisticsData.ServerRecords records = statsManager.getData().readServerRecords();
         inv.setItem(HEADER_CENTER_SLOT, createStatItem(Material.NETHER_STAR,
             Messages.get("gui.stats.snapshot.title"),
             Messages.get("gui.stats.snapshot.captures", Map.of("count", String.valueOf(records.totalServerCaptures))),
@@ -184,21 +184,19 @@ public class StatisticsGUI {
             ));
         }
         
-        List<Map.Entry<UUID, StatisticsData.PlayerStats>> topPlayers = 
-            statsManager.getData().getAllPlayerStats().entrySet().stream()
-                .sorted((e1, e2) -> Integer.compare(e2.getValue().totalCaptures, e1.getValue().totalCaptures))
-                .limit(10)
-                .toList();
+        List<Map.Entry<UUID, Integer>> topPlayers = statsManager.getTopPlayersByCaptures(10);
+        Map<UUID, StatisticsData.PlayerStats> allPlayerStats = statsManager.getData().getAllPlayerStats();
         
         for (int i = 0; i < topPlayers.size() && i < RIGHT_GRID_SLOTS.length; i++) {
-            Map.Entry<UUID, StatisticsData.PlayerStats> entry = topPlayers.get(i);
+            Map.Entry<UUID, Integer> entry = topPlayers.get(i);
+            StatisticsData.PlayerStats stats = allPlayerStats.get(entry.getKey());
             inv.setItem(RIGHT_GRID_SLOTS[i], createPlayerStatItem(
                 i + 1,
                 entry.getKey(),
-                Messages.get("gui.stats.captures.player.captures", Map.of("count", String.valueOf(entry.getValue().totalCaptures))),
-                Messages.get("gui.stats.captures.player.failed", Map.of("count", String.valueOf(entry.getValue().failedCaptures))),
+                Messages.get("gui.stats.captures.player.captures", Map.of("count", String.valueOf(stats.totalCaptures))),
+                Messages.get("gui.stats.captures.player.failed", Map.of("count", String.valueOf(stats.failedCaptures))),
                 Messages.get("gui.stats.captures.player.success-rate", Map.of(
-                    "rate", String.format("%.1f%%", entry.getValue().getSuccessRate())
+                    "rate", String.format("%.1f%%", stats.getSuccessRate())
                 ))
             ));
         }
@@ -223,7 +221,7 @@ public class StatisticsGUI {
         List<Map.Entry<UUID, Integer>> topKillers = statsManager.getTopPlayersByKills(10);
         for (int i = 0; i < topKillers.size() && i < LEFT_GRID_SLOTS.length; i++) {
             Map.Entry<UUID, Integer> entry = topKillers.get(i);
-            StatisticsData.PlayerStats stats = statsManager.getData().getPlayerStats(entry.getKey());
+            StatisticsData.PlayerStats stats = statsManager.getData().readPlayerStats(entry.getKey());
             inv.setItem(LEFT_GRID_SLOTS[i], createPlayerStatItem(
                 i + 1,
                 entry.getKey(),
@@ -236,7 +234,7 @@ public class StatisticsGUI {
         List<Map.Entry<UUID, Double>> topKD = statsManager.getTopPlayersByKDRatio(10);
         for (int i = 0; i < topKD.size() && i < RIGHT_GRID_SLOTS.length; i++) {
             Map.Entry<UUID, Double> entry = topKD.get(i);
-            StatisticsData.PlayerStats stats = statsManager.getData().getPlayerStats(entry.getKey());
+            StatisticsData.PlayerStats stats = statsManager.getData().readPlayerStats(entry.getKey());
             inv.setItem(RIGHT_GRID_SLOTS[i], createPlayerStatItem(
                 i + 1,
                 entry.getKey(),
@@ -264,7 +262,7 @@ public class StatisticsGUI {
         List<Map.Entry<String, Long>> topTowns = statsManager.getTopTownsByHoldTime(10);
         for (int i = 0; i < topTowns.size() && i < LEFT_GRID_SLOTS.length; i++) {
             Map.Entry<String, Long> entry = topTowns.get(i);
-            StatisticsData.TownStats stats = statsManager.getData().getTownStats(entry.getKey());
+            StatisticsData.TownStats stats = statsManager.getData().readTownStats(entry.getKey());
             inv.setItem(LEFT_GRID_SLOTS[i], createTownStatItem(
                 i + 1,
                 entry.getKey(),
@@ -288,7 +286,7 @@ public class StatisticsGUI {
         
         inv.setItem(BACK_SLOT, createBackButton());
         
-        double totalEconomy = statsManager.getData().getServerRecords().totalServerEconomy;
+        double totalEconomy = statsManager.getData().readServerRecords().totalServerEconomy;
         inv.setItem(HEADER_CENTER_SLOT, createStatItem(Material.EMERALD_BLOCK, 
             Messages.get("gui.stats.economy.total.title"),
             Messages.get("gui.stats.economy.total.amount", Map.of("amount", String.format("%.2f", totalEconomy))),
@@ -345,7 +343,7 @@ public class StatisticsGUI {
         inv.setItem(BACK_SLOT, createBackButton());
         inv.setItem(HEADER_CENTER_SLOT, createHeaderItem(Material.BOOK, Messages.get("gui.stats.header.server-records")));
         
-        StatisticsData.ServerRecords records = statsManager.getData().getServerRecords();
+        StatisticsData.ServerRecords records = statsManager.getData().readServerRecords();
         
         // Fastest capture
         inv.setItem(10, createStatItem(Material.FEATHER,
@@ -1,56 +1,85 @@
 package com.logichh.capturezones;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
-import java.io.*;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.function.Function;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 /**
  * Manages all capture zone statistics tracking, storage, and retrieval.
- * Handles JSON persistence and provides query methods for leaderboards.
+ * Persists through the plugin's {@link DataStorage} and provides query methods for leaderboards.
  */
 public class StatisticsManager {
     
     private final CaptureZones plugin;
     private final Logger logger;
-    private final Gson gson;
-    private final File statsFile;
     private StatisticsData data;
     
     // Track active capture start times for duration calculation
     private final Map<String, Long> activeCaptureStarts = new HashMap<>();
     private final Map<String, Long> zoneControlStarts = new HashMap<>();
     private static final int[] CAPTURE_MILESTONE_THRESHOLDS = {10, 25, 50, 100, 250, 500, 1000};
+
+    // Leaderboards, repositioned by the tracking hooks instead of sorted per query
+    private final RankedIndex<String> townsByCaptures = new RankedIndex<>();
+    private final RankedIndex<String> townsByHoldTime = new RankedIndex<>();
+    private final RankedIndex<String> townsByRewards = new RankedIndex<>();
+    private final RankedIndex<String> townsByMobKills = new RankedIndex<>();
+    private final RankedIndex<UUID> playersByCaptures = new RankedIndex<>();
+    private final RankedIndex<UUID> playersByKills = new RankedIndex<>();
+    private final RankedIndex<UUID> playersByKDRatio = new RankedIndex<>();
+    private final StatisticsWindows.Settings windowSettings;
+    
+    // Rebuild instance fed from the event journal: event clock, no webhooks, no journaling
+    private final boolean replaying;
+    private long replayClock;
+    // Set once the replay reaches a point where the statistics were known to be empty: a
+    // STATS_RESET, or an empty STATS_BASELINE in a journal that starts at sequence 1
+    private boolean replayFromEmpty;
+    private long replayFirstSequence;
+    private boolean replayAppliedStatistics;
     
     public StatisticsManager(CaptureZones plugin) {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
-        this.gson = new GsonBuilder().setPrettyPrinting().create();
-        this.statsFile = new File(plugin.getDataFolder(), "statistics.json");
         this.data = new StatisticsData();
+        this.windowSettings = readWindowSettings();
+        this.replaying = false;
         
         loadStatistics();
     }
     
     /**
-     * Load statistics from JSON file
+     * Detached manager that starts empty and is fed journal events through {@link #replay}.
+     * Holds no plugin reference and touches no server state, so it can run off the main thread.
+     */
+    StatisticsManager(Logger logger, StatisticsWindows.Settings windowSettings) {
+        this.plugin = null;
+        this.logger = logger;
+        this.data = new StatisticsData();
+        this.windowSettings = windowSettings;
+        this.replaying = true;
+        data.readWindows().configure(windowSettings);
+    }
+    
+    /**
+     * Load statistics from the configured storage
      */
     public void loadStatistics() {
-        if (!statsFile.exists()) {
-            logger.info("No statistics file found, starting fresh.");
-            return;
-        }
-        
-        try (Reader reader = new FileReader(statsFile)) {
-            data = gson.fromJson(reader, StatisticsData.class);
-            if (data == null) {
-                data = new StatisticsData();
+        try {
+            StatisticsData loaded = StartupLoader.take(plugin.getStartupLoader(), "statistics",
+                () -> plugin.getDataStorage().loadStatistics());
+            if (loaded == null) {
+                logger.info("No statistics file found, starting fresh.");
+            } else {
+                data = loaded;
+                logger.info("Statistics loaded successfully.");
             }
-            logger.info("Statistics loaded successfully.");
         } catch (Exception e) {
             logger.severe("Failed to load statistics: " + e.getMessage());
             if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
@@ -58,21 +87,31 @@ public class StatisticsManager {
             }
             data = new StatisticsData();
         }
+        data.readWindows().configure(windowSettings);
+        rebuildLeaderboards();
+        recordJournalBaseline();
     }
     
     /**
-     * Save statistics to JSON file
+     * Start a new journal with the state of the statistics next to it, so a rebuild knows
+     * whether replaying from its first event reproduces them.
+     */
+    private void recordJournalBaseline() {
+        CaptureEventJournal journal = replaying ? null : plugin.getEventJournal();
+        if (journal != null && journal.claimBaseline()) {
+            journal.append(CaptureEventJournal.event(CaptureEventJournal.STATS_BASELINE)
+                .with("empty", data.isEmpty())
+                .with("lastReset", data.getLastReset()));
+        }
+    }
+    
+    /**
+     * Save statistics to the configured storage
      */
     public void saveStatistics() {
         try {
-            if (!statsFile.exists()) {
-                statsFile.getParentFile().mkdirs();
-                statsFile.createNewFile();
-            }
-            
-            try (Writer writer = new FileWriter(statsFile)) {
-                gson.toJson(data, writer);
-            }
+            data.compactWindows(System.currentTimeMillis());
+            plugin.getDataStorage().saveStatistics(data);
             
             if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
                 logger.info("Statistics saved successfully.");
@@ -91,16 +130,27 @@ public class StatisticsManager {
      * Called when a capture session starts
      */
     public void onCaptureStart(String zoneId, String townName, UUID playerId) {
-        activeCaptureStarts.put(zoneId, System.currentTimeMillis());
+        String playerName = plugin.getServer().getOfflinePlayer(playerId).getName();
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_START)
+            .with("zone", zoneId)
+            .with("owner", townName)
+            .with("player", playerId)
+            .with("playerName", playerName));
+        applyCaptureStart(zoneId, townName, playerId, playerName);
+    }
+    
+    private void applyCaptureStart(String zoneId, String townName, UUID playerId, String playerName) {
+        activeCaptureStarts.put(zoneId, now());
         
         StatisticsData.PlayerStats playerStats = data.getPlayerStats(playerId);
         playerStats.capturesParticipated++;
+        indexPlayer(playerId);
         
         // Update server records for first capture
         if (data.getServerRecords().firstCaptureTime == 0) {
-            data.getServerRecords().firstCaptureTime = System.currentTimeMillis();
+            data.getServerRecords().firstCaptureTime = now();
             data.getServerRecords().firstCapturingTown = townName;
-            data.getServerRecords().firstCapturingPlayer = plugin.getServer().getOfflinePlayer(playerId).getName();
+            data.getServerRecords().firstCapturingPlayer = playerName;
         }
     }
     
@@ -108,12 +158,25 @@ public class StatisticsManager {
      * Called when a capture completes successfully
      */
     public void onCaptureComplete(String zoneId, String zoneName, String townName, UUID playerId, Set<UUID> participants) {
-        long captureTime = System.currentTimeMillis() - activeCaptureStarts.getOrDefault(zoneId, System.currentTimeMillis());
+        String playerName = resolvePlayerName(playerId);
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_COMPLETE)
+            .with("zone", zoneId)
+            .with("zoneName", zoneName)
+            .with("owner", townName)
+            .with("player", playerId)
+            .with("playerName", playerName)
+            .with("participants", participants)
+            .with("durationMs", now() - activeCaptureStarts.getOrDefault(zoneId, now())));
+        applyCaptureComplete(zoneId, zoneName, townName, playerId, playerName, participants);
+    }
+    
+    private void applyCaptureComplete(String zoneId, String zoneName, String townName, UUID playerId,
+                                      String safePlayerName, Collection<UUID> participants) {
+        long captureTime = now() - activeCaptureStarts.getOrDefault(zoneId, now());
         activeCaptureStarts.remove(zoneId);
-        DiscordWebhook webhook = plugin.getDiscordWebhook();
+        DiscordWebhook webhook = webhook();
         String safeZoneName = zoneName != null && !zoneName.isEmpty() ? zoneName : zoneId;
         String safeTownName = townName != null && !townName.isEmpty() ? townName : "Unknown";
-        String safePlayerName = resolvePlayerName(playerId);
         
         // Update player stats
         StatisticsData.PlayerStats mainPlayerStats = data.getPlayerStats(playerId);
@@ -135,7 +198,10 @@ public class StatisticsManager {
         for (UUID participantId : participants) {
             StatisticsData.PlayerStats participantStats = data.getPlayerStats(participantId);
             participantStats.totalTimeInCaptures += captureTime / participants.size();
+            indexPlayer(participantId);
         }
+        indexPlayer(playerId);
+        recordWindow(StatisticsWindows.Metric.PLAYER_CAPTURES, String.valueOf(playerId), 1);
         
         // Update town stats
         StatisticsData.TownStats townStats = data.getTownStats(safeTownName);
@@ -145,18 +211,21 @@ public class StatisticsManager {
             townStats.maxSimultaneousZones = townStats.currentControlledZones;
         }
         townStats.capturesPerZone.merge(zoneId, 1, Integer::sum);
+        recordWindow(StatisticsWindows.Metric.TOWN_CAPTURES, safeTownName, 1);
         
         // Update zone stats
         StatisticsData.ZoneStats zoneStats = data.getZoneStats(zoneId);
         zoneStats.totalCaptures++;
         zoneStats.controlChanges++;
+        recordWindow(StatisticsWindows.Metric.ZONE_CAPTURES, zoneId, 1);
         
         // Track previous controller for control time
         if (!zoneStats.currentController.isEmpty() && !zoneStats.currentController.equals(safeTownName)) {
-            long controlDuration = System.currentTimeMillis() - zoneStats.currentControlStart;
+            long controlDuration = now() - zoneStats.currentControlStart;
             StatisticsData.TownStats previousTown = data.getTownStats(zoneStats.currentController);
             previousTown.totalHoldTime += controlDuration;
             previousTown.holdTimePerZone.merge(zoneId, controlDuration, Long::sum);
+            recordWindow(StatisticsWindows.Metric.TOWN_HOLD_TIME, zoneStats.currentController, controlDuration);
             
             if (controlDuration > previousTown.longestControlStreak) {
                 previousTown.longestControlStreak = controlDuration;
@@ -164,11 +233,13 @@ public class StatisticsManager {
             if (controlDuration > zoneStats.longestSingleControl) {
                 zoneStats.longestSingleControl = controlDuration;
             }
+            indexTown(zoneStats.currentController);
         }
         
+        indexTown(safeTownName);
         zoneStats.currentController = safeTownName;
-        zoneStats.currentControlStart = System.currentTimeMillis();
-        zoneControlStarts.put(zoneId, System.currentTimeMillis());
+        zoneStats.currentControlStart = now();
+        zoneControlStarts.put(zoneId, now());
         
         // Track fastest/longest at zone level
         if (captureTime < zoneStats.fastestCapture) {
@@ -237,6 +308,14 @@ public class StatisticsManager {
      * Called when a capture fails
      */
     public void onCaptureFailed(String zoneId, String townName, UUID playerId) {
+        journal(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_FAILED)
+            .with("zone", zoneId)
+            .with("owner", townName)
+            .with("player", playerId));
+        applyCaptureFailed(zoneId, townName, playerId);
+    }
+    
+    private void applyCaptureFailed(String zoneId, String townName, UUID playerId) {
         activeCaptureStarts.remove(zoneId);
         
         StatisticsData.PlayerStats playerStats = data.getPlayerStats(playerId);
@@ -248,6 +327,9 @@ public class StatisticsManager {
         
         StatisticsData.ZoneStats zoneStats = data.getZoneStats(zoneId);
         zoneStats.failedAttempts++;
+
+        indexPlayer(playerId);
+        indexTown(townName);
     }
     
     // ==================== COMBAT TRACKING ====================
@@ -256,30 +338,45 @@ public class StatisticsManager {
      * Called when a player kills another player in a zone
      */
     public void onPlayerKillInZone(UUID killerId, UUID victimId, String zoneId) {
-        DiscordWebhook webhook = plugin.getDiscordWebhook();
+        String killerTown = resolveOwnerName(plugin.getServer().getPlayer(killerId));
+        String victimTown = resolveOwnerName(plugin.getServer().getPlayer(victimId));
+        journal(CaptureEventJournal.event(CaptureEventJournal.PLAYER_KILL)
+            .with("zone", zoneId)
+            .with("killer", killerId)
+            .with("victim", victimId)
+            .with("killerOwner", killerTown)
+            .with("victimOwner", victimTown));
+        applyPlayerKill(killerId, victimId, zoneId, killerTown, victimTown);
+    }
+    
+    private void applyPlayerKill(UUID killerId, UUID victimId, String zoneId, String killerTown, String victimTown) {
+        DiscordWebhook webhook = webhook();
         StatisticsData.PlayerStats killerStats = data.getPlayerStats(killerId);
         killerStats.killsInZones++;
         
         StatisticsData.PlayerStats victimStats = data.getPlayerStats(victimId);
         victimStats.deathsInZones++;
+        indexPlayer(killerId);
+        indexPlayer(victimId);
+        recordWindow(StatisticsWindows.Metric.PLAYER_KILLS, String.valueOf(killerId), 1);
+        recordWindow(StatisticsWindows.Metric.PLAYER_DEATHS, String.valueOf(victimId), 1);
         
         // Get town stats
-        Player killer = plugin.getServer().getPlayer(killerId);
-        Player victim = plugin.getServer().getPlayer(victimId);
-
-        String killerTown = resolveOwnerName(killer);
         if (killerTown != null) {
             data.getTownStats(killerTown).totalKills++;
+            indexTown(killerTown);
+            recordWindow(StatisticsWindows.Metric.TOWN_KILLS, killerTown, 1);
         }
 
-        String victimTown = resolveOwnerName(victim);
         if (victimTown != null) {
             data.getTownStats(victimTown).totalDeaths++;
+            indexTown(victimTown);
         }
         
         // Zone stats
         StatisticsData.ZoneStats zoneStats = data.getZoneStats(zoneId);
         zoneStats.totalDeaths++;
+        recordWindow(StatisticsWindows.Metric.ZONE_DEATHS, zoneId, 1);
         
         // Server records
         data.getServerRecords().totalServerDeaths++;
@@ -300,13 +397,24 @@ public class StatisticsManager {
      * Called when a player kills a mob in a zone
      */
     public void onMobKillInZone(UUID playerId, String zoneId) {
+        String townName = resolveOwnerName(plugin.getServer().getPlayer(playerId));
+        journal(CaptureEventJournal.event(CaptureEventJournal.MOB_KILL)
+            .with("zone", zoneId)
+            .with("player", playerId)
+            .with("owner", townName));
+        applyMobKill(playerId, zoneId, townName);
+    }
+    
+    private void applyMobKill(UUID playerId, String zoneId, String townName) {
         StatisticsData.PlayerStats playerStats = data.getPlayerStats(playerId);
         playerStats.mobKills++;
+        indexPlayer(playerId);
+        recordWindow(StatisticsWindows.Metric.PLAYER_MOB_KILLS, String.valueOf(playerId), 1);
 
-        Player player = plugin.getServer().getPlayer(playerId);
-        String townName = resolveOwnerName(player);
         if (townName != null) {
             data.getTownStats(townName).mobsKilled++;
+            indexTown(townName);
+            recordWindow(StatisticsWindows.Metric.TOWN_MOB_KILLS, townName, 1);
         }
         
         StatisticsData.ZoneStats zoneStats = data.getZoneStats(zoneId);
@@ -321,12 +429,24 @@ public class StatisticsManager {
      * Called when rewards are distributed
      */
     public void onRewardDistributed(String zoneId, String zoneName, String townName, double amount) {
-        DiscordWebhook webhook = plugin.getDiscordWebhook();
+        journal(CaptureEventJournal.event(CaptureEventJournal.REWARD)
+            .with("zone", zoneId)
+            .with("zoneName", zoneName)
+            .with("owner", townName)
+            .with("amount", amount));
+        applyReward(zoneId, zoneName, townName, amount);
+    }
+    
+    private void applyReward(String zoneId, String zoneName, String townName, double amount) {
+        DiscordWebhook webhook = webhook();
         StatisticsData.TownStats townStats = data.getTownStats(townName);
         townStats.totalRewardsEarned += amount;
+        indexTown(townName);
+        recordWindow(StatisticsWindows.Metric.TOWN_REWARDS, townName, amount);
         
         StatisticsData.ZoneStats zoneStats = data.getZoneStats(zoneId);
         zoneStats.totalRewardsPaid += amount;
+        recordWindow(StatisticsWindows.Metric.ZONE_REWARDS, zoneId, amount);
         
         StatisticsData.ServerRecords records = data.getServerRecords();
         records.totalServerEconomy += amount;
@@ -350,67 +470,257 @@ public class StatisticsManager {
      * Get top N towns by total captures
      */
     public List<Map.Entry<String, Integer>> getTopTownsByCaptures(int limit) {
-        return data.getAllTownStats().entrySet().stream()
-            .sorted((e1, e2) -> Integer.compare(e2.getValue().totalCaptures, e1.getValue().totalCaptures))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().totalCaptures))
-            .collect(Collectors.toList());
+        return townRows(townsByCaptures, limit, stats -> stats.totalCaptures);
+    }
+    
+    /**
+     * Get top N players by total captures
+     */
+    public List<Map.Entry<UUID, Integer>> getTopPlayersByCaptures(int limit) {
+        return playerRows(playersByCaptures, limit, stats -> stats.totalCaptures);
     }
     
     /**
      * Get top N players by kills in zones
      */
     public List<Map.Entry<UUID, Integer>> getTopPlayersByKills(int limit) {
-        return data.getAllPlayerStats().entrySet().stream()
-            .sorted((e1, e2) -> Integer.compare(e2.getValue().killsInZones, e1.getValue().killsInZones))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().killsInZones))
-            .collect(Collectors.toList());
+        return playerRows(playersByKills, limit, stats -> stats.killsInZones);
     }
     
     /**
      * Get top N towns by total hold time
      */
     public List<Map.Entry<String, Long>> getTopTownsByHoldTime(int limit) {
-        return data.getAllTownStats().entrySet().stream()
-            .sorted((e1, e2) -> Long.compare(e2.getValue().totalHoldTime, e1.getValue().totalHoldTime))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().totalHoldTime))
-            .collect(Collectors.toList());
+        return townRows(townsByHoldTime, limit, stats -> stats.totalHoldTime);
     }
     
     /**
      * Get top N towns by total rewards
      */
     public List<Map.Entry<String, Double>> getTopTownsByRewards(int limit) {
-        return data.getAllTownStats().entrySet().stream()
-            .sorted((e1, e2) -> Double.compare(e2.getValue().totalRewardsEarned, e1.getValue().totalRewardsEarned))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().totalRewardsEarned))
-            .collect(Collectors.toList());
+        return townRows(townsByRewards, limit, stats -> stats.totalRewardsEarned);
     }
     
     /**
      * Get top N towns by mob kills
      */
     public List<Map.Entry<String, Integer>> getTopTownsByMobKills(int limit) {
-        return data.getAllTownStats().entrySet().stream()
-            .sorted((e1, e2) -> Integer.compare(e2.getValue().mobsKilled, e1.getValue().mobsKilled))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().mobsKilled))
-            .collect(Collectors.toList());
+        return townRows(townsByMobKills, limit, stats -> stats.mobsKilled);
     }
     
     /**
      * Get top N players by K/D ratio
      */
     public List<Map.Entry<UUID, Double>> getTopPlayersByKDRatio(int limit) {
-        return data.getAllPlayerStats().entrySet().stream()
-            .filter(e -> e.getValue().deathsInZones > 0 || e.getValue().killsInZones > 0)
-            .sorted((e1, e2) -> Double.compare(e2.getValue().getKDRatio(), e1.getValue().getKDRatio()))
-            .limit(limit)
-            .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(), e.getValue().getKDRatio()))
-            .collect(Collectors.toList());
+        return playerRows(playersByKDRatio, limit, StatisticsData.PlayerStats::getKDRatio);
+    }
+    
+    /**
+     * Leaderboard position of a town by captures (1 = best), or 0 if it has no stats
+     */
+    public int getTownRankByCaptures(String townName) {
+        return townName == null ? 0 : townsByCaptures.rank(townName);
+    }
+    
+    /**
+     * Leaderboard position of a player by captures (1 = best), or 0 if they have no stats
+     */
+    public int getPlayerRankByCaptures(UUID playerId) {
+        return playerId == null ? 0 : playersByCaptures.rank(playerId);
+    }
+    
+    /**
+     * Leaderboard position of a player by kills in zones (1 = best), or 0 if they have no stats
+     */
+    public int getPlayerRankByKills(UUID playerId) {
+        return playerId == null ? 0 : playersByKills.rank(playerId);
+    }
+    
+    /**
+     * Leaderboard position of a player by K/D ratio (1 = best), or 0 if they have no combat stats
+     */
+    public int getPlayerRankByKDRatio(UUID playerId) {
+        return playerId == null ? 0 : playersByKDRatio.rank(playerId);
+    }
+    
+    private <V> List<Map.Entry<String, V>> townRows(RankedIndex<String> index, int limit,
+                                                     Function<StatisticsData.TownStats, V> value) {
+        Map<String, StatisticsData.TownStats> towns = data.getAllTownStats();
+        List<Map.Entry<String, V>> rows = new ArrayList<>();
+        for (String townName : index.top(limit)) {
+            rows.add(new AbstractMap.SimpleEntry<>(townName, value.apply(towns.get(townName))));
+        }
+        return rows;
+    }
+    
+    private <V> List<Map.Entry<UUID, V>> playerRows(RankedIndex<UUID> index, int limit,
+                                                   Function<StatisticsData.PlayerStats, V> value) {
+        Map<UUID, StatisticsData.PlayerStats> players = data.getAllPlayerStats();
+        List<Map.Entry<UUID, V>> rows = new ArrayList<>();
+        for (UUID playerId : index.top(limit)) {
+            rows.add(new AbstractMap.SimpleEntry<>(playerId, value.apply(players.get(playerId))));
+        }
+        return rows;
+    }
+    
+    private void indexTown(String townName) {
+        if (townName == null) {
+            return;
+        }
+        StatisticsData.TownStats stats = data.getAllTownStats().get(townName);
+        if (stats == null) {
+            townsByCaptures.remove(townName);
+            townsByHoldTime.remove(townName);
+            townsByRewards.remove(townName);
+            townsByMobKills.remove(townName);
+            return;
+        }
+        townsByCaptures.update(townName, stats.totalCaptures);
+        townsByHoldTime.update(townName, stats.totalHoldTime);
+        townsByRewards.update(townName, stats.totalRewardsEarned);
+        townsByMobKills.update(townName, stats.mobsKilled);
+    }
+    
+    private void indexPlayer(UUID playerId) {
+        if (playerId == null) {
+            return;
+        }
+        StatisticsData.PlayerStats stats = data.getAllPlayerStats().get(playerId);
+        if (stats == null) {
+            playersByCaptures.remove(playerId);
+            playersByKills.remove(playerId);
+            playersByKDRatio.remove(playerId);
+            return;
+        }
+        playersByCaptures.update(playerId, stats.totalCaptures);
+        playersByKills.update(playerId, stats.killsInZones);
+        if (stats.deathsInZones > 0 || stats.killsInZones > 0) {
+            playersByKDRatio.update(playerId, stats.getKDRatio());
+        } else {
+            playersByKDRatio.remove(playerId);
+        }
+    }
+    
+    private void rebuildLeaderboards() {
+        townsByCaptures.clear();
+        townsByHoldTime.clear();
+        townsByRewards.clear();
+        townsByMobKills.clear();
+        playersByCaptures.clear();
+        playersByKills.clear();
+        playersByKDRatio.clear();
+        for (String townName : data.getAllTownStats().keySet()) {
+            indexTown(townName);
+        }
+        for (UUID playerId : data.getAllPlayerStats().keySet()) {
+            indexPlayer(playerId);
+        }
+    }
+    
+    // ==================== ROLLING WINDOWS ====================
+    
+    /**
+     * Window names (configured rolling windows such as day and week, then season), in order
+     */
+    public Set<String> getWindowPeriods() {
+        return windowSettings.windowNames();
+    }
+    
+    /**
+     * Total of a windowed metric for one town name, player UUID or zone id over a named window
+     */
+    public double getWindowTotal(String period, StatisticsWindows.Metric metric, String entity) {
+        long now = System.currentTimeMillis();
+        Long since = windowStart(period, now);
+        if (since == null || metric == null) {
+            return 0.0;
+        }
+        return data.readWindows().total(metric, entity, since);
+    }
+    
+    /**
+     * Top N entities of a windowed metric over a named window, highest first
+     */
+    public List<Map.Entry<String, Double>> getWindowTop(String period, StatisticsWindows.Metric metric, int limit) {
+        long now = System.currentTimeMillis();
+        Long since = windowStart(period, now);
+        if (since == null || metric == null) {
+            return Collections.emptyList();
+        }
+        return data.readWindows().top(metric, period.toLowerCase(Locale.ROOT), since, limit, now);
+    }
+    
+    /**
+     * Start of a named window: now minus a rolling window's length, or the season start
+     */
+    private Long windowStart(String period, long now) {
+        if (period == null) {
+            return null;
+        }
+        if (StatisticsWindows.SEASON.equalsIgnoreCase(period)) {
+            return data.getSeasonStart();
+        }
+        Long periodMillis = windowSettings.periodMillis(period);
+        return periodMillis != null ? now - periodMillis : null;
+    }
+    
+    private void recordWindow(StatisticsWindows.Metric metric, String entity, double amount) {
+        if (windowSettings.enabled) {
+            data.recordWindow(metric, entity, amount, now());
+        }
+    }
+    
+    StatisticsWindows.Settings getWindowSettings() {
+        return windowSettings;
+    }
+    
+    private StatisticsWindows.Settings readWindowSettings() {
+        StatisticsWindows.Settings defaults = StatisticsWindows.Settings.defaults();
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("statistics.windows");
+        if (section == null) {
+            return defaults;
+        }
+        Map<String, Long> periods = new LinkedHashMap<>();
+        ConfigurationSection periodsSection = section.getConfigurationSection("periods");
+        if (periodsSection != null) {
+            for (String name : periodsSection.getKeys(false)) {
+                long minutes = periodsSection.getLong(name, 0L);
+                if (StatisticsWindows.SEASON.equalsIgnoreCase(name)) {
+                    logger.warning("statistics.windows.periods.season is ignored; the season window starts at "
+                        + "statistics.windows.season-start or the last statistics reset.");
+                } else if (minutes > 0L) {
+                    periods.put(name.toLowerCase(Locale.ROOT).replace('_', '-'), minutes * 60_000L);
+                }
+            }
+        }
+        if (periods.isEmpty()) {
+            periods.putAll(defaults.periods);
+        }
+        return new StatisticsWindows.Settings(
+            section.getBoolean("enabled", true),
+            section.getLong("bucket-minutes", 60L) * 60_000L,
+            section.getLong("fine-retention-hours", 48L) * 3_600_000L,
+            section.getLong("compacted-bucket-hours", 24L) * 3_600_000L,
+            section.getLong("retention-days", 35L) * 86_400_000L,
+            section.getLong("leaderboard-cache-seconds", 30L) * 1000L,
+            periods,
+            parseSeasonStart(section.getString("season-start", ""))
+        );
+    }
+    
+    /**
+     * statistics.windows.season-start as epoch millis at local midnight, or 0 when unset
+     */
+    private long parseSeasonStart(String raw) {
+        if (raw == null || raw.trim().isEmpty()) {
+            return 0L;
+        }
+        try {
+            return LocalDate.parse(raw.trim()).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            logger.warning("Invalid statistics.windows.season-start '" + raw + "', expected yyyy-MM-dd; using the last reset.");
+            return 0L;
+        }
     }
     
     /**
@@ -424,7 +734,9 @@ public class StatisticsManager {
      * Remove player statistics
      */
     public void removePlayerStats(UUID playerId) {
+        journal(CaptureEventJournal.event(CaptureEventJournal.STATS_PLAYER_REMOVED).with("player", playerId));
         data.removePlayerStats(playerId);
+        indexPlayer(playerId);
         saveStatistics();
     }
     
@@ -432,11 +744,114 @@ public class StatisticsManager {
      * Reset all statistics
      */
     public void resetAllStats() {
-        data.resetAllStats();
+        CaptureEventJournal.Event reset = CaptureEventJournal.event(CaptureEventJournal.STATS_RESET);
+        journal(reset);
+        data.resetAllStats(reset.time);
         activeCaptureStarts.clear();
         zoneControlStarts.clear();
+        rebuildLeaderboards();
+        saveStatistics();
+    }
+
+    // ==================== EVENT JOURNAL ====================
+    
+    /**
+     * Apply one journal event to this rebuild instance. Events that carry no statistics
+     * (phase changes, contests, KOTH wins, shop transactions) are ignored.
+     */
+    void replay(CaptureEventJournal.Event event) {
+        if (!replaying) {
+            throw new IllegalStateException("Only rebuild instances replay journal events");
+        }
+        replayClock = event.time;
+        if (replayFirstSequence == 0L) {
+            replayFirstSequence = event.sequence;
+        }
+        switch (event.type) {
+            case CaptureEventJournal.CAPTURE_START:
+                applyCaptureStart(event.string("zone"), event.string("owner"), event.uuid("player"), event.string("playerName"));
+                break;
+            case CaptureEventJournal.CAPTURE_COMPLETE:
+                applyCaptureComplete(event.string("zone"), event.string("zoneName"), event.string("owner"),
+                    event.uuid("player"), event.string("playerName"), event.uuids("participants"));
+                break;
+            case CaptureEventJournal.CAPTURE_FAILED:
+                applyCaptureFailed(event.string("zone"), event.string("owner"), event.uuid("player"));
+                break;
+            case CaptureEventJournal.PLAYER_KILL:
+                applyPlayerKill(event.uuid("killer"), event.uuid("victim"), event.string("zone"),
+                    event.string("killerOwner"), event.string("victimOwner"));
+                break;
+            case CaptureEventJournal.MOB_KILL:
+                applyMobKill(event.uuid("player"), event.string("zone"), event.string("owner"));
+                break;
+            case CaptureEventJournal.REWARD:
+                applyReward(event.string("zone"), event.string("zoneName"), event.string("owner"), event.number("amount"));
+                break;
+            case CaptureEventJournal.STATS_PLAYER_REMOVED:
+                data.removePlayerStats(event.uuid("player"));
+                break;
+            case CaptureEventJournal.STATS_RESET:
+                data.resetAllStats(event.time);
+                activeCaptureStarts.clear();
+                zoneControlStarts.clear();
+                replayFromEmpty = true;
+                break;
+            case CaptureEventJournal.STATS_BASELINE:
+                // Only a baseline ahead of every statistics event describes where replay starts
+                if (replayFirstSequence == 1L && !replayAppliedStatistics && event.flag("empty")) {
+                    data.resetAllStats(event.integer("lastReset"));
+                    replayFromEmpty = true;
+                }
+                return;
+            default:
+                return;
+        }
+        replayAppliedStatistics = true;
+    }
+    
+    /**
+     * Why {@code rebuild} would not reproduce this manager's statistics, as a lang key, or null
+     * when it does. The replay has to start from empty statistics (the first journal event, or
+     * the reset live data last went through) and no event may have been lost on the way.
+     */
+    String findRebuildGap(StatisticsManager rebuild, CaptureEventJournal journal, CaptureEventJournal.ReplayResult result) {
+        if (journal.getDroppedEvents() > 0L || journal.getFailedEvents() > 0L || result.skippedLines > 0L) {
+            return "errors.journal-rebuild-lost-events";
+        }
+        if (journal.getDeletedSegments() > 0L) {
+            return "errors.journal-rebuild-deleted-segments";
+        }
+        if (!rebuild.replayFromEmpty || rebuild.data.getLastReset() != data.getLastReset()) {
+            return "errors.journal-rebuild-no-start";
+        }
+        return null;
+    }
+    
+    /**
+     * Swap in statistics rebuilt by a replay instance and save them.
+     */
+    void replaceData(StatisticsData rebuilt) {
+        data = rebuilt;
+        data.readWindows().configure(windowSettings);
+        rebuildLeaderboards();
         saveStatistics();
     }
+    
+    private void journal(CaptureEventJournal.Event event) {
+        CaptureEventJournal journal = replaying ? null : plugin.getEventJournal();
+        if (journal != null) {
+            journal.append(event);
+        }
+    }
+    
+    private long now() {
+        return replaying ? replayClock : System.currentTimeMillis();
+    }
+    
+    private DiscordWebhook webhook() {
+        return replaying ? null : plugin.getDiscordWebhook();
+    }
 
     private void sendNewRecord(DiscordWebhook webhook, String recordType, String holder, String value) {
         if (webhook == null) {
@@ -486,11 +901,7 @@ public class StatisticsManager {
         if (player == null) {
             return null;
         }
-        OwnerPlatformAdapter adapter = plugin.getOwnerPlatform();
-        if (adapter == null) {
-            return null;
-        }
-        return adapter.resolveOwnerName(player, plugin.getDefaultOwnerType());
+        return plugin.resolveOwnerName(player, plugin.getDefaultOwnerType());
     }
 }
 
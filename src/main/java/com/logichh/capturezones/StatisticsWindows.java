@@ -0,0 +1,416 @@
+package com.logichh.capturezones;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Time-bucketed statistics counters for rolling windows ("captures this week", "hold time
+ * in the last 24h").
+ *
+ * Each metric keeps, per town, player or zone, fine buckets of {@code bucketMillis}. Once
+ * older than {@code fineRetentionMillis} they are compacted into coarse buckets, which are
+ * dropped after {@code retentionMillis}. Window totals sum the buckets that overlap the
+ * window, so the window start is precise to one fine bucket, or one compacted bucket for
+ * windows longer than the fine retention. Only the bucket data is serialized.
+ *
+ * Besides the rolling windows there is a "season" window that runs from a fixed start: the
+ * configured season start date, or otherwise the last statistics reset. Data since the
+ * season start is kept past the normal retention so the season total stays complete.
+ *
+ * Writes happen on the main thread; totals and leaderboards are also read from async
+ * PlaceholderAPI requests, so the maps are concurrent and each entity's buckets are guarded
+ * by their own lock. For SQLite every metric/entity pair is its own row (see {@link #rowId}).
+ */
+final class StatisticsWindows {
+
+    static final String SEASON = "season";
+    // Separates metric id and entity in a storage row id; entities never contain it
+    private static final char ROW_SEPARATOR = '|';
+
+    /**
+     * A windowed counter, named "<kind>_<name>" in the API and placeholders.
+     */
+    enum Metric {
+        TOWN_CAPTURES("town", "captures"),
+        TOWN_HOLD_TIME("town", "hold_time"),
+        TOWN_REWARDS("town", "rewards"),
+        TOWN_KILLS("town", "kills"),
+        TOWN_MOB_KILLS("town", "mob_kills"),
+        PLAYER_CAPTURES("player", "captures"),
+        PLAYER_KILLS("player", "kills"),
+        PLAYER_DEATHS("player", "deaths"),
+        PLAYER_MOB_KILLS("player", "mob_kills"),
+        ZONE_CAPTURES("zone", "captures"),
+        ZONE_DEATHS("zone", "deaths"),
+        ZONE_REWARDS("zone", "rewards");
+
+        final String kind;
+        final String id;
+
+        Metric(String kind, String name) {
+            this.kind = kind;
+            this.id = kind + "_" + name;
+        }
+
+        static Metric fromId(String id) {
+            if (id == null) {
+                return null;
+            }
+            String normalized = id.trim().toLowerCase(Locale.ROOT).replace('-', '_');
+            for (Metric metric : values()) {
+                if (metric.id.equals(normalized)) {
+                    return metric;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Bucket layout and named windows, from {@code statistics.windows}.
+     */
+    static final class Settings {
+        final boolean enabled;
+        final long bucketMillis;
+        final long fineRetentionMillis;
+        final long compactedBucketMillis;
+        final long retentionMillis;
+        final long leaderboardCacheMillis;
+        // window name -> length in millis, in configured order
+        final Map<String, Long> periods;
+        // Fixed start of the season window, or 0 to start it at the last statistics reset
+        final long seasonStartMillis;
+
+        Settings(boolean enabled, long bucketMillis, long fineRetentionMillis, long compactedBucketMillis,
+                 long retentionMillis, long leaderboardCacheMillis, Map<String, Long> periods, long seasonStartMillis) {
+            this.enabled = enabled;
+            this.bucketMillis = Math.max(60_000L, bucketMillis);
+            this.compactedBucketMillis = Math.max(this.bucketMillis, compactedBucketMillis);
+            this.fineRetentionMillis = Math.max(this.compactedBucketMillis, fineRetentionMillis);
+            long longestPeriod = 0L;
+            for (long period : periods.values()) {
+                longestPeriod = Math.max(longestPeriod, period);
+            }
+            this.retentionMillis = Math.max(Math.max(this.fineRetentionMillis, longestPeriod), retentionMillis);
+            this.leaderboardCacheMillis = Math.max(0L, leaderboardCacheMillis);
+            this.periods = Collections.unmodifiableMap(new LinkedHashMap<>(periods));
+            this.seasonStartMillis = Math.max(0L, seasonStartMillis);
+        }
+
+        static Settings defaults() {
+            Map<String, Long> periods = new LinkedHashMap<>();
+            periods.put("day", 24L * 60L * 60_000L);
+            periods.put("week", 7L * 24L * 60L * 60_000L);
+            return new Settings(true, 60L * 60_000L, 48L * 60L * 60_000L, 24L * 60L * 60_000L,
+                35L * 24L * 60L * 60_000L, 30_000L, periods, 0L);
+        }
+
+        Long periodMillis(String name) {
+            return name == null ? null : this.periods.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        /**
+         * Rolling window names in config order, then the season window.
+         */
+        Set<String> windowNames() {
+            Set<String> names = new LinkedHashSet<>(this.periods.keySet());
+            names.add(SEASON);
+            return names;
+        }
+    }
+
+    // metric id -> entity key -> buckets
+    private volatile Map<String, Map<String, Buckets>> series = new ConcurrentHashMap<>();
+
+    private transient volatile Settings settings = Settings.defaults();
+    private transient volatile Map<String, CachedTop> topCache = new ConcurrentHashMap<>();
+
+    /**
+     * Apply settings, and swap the maps Gson deserialized for concurrent ones.
+     */
+    void configure(Settings settings) {
+        this.settings = settings != null ? settings : Settings.defaults();
+        Map<String, Map<String, Buckets>> concurrent = new ConcurrentHashMap<>();
+        if (this.series != null) {
+            for (Map.Entry<String, Map<String, Buckets>> metric : this.series.entrySet()) {
+                if (metric.getKey() == null || metric.getValue() == null) {
+                    continue;
+                }
+                Map<String, Buckets> byEntity = new ConcurrentHashMap<>();
+                for (Map.Entry<String, Buckets> entity : metric.getValue().entrySet()) {
+                    if (entity.getKey() != null && entity.getValue() != null) {
+                        byEntity.put(entity.getKey(), entity.getValue());
+                    }
+                }
+                concurrent.put(metric.getKey(), byEntity);
+            }
+        }
+        this.series = concurrent;
+        this.topCache = new ConcurrentHashMap<>();
+    }
+
+    Settings getSettings() {
+        return this.settings;
+    }
+
+    void record(Metric metric, String entity, double amount, long now) {
+        if (!this.settings.enabled || entity == null || amount == 0.0) {
+            return;
+        }
+        long bucketStart = now - Math.floorMod(now, this.settings.bucketMillis);
+        this.series.computeIfAbsent(metric.id, ignored -> new ConcurrentHashMap<>())
+            .computeIfAbsent(entity, ignored -> new Buckets())
+            .add(bucketStart, amount);
+    }
+
+    /**
+     * Total of {@code metric} for {@code entity} since {@code since}.
+     */
+    double total(Metric metric, String entity, long since) {
+        Map<String, Buckets> byEntity = this.series.get(metric.id);
+        Buckets buckets = byEntity != null && entity != null ? byEntity.get(entity) : null;
+        return buckets == null ? 0.0 : buckets.sumSince(since, this.settings);
+    }
+
+    /**
+     * Best {@code limit} entities for {@code metric} since {@code since}, highest first. Results
+     * are cached per window name for {@code leaderboardCacheMillis}.
+     */
+    List<Map.Entry<String, Double>> top(Metric metric, String window, long since, int limit, long now) {
+        String cacheKey = metric.id + ":" + window + ":" + limit;
+        CachedTop cached = this.topCache.get(cacheKey);
+        if (cached != null && now < cached.expiresAt) {
+            return cached.rows;
+        }
+
+        List<Map.Entry<String, Double>> rows = new ArrayList<>();
+        Map<String, Buckets> byEntity = this.series.get(metric.id);
+        if (byEntity != null && limit > 0) {
+            PriorityQueue<Map.Entry<String, Double>> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+                int byValue = Double.compare(a.getValue(), b.getValue());
+                return byValue != 0 ? byValue : b.getKey().compareTo(a.getKey());
+            });
+            for (Map.Entry<String, Buckets> entry : byEntity.entrySet()) {
+                double total = entry.getValue().sumSince(since, this.settings);
+                if (total <= 0.0) {
+                    continue;
+                }
+                best.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), total));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            while (!best.isEmpty()) {
+                rows.add(best.poll());
+            }
+            Collections.reverse(rows);
+        }
+        rows = Collections.unmodifiableList(rows);
+        this.topCache.put(cacheKey, new CachedTop(rows, now + this.settings.leaderboardCacheMillis));
+        return rows;
+    }
+
+    /**
+     * Fold expired fine buckets into coarse ones and drop data past retention, keeping
+     * everything since {@code seasonStart}.
+     *
+     * @return row ids of the entities that changed or disappeared
+     */
+    List<String> compact(long now, long seasonStart) {
+        List<String> changed = new ArrayList<>();
+        long fineCutoff = now - this.settings.fineRetentionMillis;
+        long retentionCutoff = Math.min(now - this.settings.retentionMillis, seasonStart);
+        Iterator<Map.Entry<String, Map<String, Buckets>>> metrics = this.series.entrySet().iterator();
+        while (metrics.hasNext()) {
+            Map.Entry<String, Map<String, Buckets>> metric = metrics.next();
+            Iterator<Map.Entry<String, Buckets>> entities = metric.getValue().entrySet().iterator();
+            while (entities.hasNext()) {
+                Map.Entry<String, Buckets> entity = entities.next();
+                boolean compacted = entity.getValue().compact(fineCutoff, retentionCutoff, this.settings);
+                if (entity.getValue().isEmpty()) {
+                    entities.remove();
+                    compacted = true;
+                }
+                if (compacted) {
+                    changed.add(rowId(metric.getKey(), entity.getKey()));
+                }
+            }
+            if (metric.getValue().isEmpty()) {
+                metrics.remove();
+            }
+        }
+        if (!changed.isEmpty()) {
+            this.topCache.clear();
+        }
+        return changed;
+    }
+
+    /**
+     * Drop every metric of one town, player or zone.
+     *
+     * @return row ids of the removed entries
+     */
+    List<String> removeEntity(String kind, String entity) {
+        List<String> removed = new ArrayList<>();
+        for (Metric metric : Metric.values()) {
+            if (metric.kind.equals(kind)) {
+                Map<String, Buckets> byEntity = this.series.get(metric.id);
+                if (byEntity != null && byEntity.remove(entity) != null) {
+                    removed.add(rowId(metric.id, entity));
+                }
+            }
+        }
+        this.topCache.clear();
+        return removed;
+    }
+
+    /**
+     * Storage row id of one metric/entity pair.
+     */
+    static String rowId(Metric metric, String entity) {
+        return rowId(metric.id, entity);
+    }
+
+    private static String rowId(String metricId, String entity) {
+        return metricId + ROW_SEPARATOR + entity;
+    }
+
+    /**
+     * Metric id and entity of a row id, or null when it is malformed.
+     */
+    static String[] splitRowId(String rowId) {
+        int split = rowId != null ? rowId.indexOf(ROW_SEPARATOR) : -1;
+        return split < 0 ? null : new String[]{rowId.substring(0, split), rowId.substring(split + 1)};
+    }
+
+    /**
+     * Row ids of every stored metric/entity pair, for a full rewrite.
+     */
+    List<String> rowIds() {
+        List<String> rowIds = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Buckets>> metric : this.series.entrySet()) {
+            for (String entity : metric.getValue().keySet()) {
+                rowIds.add(rowId(metric.getKey(), entity));
+            }
+        }
+        return rowIds;
+    }
+
+    /**
+     * Buckets stored under {@code rowId}, or null when the pair no longer exists.
+     */
+    Buckets rowBuckets(String rowId) {
+        String[] key = splitRowId(rowId);
+        Map<String, Buckets> byEntity = key != null ? this.series.get(key[0]) : null;
+        return byEntity != null ? byEntity.get(key[1]) : null;
+    }
+
+    void clear() {
+        this.series.clear();
+        this.topCache.clear();
+    }
+
+    private static final class CachedTop {
+        final List<Map.Entry<String, Double>> rows;
+        final long expiresAt;
+
+        CachedTop(List<Map.Entry<String, Double>> rows, long expiresAt) {
+            this.rows = rows;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Fine and compacted buckets of one entity, oldest first. Arrays are kept exactly sized
+     * so they serialize without slack. Methods lock the instance because async placeholder
+     * reads sum buckets while the main thread appends to them.
+     */
+    static final class Buckets {
+        long[] fineStarts = new long[0];
+        double[] fineValues = new double[0];
+        long[] compactedStarts = new long[0];
+        double[] compactedValues = new double[0];
+
+        synchronized void add(long bucketStart, double amount) {
+            int last = this.fineStarts.length - 1;
+            // Clock going backwards lands in the newest bucket.
+            if (last >= 0 && bucketStart <= this.fineStarts[last]) {
+                this.fineValues[last] += amount;
+                return;
+            }
+            this.fineStarts = Arrays.copyOf(this.fineStarts, last + 2);
+            this.fineValues = Arrays.copyOf(this.fineValues, last + 2);
+            this.fineStarts[last + 1] = bucketStart;
+            this.fineValues[last + 1] = amount;
+        }
+
+        synchronized double sumSince(long since, Settings settings) {
+            double total = 0.0;
+            for (int i = this.fineStarts.length - 1; i >= 0; i--) {
+                if (this.fineStarts[i] + settings.bucketMillis <= since) {
+                    return total;
+                }
+                total += this.fineValues[i];
+            }
+            for (int i = this.compactedStarts.length - 1; i >= 0; i--) {
+                if (this.compactedStarts[i] + settings.compactedBucketMillis <= since) {
+                    break;
+                }
+                total += this.compactedValues[i];
+            }
+            return total;
+        }
+
+        synchronized boolean compact(long fineCutoff, long retentionCutoff, Settings settings) {
+            int expiredFine = 0;
+            while (expiredFine < this.fineStarts.length && this.fineStarts[expiredFine] < fineCutoff) {
+                expiredFine++;
+            }
+            int expiredCompacted = 0;
+            while (expiredCompacted < this.compactedStarts.length
+                && this.compactedStarts[expiredCompacted] + settings.compactedBucketMillis <= retentionCutoff) {
+                expiredCompacted++;
+            }
+            if (expiredFine == 0 && expiredCompacted == 0) {
+                return false;
+            }
+
+            LinkedHashMap<Long, Double> compacted = new LinkedHashMap<>();
+            for (int i = expiredCompacted; i < this.compactedStarts.length; i++) {
+                compacted.merge(this.compactedStarts[i], this.compactedValues[i], Double::sum);
+            }
+            for (int i = 0; i < expiredFine; i++) {
+                long start = this.fineStarts[i] - Math.floorMod(this.fineStarts[i], settings.compactedBucketMillis);
+                if (start + settings.compactedBucketMillis > retentionCutoff) {
+                    compacted.merge(start, this.fineValues[i], Double::sum);
+                }
+            }
+            this.compactedStarts = new long[compacted.size()];
+            this.compactedValues = new double[compacted.size()];
+            int index = 0;
+            for (Map.Entry<Long, Double> entry : compacted.entrySet()) {
+                this.compactedStarts[index] = entry.getKey();
+                this.compactedValues[index] = entry.getValue();
+                index++;
+            }
+            this.fineStarts = Arrays.copyOfRange(this.fineStarts, expiredFine, this.fineStarts.length);
+            this.fineValues = Arrays.copyOfRange(this.fineValues, expiredFine, this.fineValues.length);
+            return true;
+        }
+
+        synchronized boolean isEmpty() {
+            return this.fineStarts.length == 0 && this.compactedStarts.length == 0;
+        }
+    }
+}
@@ -37,6 +37,8 @@ public class TextDisplayHologramProvider implements HologramProvider {
     private final CaptureZones plugin;
     private final Logger logger;
     private final Map<String, List<TextDisplay>> pointDisplays;
+    // text last sent to each display, parallel to pointDisplays
+    private final Map<String, String[]> pointLines;
     private final Listener chunkCleanupListener;
     private boolean available;
     private boolean chunkCleanupListenerRegistered;
@@ -48,6 +50,7 @@ public class TextDisplayHologramProvider implements HologramProvider {
         this.plugin = plugin;
         this.logger = plugin.getLogger();
         this.pointDisplays = new HashMap<>();
+        this.pointLines = new HashMap<>();
         this.chunkCleanupListener = new ChunkCleanupListener();
         this.available = false;
         this.chunkCleanupListenerRegistered = false;
@@ -87,7 +90,9 @@ public class TextDisplayHologramProvider implements HologramProvider {
         }
 
         final List<TextDisplay> existing = pointDisplays.get(pointId);
-        if (!canReuseDisplays(existing, lines.size(), baseLocation.getWorld(), fixedOrientation)) {
+        final String[] sentLines = pointLines.get(pointId);
+        if (sentLines == null || sentLines.length != lines.size()
+            || !canReuseDisplays(existing, lines.size(), baseLocation.getWorld(), fixedOrientation)) {
             recreateDisplays(pointId, baseLocation, lines, lineSpacing, fixedOrientation);
             return;
         }
@@ -100,8 +105,9 @@ public class TextDisplayHologramProvider implements HologramProvider {
                 || !isSameTransform(display.getLocation(), target)) {
                 display.teleport(target);
             }
-            if (!line.equals(display.getText())) {
+            if (!line.equals(sentLines[i])) {
                 display.setText(line);
+                sentLines[i] = line;
             }
             Display.Billboard expectedBillboard = fixedOrientation ? Display.Billboard.FIXED : Display.Billboard.CENTER;
             if (display.getBillboard() != expectedBillboard) {
@@ -115,6 +121,7 @@ public class TextDisplayHologramProvider implements HologramProvider {
         if (pointId == null || pointId.trim().isEmpty()) {
             return;
         }
+        pointLines.remove(pointId);
         List<TextDisplay> displays = pointDisplays.remove(pointId);
         if (displays == null || displays.isEmpty()) {
             return;
@@ -133,10 +140,25 @@ public class TextDisplayHologramProvider implements HologramProvider {
             remove(pointId);
         }
         pointDisplays.clear();
+        pointLines.clear();
         runtimeTag = null;
         available = false;
     }
 
+    @Override
+    public boolean isRendered(String pointId) {
+        List<TextDisplay> displays = pointId != null ? pointDisplays.get(pointId) : null;
+        if (displays == null || displays.isEmpty()) {
+            return false;
+        }
+        for (TextDisplay display : displays) {
+            if (display == null || !display.isValid()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void recreateDisplays(String pointId, Location baseLocation, List<String> lines, double lineSpacing, boolean fixedOrientation) {
         remove(pointId);
 
@@ -148,6 +170,7 @@ public class TextDisplayHologramProvider implements HologramProvider {
         purgeOrphanDisplaysNear(baseLocation, lines.size(), lineSpacing);
 
         List<TextDisplay> created = new ArrayList<>();
+        List<String> createdLines = new ArrayList<>();
         for (int i = 0; i < lines.size(); i++) {
             Location spawnLocation = computeLineLocation(baseLocation, i, lineSpacing);
             String line = lines.get(i) == null ? "" : lines.get(i);
@@ -155,6 +178,7 @@ public class TextDisplayHologramProvider implements HologramProvider {
                 TextDisplay display = (TextDisplay) world.spawnEntity(spawnLocation, EntityType.TEXT_DISPLAY);
                 configureDisplay(display, line, fixedOrientation);
                 created.add(display);
+                createdLines.add(line);
             } catch (Exception e) {
                 logger.warning("Failed to create hologram line for zone '" + pointId + "': " + e.getMessage());
             }
@@ -165,6 +189,7 @@ public class TextDisplayHologramProvider implements HologramProvider {
             return;
         }
         pointDisplays.put(pointId, created);
+        pointLines.put(pointId, createdLines.toArray(new String[0]));
     }
 
     private void configureDisplay(TextDisplay display, String text, boolean fixedOrientation) {
@@ -0,0 +1,96 @@
+package com.logichh.capturezones;
+
+import com.palmergames.bukkit.towny.event.DeleteNationEvent;
+import com.palmergames.bukkit.towny.event.DeleteTownEvent;
+import com.palmergames.bukkit.towny.event.NationAddTownEvent;
+import com.palmergames.bukkit.towny.event.NationRemoveTownEvent;
+import com.palmergames.bukkit.towny.event.RenameNationEvent;
+import com.palmergames.bukkit.towny.event.RenameTownEvent;
+import com.palmergames.bukkit.towny.event.TownAddResidentEvent;
+import com.palmergames.bukkit.towny.event.TownRemoveResidentEvent;
+import com.palmergames.bukkit.towny.object.Resident;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+
+/**
+ * Drops cached owner lookups when Towny town or nation membership changes, and re-checks the
+ * owner-only preparation bossbars of the players affected.
+ */
+public class TownyMembershipListener
+implements Listener {
+    private final CaptureZones plugin;
+
+    public TownyMembershipListener(CaptureZones plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTownAddResident(TownAddResidentEvent event) {
+        this.invalidateResident(event.getResident());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTownRemoveResident(TownRemoveResidentEvent event) {
+        this.invalidateResident(event.getResident());
+    }
+
+    // Town and nation level changes affect every resident, so drop the whole cache.
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onNationAddTown(NationAddTownEvent event) {
+        this.invalidateAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onNationRemoveTown(NationRemoveTownEvent event) {
+        this.invalidateAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRenameTown(RenameTownEvent event) {
+        this.invalidateAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRenameNation(RenameNationEvent event) {
+        this.invalidateAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeleteTown(DeleteTownEvent event) {
+        this.invalidateAll();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeleteNation(DeleteNationEvent event) {
+        this.invalidateAll();
+    }
+
+    private void invalidateResident(Resident resident) {
+        if (resident == null || resident.getUUID() == null) {
+            this.invalidateAll();
+            return;
+        }
+        this.plugin.getOwnerResolutionCache().invalidate(resident.getUUID());
+        Player player = Bukkit.getPlayer(resident.getUUID());
+        if (player != null) {
+            this.onMainThread(() -> this.plugin.refreshBossBarAudienceForPlayer(player));
+        }
+    }
+
+    private void invalidateAll() {
+        this.plugin.getOwnerResolutionCache().invalidateAll();
+        this.onMainThread(this.plugin::resyncBossBarAudiences);
+    }
+
+    // Towny fires some of these events off the main thread; bossbar audiences are main thread only.
+    private void onMainThread(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else {
+            Bukkit.getScheduler().runTask(this.plugin, task);
+        }
+    }
+}
@@ -26,6 +26,9 @@ public class UpdateZones {
     private Map<String, AreaMarker> areaMarkers = new HashMap<String, AreaMarker>();
     private Map<String, Marker> centerMarkers = new HashMap<String, Marker>();
     private Set<String> warnedInvalidCenterIcons = new LinkedHashSet<String>();
+    // marker id -> values the marker was last drawn with
+    private final Map<String, MarkerSnapshot> renderedMarkers = new HashMap<String, MarkerSnapshot>();
+    private final CapturePointInfoWindow.Cache infoWindows = new CapturePointInfoWindow.Cache();
     private Plugin dynmapTowny;
     private Plugin papiPlugin;
 
@@ -65,9 +68,7 @@ public class UpdateZones {
         }
         AreaMarker marker = this.markerSet.findAreaMarker(markerId);
         Location center = point.getLocation();
-        double[][] polygon = point.getMapPolygonXZ();
-        double[] x = polygon[0];
-        double[] z = polygon[1];
+        ZoneGeometry.Polygon polygon = ZoneGeometry.mapPolygon(point);
         double fillOpacity = clamp(this.getZoneDouble(point, "dynmap.fillOpacity", this.areaStyle.getFillOpacity()), 0.0, 1.0);
         double strokeOpacity = clamp(this.getZoneDouble(point, "dynmap.strokeOpacity", this.areaStyle.getStrokeOpacity()), 0.0, 1.0);
         int strokeWeight = Math.max(1, this.getZoneInt(point, "dynmap.strokeWeight", this.areaStyle.getStrokeWeight()));
@@ -106,8 +107,16 @@ public class UpdateZones {
         if (!showLabel) {
             label = "";
         }
+        String description = this.infoWindows.get(point);
+        MarkerSnapshot snapshot = new MarkerSnapshot(center.getWorld().getName(), polygon, label,
+            fillOpacity, fillColor, strokeWeight, strokeOpacity, strokeColor, description);
+        if (marker != null && snapshot.equals(this.renderedMarkers.get(markerId))) {
+            this.areaMarkers.put(markerId, marker);
+            return;
+        }
         if (marker == null) {
-            marker = this.markerSet.createAreaMarker(markerId, label, true, center.getWorld().getName(), x, z, false);
+            marker = this.markerSet.createAreaMarker(markerId, label, true, center.getWorld().getName(),
+                polygon.copyXs(), polygon.copyZs(), false);
             if (marker == null) {
                 this.plugin.getLogger().warning("Failed to create area marker for " + point.getName());
                 return;
@@ -116,14 +125,14 @@ public class UpdateZones {
                 this.plugin.getLogger().info("Created new marker for " + point.getName());
             }
         } else {
-            marker.setCornerLocations(x, z);
+            marker.setCornerLocations(polygon.copyXs(), polygon.copyZs());
             marker.setLabel(label);
         }
         marker.setFillStyle(fillOpacity, fillColor);
         marker.setLineStyle(strokeWeight, strokeOpacity, strokeColor);
-        String description = CapturePointInfoWindow.formatInfoWindow(point);
         marker.setDescription(description);
         this.areaMarkers.put(markerId, marker);
+        this.renderedMarkers.put(markerId, snapshot);
     }
 
     private void updateBufferMarker(CapturePoint point) {
@@ -139,7 +148,7 @@ public class UpdateZones {
             removeAreaMarker(markerId);
             return;
         }
-        double[][] polygon = this.getBufferPolygon(point, bufferChunks);
+        ZoneGeometry.Polygon polygon = this.getBufferPolygon(point, bufferChunks);
         if (polygon == null) {
             removeAreaMarker(markerId);
             return;
@@ -150,58 +159,40 @@ public class UpdateZones {
         if (center == null || center.getWorld() == null) {
             return;
         }
+        int color = this.parseColor(this.getZoneString(point, "dynmap.buffer-color", "#FF0000"), 0xFF0000);
+        double opacity = clamp(this.getZoneDouble(point, "dynmap.buffer-opacity", 0.2), 0.0, 1.0);
+        String description = this.infoWindows.get(point);
+        MarkerSnapshot snapshot = new MarkerSnapshot(center.getWorld().getName(), polygon, label,
+            color, opacity, description);
+        if (marker != null && snapshot.equals(this.renderedMarkers.get(markerId))) {
+            this.areaMarkers.put(markerId, marker);
+            return;
+        }
         if (marker == null) {
-            marker = this.markerSet.createAreaMarker(markerId, label, true, center.getWorld().getName(), polygon[0], polygon[1], false);
+            marker = this.markerSet.createAreaMarker(markerId, label, true, center.getWorld().getName(),
+                polygon.copyXs(), polygon.copyZs(), false);
             if (marker == null) {
                 return;
             }
         } else {
-            marker.setCornerLocations(polygon[0], polygon[1]);
+            marker.setCornerLocations(polygon.copyXs(), polygon.copyZs());
             marker.setLabel(label);
         }
-        int color = this.parseColor(this.getZoneString(point, "dynmap.buffer-color", "#FF0000"), 0xFF0000);
-        double opacity = clamp(this.getZoneDouble(point, "dynmap.buffer-opacity", 0.2), 0.0, 1.0);
         marker.setFillStyle(opacity, color);
         marker.setLineStyle(1, clamp(opacity, 0.0, 1.0), color);
-        marker.setDescription(CapturePointInfoWindow.formatInfoWindow(point));
+        marker.setDescription(description);
         this.areaMarkers.put(markerId, marker);
+        this.renderedMarkers.put(markerId, snapshot);
     }
 
-    private double[][] getBufferPolygon(CapturePoint point, int bufferChunks) {
+    private ZoneGeometry.Polygon getBufferPolygon(CapturePoint point, int bufferChunks) {
         if (point == null || bufferChunks <= 0) {
             return null;
         }
-        int extraBlocks = bufferChunks * 16;
-        if (point.isCuboid()) {
-            double[] xs = {
-                point.getCuboidMinX() - extraBlocks,
-                point.getCuboidMaxX() + 1 + extraBlocks,
-                point.getCuboidMaxX() + 1 + extraBlocks,
-                point.getCuboidMinX() - extraBlocks
-            };
-            double[] zs = {
-                point.getCuboidMinZ() - extraBlocks,
-                point.getCuboidMinZ() - extraBlocks,
-                point.getCuboidMaxZ() + 1 + extraBlocks,
-                point.getCuboidMaxZ() + 1 + extraBlocks
-            };
-            return new double[][]{xs, zs};
-        }
-
-        Location center = point.getLocation();
-        if (center == null) {
+        if (!point.isCuboid() && point.getLocation() == null) {
             return null;
         }
-        int radiusBlocks = Math.max(1, point.getChunkRadius() + bufferChunks) * 16;
-        int sides = Math.max(32, radiusBlocks / 2);
-        double[] xs = new double[sides];
-        double[] zs = new double[sides];
-        for (int i = 0; i < sides; i++) {
-            double angle = (2.0 * Math.PI * i) / sides;
-            xs[i] = center.getX() + radiusBlocks * Math.cos(angle);
-            zs[i] = center.getZ() + radiusBlocks * Math.sin(angle);
-        }
-        return new double[][]{xs, zs};
+        return ZoneGeometry.bufferPolygon(point, bufferChunks);
     }
 
     private void updateCenterMarker(CapturePoint point) {
@@ -221,6 +212,13 @@ public class UpdateZones {
         if (!showLabel) {
             label = "";
         }
+        String description = this.infoWindows.get(point);
+        MarkerSnapshot snapshot = new MarkerSnapshot(center.getWorld().getName(), center.getX(), center.getY(), center.getZ(),
+            label, icon != null ? icon.getMarkerIconID() : null, description);
+        if (marker != null && snapshot.equals(this.renderedMarkers.get(markerId))) {
+            this.centerMarkers.put(markerId, marker);
+            return;
+        }
         if (marker == null) {
             if (icon == null) {
                 return;
@@ -237,8 +235,9 @@ public class UpdateZones {
                 marker.setMarkerIcon(icon);
             }
         }
-        marker.setDescription(CapturePointInfoWindow.formatInfoWindow(point));
+        marker.setDescription(description);
         this.centerMarkers.put(markerId, marker);
+        this.renderedMarkers.put(markerId, snapshot);
     }
 
     private MarkerAPI resolveDynmapMarkerApi() {
@@ -486,6 +485,7 @@ public class UpdateZones {
             marker.deleteMarker();
         }
         this.areaMarkers.remove(markerId);
+        this.renderedMarkers.remove(markerId);
     }
 
     private void removeCenterMarker(String pointId) {
@@ -498,6 +498,7 @@ public class UpdateZones {
             marker.deleteMarker();
         }
         this.centerMarkers.remove(markerId);
+        this.renderedMarkers.remove(markerId);
     }
 
     public void removeMarkers(String pointId) {
@@ -518,6 +519,23 @@ public class UpdateZones {
             centerMarker.deleteMarker();
             this.centerMarkers.remove(centerMarkerId);
         }
+        this.renderedMarkers.remove(areaMarkerId);
+        this.renderedMarkers.remove("capture_buffer_" + pointId);
+        this.renderedMarkers.remove("center_" + pointId);
+        this.infoWindows.remove(pointId);
+    }
+
+    /**
+     * Whether {@code markerId} was drawn by this updater and is still current.
+     */
+    public boolean isRendered(String markerId) {
+        return this.renderedMarkers.containsKey(markerId);
+    }
+
+    public void forgetMarker(String markerId) {
+        this.renderedMarkers.remove(markerId);
+        this.areaMarkers.remove(markerId);
+        this.centerMarkers.remove(markerId);
     }
 
     public AreaMarker getAreaMarker(String id) {
@@ -28,6 +28,10 @@ public class ZoneConfigManager {
     private final Map<String, FileConfiguration> zoneConfigs;
     private final Set<String> warnedSettingIssues;
     private FileConfiguration zoneDefaults;
+    private volatile Map<String, ZoneSettings> compiledSettings = Collections.emptyMap();
+    // Template and config.yml values only; handed out for ids that are not zones, never cached per id.
+    private volatile ZoneSettings defaultSettings;
+    private boolean bulkLoading;
     private static final String TEMPLATE_BANNER_SEPARATOR = "# ==============================================";
 
     private enum SettingSource {
@@ -100,10 +104,32 @@ public class ZoneConfigManager {
         zoneConfigs.clear();
         warnedSettingIssues.clear();
         
-        // Load config for each existing zone
-        for (String zoneId : plugin.getCapturePoints().keySet()) {
-            loadZoneConfig(zoneId);
+        // Parse existing zone files on the startup pool; missing ones are migrated or generated
+        // here, since that writes files and may log.
+        List<String> zoneIds = new ArrayList<>(plugin.getCapturePoints().keySet());
+        List<String> existing = new ArrayList<>();
+        for (String zoneId : zoneIds) {
+            if (getZoneConfigFile(zoneId).exists()) {
+                existing.add(zoneId);
+            }
         }
+        Map<String, FileConfiguration> parsed = StartupLoader.map(plugin.getStartupLoader(), existing,
+            zoneId -> YamlConfiguration.loadConfiguration(getZoneConfigFile(zoneId)));
+
+        bulkLoading = true;
+        try {
+            for (String zoneId : zoneIds) {
+                FileConfiguration zoneConfig = parsed.get(zoneId);
+                if (zoneConfig != null) {
+                    zoneConfigs.put(zoneId, zoneConfig);
+                } else {
+                    loadZoneConfig(zoneId);
+                }
+            }
+        } finally {
+            bulkLoading = false;
+        }
+        rebuildZoneSettings();
         
         logger.info("Loaded " + zoneConfigs.size() + " zone configurations.");
     }
@@ -111,6 +137,9 @@ public class ZoneConfigManager {
     public void reloadDefaults() {
         warnedSettingIssues.clear();
         loadZoneDefaults();
+        // Snapshots embed template values; recompile lazily until the next full load.
+        compiledSettings = Collections.emptyMap();
+        defaultSettings = null;
     }
     
     /**
@@ -131,6 +160,7 @@ public class ZoneConfigManager {
         try {
             FileConfiguration zoneConfig = YamlConfiguration.loadConfiguration(zoneConfigFile);
             zoneConfigs.put(zoneId, zoneConfig);
+            refreshZoneSettings(zoneId);
             
             if (plugin.getConfig().getBoolean("settings.debug-mode", false)) {
                 logger.info("Loaded config for zone: " + zoneId);
@@ -157,6 +187,7 @@ public class ZoneConfigManager {
                     copyZoneTemplateForZoneConfig(zoneConfigFile);
                     FileConfiguration zoneConfig = YamlConfiguration.loadConfiguration(zoneConfigFile);
                     zoneConfigs.put(zoneId, zoneConfig);
+                    refreshZoneSettings(zoneId);
                     logger.info("Generated config file: " + zoneId + "_config.yml");
                     return true;
                 } catch (IOException e) {
@@ -174,6 +205,7 @@ public class ZoneConfigManager {
             copySection(defaults, zoneConfig);
             zoneConfig.save(zoneConfigFile);
             zoneConfigs.put(zoneId, zoneConfig);
+            refreshZoneSettings(zoneId);
 
             logger.info("Generated config file: " + zoneId + "_config.yml");
             return true;
@@ -389,9 +421,89 @@ public class ZoneConfigManager {
         }
 
         zoneConfig.set(path, normalized);
+        refreshZoneSettings(zoneId);
         return saveZoneConfig(zoneId);
     }
 
+    /**
+     * Install a zone config that was already read and parsed, e.g. off the main thread by a
+     * staged reload, and recompile that zone's settings.
+     */
+    void applyZoneConfig(String zoneId, FileConfiguration zoneConfig) {
+        if (zoneId == null || zoneId.trim().isEmpty() || zoneConfig == null) {
+            return;
+        }
+        zoneConfigs.put(zoneId, zoneConfig);
+        refreshZoneSettings(zoneId);
+    }
+
+    /**
+     * Recompile every loaded zone's settings from the configs already in memory, after
+     * config.yml or the zone template changed.
+     */
+    void recompileAllSettings() {
+        warnedSettingIssues.clear();
+        rebuildZoneSettings();
+    }
+
+    /**
+     * Get the compiled settings snapshot for a zone, compiling it on first use. Ids that are
+     * not zones get the shared defaults snapshot, which is neither stored under the id nor
+     * allowed to generate a zone config file.
+     */
+    ZoneSettings getZoneSettings(String zoneId) {
+        if (zoneId == null || zoneId.trim().isEmpty()) {
+            return null;
+        }
+        ZoneSettings settings = compiledSettings.get(zoneId);
+        if (settings != null) {
+            return settings;
+        }
+        if (!zoneConfigs.containsKey(zoneId) && !plugin.getCapturePoints().containsKey(zoneId)) {
+            return getDefaultSettings();
+        }
+        settings = ZoneSettings.compile(this, plugin.getConfig(), zoneId);
+        storeZoneSettings(zoneId, settings);
+        return settings;
+    }
+
+    private ZoneSettings getDefaultSettings() {
+        ZoneSettings settings = defaultSettings;
+        if (settings == null) {
+            settings = ZoneSettings.compile(this, plugin.getConfig(), null);
+            defaultSettings = settings;
+        }
+        return settings;
+    }
+
+    private void rebuildZoneSettings() {
+        Map<String, ZoneSettings> rebuilt = new HashMap<>();
+        for (String zoneId : new ArrayList<>(zoneConfigs.keySet())) {
+            rebuilt.put(zoneId, ZoneSettings.compile(this, plugin.getConfig(), zoneId));
+        }
+        compiledSettings = Collections.unmodifiableMap(rebuilt);
+        defaultSettings = null;
+        plugin.refreshCapturePolicies(null);
+    }
+
+    private void refreshZoneSettings(String zoneId) {
+        if (bulkLoading || zoneId == null || zoneId.trim().isEmpty()) {
+            return;
+        }
+        storeZoneSettings(zoneId, ZoneSettings.compile(this, plugin.getConfig(), zoneId));
+        plugin.refreshCapturePolicies(zoneId);
+    }
+
+    private void storeZoneSettings(String zoneId, ZoneSettings settings) {
+        Map<String, ZoneSettings> updated = new HashMap<>(compiledSettings);
+        if (settings == null) {
+            updated.remove(zoneId);
+        } else {
+            updated.put(zoneId, settings);
+        }
+        compiledSettings = Collections.unmodifiableMap(updated);
+    }
+
     private enum InvalidValue {
         INSTANCE
     }
@@ -936,6 +1048,7 @@ public class ZoneConfigManager {
             }
             
             zoneConfigs.remove(zoneId);
+            storeZoneSettings(zoneId, null);
             return true;
             
         } catch (Exception e) {
@@ -0,0 +1,332 @@
+package com.logichh.capturezones;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Per-zone counter map for statistics: zone ids are interned to small ints shared by every
+ * map, and counters live in primitive arrays with open addressing instead of boxed HashMap
+ * entries.
+ *
+ * Serialized as a plain JSON object of zone id to number, the same as a HashMap.
+ */
+final class ZoneCounterMap<V extends Number> extends AbstractMap<String, V> {
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+    private static final int MIN_CAPACITY = 4;
+
+    // Reads never lock: ids come from the concurrent map, and a name is stored before its id is
+    // published there. Only new zone ids take the class lock.
+    private static final Map<String, Integer> ZONE_IDS = new ConcurrentHashMap<>();
+    private static volatile String[] zoneNames = new String[16];
+    private static int zoneCount;
+
+    private final LongFunction<V> boxer;
+    // Interned zone id + 1, EMPTY or DELETED.
+    private int[] keys = new int[0];
+    private long[] values = new long[0];
+    private int size;
+    private int used;
+
+    private ZoneCounterMap(LongFunction<V> boxer) {
+        this.boxer = boxer;
+    }
+
+    static ZoneCounterMap<Integer> ofInts() {
+        return new ZoneCounterMap<>(value -> (int) value);
+    }
+
+    static ZoneCounterMap<Long> ofLongs() {
+        return new ZoneCounterMap<>(Long::valueOf);
+    }
+
+    private static int intern(String zoneId) {
+        Integer existing = ZONE_IDS.get(zoneId);
+        return existing != null ? existing : internNew(zoneId);
+    }
+
+    private static synchronized int internNew(String zoneId) {
+        Integer existing = ZONE_IDS.get(zoneId);
+        if (existing != null) {
+            return existing;
+        }
+        String[] names = zoneNames;
+        if (zoneCount == names.length) {
+            names = Arrays.copyOf(names, names.length * 2);
+        }
+        names[zoneCount] = zoneId;
+        zoneNames = names;
+        int id = ++zoneCount;
+        ZONE_IDS.put(zoneId, id);
+        return id;
+    }
+
+    private static int lookup(Object zoneId) {
+        if (zoneId == null) {
+            return EMPTY;
+        }
+        Integer existing = ZONE_IDS.get(zoneId);
+        return existing == null ? EMPTY : existing;
+    }
+
+    private static String zoneName(int id) {
+        return zoneNames[id - 1];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(lookup(key)) >= 0;
+    }
+
+    @Override
+    public V get(Object key) {
+        int index = indexOf(lookup(key));
+        return index < 0 ? null : this.boxer.apply(this.values[index]);
+    }
+
+    @Override
+    public V put(String key, V value) {
+        if (key == null) {
+            throw new NullPointerException("zone id");
+        }
+        if (value == null) {
+            return remove(key);
+        }
+        int id = intern(key);
+        int index = indexOf(id);
+        if (index >= 0) {
+            V previous = this.boxer.apply(this.values[index]);
+            this.values[index] = value.longValue();
+            return previous;
+        }
+        if ((this.used + 1) * 4 > this.keys.length * 3) {
+            int capacity = MIN_CAPACITY;
+            while ((this.size + 1) * 2 > capacity) {
+                capacity <<= 1;
+            }
+            resize(capacity);
+        }
+        int slot = findFreeSlot(id);
+        if (this.keys[slot] == EMPTY) {
+            this.used++;
+        }
+        this.keys[slot] = id;
+        this.values[slot] = value.longValue();
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        int index = indexOf(lookup(key));
+        if (index < 0) {
+            return null;
+        }
+        V previous = this.boxer.apply(this.values[index]);
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        this.keys = new int[0];
+        this.values = new long[0];
+        this.size = 0;
+        this.used = 0;
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return ZoneCounterMap.this.size;
+            }
+        };
+    }
+
+    private void removeAt(int index) {
+        this.keys[index] = DELETED;
+        this.values[index] = 0L;
+        this.size--;
+    }
+
+    private int indexOf(int id) {
+        if (id == EMPTY || this.keys.length == 0) {
+            return -1;
+        }
+        int mask = this.keys.length - 1;
+        for (int slot = mix(id) & mask, probes = 0; probes < this.keys.length; slot = (slot + 1) & mask, probes++) {
+            int key = this.keys[slot];
+            if (key == id) {
+                return slot;
+            }
+            if (key == EMPTY) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private int findFreeSlot(int id) {
+        int mask = this.keys.length - 1;
+        int slot = mix(id) & mask;
+        while (this.keys[slot] != EMPTY && this.keys[slot] != DELETED) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = this.keys;
+        long[] oldValues = this.values;
+        this.keys = new int[capacity];
+        this.values = new long[capacity];
+        this.used = this.size;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] > EMPTY) {
+                int slot = findFreeSlot(oldKeys[i]);
+                this.keys[slot] = oldKeys[i];
+                this.values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private static int mix(int id) {
+        return id * 0x9E3779B9;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private int next = advance(0);
+        private int current = -1;
+
+        private int advance(int from) {
+            int slot = from;
+            while (slot < ZoneCounterMap.this.keys.length && ZoneCounterMap.this.keys[slot] <= EMPTY) {
+                slot++;
+            }
+            return slot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < ZoneCounterMap.this.keys.length;
+        }
+
+        @Override
+        public Entry<String, V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.current = this.next;
+            this.next = advance(this.next + 1);
+            int slot = this.current;
+            return new SimpleEntry<>(zoneName(ZoneCounterMap.this.keys[slot]),
+                ZoneCounterMap.this.boxer.apply(ZoneCounterMap.this.values[slot])) {
+                @Override
+                public V setValue(V value) {
+                    ZoneCounterMap.this.values[slot] = value.longValue();
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (this.current < 0 || ZoneCounterMap.this.keys[this.current] <= EMPTY) {
+                throw new IllegalStateException();
+            }
+            removeAt(this.current);
+            this.current = -1;
+        }
+    }
+
+    /**
+     * Gson adapter for {@code Map<String, Integer>} and {@code Map<String, Long>} fields that
+     * should load into a {@link ZoneCounterMap}.
+     */
+    static final class JsonAdapterFactory implements TypeAdapterFactory {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            boolean longs = false;
+            Type raw = type.getType();
+            if (raw instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) raw).getActualTypeArguments();
+                longs = arguments.length == 2 && arguments[1] == Long.class;
+            }
+            boolean longValues = longs;
+            return (TypeAdapter<T>) new TypeAdapter<Map<String, ? extends Number>>() {
+                @Override
+                public void write(JsonWriter out, Map<String, ? extends Number> map) throws IOException {
+                    out.beginObject();
+                    for (Map.Entry<String, ? extends Number> entry : map.entrySet()) {
+                        out.name(entry.getKey()).value(entry.getValue());
+                    }
+                    out.endObject();
+                }
+
+                @Override
+                public Map<String, ? extends Number> read(JsonReader in) throws IOException {
+                    if (longValues) {
+                        ZoneCounterMap<Long> map = ZoneCounterMap.ofLongs();
+                        readInto(in, map, value -> value);
+                        return map;
+                    }
+                    ZoneCounterMap<Integer> map = ZoneCounterMap.ofInts();
+                    readInto(in, map, value -> (int) value);
+                    return map;
+                }
+            };
+        }
+
+        private static <N extends Number> void readInto(JsonReader in, ZoneCounterMap<N> map, LongFunction<N> boxer)
+                throws IOException {
+            in.beginObject();
+            while (in.hasNext()) {
+                String zoneId = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                String number = in.nextString();
+                long value;
+                try {
+                    value = Long.parseLong(number);
+                } catch (NumberFormatException e) {
+                    value = (long) Double.parseDouble(number);
+                }
+                map.put(zoneId, boxer.apply(value));
+            }
+            in.endObject();
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.logichh.capturezones;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Shared outline geometry for map markers and boundary particles.
+ *
+ * Circle vertices come from cached unit-circle tables and are kept per zone, keyed by shape,
+ * centre, radius, buffer and vertex count, so repeated marker updates and boundary passes do
+ * no trigonometry. Entries are dropped when a zone's shape changes or it is removed.
+ */
+final class ZoneGeometry {
+    // Stale variants (old radius, other vertex counts) past this are dropped on the next miss.
+    private static final int MAX_VARIANTS_PER_ZONE = 8;
+
+    // vertex count -> {cos table, sin table}
+    private static final Map<Integer, double[][]> UNIT_CIRCLES = new ConcurrentHashMap<>();
+    // zone id -> cached outlines
+    private static final Map<String, Map<Key, Polygon>> POLYGONS = new ConcurrentHashMap<>();
+
+    private ZoneGeometry() {
+    }
+
+    /**
+     * The zone outline drawn on web maps: the cuboid footprint, or a circle of the zone's
+     * chunk radius.
+     */
+    static Polygon mapPolygon(CapturePoint point) {
+        if (point.isCuboid()) {
+            return cuboid(point, 0);
+        }
+        int blockRadius = Math.max(1, point.getChunkRadius()) * 16;
+        return circle(point.getId(), point.getLocation().getX(), point.getLocation().getZ(), blockRadius,
+            Math.max(32, blockRadius / 2), 0);
+    }
+
+    /**
+     * The zone outline grown by {@code bufferChunks} chunks on every side.
+     */
+    static Polygon bufferPolygon(CapturePoint point, int bufferChunks) {
+        if (point.isCuboid()) {
+            return cuboid(point, bufferChunks * 16);
+        }
+        int radiusBlocks = Math.max(1, point.getChunkRadius() + bufferChunks) * 16;
+        return circle(point.getId(), point.getLocation().getX(), point.getLocation().getZ(), radiusBlocks,
+            Math.max(32, radiusBlocks / 2), bufferChunks);
+    }
+
+    /**
+     * {@code sides} points on a circle around ({@code centerX}, {@code centerZ}), starting
+     * on the +X axis and turning towards +Z.
+     */
+    static Polygon circle(String zoneId, double centerX, double centerZ, double radius, int sides) {
+        return circle(zoneId, centerX, centerZ, radius, sides, 0);
+    }
+
+    private static Polygon circle(String zoneId, double centerX, double centerZ, double radius, int sides, int buffer) {
+        int vertexCount = Math.max(3, sides);
+        Key key = new Key(false, buffer, vertexCount, centerX, centerZ, radius, 0.0);
+        return lookup(zoneId, key, () -> {
+            double[][] unit = unitCircle(vertexCount);
+            double[] xs = new double[vertexCount];
+            double[] zs = new double[vertexCount];
+            for (int i = 0; i < vertexCount; i++) {
+                xs[i] = centerX + radius * unit[0][i];
+                zs[i] = centerZ + radius * unit[1][i];
+            }
+            return new Polygon(xs, zs);
+        });
+    }
+
+    private static Polygon cuboid(CapturePoint point, int extraBlocks) {
+        double minX = point.getCuboidMinX() - extraBlocks;
+        double minZ = point.getCuboidMinZ() - extraBlocks;
+        double maxX = point.getCuboidMaxX() + 1 + extraBlocks;
+        double maxZ = point.getCuboidMaxZ() + 1 + extraBlocks;
+        Key key = new Key(true, extraBlocks, 4, minX, minZ, maxX, maxZ);
+        return lookup(point.getId(), key, () -> new Polygon(
+            new double[]{minX, maxX, maxX, minX},
+            new double[]{minZ, minZ, maxZ, maxZ}
+        ));
+    }
+
+    private static Polygon lookup(String zoneId, Key key, Supplier<Polygon> builder) {
+        if (zoneId == null) {
+            return builder.get();
+        }
+        Map<Key, Polygon> variants = POLYGONS.computeIfAbsent(zoneId, ignored -> new ConcurrentHashMap<>());
+        Polygon cached = variants.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (variants.size() >= MAX_VARIANTS_PER_ZONE) {
+            variants.clear();
+        }
+        Polygon built = builder.get();
+        variants.put(key, built);
+        return built;
+    }
+
+    private static double[][] unitCircle(int sides) {
+        return UNIT_CIRCLES.computeIfAbsent(sides, count -> {
+            double[] cos = new double[count];
+            double[] sin = new double[count];
+            for (int i = 0; i < count; i++) {
+                double angle = 2.0 * Math.PI * i / count;
+                cos[i] = Math.cos(angle);
+                sin[i] = Math.sin(angle);
+            }
+            return new double[][]{cos, sin};
+        });
+    }
+
+    /**
+     * Forget the outlines of one zone after its shape changed or it was deleted.
+     */
+    static void invalidate(String zoneId) {
+        if (zoneId != null) {
+            POLYGONS.remove(zoneId);
+        }
+    }
+
+    static void clear() {
+        POLYGONS.clear();
+    }
+
+    /**
+     * Immutable outline vertices. The array copies are for APIs that take raw arrays.
+     */
+    static final class Polygon {
+        private final double[] xs;
+        private final double[] zs;
+
+        private Polygon(double[] xs, double[] zs) {
+            this.xs = xs;
+            this.zs = zs;
+        }
+
+        int size() {
+            return this.xs.length;
+        }
+
+        double x(int index) {
+            return this.xs[index];
+        }
+
+        double z(int index) {
+            return this.zs[index];
+        }
+
+        double[] copyXs() {
+            return this.xs.clone();
+        }
+
+        double[] copyZs() {
+            return this.zs.clone();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Polygon)) {
+                return false;
+            }
+            Polygon polygon = (Polygon) other;
+            return Arrays.equals(this.xs, polygon.xs) && Arrays.equals(this.zs, polygon.zs);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(this.xs) + Arrays.hashCode(this.zs);
+        }
+    }
+
+    private static final class Key {
+        final boolean cuboid;
+        final int buffer;
+        final int vertices;
+        // Cuboid: min x, min z, max x, max z. Circle: centre x, centre z, radius.
+        final double a;
+        final double b;
+        final double c;
+        final double d;
+
+        Key(boolean cuboid, int buffer, int vertices, double a, double b, double c, double d) {
+            this.cuboid = cuboid;
+            this.buffer = buffer;
+            this.vertices = vertices;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return this.cuboid == key.cuboid && this.buffer == key.buffer && this.vertices == key.vertices
+                && this.a == key.a && this.b == key.b && this.c == key.c && this.d == key.d;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = Boolean.hashCode(this.cuboid);
+            hash = 31 * hash + this.buffer;
+            hash = 31 * hash + this.vertices;
+            hash = 31 * hash + Double.hashCode(this.a);
+            hash = 31 * hash + Double.hashCode(this.b);
+            hash = 31 * hash + Double.hashCode(this.c);
+            return 31 * hash + Double.hashCode(this.d);
+        }
+    }
+}
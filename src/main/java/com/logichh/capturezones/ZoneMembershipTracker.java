@@ -0,0 +1,283 @@
+package com.logichh.capturezones;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+/**
+ * Tracks which capture zones each online player is standing in, so per-second zone loops
+ * can walk a zone's occupants instead of rescanning every player in the world.
+ *
+ * Three rings are kept per zone: the zone itself, the one chunk buffer used for approach
+ * messages, and a wider "nearby" ring sized to the largest reinforcement target search
+ * radius. Zone and buffer sets are exact; the nearby set comes from the spatial index and
+ * callers still confirm candidates with {@link CaptureZones#isWithinZone}.
+ *
+ * Updated on the main thread from player movement, teleport, join, quit, death, respawn and
+ * world change events. Any spatial index change marks the tracker stale and it rebuilds from
+ * the online player list on next use.
+ */
+final class ZoneMembershipTracker {
+    static final int BUFFER_CHUNKS = 1;
+
+    private final CaptureZones plugin;
+    private final Map<UUID, Membership> memberships = new HashMap<>();
+    private final Map<String, Map<UUID, Player>> zoneOccupants = new HashMap<>();
+    private final Map<String, Map<UUID, Player>> bufferOccupants = new HashMap<>();
+    private final Map<String, Map<UUID, Player>> nearbyOccupants = new HashMap<>();
+    private volatile boolean stale = true;
+    private int nearbyChunks = BUFFER_CHUNKS;
+
+    ZoneMembershipTracker(CaptureZones plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Mark all memberships for recomputation. Safe to call from any thread.
+     */
+    void invalidate() {
+        this.stale = true;
+    }
+
+    void clear() {
+        this.memberships.clear();
+        this.zoneOccupants.clear();
+        this.bufferOccupants.clear();
+        this.nearbyOccupants.clear();
+        this.stale = true;
+    }
+
+    /**
+     * Move a player to {@code location} and report the zones and buffers they entered or left.
+     * Returns null when nothing changed.
+     */
+    Transition update(Player player, Location location) {
+        if (player == null) {
+            return null;
+        }
+        CapturePointSpatialIndex index = this.plugin.getCapturePointSpatialIndex();
+        resyncIfStale(index);
+        return apply(player, location, index);
+    }
+
+    void remove(Player player) {
+        if (player == null) {
+            return;
+        }
+        Membership membership = this.memberships.remove(player.getUniqueId());
+        if (membership == null) {
+            return;
+        }
+        UUID playerId = player.getUniqueId();
+        for (String zoneId : membership.zones) {
+            removeOccupant(this.zoneOccupants, zoneId, playerId);
+        }
+        for (String zoneId : membership.buffers) {
+            removeOccupant(this.bufferOccupants, zoneId, playerId);
+        }
+        for (String zoneId : membership.nearby) {
+            removeOccupant(this.nearbyOccupants, zoneId, playerId);
+        }
+    }
+
+    /**
+     * Players currently standing inside the zone, as a read-only live view.
+     */
+    Collection<Player> getZoneOccupants(String zoneId) {
+        return getPlayersNear(zoneId, 0);
+    }
+
+    /**
+     * Candidate players within {@code extraChunks} of the zone, or null when the tracker does
+     * not cover that radius and the caller has to fall back to scanning the world. The result
+     * is a read-only live view: callers must not move players while iterating it.
+     */
+    Collection<Player> getPlayersNear(String zoneId, int extraChunks) {
+        resyncIfStale(this.plugin.getCapturePointSpatialIndex());
+        Map<String, Map<UUID, Player>> ring;
+        if (extraChunks <= 0) {
+            ring = this.zoneOccupants;
+        } else if (extraChunks <= BUFFER_CHUNKS) {
+            ring = this.bufferOccupants;
+        } else if (extraChunks <= this.nearbyChunks) {
+            ring = this.nearbyOccupants;
+        } else {
+            return null;
+        }
+        Map<UUID, Player> occupants = zoneId != null ? ring.get(zoneId) : null;
+        if (occupants == null || occupants.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableCollection(occupants.values());
+    }
+
+    private void resyncIfStale(CapturePointSpatialIndex index) {
+        if (!this.stale) {
+            return;
+        }
+        this.stale = false;
+        this.memberships.clear();
+        this.zoneOccupants.clear();
+        this.bufferOccupants.clear();
+        this.nearbyOccupants.clear();
+        this.nearbyChunks = resolveNearbyChunks();
+        for (Player online : this.plugin.getServer().getOnlinePlayers()) {
+            if (online != null && online.isOnline() && !online.isDead()) {
+                apply(online, online.getLocation(), index);
+            }
+        }
+    }
+
+    private int resolveNearbyChunks() {
+        int chunks = BUFFER_CHUNKS;
+        ZoneConfigManager zoneManager = this.plugin.getZoneConfigManager();
+        if (zoneManager == null) {
+            return chunks;
+        }
+        for (String zoneId : new ArrayList<>(this.plugin.getCapturePoints().keySet())) {
+            ZoneSettings settings = zoneManager.getZoneSettings(zoneId);
+            if (settings != null) {
+                chunks = Math.max(chunks, settings.reinforcementTargetSearchExtraChunks);
+            }
+        }
+        return chunks;
+    }
+
+    private Transition apply(Player player, Location location, CapturePointSpatialIndex index) {
+        UUID playerId = player.getUniqueId();
+        boolean hasWorld = location != null && location.getWorld() != null;
+        int[] nearbySlots = hasWorld ? index.lookup(location, this.nearbyChunks) : CapturePointSpatialIndex.NO_SLOTS;
+        Membership membership = this.memberships.get(playerId);
+        if (membership == null) {
+            if (nearbySlots.length == 0) {
+                return null;
+            }
+            membership = new Membership();
+            this.memberships.put(playerId, membership);
+        }
+
+        if (nearbySlots != membership.nearbySlots) {
+            Set<String> nearby = new HashSet<>();
+            for (int slot : nearbySlots) {
+                CapturePoint point = index.pointAt(slot);
+                if (point != null && point.getId() != null) {
+                    nearby.add(point.getId());
+                }
+            }
+            for (String zoneId : membership.nearby) {
+                if (!nearby.contains(zoneId)) {
+                    removeOccupant(this.nearbyOccupants, zoneId, playerId);
+                }
+            }
+            for (String zoneId : nearby) {
+                if (!membership.nearby.contains(zoneId)) {
+                    addOccupant(this.nearbyOccupants, zoneId, player);
+                }
+            }
+            membership.nearby = nearby;
+            membership.nearbySlots = nearbySlots;
+        }
+
+        Transition transition = null;
+
+        // Re-check zones the player was already in; the zone set is always a subset of the buffer set.
+        Iterator<String> buffers = membership.buffers.iterator();
+        while (buffers.hasNext()) {
+            String zoneId = buffers.next();
+            CapturePoint point = this.plugin.getCapturePoints().get(zoneId);
+            if (point == null || !point.contains(location, BUFFER_CHUNKS)) {
+                buffers.remove();
+                removeOccupant(this.bufferOccupants, zoneId, playerId);
+                if (membership.zones.remove(zoneId)) {
+                    removeOccupant(this.zoneOccupants, zoneId, playerId);
+                    if (point != null) {
+                        transition = Transition.orNew(transition);
+                        transition.leftZones.add(point);
+                    }
+                }
+                continue;
+            }
+            boolean inZone = point.contains(location, 0);
+            if (inZone && membership.zones.add(zoneId)) {
+                addOccupant(this.zoneOccupants, zoneId, player);
+                transition = Transition.orNew(transition);
+                transition.enteredZones.add(point);
+            } else if (!inZone && membership.zones.remove(zoneId)) {
+                removeOccupant(this.zoneOccupants, zoneId, playerId);
+                transition = Transition.orNew(transition);
+                transition.leftZones.add(point);
+            }
+        }
+
+        if (hasWorld) {
+            for (int slot : index.lookup(location, BUFFER_CHUNKS)) {
+                CapturePoint point = index.pointAt(slot);
+                if (point == null || point.getId() == null || membership.buffers.contains(point.getId())) {
+                    continue;
+                }
+                if (!point.contains(location, BUFFER_CHUNKS)) {
+                    continue;
+                }
+                String zoneId = point.getId();
+                membership.buffers.add(zoneId);
+                addOccupant(this.bufferOccupants, zoneId, player);
+                transition = Transition.orNew(transition);
+                transition.enteredBuffers.add(point);
+                if (point.contains(location, 0)) {
+                    membership.zones.add(zoneId);
+                    addOccupant(this.zoneOccupants, zoneId, player);
+                    transition.enteredZones.add(point);
+                }
+            }
+        }
+
+        if (membership.nearby.isEmpty() && membership.buffers.isEmpty()) {
+            this.memberships.remove(playerId);
+        }
+        return transition;
+    }
+
+    private static void addOccupant(Map<String, Map<UUID, Player>> ring, String zoneId, Player player) {
+        ring.computeIfAbsent(zoneId, ignored -> new HashMap<>()).put(player.getUniqueId(), player);
+    }
+
+    private static void removeOccupant(Map<String, Map<UUID, Player>> ring, String zoneId, UUID playerId) {
+        Map<UUID, Player> occupants = ring.get(zoneId);
+        if (occupants == null) {
+            return;
+        }
+        occupants.remove(playerId);
+        if (occupants.isEmpty()) {
+            ring.remove(zoneId);
+        }
+    }
+
+    private static final class Membership {
+        int[] nearbySlots = CapturePointSpatialIndex.NO_SLOTS;
+        Set<String> nearby = Collections.emptySet();
+        final Set<String> buffers = new HashSet<>();
+        final Set<String> zones = new HashSet<>();
+    }
+
+    /**
+     * Zones and buffers a player crossed into or out of during one update.
+     */
+    static final class Transition {
+        final List<CapturePoint> enteredBuffers = new ArrayList<>(1);
+        final List<CapturePoint> enteredZones = new ArrayList<>(1);
+        final List<CapturePoint> leftZones = new ArrayList<>(1);
+
+        private static Transition orNew(Transition existing) {
+            return existing != null ? existing : new Transition();
+        }
+    }
+}
@@ -37,7 +37,7 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-block-break", false)) {
                 return;
             }
-            boolean preventBreak = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-block-break", true);
+            boolean preventBreak = getZoneSettings(zoneId).preventBlockBreak;
             if (preventBreak) {
                 event.setCancelled(true);
                 plugin.sendNotification(event.getPlayer(), Messages.get("protection.block-break-blocked"));
@@ -58,7 +58,7 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-block-place", false)) {
                 return;
             }
-            boolean preventPlace = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-block-place", true);
+            boolean preventPlace = getZoneSettings(zoneId).preventBlockPlace;
             if (preventPlace) {
                 event.setCancelled(true);
                 plugin.sendNotification(event.getPlayer(), Messages.get("protection.block-place-blocked"));
@@ -76,7 +76,7 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-explosions", false)) {
                 return;
             }
-            boolean preventExplosions = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-explosions", true);
+            boolean preventExplosions = getZoneSettings(zoneId).preventExplosions;
             if (preventExplosions) {
                 event.setCancelled(true);
             }
@@ -100,7 +100,7 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-pvp", true)) {
                 return;
             }
-            boolean preventPvp = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-pvp", false);
+            boolean preventPvp = getZoneSettings(zoneId).preventPvp;
             if (preventPvp) {
                 event.setCancelled(true);
                 plugin.sendNotification((Player) event.getDamager(), Messages.get("protection.pvp-blocked"));
@@ -121,16 +121,16 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-item-use", true)) {
                 return;
             }
-            boolean preventItemUse = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-item-use", true);
+            boolean preventItemUse = getZoneSettings(zoneId).preventItemUse;
             if (preventItemUse) {
                 Material itemType = event.getItem() != null ? event.getItem().getType() : null;
                 if (itemType == Material.ENDER_PEARL) {
-                    boolean allowEnderPearls = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.allow-ender-pearls", false);
+                    boolean allowEnderPearls = getZoneSettings(zoneId).allowEnderPearls;
                     if (allowEnderPearls) {
                         return;
                     }
                 } else if (itemType == Material.CHORUS_FRUIT) {
-                    boolean allowChorusFruit = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.allow-chorus-fruit", false);
+                    boolean allowChorusFruit = getZoneSettings(zoneId).allowChorusFruit;
                     if (allowChorusFruit) {
                         return;
                     }
@@ -154,16 +154,16 @@ public class ZoneProtectionListener implements Listener {
             if (isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-teleport", false)) {
                 return;
             }
-            boolean preventTeleporting = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-teleporting", true);
+            boolean preventTeleporting = getZoneSettings(zoneId).preventTeleporting;
             if (preventTeleporting) {
                 PlayerTeleportEvent.TeleportCause cause = event.getCause();
                 if (cause == PlayerTeleportEvent.TeleportCause.ENDER_PEARL) {
-                    boolean allowEnderPearls = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.allow-ender-pearls", false);
+                    boolean allowEnderPearls = getZoneSettings(zoneId).allowEnderPearls;
                     if (allowEnderPearls) {
                         return;
                     }
                 } else if (cause == PlayerTeleportEvent.TeleportCause.CHORUS_FRUIT) {
-                    boolean allowChorusFruit = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.allow-chorus-fruit", false);
+                    boolean allowChorusFruit = getZoneSettings(zoneId).allowChorusFruit;
                     if (allowChorusFruit) {
                         return;
                     }
@@ -200,7 +200,7 @@ public class ZoneProtectionListener implements Listener {
             if (homeCommand && isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-homes", false)) {
                 return;
             }
-            boolean preventHomes = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-homes", true);
+            boolean preventHomes = getZoneSettings(zoneId).preventHomes;
             if (preventHomes && homeCommand) {
                 event.setCancelled(true);
                 plugin.sendNotification(event.getPlayer(), Messages.get("protection.home-blocked"));
@@ -210,7 +210,7 @@ public class ZoneProtectionListener implements Listener {
             if (claimCommand && isRuleAllowedDuringCapturePhase(zoneId, "capture.capture.allow-claiming", false)) {
                 return;
             }
-            boolean preventClaiming = plugin.getZoneConfigManager().getBoolean(zoneId, "protection.prevent-claiming", true);
+            boolean preventClaiming = getZoneSettings(zoneId).preventClaiming;
             if (preventClaiming && claimCommand) {
                 event.setCancelled(true);
                 plugin.sendNotification(event.getPlayer(), Messages.get("protection.claiming-blocked"));
@@ -247,10 +247,14 @@ public class ZoneProtectionListener implements Listener {
      */
     private String getZoneIdAtLocation(Location location) {
         int indexExtra = this.plugin.getSpatialIndexExtraChunks();
-        for (CapturePoint point : this.plugin.getCandidateCapturePoints(location, indexExtra)) {
-            // Get buffer size from zone-specific config
-            boolean bufferEnabled = plugin.getZoneConfigManager().getBoolean(point.getId(), "protection.buffer-zone.enabled", true);
-            int bufferSize = bufferEnabled ? plugin.getZoneConfigManager().getInt(point.getId(), "protection.buffer-zone.size", 1) : 0;
+        CapturePointSpatialIndex index = this.plugin.getCapturePointSpatialIndex();
+        for (int slot : index.lookup(location, indexExtra)) {
+            CapturePoint point = index.pointAt(slot);
+            if (point == null) {
+                continue;
+            }
+            // Get buffer size from the compiled zone settings
+            int bufferSize = getZoneSettings(point.getId()).effectiveBufferChunks();
 
             if (this.plugin.isWithinZone(point, location, bufferSize)) {
                 return point.getId();
@@ -267,6 +271,10 @@ public class ZoneProtectionListener implements Listener {
         return getZoneIdAtLocation(location) != null;
     }
 
+    private ZoneSettings getZoneSettings(String zoneId) {
+        return plugin.getZoneConfigManager().getZoneSettings(zoneId);
+    }
+
     private boolean getZoneBoolean(String zoneId, String path, boolean fallback) {
         ZoneConfigManager zoneConfigManager = plugin.getZoneConfigManager();
         if (zoneConfigManager != null) {
@@ -0,0 +1,258 @@
+package com.logichh.capturezones;
+
+import org.bukkit.boss.BarColor;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable snapshot of the per-zone settings read on hot paths.
+ * Compiled by ZoneConfigManager with the full zone -> template -> legacy -> default
+ * fallback already applied, so tick loops and listeners only read fields.
+ */
+final class ZoneSettings {
+    final String zoneId;
+
+    // Capture conditions
+    final boolean contestedEnabled;
+    final CaptureZones.ContestedProgressPolicy contestedProgressPolicy;
+    final int contestedDecaySeconds;
+    final int contestedRollbackSeconds;
+    final boolean graceTimerEnabled;
+    final int graceDurationSeconds;
+    final boolean autoCaptureEnabled;
+    final int autoCaptureEntryDebounceSeconds;
+    final boolean speedModifiersEnabled;
+    final boolean speedPlayerScalingEnabled;
+    final double speedFlatMultiplier;
+    final double speedMinMultiplier;
+    final double speedMaxMultiplier;
+    final int speedMaxExtraPlayers;
+    final double speedPerExtraPlayer;
+    final boolean captureCooldownEnabled;
+    final long captureCooldownDurationMs;
+    final boolean cooldownOnSuccess;
+    final boolean cooldownOnCancel;
+    final boolean cooldownOnFail;
+    final boolean antiInstantRecaptureEnabled;
+    final long antiInstantRecaptureDurationMs;
+    final boolean lockPreviousOwner;
+    final boolean lockPreviousAttacker;
+    final boolean preventSameTownRecapture;
+    final boolean preventSameNationRecapture;
+
+    // Bossbar and actionbar
+    final boolean bossbarEnabled;
+    final boolean contestedBossbarEnabled;
+    final boolean graceBossbarEnabled;
+    final boolean captureCountdownEnabled;
+    final String captureBossbarTitleTemplate;
+    final BarColor bossbarColorStart;
+    final BarColor bossbarColorMiddle;
+    final BarColor bossbarColorEnd;
+    final boolean contestedActionbarEnabled;
+    final boolean graceActionbarEnabled;
+    final long contestedActionbarIntervalMs;
+    final long graceActionbarIntervalMs;
+
+    // Protection
+    final boolean bufferZoneEnabled;
+    final int bufferZoneSize;
+    final boolean preventBlockBreak;
+    final boolean preventBlockPlace;
+    final boolean preventExplosions;
+    final boolean preventPvp;
+    final boolean preventItemUse;
+    final boolean allowEnderPearls;
+    final boolean allowChorusFruit;
+    final boolean preventTeleporting;
+    final boolean preventHomes;
+    final boolean preventClaiming;
+
+    // Reinforcements
+    final boolean reinforcementsEnabled;
+    final int reinforcementWaveIntervalSeconds;
+    final int reinforcementStopSpawningUnderSeconds;
+    final int reinforcementBaseMobsPerWave;
+    final int reinforcementWavePhaseIncrease;
+    final int reinforcementMaxMobsPerWave;
+    final int reinforcementMaxMobsPerPoint;
+    final ReinforcementListener.TargetingMode reinforcementTargetingMode;
+    final int reinforcementTargetSearchExtraChunks;
+    final long reinforcementRetargetIntervalTicks;
+    final double reinforcementSpawnMinDistance;
+    final double reinforcementSpawnMaxDistance;
+    final double reinforcementSpawnSurfaceOffset;
+    final ReinforcementListener.SpawnYMode reinforcementSpawnYMode;
+    final double reinforcementSpawnClampRange;
+    final int reinforcementSpawnLimitPerTick;
+
+    // Holograms
+    final boolean hologramEnabled;
+    final double hologramHeightOffset;
+    final double hologramLineSpacing;
+    final int hologramInstances;
+    final double hologramHorizontalOffset;
+    final boolean hologramFixedOrientation;
+    final boolean hologramPauseWhenNoPlayersNearby;
+    final double hologramVisibilityRange;
+    final int hologramMaxLines;
+    final List<?> hologramLines;
+
+    private ZoneSettings(ZoneConfigManager manager, FileConfiguration config, String zoneId) {
+        this.zoneId = zoneId;
+
+        this.contestedEnabled = manager.getBoolean(zoneId, "capture-conditions.contested.enabled", false);
+        this.contestedProgressPolicy = CaptureZones.ContestedProgressPolicy.fromConfigValue(
+            manager.getString(zoneId, "capture-conditions.contested.progress-policy", "PAUSE")
+        );
+        this.contestedDecaySeconds = manager.getInt(zoneId, "capture-conditions.contested.decay-seconds", 1);
+        this.contestedRollbackSeconds = manager.getInt(zoneId, "capture-conditions.contested.rollback-seconds", 3);
+        this.graceTimerEnabled = manager.getBoolean(zoneId, "capture-conditions.leave-grace.enabled", false);
+        this.graceDurationSeconds = Math.max(0, manager.getInt(zoneId, "capture-conditions.leave-grace.duration-seconds", 15));
+        this.autoCaptureEnabled = manager.getBoolean(zoneId, "capture-conditions.auto-capture.enabled", false);
+        this.autoCaptureEntryDebounceSeconds = Math.max(0,
+            manager.getInt(zoneId, "capture-conditions.auto-capture.entry-debounce-seconds", 10));
+        this.speedModifiersEnabled = manager.getBoolean(zoneId, "capture-conditions.speed-modifiers.enabled", false);
+        this.speedPlayerScalingEnabled = manager.getBoolean(
+            zoneId, "capture-conditions.speed-modifiers.owner-player-scaling.enabled", false);
+        this.speedFlatMultiplier = manager.getDouble(zoneId, "capture-conditions.speed-modifiers.flat-multiplier", 1.0);
+        this.speedMinMultiplier = manager.getDouble(zoneId, "capture-conditions.speed-modifiers.min-multiplier", 0.1);
+        this.speedMaxMultiplier = Math.max(this.speedMinMultiplier,
+            manager.getDouble(zoneId, "capture-conditions.speed-modifiers.max-multiplier", 5.0));
+        this.speedMaxExtraPlayers = manager.getInt(
+            zoneId, "capture-conditions.speed-modifiers.owner-player-scaling.max-extra-players", 4);
+        this.speedPerExtraPlayer = manager.getDouble(
+            zoneId, "capture-conditions.speed-modifiers.owner-player-scaling.per-extra-player", 0.25);
+        this.captureCooldownEnabled = manager.getBoolean(zoneId, "capture-conditions.capture-cooldown.enabled", true);
+        this.captureCooldownDurationMs = Math.max(0L,
+            manager.getLong(zoneId, "capture-conditions.capture-cooldown.duration-ms", 300000L));
+        this.cooldownOnSuccess = manager.getBoolean(zoneId, "capture-conditions.capture-cooldown.on-success", true);
+        this.cooldownOnCancel = manager.getBoolean(zoneId, "capture-conditions.capture-cooldown.on-cancel", false);
+        this.cooldownOnFail = manager.getBoolean(zoneId, "capture-conditions.capture-cooldown.on-fail", false);
+        this.antiInstantRecaptureEnabled = manager.getBoolean(
+            zoneId, "capture-conditions.capture-cooldown.anti-instant-recapture.enabled", false);
+        this.antiInstantRecaptureDurationMs = Math.max(0L, manager.getLong(
+            zoneId, "capture-conditions.capture-cooldown.anti-instant-recapture.duration-ms", 300000L));
+        this.lockPreviousOwner = manager.getBoolean(
+            zoneId, "capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-owner", true);
+        this.lockPreviousAttacker = manager.getBoolean(
+            zoneId, "capture-conditions.capture-cooldown.anti-instant-recapture.lock-previous-attacker", false);
+        this.preventSameTownRecapture = manager.getBoolean(
+            zoneId, "capture-conditions.recapture-policy.prevent-same-town", false);
+        this.preventSameNationRecapture = manager.getBoolean(
+            zoneId, "capture-conditions.recapture-policy.prevent-same-nation", false);
+
+        this.bossbarEnabled = manager.getBoolean(zoneId, "bossbar.enabled", true);
+        this.contestedBossbarEnabled = manager.getBoolean(zoneId, "bossbar.contested-enabled", true);
+        this.graceBossbarEnabled = manager.getBoolean(zoneId, "bossbar.grace-enabled", true);
+        this.captureCountdownEnabled = manager.getBoolean(zoneId, "capture.capture.show-countdown", true);
+        this.captureBossbarTitleTemplate = manager.getString(zoneId, "bossbar.title", config.getString(
+            "bossbar.title",
+            "&e%town% is capturing %point% (Started by %player%) - %time_left%"
+        ));
+        this.bossbarColorStart = barColorOr(manager.getString(zoneId, "bossbar.color.start", "RED"), BarColor.RED);
+        this.bossbarColorMiddle = barColorOr(manager.getString(zoneId, "bossbar.color.middle", "YELLOW"), BarColor.YELLOW);
+        this.bossbarColorEnd = barColorOr(manager.getString(zoneId, "bossbar.color.end", "GREEN"), BarColor.GREEN);
+        this.contestedActionbarEnabled = manager.getBoolean(
+            zoneId, "capture-conditions.progress-display.actionbar.contested.enabled", true);
+        this.graceActionbarEnabled = manager.getBoolean(
+            zoneId, "capture-conditions.progress-display.actionbar.grace.enabled", true);
+        this.contestedActionbarIntervalMs = Math.max(100L, manager.getLong(
+            zoneId,
+            "capture-conditions.progress-display.actionbar.contested.interval-ms",
+            CaptureZones.DEFAULT_CONTESTED_ACTIONBAR_INTERVAL_MS
+        ));
+        this.graceActionbarIntervalMs = Math.max(100L, manager.getLong(
+            zoneId,
+            "capture-conditions.progress-display.actionbar.grace.interval-ms",
+            CaptureZones.DEFAULT_GRACE_ACTIONBAR_INTERVAL_MS
+        ));
+
+        this.bufferZoneEnabled = manager.getBoolean(zoneId, "protection.buffer-zone.enabled", true);
+        this.bufferZoneSize = manager.getInt(zoneId, "protection.buffer-zone.size", 1);
+        this.preventBlockBreak = manager.getBoolean(zoneId, "protection.prevent-block-break", true);
+        this.preventBlockPlace = manager.getBoolean(zoneId, "protection.prevent-block-place", true);
+        this.preventExplosions = manager.getBoolean(zoneId, "protection.prevent-explosions", true);
+        this.preventPvp = manager.getBoolean(zoneId, "protection.prevent-pvp", false);
+        this.preventItemUse = manager.getBoolean(zoneId, "protection.prevent-item-use", true);
+        this.allowEnderPearls = manager.getBoolean(zoneId, "protection.allow-ender-pearls", false);
+        this.allowChorusFruit = manager.getBoolean(zoneId, "protection.allow-chorus-fruit", false);
+        this.preventTeleporting = manager.getBoolean(zoneId, "protection.prevent-teleporting", true);
+        this.preventHomes = manager.getBoolean(zoneId, "protection.prevent-homes", true);
+        this.preventClaiming = manager.getBoolean(zoneId, "protection.prevent-claiming", true);
+
+        this.reinforcementsEnabled = manager.getBoolean(zoneId, "reinforcements.enabled", true);
+        this.reinforcementWaveIntervalSeconds = Math.max(1, manager.getInt(zoneId, "reinforcements.wave-interval", 30));
+        this.reinforcementStopSpawningUnderSeconds = Math.max(0,
+            manager.getInt(zoneId, "reinforcements.stop-spawning-under-seconds", 60));
+        this.reinforcementBaseMobsPerWave = Math.max(0, manager.getInt(zoneId, "reinforcements.mobs-per-wave", 1));
+        this.reinforcementWavePhaseIncrease = Math.max(0, manager.getInt(zoneId, "reinforcements.wave-phase-increase", 1));
+        this.reinforcementMaxMobsPerWave = Math.max(1, manager.getInt(zoneId, "reinforcements.max-mobs-per-wave", 12));
+        this.reinforcementMaxMobsPerPoint = Math.max(1, manager.getInt(zoneId, "reinforcements.max-mobs-per-point", 50));
+        this.reinforcementTargetingMode = ReinforcementListener.TargetingMode.fromConfigValue(
+            manager.getString(zoneId, "reinforcements.targeting.mode", "CAPTURING_OWNER_ONLY"));
+        this.reinforcementTargetSearchExtraChunks = Math.max(0,
+            manager.getInt(zoneId, "reinforcements.targeting.search-extra-chunks", 4));
+        this.reinforcementRetargetIntervalTicks = Math.max(1L,
+            (long) manager.getInt(zoneId, "reinforcements.targeting.retarget-interval-ticks", 20));
+        this.reinforcementSpawnMinDistance = Math.max(0.0,
+            manager.getDouble(zoneId, "reinforcements.spawn-location.min-distance", 3.0));
+        this.reinforcementSpawnMaxDistance = Math.max(this.reinforcementSpawnMinDistance,
+            manager.getDouble(zoneId, "reinforcements.spawn-location.max-distance", 11.0));
+        this.reinforcementSpawnSurfaceOffset = manager.getDouble(zoneId, "reinforcements.spawn-location.surface-offset", 1.0);
+        this.reinforcementSpawnYMode = ReinforcementListener.SpawnYMode.fromConfigValue(
+            manager.getString(zoneId, "reinforcements.spawn-location.y-mode", "SURFACE"));
+        this.reinforcementSpawnClampRange = Math.max(0.0,
+            manager.getDouble(zoneId, "reinforcements.spawn-location.clamp-range", 8.0));
+        this.reinforcementSpawnLimitPerTick = Math.max(1,
+            manager.getInt(zoneId, "reinforcements.spawn-rate.max-per-tick", 3));
+
+        this.hologramEnabled = manager.getBoolean(zoneId, "hologram.enabled", false);
+        this.hologramHeightOffset = manager.getDouble(zoneId, "hologram.height-offset",
+            config.getDouble("holograms.default-height-offset", -5.0d));
+        this.hologramLineSpacing = manager.getDouble(zoneId, "hologram.line-spacing",
+            config.getDouble("holograms.default-line-spacing", 0.25d));
+        this.hologramInstances = manager.getInt(zoneId, "hologram.instances",
+            config.getInt("holograms.default-instances", 1));
+        this.hologramHorizontalOffset = manager.getDouble(zoneId, "hologram.horizontal-offset",
+            config.getDouble("holograms.default-horizontal-offset", 1.25d));
+        this.hologramFixedOrientation = manager.getBoolean(zoneId, "hologram.fixed-orientation",
+            config.getBoolean("holograms.default-fixed-orientation", false));
+        this.hologramPauseWhenNoPlayersNearby = manager.getBoolean(zoneId, "hologram.pause-when-no-players-nearby",
+            config.getBoolean("holograms.pause-when-no-players-nearby", true));
+        this.hologramVisibilityRange = manager.getDouble(zoneId, "hologram.visibility-range",
+            config.getDouble("holograms.visibility-range", 64.0d));
+        this.hologramMaxLines = manager.getInt(zoneId, "hologram.max-lines",
+            config.getInt("holograms.default-max-lines", 8));
+        List<?> lines = manager.getList(zoneId, "hologram.lines", Collections.emptyList());
+        this.hologramLines = lines == null || lines.isEmpty()
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+
+    static ZoneSettings compile(ZoneConfigManager manager, FileConfiguration config, String zoneId) {
+        return new ZoneSettings(manager, config, zoneId);
+    }
+
+    /**
+     * Buffer radius in chunks, or 0 when the buffer zone is disabled.
+     */
+    int effectiveBufferChunks() {
+        return this.bufferZoneEnabled ? this.bufferZoneSize : 0;
+    }
+
+    BarColor bossbarColorForProgress(double progress) {
+        if (progress < 0.5) {
+            return this.bossbarColorStart;
+        }
+        return progress < 0.85 ? this.bossbarColorMiddle : this.bossbarColorEnd;
+    }
+
+    private static BarColor barColorOr(String configured, BarColor fallback) {
+        BarColor parsed = CaptureZones.parseBossbarColor(configured);
+        return parsed != null ? parsed : fallback;
+    }
+}
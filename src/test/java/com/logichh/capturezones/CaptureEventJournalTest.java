@@ -0,0 +1,193 @@
+package com.logichh.capturezones;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Writes real segments into a temporary data folder and reads them back, the way a stats
+ * rebuild does.
+ */
+class CaptureEventJournalTest {
+    private static final Gson GSON = new Gson();
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    private File dataFolder;
+    private final List<CaptureEventJournal> journals = new ArrayList<>();
+
+    @BeforeEach
+    void createDataFolder() throws IOException {
+        this.dataFolder = Files.createTempDirectory("capturezones-journal").toFile();
+    }
+
+    @AfterEach
+    void deleteDataFolder() throws IOException {
+        for (CaptureEventJournal journal : this.journals) {
+            journal.shutdown();
+        }
+        try (Stream<Path> paths = Files.walk(this.dataFolder.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void replaySkipsATruncatedLastLine() throws Exception {
+        CaptureEventJournal journal = started(settings(100));
+        for (int i = 0; i < 5; i++) {
+            journal.append(reward("zone" + i, 10.0));
+        }
+        journal.shutdown();
+        File segment = onlySegment();
+        Files.write(segment.toPath(), "{\"seq\":6,\"time\":1,\"type\":\"rew".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        List<Long> sequences = new ArrayList<>();
+        CaptureEventJournal.ReplayResult result = journal(settings(100)).replay(event -> sequences.add(event.sequence))
+            .get(5L, TimeUnit.SECONDS);
+        assertEquals(5L, result.events);
+        assertEquals(1L, result.skippedLines);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), sequences);
+        assertEquals(5L, result.lastSequence);
+    }
+
+    @Test
+    void restartCutsTheTornTailAndKeepsNumbering() throws Exception {
+        CaptureEventJournal first = started(settings(100));
+        first.append(reward("alpha", 1.0));
+        first.append(reward("beta", 2.0));
+        first.shutdown();
+        Files.write(onlySegment().toPath(), "{\"seq\":3,\"ti".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND);
+
+        CaptureEventJournal second = started(settings(100));
+        second.append(reward("gamma", 3.0));
+        List<String> zones = new ArrayList<>();
+        CaptureEventJournal.ReplayResult result = second.replay(event -> zones.add(event.string("zone")))
+            .get(5L, TimeUnit.SECONDS);
+        assertEquals(0L, result.skippedLines);
+        assertEquals(List.of("alpha", "beta", "gamma"), zones);
+        assertEquals(1L, result.firstSequence);
+        assertEquals(3L, result.lastSequence);
+    }
+
+    @Test
+    void replayAfterCompactionRebuildsTheSameStatistics() throws Exception {
+        // Keep every segment plain while writing, so the first rebuild reads no gzip.
+        CaptureEventJournal writer = started(settings(100));
+        writer.append(CaptureEventJournal.event(CaptureEventJournal.STATS_BASELINE)
+            .with("empty", true)
+            .with("lastReset", 1_000L));
+        for (int round = 0; round < 600; round++) {
+            String zone = "zone" + (round % 7);
+            String town = round % 3 == 0 ? "Northwatch" : "Eastmarch";
+            UUID player = round % 2 == 0 ? ALICE : BOB;
+            writer.append(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_START)
+                .with("zone", zone)
+                .with("owner", town)
+                .with("player", player)
+                .with("playerName", player == ALICE ? "Alice" : "Bob"));
+            writer.append(CaptureEventJournal.event(CaptureEventJournal.CAPTURE_COMPLETE)
+                .with("zone", zone)
+                .with("zoneName", "Zone " + (round % 7))
+                .with("owner", town)
+                .with("player", player)
+                .with("playerName", player == ALICE ? "Alice" : "Bob")
+                .with("participants", List.of(ALICE, BOB)));
+            writer.append(CaptureEventJournal.event(CaptureEventJournal.PLAYER_KILL)
+                .with("killer", player)
+                .with("victim", player == ALICE ? BOB : ALICE)
+                .with("zone", zone)
+                .with("killerOwner", town)
+                .with("victimOwner", "Westfall"));
+            writer.append(CaptureEventJournal.event(CaptureEventJournal.MOB_KILL)
+                .with("player", player)
+                .with("zone", zone)
+                .with("owner", town));
+            writer.append(reward(zone, 2.5 + round).with("owner", town));
+        }
+        StatisticsManager before = new StatisticsManager(Logger.getAnonymousLogger(), StatisticsWindows.Settings.defaults());
+        CaptureEventJournal.ReplayResult plain = writer.replay(before::replay).get(10L, TimeUnit.SECONDS);
+        writer.shutdown();
+        assertTrue(plain.segments > 2, "only " + plain.segments + " segments");
+        assertEquals(0, gzipped().size());
+
+        // Reopening with one plain segment gzips the rest on startup.
+        CaptureEventJournal compacting = started(settings(1));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (compacting.getCompressedSegments() == 0L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertTrue(compacting.getCompressedSegments() > 0L, "nothing was compressed");
+
+        StatisticsManager after = new StatisticsManager(Logger.getAnonymousLogger(), StatisticsWindows.Settings.defaults());
+        CaptureEventJournal.ReplayResult compacted = compacting.replay(after::replay).get(10L, TimeUnit.SECONDS);
+        assertEquals(compacting.getCompressedSegments(), (long) gzipped().size());
+        assertEquals(plain.events, compacted.events);
+        assertEquals(0L, compacted.skippedLines);
+        assertEquals(plain.lastSequence, compacted.lastSequence);
+        assertEquals(GSON.toJson(before.getData()), GSON.toJson(after.getData()));
+        assertEquals(600, after.getData().readServerRecords().totalServerCaptures);
+        assertEquals(1_000L, after.getData().getLastReset());
+    }
+
+    private static CaptureEventJournal.Settings settings(int uncompressedSegments) {
+        return new CaptureEventJournal.Settings(64L * 1024L, uncompressedSegments, 0L, 0L, false, 4096);
+    }
+
+    private CaptureEventJournal journal(CaptureEventJournal.Settings settings) {
+        CaptureEventJournal journal = new CaptureEventJournal(this.dataFolder, Logger.getAnonymousLogger(), GSON, settings);
+        this.journals.add(journal);
+        return journal;
+    }
+
+    private CaptureEventJournal started(CaptureEventJournal.Settings settings) {
+        CaptureEventJournal journal = journal(settings);
+        journal.start();
+        return journal;
+    }
+
+    private static CaptureEventJournal.Event reward(String zone, double amount) {
+        return CaptureEventJournal.event(CaptureEventJournal.REWARD)
+            .with("zone", zone)
+            .with("zoneName", zone)
+            .with("amount", amount);
+    }
+
+    private File onlySegment() {
+        File[] segments = new File(this.dataFolder, CaptureEventJournal.DIRECTORY_NAME).listFiles();
+        assertTrue(segments != null && segments.length == 1, "expected one segment");
+        return segments[0];
+    }
+
+    private List<File> gzipped() {
+        List<File> files = new ArrayList<>();
+        File[] segments = new File(this.dataFolder, CaptureEventJournal.DIRECTORY_NAME).listFiles();
+        if (segments != null) {
+            for (File segment : segments) {
+                if (segment.getName().endsWith(".gz")) {
+                    files.add(segment);
+                }
+            }
+        }
+        return files;
+    }
+}
@@ -0,0 +1,165 @@
+package com.logichh.capturezones;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Exercises the chunk table behind the spatial index directly. Keys are picked by their home
+ * index, so the probe clusters (including ones wrapping past the end of the table) are known.
+ */
+class CapturePointSpatialIndexTest {
+
+    @Test
+    void deletingInsideAWrappedClusterKeepsTheRestReachable() {
+        CapturePointSpatialIndex.ChunkTable table = new CapturePointSpatialIndex.ChunkTable(1);
+        int last = table.capacity() - 1;
+        List<Long> tail = keysWithHome(table, last, 3);
+        long wrapped = keysWithHome(table, 0, 1).get(0);
+        // Probe order: tail[0] at the last index, tail[1] and tail[2] wrap to 0 and 1, wrapped lands at 2.
+        for (int i = 0; i < tail.size(); i++) {
+            table.add(tail.get(i), i);
+        }
+        table.add(wrapped, 10);
+        assertEquals(4, table.size());
+
+        table.remove(tail.get(0), 0);
+        assertNull(table.get(tail.get(0)));
+        assertArrayEquals(new int[]{1}, table.get(tail.get(1)));
+        assertArrayEquals(new int[]{2}, table.get(tail.get(2)));
+        assertArrayEquals(new int[]{10}, table.get(wrapped));
+
+        table.remove(wrapped, 10);
+        table.remove(tail.get(2), 2);
+        assertNull(table.get(wrapped));
+        assertNull(table.get(tail.get(2)));
+        assertArrayEquals(new int[]{1}, table.get(tail.get(1)));
+        assertEquals(1, table.size());
+
+        table.add(tail.get(0), 0);
+        table.add(wrapped, 10);
+        assertArrayEquals(new int[]{0}, table.get(tail.get(0)));
+        assertArrayEquals(new int[]{1}, table.get(tail.get(1)));
+        assertArrayEquals(new int[]{10}, table.get(wrapped));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    void deletingAHomeEntryDoesNotMoveEntriesBeforeTheirHome() {
+        CapturePointSpatialIndex.ChunkTable table = new CapturePointSpatialIndex.ChunkTable(1);
+        int last = table.capacity() - 1;
+        long atEnd = keysWithHome(table, last, 1).get(0);
+        List<Long> atOne = keysWithHome(table, 1, 2);
+        long atZero = keysWithHome(table, 0, 1).get(0);
+        // atEnd sits at its home, atZero at 0, atOne[0] at 1 and atOne[1] spills to 2.
+        table.add(atEnd, 1);
+        table.add(atZero, 2);
+        table.add(atOne.get(0), 3);
+        table.add(atOne.get(1), 4);
+
+        table.remove(atZero, 2);
+        assertNull(table.get(atZero));
+        assertArrayEquals(new int[]{1}, table.get(atEnd));
+        assertArrayEquals(new int[]{3}, table.get(atOne.get(0)));
+        assertArrayEquals(new int[]{4}, table.get(atOne.get(1)));
+
+        table.remove(atEnd, 1);
+        assertArrayEquals(new int[]{3}, table.get(atOne.get(0)));
+        assertArrayEquals(new int[]{4}, table.get(atOne.get(1)));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    void resizeKeepsEveryEntryAndHalfLoad() {
+        CapturePointSpatialIndex.ChunkTable table = new CapturePointSpatialIndex.ChunkTable(1);
+        int initialCapacity = table.capacity();
+        for (int x = -20; x < 20; x++) {
+            for (int z = -20; z < 20; z++) {
+                table.add(CapturePointSpatialIndex.toChunkKey(x, z), slotFor(x, z));
+            }
+        }
+        assertEquals(1600, table.size());
+        assertTrue(table.capacity() > initialCapacity, "capacity stayed at " + table.capacity());
+        assertTrue(table.size() * 2 <= table.capacity(), "load above half at " + table.capacity());
+        for (int x = -20; x < 20; x++) {
+            for (int z = -20; z < 20; z++) {
+                assertArrayEquals(new int[]{slotFor(x, z)}, table.get(CapturePointSpatialIndex.toChunkKey(x, z)));
+            }
+        }
+        assertNull(table.get(CapturePointSpatialIndex.toChunkKey(20, 20)));
+    }
+
+    @Test
+    void lookupsStayCorrectAfterRandomDeletions() {
+        CapturePointSpatialIndex.ChunkTable table = new CapturePointSpatialIndex.ChunkTable(4);
+        List<Long> keys = new ArrayList<>();
+        for (int x = 0; x < 32; x++) {
+            for (int z = 0; z < 32; z++) {
+                long key = CapturePointSpatialIndex.toChunkKey(x, z);
+                keys.add(key);
+                table.add(key, 1);
+                table.add(key, 2);
+            }
+        }
+        Collections.shuffle(keys, new Random(42L));
+        List<Long> removed = keys.subList(0, keys.size() / 2);
+        List<Long> kept = keys.subList(keys.size() / 2, keys.size());
+
+        int[] shared = table.get(kept.get(0));
+        for (long key : removed) {
+            table.remove(key, 1);
+        }
+        for (long key : removed) {
+            assertArrayEquals(new int[]{2}, table.get(key));
+        }
+        for (long key : removed) {
+            table.remove(key, 2);
+        }
+        for (long key : removed) {
+            assertNull(table.get(key));
+        }
+        for (long key : kept) {
+            assertArrayEquals(new int[]{1, 2}, table.get(key));
+        }
+        assertEquals(kept.size(), table.size());
+
+        // Buckets already handed out are never changed in place.
+        table.remove(kept.get(0), 1);
+        assertArrayEquals(new int[]{1, 2}, shared);
+        assertArrayEquals(new int[]{2}, table.get(kept.get(0)));
+    }
+
+    @Test
+    void removingAMissingKeyOrSlotChangesNothing() {
+        CapturePointSpatialIndex.ChunkTable table = new CapturePointSpatialIndex.ChunkTable(1);
+        long key = CapturePointSpatialIndex.toChunkKey(3, -7);
+        table.add(key, 5);
+        table.add(key, 5);
+        table.remove(key, 6);
+        table.remove(CapturePointSpatialIndex.toChunkKey(-7, 3), 5);
+        assertArrayEquals(new int[]{5}, table.get(key));
+        assertEquals(1, table.size());
+    }
+
+    private static int slotFor(int x, int z) {
+        return (x + 20) * 40 + (z + 20);
+    }
+
+    private static List<Long> keysWithHome(CapturePointSpatialIndex.ChunkTable table, int home, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (int x = 0; keys.size() < count; x++) {
+            long key = CapturePointSpatialIndex.toChunkKey(x, 1000);
+            if (table.homeIndex(key) == home) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,238 @@
+package com.logichh.capturezones;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the dispatcher against a local HttpServer standing in for Discord. The stub clock
+ * advances on sleep instead of waiting, so rate limit waits show up as recorded sleeps.
+ */
+class DiscordWebhookDispatcherTest {
+    private static final String WEBHOOK_URL = "https://discord.com/api/webhooks/1/token";
+    private static final String ENVELOPE = "{\"content\":\"\"}";
+
+    private HttpServer server;
+    private final BlockingQueue<Received> received = new LinkedBlockingQueue<>();
+    private final ConcurrentLinkedQueue<Reply> replies = new ConcurrentLinkedQueue<>();
+    private final StubClock clock = new StubClock();
+    private DiscordWebhookDispatcher dispatcher;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    @AfterEach
+    void stop() {
+        if (this.dispatcher != null) {
+            this.dispatcher.shutdown();
+        }
+        this.server.stop(0);
+    }
+
+    @Test
+    void batchesEmbedsThatShareWebhookAndEnvelope() throws Exception {
+        this.dispatcher = dispatcher(500L);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(this.dispatcher.submitEmbed(WEBHOOK_URL, ENVELOPE, embed("capture " + i)));
+        }
+        assertTrue(this.dispatcher.submitEmbed(WEBHOOK_URL, "{\"content\":\"<@&1>\"}", embed("mention")));
+        this.dispatcher.start();
+
+        Received first = next();
+        Received second = next();
+        assertEquals("/api/webhooks/1/token", first.path);
+        assertEquals(3, first.body.getAsJsonArray("embeds").size());
+        assertEquals("capture 2", first.body.getAsJsonArray("embeds").get(2).getAsJsonObject().get("title").getAsString());
+        assertEquals(1, second.body.getAsJsonArray("embeds").size());
+        assertEquals("<@&1>", second.body.get("content").getAsString());
+        awaitSent(2L);
+        assertEquals(4L, this.dispatcher.getSentEmbeds());
+    }
+
+    @Test
+    void splitsBatchesAtTheEmbedLimit() throws Exception {
+        this.dispatcher = dispatcher(0L);
+        int total = DiscordWebhookDispatcher.MAX_EMBEDS_PER_MESSAGE + 2;
+        for (int i = 0; i < total; i++) {
+            this.dispatcher.submitEmbed(WEBHOOK_URL, ENVELOPE, embed("capture " + i));
+        }
+        this.dispatcher.start();
+
+        assertEquals(DiscordWebhookDispatcher.MAX_EMBEDS_PER_MESSAGE, next().body.getAsJsonArray("embeds").size());
+        assertEquals(2, next().body.getAsJsonArray("embeds").size());
+    }
+
+    @Test
+    void waitsForRetryAfterFromA429Body() throws Exception {
+        this.replies.add(new Reply(429, "{\"retry_after\":2.5,\"global\":false}", Collections.emptyMap()));
+        this.dispatcher = dispatcher(0L);
+        this.dispatcher.start();
+        this.dispatcher.submitPlain(WEBHOOK_URL, "{\"content\":\"hello\"}");
+
+        next();
+        next();
+        awaitSent(1L);
+        assertTrue(this.clock.sleeps.contains(2500L), "slept " + this.clock.sleeps);
+        assertEquals(1L, this.dispatcher.getRateLimited());
+        assertEquals(1L, this.dispatcher.getRetries());
+        assertEquals(0L, this.dispatcher.getFailedMessages());
+    }
+
+    @Test
+    void pausesWhenTheRateLimitBucketIsEmpty() throws Exception {
+        this.replies.add(new Reply(204, "", Map.of("X-RateLimit-Remaining", "0", "X-RateLimit-Reset-After", "1.5")));
+        this.dispatcher = dispatcher(0L);
+        this.dispatcher.start();
+        this.dispatcher.submitPlain(WEBHOOK_URL, "{\"content\":\"one\"}");
+        this.dispatcher.submitPlain(WEBHOOK_URL, "{\"content\":\"two\"}");
+
+        assertEquals("one", next().body.get("content").getAsString());
+        assertEquals("two", next().body.get("content").getAsString());
+        awaitSent(2L);
+        assertTrue(this.clock.sleeps.contains(1500L), "slept " + this.clock.sleeps);
+        assertEquals(0L, this.dispatcher.getRateLimited());
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            this.replies.add(new Reply(429, "{\"retry_after\":0.1}", Collections.emptyMap()));
+        }
+        this.dispatcher = new DiscordWebhookDispatcher(Logger.getAnonymousLogger(), client(), 10, 0L, 2,
+            baseUri(), this.clock);
+        this.dispatcher.start();
+        this.dispatcher.submitPlain(WEBHOOK_URL, "{\"content\":\"hello\"}");
+
+        next();
+        next();
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (this.dispatcher.getFailedMessages() == 0L && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(1L, this.dispatcher.getFailedMessages());
+        assertEquals(2L, this.dispatcher.getRateLimited());
+        assertEquals(0L, this.dispatcher.getSentMessages());
+    }
+
+    private DiscordWebhookDispatcher dispatcher(long batchWindowMillis) {
+        return new DiscordWebhookDispatcher(Logger.getAnonymousLogger(), client(), 50, batchWindowMillis, 5,
+            baseUri(), this.clock);
+    }
+
+    private static HttpClient client() {
+        return HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    private URI baseUri() {
+        return URI.create("http://127.0.0.1:" + this.server.getAddress().getPort() + "/");
+    }
+
+    private static String embed(String title) {
+        JsonObject embed = new JsonObject();
+        embed.addProperty("title", title);
+        return embed.toString();
+    }
+
+    private Received next() throws InterruptedException {
+        Received request = this.received.poll(5L, TimeUnit.SECONDS);
+        if (request == null) {
+            throw new AssertionError("no request reached the stub");
+        }
+        return request;
+    }
+
+    private void awaitSent(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (this.dispatcher.getSentMessages() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertEquals(expected, this.dispatcher.getSentMessages());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        Reply reply = this.replies.poll();
+        if (reply == null) {
+            reply = new Reply(204, "", Collections.emptyMap());
+        }
+        reply.headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        byte[] bytes = reply.body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(reply.status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+        exchange.close();
+        this.received.add(new Received(exchange.getRequestURI().getPath(),
+            JsonParser.parseString(body).getAsJsonObject()));
+    }
+
+    private static final class Received {
+        final String path;
+        final JsonObject body;
+
+        Received(String path, JsonObject body) {
+            this.path = path;
+            this.body = body;
+        }
+    }
+
+    private static final class Reply {
+        final int status;
+        final String body;
+        final Map<String, String> headers;
+
+        Reply(int status, String body, Map<String, String> headers) {
+            this.status = status;
+            this.body = body;
+            this.headers = headers;
+        }
+    }
+
+    private static final class StubClock implements DiscordWebhookDispatcher.Clock {
+        final AtomicLong now = new AtomicLong(1_000_000L);
+        final List<Long> sleeps = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public long millis() {
+            return this.now.get();
+        }
+
+        @Override
+        public void sleep(long millis) {
+            this.sleeps.add(millis);
+            this.now.addAndGet(millis);
+        }
+    }
+}